@@ -0,0 +1,130 @@
+package com.teambind.supportserver.common.utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snowflake ID 생성 벤치마크
+ *
+ * <p>하나의 인스턴스를 여러 스레드가 공유할 때 CAS 기반 Snowflake와 이전 구현(synchronized)의
+ * 처리량을 스레드 수별로 비교합니다. 밀리초당 시퀀스가 4096개이므로 인스턴스 처리량 상한은 약 4096 ops/ms이며,
+ * 배치용 {@code generateLongIds}는 한 번의 예약으로 여러 ID를 발급하므로 ID 단위 비용으로 비교합니다.</p>
+ *
+ * <p>실행: {@code java -jar build/libs/*-jmh.jar SnowflakeBenchmark}</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SnowflakeBenchmark {
+
+	private static final int BATCH_SIZE = 500;
+
+	private Snowflake snowflake;
+	private SynchronizedSnowflake synchronizedSnowflake;
+
+	@Setup
+	public void setUp() {
+		snowflake = new Snowflake(1);
+		synchronizedSnowflake = new SynchronizedSnowflake(2);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public long casSingleThread() {
+		return snowflake.nextId();
+	}
+
+	@Benchmark
+	@Threads(1)
+	public long synchronizedSingleThread() {
+		return synchronizedSnowflake.nextId();
+	}
+
+	@Benchmark
+	@Threads(8)
+	public long cas8Threads() {
+		return snowflake.nextId();
+	}
+
+	@Benchmark
+	@Threads(8)
+	public long synchronized8Threads() {
+		return synchronizedSnowflake.nextId();
+	}
+
+	@Benchmark
+	@Threads(64)
+	public long cas64Threads() {
+		return snowflake.nextId();
+	}
+
+	@Benchmark
+	@Threads(64)
+	public long synchronized64Threads() {
+		return synchronizedSnowflake.nextId();
+	}
+
+	@Benchmark
+	@Threads(8)
+	@OperationsPerInvocation(BATCH_SIZE)
+	public long[] casBlock8Threads() {
+		return snowflake.generateLongIds(BATCH_SIZE);
+	}
+
+	@Benchmark
+	@Threads(8)
+	@OperationsPerInvocation(BATCH_SIZE)
+	public long[] synchronizedLoop8Threads() {
+		long[] ids = new long[BATCH_SIZE];
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			ids[i] = synchronizedSnowflake.nextId();
+		}
+		return ids;
+	}
+
+	/**
+	 * 이전 Snowflake 구현 (비교 기준)
+	 */
+	static final class SynchronizedSnowflake {
+		private static final long MAX_SEQUENCE = (1L << 12) - 1;
+		private static final long CUSTOM_EPOCH = 1704067200000L;
+
+		private final long nodeId;
+		private long lastTimestamp = -1L;
+		private long sequence = 0L;
+
+		SynchronizedSnowflake(long nodeId) {
+			this.nodeId = nodeId;
+		}
+
+		synchronized long nextId() {
+			long currentTimestamp = System.currentTimeMillis();
+			if (currentTimestamp < lastTimestamp) {
+				currentTimestamp = waitNextMillis(lastTimestamp);
+			}
+			if (currentTimestamp == lastTimestamp) {
+				sequence = (sequence + 1) & MAX_SEQUENCE;
+				if (sequence == 0) {
+					currentTimestamp = waitNextMillis(currentTimestamp);
+				}
+			} else {
+				sequence = 0;
+			}
+			lastTimestamp = currentTimestamp;
+			return ((currentTimestamp - CUSTOM_EPOCH) << 22) | (nodeId << 12) | sequence;
+		}
+
+		private long waitNextMillis(long lastTimestamp) {
+			long timestamp = System.currentTimeMillis();
+			while (timestamp <= lastTimestamp) {
+				Thread.yield();
+				timestamp = System.currentTimeMillis();
+			}
+			return timestamp;
+		}
+	}
+}
@@ -0,0 +1,170 @@
+package com.teambind.supportserver.faq.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.teambind.supportserver.common.cache.ClusterCacheInvalidator;
+import com.teambind.supportserver.common.cache.InMemoryCacheInvalidationTransport;
+import com.teambind.supportserver.faq.entity.Faq;
+import com.teambind.supportserver.faq.entity.enums.FaqCategory;
+import com.teambind.supportserver.faq.repository.FaqRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * FAQ 캐시 조회 벤치마크
+ *
+ * <p>불변 스냅샷(EnumMap, volatile 참조 교체) 기반 FaqService와
+ * 이전 구현(ReadWriteLock + 요청마다 복사/필터링)을 64개 동시 조회 스레드로 비교합니다.</p>
+ *
+ * <p>실행: {@code ./gradlew jmh} 또는 {@code java -jar build/libs/*-jmh.jar FaqCacheBenchmark}</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(64)
+@State(Scope.Benchmark)
+public class FaqCacheBenchmark {
+
+    private static final FaqCategory[] CATEGORIES = FaqCategory.values();
+
+    @Param({"200"})
+    private int faqCount;
+
+    private FaqService snapshotCache;
+    private ReadWriteLockFaqCache lockingCache;
+
+    @Setup
+    public void setUp() {
+        List<Faq> faqs = createFaqs(faqCount);
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        snapshotCache = new FaqService(stubRepository(faqs), objectMapper,
+                new ClusterCacheInvalidator(new InMemoryCacheInvalidationTransport(), 0));
+        snapshotCache.reloadLocalCache();
+
+        lockingCache = new ReadWriteLockFaqCache();
+        lockingCache.refresh(faqs);
+    }
+
+    /**
+     * 스레드별 카테고리 순환 인덱스
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int index;
+
+        FaqCategory next() {
+            index = (index + 1) % CATEGORIES.length;
+            return CATEGORIES[index];
+        }
+    }
+
+    @Benchmark
+    public void snapshotGetFaqsByCategory(Cursor cursor, Blackhole blackhole) {
+        blackhole.consume(snapshotCache.getFaqsByCategory(cursor.next()));
+    }
+
+    @Benchmark
+    public void lockingGetFaqsByCategory(Cursor cursor, Blackhole blackhole) {
+        blackhole.consume(lockingCache.getFaqsByCategory(cursor.next()));
+    }
+
+    @Benchmark
+    public void snapshotGetAllFaqs(Blackhole blackhole) {
+        blackhole.consume(snapshotCache.getAllFaqs());
+    }
+
+    @Benchmark
+    public void lockingGetAllFaqs(Blackhole blackhole) {
+        blackhole.consume(lockingCache.getAllFaqs());
+    }
+
+    /**
+     * 이전 FaqService 캐시 구현 (비교 기준)
+     */
+    static final class ReadWriteLockFaqCache {
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private volatile List<Faq> cachedFaqs = new ArrayList<>();
+
+        void refresh(List<Faq> faqs) {
+            lock.writeLock().lock();
+            try {
+                cachedFaqs = faqs;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<Faq> getAllFaqs() {
+            lock.readLock().lock();
+            try {
+                return new ArrayList<>(cachedFaqs);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        List<Faq> getFaqsByCategory(FaqCategory category) {
+            lock.readLock().lock();
+            try {
+                if (category == FaqCategory.ALL) {
+                    return new ArrayList<>(cachedFaqs);
+                }
+                return cachedFaqs.stream()
+                        .filter(faq -> faq.getCategory() == category)
+                        .collect(Collectors.toList());
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * findAll만 응답하는 FaqRepository 대역
+     */
+    private static FaqRepository stubRepository(List<Faq> faqs) {
+        return (FaqRepository) Proxy.newProxyInstance(
+                FaqRepository.class.getClassLoader(),
+                new Class<?>[]{FaqRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAll") && method.getParameterCount() == 0) {
+                        return faqs;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static List<Faq> createFaqs(int count) {
+        List<Faq> faqs = new ArrayList<>(count);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < count; i++) {
+            FaqCategory category = CATEGORIES[1 + i % (CATEGORIES.length - 1)];
+            faqs.add(Faq.builder()
+                    .id((long) i)
+                    .category(category)
+                    .title("제목 " + i)
+                    .question("질문 " + i + "은 무엇인가요?")
+                    .answer("답변 " + i + " 입니다. ".repeat(10))
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        return faqs;
+    }
+}
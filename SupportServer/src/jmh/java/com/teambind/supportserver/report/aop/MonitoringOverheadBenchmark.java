@@ -0,0 +1,83 @@
+package com.teambind.supportserver.report.aop;
+
+import com.teambind.supportserver.common.cache.ClusterCacheInvalidator;
+import com.teambind.supportserver.common.cache.InMemoryCacheInvalidationTransport;
+import com.teambind.supportserver.report.entity.ReportCategory;
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
+import com.teambind.supportserver.report.repository.ReportCategoryRepository;
+import com.teambind.supportserver.report.utils.InMemoryReportCategoryCache;
+import com.teambind.supportserver.report.utils.ReportCategoryCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모니터링 오버헤드 벤치마크
+ *
+ * <p>신고 카테고리 캐시 조회({@code ReportCategoryCache.get})를 지연 시간 측정 설정별로 비교합니다.
+ * 캐시 조회는 AOP 프록시 호출 비용만으로 조회 자체보다 비싸므로 애스펙트 대신 조회 메서드 안에서 샘플링합니다.</p>
+ *
+ * <ul>
+ *   <li>{@code none}: 측정 안 함 (cache-sample-rate 0, 기준)</li>
+ *   <li>{@code every}: 매 호출 측정 후 타이머에 기록</li>
+ *   <li>{@code sampled}: 1/256 샘플링 (운영 기본값, 목표: 50ns 미만)</li>
+ * </ul>
+ *
+ * <p>실행: {@code ./gradlew jmh -PjmhIncludes=MonitoringOverheadBenchmark}</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class MonitoringOverheadBenchmark {
+
+    @Param({"none", "every", "sampled"})
+    private String mode;
+
+    private ReportCategoryCache cache;
+
+    @Setup
+    public void setUp() {
+        int sampleRate = switch (mode) {
+            case "none" -> 0;
+            case "every" -> 1;
+            case "sampled" -> 256;
+            default -> throw new IllegalArgumentException(mode);
+        };
+        InMemoryReportCategoryCache target = new InMemoryReportCategoryCache(
+                stubRepository(List.of(
+                        ReportCategory.of(ReferenceType.PROFILE, "욕설, 비속어, 음란"),
+                        ReportCategory.of(ReferenceType.PROFILE, "부적절한 닉네임"),
+                        ReportCategory.of(ReferenceType.ARTICLE, "도배, 스팸, 광고성 게시글")
+                )),
+                new ClusterCacheInvalidator(new InMemoryCacheInvalidationTransport(), 0),
+                new SimpleMeterRegistry(), sampleRate, 5000);
+        target.reload();
+        cache = target;
+    }
+
+    @Benchmark
+    public Optional<ReportCategory> getCategory() {
+        return cache.get(ReferenceType.PROFILE, "부적절한 닉네임");
+    }
+
+    /**
+     * findAll만 응답하는 ReportCategoryRepository 대역
+     */
+    private static ReportCategoryRepository stubRepository(List<ReportCategory> categories) {
+        return (ReportCategoryRepository) Proxy.newProxyInstance(
+                ReportCategoryRepository.class.getClassLoader(),
+                new Class<?>[]{ReportCategoryRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findAll" -> categories;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,87 @@
+package com.teambind.supportserver.report.dto.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.teambind.supportserver.report.entity.Report;
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
+import com.teambind.supportserver.report.entity.enums.ReportStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 신고 응답 변환/직렬화 벤치마크
+ *
+ * <p>신고 목록 한 페이지(기본 20건)를 ReportResponse로 변환하는 비용과,
+ * 변환 후 Jackson으로 JSON 바이트까지 직렬화하는 비용을 나누어 측정합니다.</p>
+ *
+ * <p>실행: {@code java -jar build/libs/*-jmh.jar ReportResponseBenchmark}</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReportResponseBenchmark {
+
+    private static final ReportStatus[] STATUSES = ReportStatus.values();
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private List<Report> reports;
+    private List<ReportResponse> responses;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        reports = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            reports.add(Report.builder()
+                    .reportId(300_000_000_000_000L + i)
+                    .reporterId("reporter-" + i)
+                    .reportedId("reported-" + i)
+                    .referenceType(ReferenceType.PROFILE)
+                    .reportCategory("spam")
+                    .reason("부적절한 닉네임을 사용하고 있습니다 " + i)
+                    .reportedAt(now.minusMinutes(i))
+                    .status(STATUSES[i % STATUSES.length])
+                    .build());
+        }
+        responses = toResponses();
+        objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    @Benchmark
+    public List<ReportResponse> from() {
+        return toResponses();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] fromAndSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(toResponses());
+    }
+
+    private List<ReportResponse> toResponses() {
+        List<ReportResponse> result = new ArrayList<>(reports.size());
+        for (Report report : reports) {
+            result.add(ReportResponse.from(report));
+        }
+        return result;
+    }
+}
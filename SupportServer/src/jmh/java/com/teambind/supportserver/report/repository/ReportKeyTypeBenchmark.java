@@ -0,0 +1,144 @@
+package com.teambind.supportserver.report.repository;
+
+import com.teambind.supportserver.common.utils.Snowflake;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 신고 기본 키 타입(VARCHAR vs BIGINT) 벤치마크
+ *
+ * <p>report / report_history와 같은 형태의 테이블(기본 키, 커서 페이징 복합 인덱스 3개, 이력 FK와 인덱스)을
+ * 파일 기반 H2(MySQL 모드)에 만들고, Snowflake ID를 문자열로 저장할 때와 BIGINT로 저장할 때의
+ * 배치 insert 처리량을 비교합니다. 측정이 끝나면 저장소를 압축해 행(신고 1건 + 이력 1건)당 디스크 사용량을 출력합니다.</p>
+ *
+ * <p>InnoDB와 저장 형식이 다르므로 절대값이 아니라 두 키 타입의 상대 비교로 사용하고,
+ * 운영 DB의 인덱스 크기는 sql/migration/bigint-primary-keys.sql의 전/후 측정 쿼리로 확인합니다.</p>
+ *
+ * <p>실행: {@code java -jar build/libs/*-jmh.jar ReportKeyTypeBenchmark}</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReportKeyTypeBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Param({"VARCHAR", "BIGINT"})
+    public String keyType;
+
+    private Path directory;
+    private Connection connection;
+    private PreparedStatement insertReport;
+    private PreparedStatement insertHistory;
+    private Snowflake snowflake;
+    private long rows;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        directory = Files.createTempDirectory("report-key-benchmark");
+        // 벤치마크 jar에서는 드라이버 서비스 등록이 병합되지 않으므로 DataSource로 직접 연결
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:file:" + directory.resolve("db") + ";MODE=MySQL");
+        connection = dataSource.getConnection();
+        connection.setAutoCommit(false);
+
+        String key = "BIGINT".equals(keyType) ? "BIGINT" : "VARCHAR(100)";
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE report (
+                        report_id %s NOT NULL PRIMARY KEY,
+                        reporter_id VARCHAR(100) NOT NULL,
+                        reported_id VARCHAR(100) NOT NULL,
+                        reported_at TIMESTAMP(6) NOT NULL,
+                        status VARCHAR(20) NOT NULL
+                    )""".formatted(key));
+            statement.execute("CREATE INDEX idx_report_reported_at_id ON report (reported_at, report_id)");
+            statement.execute("CREATE INDEX idx_report_status_id ON report (status, report_id)");
+            statement.execute("CREATE INDEX idx_report_status_reported_at_id ON report (status, reported_at, report_id)");
+            statement.execute("""
+                    CREATE TABLE report_history (
+                        history_id %s NOT NULL PRIMARY KEY,
+                        report_id %s NOT NULL,
+                        new_status VARCHAR(20) NOT NULL,
+                        created_at TIMESTAMP(6) NOT NULL,
+                        CONSTRAINT fk_report_history_report FOREIGN KEY (report_id) REFERENCES report (report_id)
+                    )""".formatted(key, key));
+            statement.execute("CREATE INDEX idx_report_history_report_id ON report_history (report_id)");
+        }
+        connection.commit();
+
+        insertReport = connection.prepareStatement(
+                "INSERT INTO report (report_id, reporter_id, reported_id, reported_at, status) VALUES (?, ?, ?, ?, 'PENDING')");
+        insertHistory = connection.prepareStatement(
+                "INSERT INTO report_history (history_id, report_id, new_status, created_at) VALUES (?, ?, 'PENDING', ?)");
+        snowflake = new Snowflake(1);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch() throws SQLException {
+        long[] ids = snowflake.generateLongIds(BATCH_SIZE * 2);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            setKey(insertReport, 1, ids[i]);
+            insertReport.setString(2, "reporter-" + (ids[i] % 10_000));
+            insertReport.setString(3, "reported-" + (ids[i] % 1_000));
+            insertReport.setTimestamp(4, now);
+            insertReport.addBatch();
+
+            setKey(insertHistory, 1, ids[BATCH_SIZE + i]);
+            setKey(insertHistory, 2, ids[i]);
+            insertHistory.setTimestamp(3, now);
+            insertHistory.addBatch();
+        }
+        insertReport.executeBatch();
+        insertHistory.executeBatch();
+        connection.commit();
+        rows += BATCH_SIZE;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, SQLException {
+        insertReport.close();
+        insertHistory.close();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN COMPACT");
+        }
+        connection.close();
+
+        long bytes;
+        try (Stream<Path> files = Files.walk(directory)) {
+            bytes = files.filter(Files::isRegularFile).mapToLong(path -> path.toFile().length()).sum();
+        }
+        System.out.printf("%n[%s] rows=%d, disk=%d bytes, bytes/row=%.1f%n",
+                keyType, rows, bytes, rows == 0 ? 0.0 : (double) bytes / rows);
+
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private void setKey(PreparedStatement statement, int index, long id) throws SQLException {
+        if ("BIGINT".equals(keyType)) {
+            statement.setLong(index, id);
+        } else {
+            statement.setString(index, String.valueOf(id));
+        }
+    }
+}
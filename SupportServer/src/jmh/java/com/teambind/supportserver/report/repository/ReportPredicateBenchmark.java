@@ -0,0 +1,86 @@
+package com.teambind.supportserver.report.repository;
+
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.teambind.supportserver.report.dto.request.ReportSearchRequest;
+import com.teambind.supportserver.report.entity.Report;
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
+import com.teambind.supportserver.report.entity.enums.ReportStatus;
+import com.teambind.supportserver.report.utils.ReportCursor;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 신고 검색 조건 구성 벤치마크
+ *
+ * <p>ReportRepositoryImpl의 where 절(필터 + keyset 커서)과 정렬 조건 구성 비용을 DB 없이 측정합니다.
+ * 조건 구성은 JPAQueryFactory를 사용하지 않으므로 쿼리 팩토리 없이 생성합니다.</p>
+ *
+ * <p>실행: {@code java -jar build/libs/*-jmh.jar ReportPredicateBenchmark}</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReportPredicateBenchmark {
+
+    private ReportRepositoryImpl repository;
+    private ReportSearchRequest firstPage;
+    private ReportSearchRequest filteredWithCursor;
+    private ReportSearchRequest statusCursor;
+
+    @Setup
+    public void setUp() {
+        repository = new ReportRepositoryImpl(null);
+
+        Report last = Report.builder()
+                .reportId(300_000_000_000_123L)
+                .reporterId("reporter")
+                .reportedId("reported")
+                .referenceType(ReferenceType.PROFILE)
+                .reportCategory("spam")
+                .reason("reason")
+                .reportedAt(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .status(ReportStatus.REVIEWING)
+                .build();
+
+        firstPage = ReportSearchRequest.builder().size(20).build();
+        filteredWithCursor = ReportSearchRequest.builder()
+                .status(ReportStatus.PENDING)
+                .referenceType(ReferenceType.PROFILE)
+                .reportCategory("spam")
+                .cursor(ReportCursor.encode(last, ReportSearchRequest.SortType.REPORTED_AT))
+                .size(20)
+                .build();
+        statusCursor = ReportSearchRequest.builder()
+                .sortType(ReportSearchRequest.SortType.STATUS)
+                .sortDirection(ReportSearchRequest.SortDirection.ASC)
+                .cursor(ReportCursor.encode(last, ReportSearchRequest.SortType.STATUS))
+                .size(20)
+                .build();
+    }
+
+    @Benchmark
+    public BooleanExpression predicateFirstPage() {
+        return repository.buildPredicate(firstPage);
+    }
+
+    @Benchmark
+    public BooleanExpression predicateFilteredWithCursor() {
+        return repository.buildPredicate(filteredWithCursor);
+    }
+
+    @Benchmark
+    public BooleanExpression predicateStatusCursor() {
+        return repository.buildPredicate(statusCursor);
+    }
+
+    @Benchmark
+    public OrderSpecifier<?>[] orderSpecifiers() {
+        return repository.buildOrderSpecifiers(filteredWithCursor);
+    }
+}
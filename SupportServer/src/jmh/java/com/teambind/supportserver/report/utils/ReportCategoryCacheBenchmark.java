@@ -0,0 +1,86 @@
+package com.teambind.supportserver.report.utils;
+
+import com.teambind.supportserver.common.cache.ClusterCacheInvalidator;
+import com.teambind.supportserver.common.cache.InMemoryCacheInvalidationTransport;
+import com.teambind.supportserver.report.entity.ReportCategory;
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
+import com.teambind.supportserver.report.repository.ReportCategoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 신고 카테고리 캐시 조회 벤치마크
+ *
+ * <p>InMemoryReportCategoryCache.get을 입력 형태별로 측정합니다.</p>
+ *
+ * <ul>
+ *   <li>{@code hitNormalized}: 정규화된 입력 (할당 없는 경로)</li>
+ *   <li>{@code hitDenormalized}: 앞뒤 공백/대문자가 섞인 입력 (정규화 후 재조회)</li>
+ *   <li>{@code miss}: 존재하지 않는 카테고리</li>
+ * </ul>
+ *
+ * <p>실행: {@code java -jar build/libs/*-jmh.jar ReportCategoryCacheBenchmark}</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ReportCategoryCacheBenchmark {
+
+    @Param({"50"})
+    private int categoriesPerType;
+
+    private InMemoryReportCategoryCache cache;
+
+    @Setup
+    public void setUp() {
+        List<ReportCategory> categories = new ArrayList<>();
+        for (ReferenceType referenceType : ReferenceType.values()) {
+            for (int i = 0; i < categoriesPerType; i++) {
+                categories.add(ReportCategory.of(referenceType, "category_" + i));
+            }
+        }
+        cache = new InMemoryReportCategoryCache(stubRepository(categories),
+                new ClusterCacheInvalidator(new InMemoryCacheInvalidationTransport(), 0),
+                new SimpleMeterRegistry(), 0, 5000);
+        cache.reload();
+    }
+
+    @Benchmark
+    public Optional<ReportCategory> hitNormalized() {
+        return cache.get(ReferenceType.PROFILE, "category_7");
+    }
+
+    @Benchmark
+    public Optional<ReportCategory> hitDenormalized() {
+        return cache.get(ReferenceType.PROFILE, "  Category_7 ");
+    }
+
+    @Benchmark
+    public Optional<ReportCategory> miss() {
+        return cache.get(ReferenceType.ARTICLE, "unknown");
+    }
+
+    /**
+     * findAll/count만 응답하는 ReportCategoryRepository 대역
+     */
+    private static ReportCategoryRepository stubRepository(List<ReportCategory> categories) {
+        return (ReportCategoryRepository) Proxy.newProxyInstance(
+                ReportCategoryRepository.class.getClassLoader(),
+                new Class<?>[]{ReportCategoryRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findAll" -> categories;
+                    case "count" -> (long) categories.size();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
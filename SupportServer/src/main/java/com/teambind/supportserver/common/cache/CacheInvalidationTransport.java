@@ -0,0 +1,43 @@
+package com.teambind.supportserver.common.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 캐시 무효화 전송 계층
+ *
+ * <p>캐시별 버전 키와 무효화 채널을 추상화합니다. 운영 환경은 Redis(INCR + pub/sub),
+ * 단일 인스턴스 실행과 테스트는 인메모리 구현을 사용합니다.</p>
+ */
+public interface CacheInvalidationTransport {
+
+	/**
+	 * 캐시 버전 증가
+	 *
+	 * @param cacheName 캐시 이름
+	 * @return 증가된 버전
+	 */
+	long incrementVersion(String cacheName);
+
+	/**
+	 * 현재 캐시 버전 조회
+	 *
+	 * @param cacheName 캐시 이름
+	 * @return 현재 버전 (한 번도 증가되지 않았으면 0)
+	 */
+	long currentVersion(String cacheName);
+
+	/**
+	 * 무효화 메시지 발행
+	 *
+	 * @param message 메시지
+	 */
+	void publish(String message);
+
+	/**
+	 * 무효화 메시지 구독
+	 *
+	 * @param listener     메시지 수신 콜백 (빠르게 반환해야 함)
+	 * @param onSubscribed 채널 구독(연결 복구 후 재구독 포함) 완료 콜백 (빠르게 반환해야 함)
+	 */
+	void subscribe(Consumer<String> listener, Runnable onSubscribed);
+}
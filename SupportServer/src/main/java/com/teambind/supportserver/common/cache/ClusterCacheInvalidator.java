@@ -0,0 +1,363 @@
+package com.teambind.supportserver.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 클러스터 로컬 캐시 무효화 조정자
+ *
+ * <p>인스턴스별 로컬 캐시(FAQ, 신고 카테고리 등)를 캐시 이름 단위의 버전으로 동기화합니다.
+ * 한 인스턴스에서 데이터를 변경하거나 수동 리로드하면 {@link #publish(String)}로 버전을 올리고 무효화 메시지를 발행하며,
+ * 다른 인스턴스는 적용한 버전보다 새 버전을 받으면 등록된 리로더로 캐시를 다시 적재합니다.</p>
+ *
+ * <ul>
+ *   <li>지터: 수신 즉시가 아니라 0~{@code max-jitter-ms} 사이 임의 지연 후 리로드하여 인스턴스들이 동시에 DB를 조회하지 않도록 분산</li>
+ *   <li>단일 실행(single-flight): 캐시당 예약/실행 중인 리로드는 하나뿐이며, 그 사이 도착한 메시지는 목표 버전만 올리고 합쳐짐.
+ *       리로드 중 더 새 버전이 도착하면 완료 후 한 번 더 예약</li>
+ *   <li>유실 보정: pub/sub은 전달을 보장하지 않으므로 주기적으로, 그리고 채널을 (재)구독할 때마다 버전 키를 조회해
+ *       뒤처진 캐시를 리로드. 리로드 실패 시 적용 버전을 올리지 않으므로 다음 폴링에서 재시도</li>
+ *   <li>키 단위 변경: {@link #publish(String, String)}로 발행한 변경은 다른 인스턴스가 리로드 없이 키 리스너로 바로 반영.
+ *       적용 버전은 빠짐없이 연속으로 수신한 버전까지만 올리므로, 유실된 메시지는 버전 키 폴링에서 전체 리로드로 보정</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ClusterCacheInvalidator implements DisposableBean {
+
+	private static final String SEPARATOR = "|";
+
+	private final CacheInvalidationTransport transport;
+	private final long maxJitterMs;
+	private final String nodeId = UUID.randomUUID().toString();
+	private final Map<String, CacheState> caches = new ConcurrentHashMap<>();
+	private final ScheduledExecutorService reloadExecutor;
+
+	private final LongAdder published = new LongAdder();
+	private final LongAdder received = new LongAdder();
+
+	public ClusterCacheInvalidator(CacheInvalidationTransport transport,
+	                               @Value("${cache.invalidation.max-jitter-ms:3000}") long maxJitterMs) {
+		this.transport = transport;
+		this.maxJitterMs = maxJitterMs;
+		this.reloadExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "cache-invalidation-reload");
+			thread.setDaemon(true);
+			return thread;
+		});
+		// 재연결 후 재구독 시점까지의 메시지는 유실되었을 수 있으므로 즉시 버전 키를 확인 (구독 스레드를 막지 않도록 별도 실행)
+		transport.subscribe(this::onMessage, () -> reloadExecutor.execute(this::pollVersions));
+	}
+
+	/**
+	 * 캐시 등록
+	 *
+	 * <p>현재 버전을 적용 버전으로 기록하므로 초기 적재 전에 호출해야 합니다.
+	 * 등록 이후 발행된 변경은 초기 적재와 겹치더라도 리로드로 반영됩니다.</p>
+	 *
+	 * @param cacheName 캐시 이름
+	 * @param reloader  로컬 캐시 리로드 작업 (무효화 전파 없이 로컬만 갱신해야 함)
+	 */
+	public void register(String cacheName, Runnable reloader) {
+		register(cacheName, reloader, null);
+	}
+
+	/**
+	 * 키 단위 변경을 수신하는 캐시 등록
+	 *
+	 * <p>다른 인스턴스가 {@link #publish(String, String)}로 발행한 변경은 {@code keyListener}로 전달됩니다.
+	 * 메시지 유실이 확인되면 {@code reloader}로 전체 리로드합니다.</p>
+	 *
+	 * @param cacheName   캐시 이름
+	 * @param reloader    로컬 캐시 전체 리로드 작업
+	 * @param keyListener 키 단위 변경을 로컬에만 반영하는 작업 (빠르게 반환해야 함, 중복 적용되어도 안전해야 함)
+	 */
+	public void register(String cacheName, Runnable reloader, Consumer<String> keyListener) {
+		long version = 0;
+		try {
+			version = transport.currentVersion(cacheName);
+		} catch (Exception e) {
+			log.warn("Failed to read cache version, starting from 0: cache={}, cause={}", cacheName, e.getMessage());
+		}
+		caches.put(cacheName, new CacheState(reloader, keyListener, version));
+		log.info("Cache registered for cluster invalidation: cache={}, version={}", cacheName, version);
+	}
+
+	/**
+	 * 캐시 버전을 올리고 다른 인스턴스에 무효화 전파
+	 *
+	 * <p>호출한 인스턴스는 이미 로컬 캐시를 갱신했다고 간주하여 리로드하지 않습니다.
+	 * Redis 장애 시 로컬 갱신은 유지하고 경고만 남깁니다.</p>
+	 *
+	 * @param cacheName 캐시 이름
+	 */
+	public void publish(String cacheName) {
+		publishVersion(cacheName);
+	}
+
+	private boolean publishVersion(String cacheName) {
+		try {
+			long version = transport.incrementVersion(cacheName);
+			CacheState state = caches.get(cacheName);
+			if (state != null) {
+				state.appliedVersion.accumulateAndGet(version, Math::max);
+				state.targetVersion.accumulateAndGet(version, Math::max);
+			}
+			transport.publish(cacheName + SEPARATOR + version + SEPARATOR + nodeId);
+			published.increment();
+			log.info("Cache invalidation published: cache={}, version={}", cacheName, version);
+			return true;
+		} catch (Exception e) {
+			log.warn("Failed to publish cache invalidation: cache={}, cause={}", cacheName, e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * 키 단위 변경을 다른 인스턴스에 전파
+	 *
+	 * <p>호출한 인스턴스는 이미 로컬에 반영했다고 간주합니다. Redis 장애로 발행하지 못하면
+	 * 다음 폴링에서 키 없이 버전만 올려 다른 인스턴스가 전체 리로드하도록 재발행합니다.</p>
+	 *
+	 * @param cacheName 캐시 이름
+	 * @param key       변경된 키
+	 */
+	public void publish(String cacheName, String key) {
+		CacheState state = caches.get(cacheName);
+		try {
+			long version = transport.incrementVersion(cacheName);
+			if (state != null) {
+				acceptKeyVersion(state, version);
+			}
+			transport.publish(cacheName + SEPARATOR + version + SEPARATOR + nodeId + SEPARATOR + key);
+			published.increment();
+			log.debug("Cache key change published: cache={}, version={}, key={}", cacheName, version, key);
+		} catch (Exception e) {
+			if (state != null) {
+				state.republishPending.set(true);
+			}
+			log.warn("Failed to publish cache key change, will republish on next poll: cache={}, key={}, cause={}",
+					cacheName, key, e.getMessage());
+		}
+	}
+
+	/**
+	 * 메시지 유실이 확인되어 전체 리로드를 기다리는 중인지 확인
+	 *
+	 * @param cacheName 캐시 이름
+	 * @return 뒤처져 있으면 true (등록되지 않은 캐시는 false)
+	 */
+	public boolean isBehind(String cacheName) {
+		CacheState state = caches.get(cacheName);
+		return state != null && state.targetVersion.get() > state.appliedVersion.get();
+	}
+
+	/**
+	 * 버전 키 폴링 (pub/sub 메시지 유실 및 리로드 실패 보정)
+	 */
+	@Scheduled(fixedDelayString = "${cache.invalidation.poll-interval-ms:30000}",
+			initialDelayString = "${cache.invalidation.poll-interval-ms:30000}")
+	public void pollVersions() {
+		caches.forEach((cacheName, state) -> {
+			if (state.republishPending.compareAndSet(true, false) && !publishVersion(cacheName)) {
+				state.republishPending.set(true);
+			}
+		});
+		for (String cacheName : caches.keySet()) {
+			try {
+				onVersion(cacheName, transport.currentVersion(cacheName));
+			} catch (Exception e) {
+				log.warn("Failed to poll cache version: cache={}, cause={}", cacheName, e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * 캐시별 동기화 상태 조회
+	 */
+	public Map<String, CacheStatus> getStatus() {
+		Map<String, CacheStatus> status = new LinkedHashMap<>();
+		caches.forEach((cacheName, state) -> status.put(cacheName, new CacheStatus(
+				state.appliedVersion.get(),
+				state.targetVersion.get(),
+				state.scheduled.get(),
+				state.reloads.sum(),
+				state.coalesced.sum(),
+				state.failures.sum()
+		)));
+		return status;
+	}
+
+	/**
+	 * 누적 발행 메시지 수
+	 */
+	public long getPublishedCount() {
+		return published.sum();
+	}
+
+	/**
+	 * 누적 수신 메시지 수 (자기 자신이 발행한 메시지 제외)
+	 */
+	public long getReceivedCount() {
+		return received.sum();
+	}
+
+	@Override
+	public void destroy() {
+		reloadExecutor.shutdownNow();
+	}
+
+	private void onMessage(String message) {
+		String[] parts = message.split("\\" + SEPARATOR, 4);
+		if (parts.length < 3) {
+			log.warn("Ignoring malformed cache invalidation message: {}", message);
+			return;
+		}
+		if (nodeId.equals(parts[2])) {
+			return;
+		}
+		received.increment();
+		try {
+			long version = Long.parseLong(parts[1]);
+			if (parts.length == 4) {
+				onKey(parts[0], version, parts[3]);
+			} else {
+				onVersion(parts[0], version);
+			}
+		} catch (NumberFormatException e) {
+			log.warn("Ignoring malformed cache invalidation message: {}", message);
+		}
+	}
+
+	/**
+	 * 키 단위 변경을 키 리스너로 반영 (키 리스너가 없거나 반영에 실패하면 전체 리로드)
+	 */
+	private void onKey(String cacheName, long version, String key) {
+		CacheState state = caches.get(cacheName);
+		if (state == null || version <= state.appliedVersion.get()) {
+			return;
+		}
+		if (state.keyListener == null) {
+			onVersion(cacheName, version);
+			return;
+		}
+		try {
+			state.keyListener.accept(key);
+		} catch (Exception e) {
+			state.failures.increment();
+			log.warn("Cache key change failed to apply, scheduling reload: cache={}, version={}, cause={}",
+					cacheName, version, e.getMessage());
+			onVersion(cacheName, version);
+			return;
+		}
+		acceptKeyVersion(state, version);
+	}
+
+	/**
+	 * 반영한 키 변경 버전 기록
+	 *
+	 * <p>적용 버전은 연속된 버전까지만 올립니다. 순서가 바뀌어 먼저 도착한 버전은 앞 버전이 올 때까지 대기하고,
+	 * 끝내 오지 않으면(유실) 버전 키 폴링에서 적용 버전이 뒤처진 것으로 보고 전체 리로드합니다.</p>
+	 */
+	private void acceptKeyVersion(CacheState state, long version) {
+		state.keyVersions.add(version);
+		while (true) {
+			long applied = state.appliedVersion.get();
+			state.keyVersions.headSet(applied, true).clear();
+			if (!state.keyVersions.remove(applied + 1)) {
+				return;
+			}
+			state.appliedVersion.accumulateAndGet(applied + 1, Math::max);
+		}
+	}
+
+	/**
+	 * 적용 버전보다 새 버전이면 지터를 둔 리로드를 예약하고, 이미 예약되어 있으면 목표 버전만 갱신
+	 */
+	private void onVersion(String cacheName, long version) {
+		CacheState state = caches.get(cacheName);
+		if (state == null || version <= state.appliedVersion.get()) {
+			return;
+		}
+		state.targetVersion.accumulateAndGet(version, Math::max);
+		if (state.scheduled.compareAndSet(false, true)) {
+			long delayMs = maxJitterMs > 0 ? ThreadLocalRandom.current().nextLong(maxJitterMs + 1) : 0;
+			reloadExecutor.schedule(() -> reload(cacheName, state), delayMs, TimeUnit.MILLISECONDS);
+			log.debug("Cache reload scheduled: cache={}, version={}, delayMs={}", cacheName, version, delayMs);
+		} else {
+			state.coalesced.increment();
+		}
+	}
+
+	private void reload(String cacheName, CacheState state) {
+		long target = state.targetVersion.get();
+		boolean success = false;
+		try {
+			state.reloader.run();
+			state.appliedVersion.accumulateAndGet(target, Math::max);
+			state.reloads.increment();
+			success = true;
+			log.info("Cache reloaded by cluster invalidation: cache={}, version={}", cacheName, target);
+		} catch (Exception e) {
+			state.failures.increment();
+			log.warn("Cache reload by cluster invalidation failed: cache={}, version={}, cause={}",
+					cacheName, target, e.getMessage());
+		} finally {
+			state.scheduled.set(false);
+		}
+		if (success) {
+			// 리로드 중 도착한 더 새 버전 반영
+			onVersion(cacheName, state.targetVersion.get());
+		}
+	}
+
+	private static final class CacheState {
+		private final Runnable reloader;
+		private final Consumer<String> keyListener;
+		private final AtomicLong appliedVersion;
+		private final AtomicLong targetVersion;
+		private final AtomicBoolean scheduled = new AtomicBoolean();
+		private final AtomicBoolean republishPending = new AtomicBoolean();
+		private final ConcurrentSkipListSet<Long> keyVersions = new ConcurrentSkipListSet<>();
+		private final LongAdder reloads = new LongAdder();
+		private final LongAdder coalesced = new LongAdder();
+		private final LongAdder failures = new LongAdder();
+
+		private CacheState(Runnable reloader, Consumer<String> keyListener, long version) {
+			this.reloader = reloader;
+			this.keyListener = keyListener;
+			this.appliedVersion = new AtomicLong(version);
+			this.targetVersion = new AtomicLong(version);
+		}
+	}
+
+	/**
+	 * 캐시 동기화 상태 스냅샷
+	 *
+	 * @param appliedVersion 로컬 캐시에 반영된 버전
+	 * @param targetVersion  수신한 최신 버전
+	 * @param reloadPending  리로드 예약/실행 중 여부
+	 * @param reloads        무효화로 인한 누적 리로드 수
+	 * @param coalesced      예약된 리로드에 합쳐진 무효화 수
+	 * @param failures       누적 리로드 실패 수
+	 */
+	public record CacheStatus(long appliedVersion, long targetVersion, boolean reloadPending,
+	                          long reloads, long coalesced, long failures) {
+	}
+}
@@ -0,0 +1,56 @@
+package com.teambind.supportserver.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 인메모리 캐시 무효화 전송 계층
+ *
+ * <p>Redis 없이 실행할 때 사용하며, 하나의 인스턴스를 여러 {@link ClusterCacheInvalidator}가 공유하면
+ * 같은 버전 키와 채널을 쓰는 클러스터를 흉내낼 수 있어 테스트용 Redis 대역으로도 사용합니다.
+ * 메시지는 발행 스레드에서 구독자에게 동기적으로 전달됩니다.</p>
+ */
+@Slf4j
+public class InMemoryCacheInvalidationTransport implements CacheInvalidationTransport {
+
+	private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+	private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+	@Override
+	public long incrementVersion(String cacheName) {
+		return versions.computeIfAbsent(cacheName, key -> new AtomicLong()).incrementAndGet();
+	}
+
+	@Override
+	public long currentVersion(String cacheName) {
+		AtomicLong version = versions.get(cacheName);
+		return version == null ? 0 : version.get();
+	}
+
+	@Override
+	public void publish(String message) {
+		for (Consumer<String> listener : listeners) {
+			try {
+				listener.accept(message);
+			} catch (Exception e) {
+				log.warn("Cache invalidation listener failed: message={}, cause={}", message, e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>연결이 끊기지 않으므로 구독 완료 콜백은 호출하지 않습니다.</p>
+	 */
+	@Override
+	public void subscribe(Consumer<String> listener, Runnable onSubscribed) {
+		listeners.add(listener);
+	}
+}
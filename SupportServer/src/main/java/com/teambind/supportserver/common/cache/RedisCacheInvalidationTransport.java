@@ -0,0 +1,78 @@
+package com.teambind.supportserver.common.cache;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Redis 기반 캐시 무효화 전송 계층
+ *
+ * <p>버전은 {@code <versionKeyPrefix><cacheName>} 키의 INCR로 관리하고, 무효화 메시지는 pub/sub 채널로 발행합니다.
+ * pub/sub은 전달을 보장하지 않으므로 유실된 메시지는 {@link ClusterCacheInvalidator}의 버전 키 폴링으로 보정합니다.
+ * 연결이 끊겼다가 복구되어 채널을 다시 구독하면 구독 완료 콜백을 호출하여 끊긴 동안의 유실을 바로 확인할 수 있게 합니다.</p>
+ */
+public class RedisCacheInvalidationTransport implements CacheInvalidationTransport {
+
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final ChannelTopic topic;
+	private final String versionKeyPrefix;
+
+	public RedisCacheInvalidationTransport(StringRedisTemplate redisTemplate,
+	                                       RedisMessageListenerContainer listenerContainer,
+	                                       String channel,
+	                                       String versionKeyPrefix) {
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+		this.topic = new ChannelTopic(channel);
+		this.versionKeyPrefix = versionKeyPrefix;
+	}
+
+	@Override
+	public long incrementVersion(String cacheName) {
+		Long version = redisTemplate.opsForValue().increment(versionKeyPrefix + cacheName);
+		if (version == null) {
+			throw new IllegalStateException("INCR returned no value for cache: " + cacheName);
+		}
+		return version;
+	}
+
+	@Override
+	public long currentVersion(String cacheName) {
+		String version = redisTemplate.opsForValue().get(versionKeyPrefix + cacheName);
+		return version == null ? 0 : Long.parseLong(version);
+	}
+
+	@Override
+	public void publish(String message) {
+		redisTemplate.convertAndSend(topic.getTopic(), message);
+	}
+
+	@Override
+	public void subscribe(Consumer<String> listener, Runnable onSubscribed) {
+		listenerContainer.addMessageListener(new ChannelListener(listener, onSubscribed), topic);
+	}
+
+	/**
+	 * 메시지와 (재)구독 알림을 함께 받는 리스너 (컨테이너는 SubscriptionListener를 구현한 리스너에 구독 이벤트를 전달)
+	 */
+	private record ChannelListener(Consumer<String> listener, Runnable onSubscribed)
+			implements MessageListener, SubscriptionListener {
+
+		@Override
+		public void onMessage(Message message, byte[] pattern) {
+			listener.accept(new String(message.getBody(), StandardCharsets.UTF_8));
+		}
+
+		@Override
+		public void onChannelSubscribed(byte[] channel, long count) {
+			onSubscribed.run();
+		}
+	}
+}
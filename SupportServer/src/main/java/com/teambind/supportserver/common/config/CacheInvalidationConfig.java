@@ -0,0 +1,46 @@
+package com.teambind.supportserver.common.config;
+
+import com.teambind.supportserver.common.cache.CacheInvalidationTransport;
+import com.teambind.supportserver.common.cache.InMemoryCacheInvalidationTransport;
+import com.teambind.supportserver.common.cache.RedisCacheInvalidationTransport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 로컬 캐시 무효화 전송 계층 설정
+ *
+ * <p>{@code cache.invalidation.transport=redis}이면 Redis pub/sub과 버전 키를 사용하고,
+ * 설정이 없으면 인스턴스 내부에서만 동작하는 인메모리 전송 계층을 사용합니다.</p>
+ */
+@Configuration
+public class CacheInvalidationConfig {
+
+	@Bean
+	@ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "redis")
+	public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		return container;
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "redis")
+	public CacheInvalidationTransport redisCacheInvalidationTransport(
+			StringRedisTemplate redisTemplate,
+			RedisMessageListenerContainer cacheInvalidationListenerContainer,
+			@Value("${cache.invalidation.channel:cache:invalidation}") String channel,
+			@Value("${cache.invalidation.version-key-prefix:cache:version:}") String versionKeyPrefix) {
+		return new RedisCacheInvalidationTransport(redisTemplate, cacheInvalidationListenerContainer, channel, versionKeyPrefix);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "memory", matchIfMissing = true)
+	public CacheInvalidationTransport inMemoryCacheInvalidationTransport() {
+		return new InMemoryCacheInvalidationTransport();
+	}
+}
@@ -1,15 +1,52 @@
 package com.teambind.supportserver.common.config;
 
 import com.teambind.supportserver.common.utils.IdGenerator;
+import com.teambind.supportserver.common.utils.LeasedSnowflake;
+import com.teambind.supportserver.common.utils.RedisNodeIdLease;
 import com.teambind.supportserver.common.utils.Snowflake;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Snowflake ID 생성기 설정
+ *
+ * <p>노드 ID는 {@code snowflake.node-id-source=redis}이면 Redis 임대로, 아니면 {@code snowflake.node-id} 설정값으로 정합니다.
+ * Redis 임대를 쓰면 임대가 유효할 때만 ID를 발급합니다.
+ * 둘 다 없으면 임의 노드 ID를 사용하며 다중 인스턴스에서는 ID가 충돌할 수 있습니다.</p>
+ */
+@Slf4j
 @Configuration
 public class IdConfig {
-	
+
+	@Bean
+	@ConditionalOnProperty(name = "snowflake.node-id-source", havingValue = "redis")
+	public RedisNodeIdLease snowflakeNodeIdLease(
+			StringRedisTemplate redisTemplate,
+			@Value("${snowflake.lease.key-prefix:snowflake:node:}") String keyPrefix,
+			@Value("${snowflake.lease.ttl-ms:30000}") long ttlMs) {
+		return new RedisNodeIdLease(redisTemplate, keyPrefix, Duration.ofMillis(ttlMs));
+	}
+
 	@Bean
-	public IdGenerator idGenerator() {
-		return new Snowflake();
+	public IdGenerator idGenerator(@Value("${snowflake.node-id:-1}") long nodeId,
+	                               Optional<RedisNodeIdLease> nodeIdLease) {
+		if (nodeIdLease.isPresent()) {
+			return new LeasedSnowflake(nodeIdLease.get());
+		}
+		if (nodeId >= 0) {
+			log.info("Snowflake node ID configured: nodeId={}", nodeId);
+			return new Snowflake(nodeId);
+		}
+		Snowflake snowflake = new Snowflake();
+		log.warn("Snowflake node ID not configured, using random nodeId={} (set snowflake.node-id or snowflake.node-id-source=redis)",
+				snowflake.getNodeId());
+		return snowflake;
 	}
 }
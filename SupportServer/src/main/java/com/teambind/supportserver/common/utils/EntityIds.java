@@ -0,0 +1,50 @@
+package com.teambind.supportserver.common.utils;
+
+import java.util.Optional;
+
+/**
+ * API 경계의 문자열 ID와 BIGINT 기본 키 변환
+ *
+ * <p>저장소와 내부 로직은 Snowflake {@code long} 키를 사용하고, REST 응답/요청과 메시지 페이로드에서만 문자열로 다룹니다.
+ * 이전에 문자열로 발급된 Snowflake ID도 숫자 문자열이므로 그대로 같은 키로 해석됩니다.</p>
+ */
+public final class EntityIds {
+
+	private static final int MAX_DIGITS = String.valueOf(Long.MAX_VALUE).length();
+
+	private EntityIds() {
+	}
+
+	/**
+	 * 문자열 ID를 BIGINT 키로 해석
+	 *
+	 * <p>양의 10진수가 아니면(예: 마이그레이션 전 UUID 문자열) 예외 없이 빈 값을 반환합니다.</p>
+	 *
+	 * @param id API로 받은 ID
+	 * @return BIGINT 키 Optional
+	 */
+	public static Optional<Long> parse(String id) {
+		if (id == null || id.isEmpty() || id.length() > MAX_DIGITS) {
+			return Optional.empty();
+		}
+		long value = 0;
+		for (int i = 0; i < id.length(); i++) {
+			char c = id.charAt(i);
+			if (c < '0' || c > '9') {
+				return Optional.empty();
+			}
+			value = value * 10 + (c - '0');
+			if (value < 0) {
+				return Optional.empty(); // overflow
+			}
+		}
+		return value > 0 ? Optional.of(value) : Optional.empty();
+	}
+
+	/**
+	 * BIGINT 키를 API용 문자열 ID로 변환
+	 */
+	public static String format(Long id) {
+		return id != null ? String.valueOf(id) : null;
+	}
+}
@@ -5,4 +5,15 @@ package com.teambind.supportserver.common.utils;
 public interface IdGenerator {
 	String generateId();
 	Long generateLongId();
+
+	/**
+	 * count개의 ID 일괄 발급 (배치 insert용)
+	 */
+	default long[] generateLongIds(int count) {
+		long[] ids = new long[count];
+		for (int i = 0; i < count; i++) {
+			ids[i] = generateLongId();
+		}
+		return ids;
+	}
 }
@@ -0,0 +1,64 @@
+package com.teambind.supportserver.common.utils;
+
+/**
+ * Redis 노드 ID 임대를 확인하며 발급하는 Snowflake ID 생성기
+ *
+ * <p>임대가 유효하지 않으면 ID를 발급하지 않고 {@link IllegalStateException}을 던집니다(fail closed).
+ * 다른 인스턴스가 같은 노드 ID로 발급 중일 수 있는 상태에서 ID를 만들면 충돌하기 때문입니다.
+ * 임대가 다른 노드 ID로 바뀌면 새 노드 ID의 {@link Snowflake}로 교체합니다.</p>
+ */
+public class LeasedSnowflake implements IdGenerator {
+
+	private final RedisNodeIdLease lease;
+	private volatile Snowflake snowflake;
+
+	public LeasedSnowflake(RedisNodeIdLease lease) {
+		this.lease = lease;
+		this.snowflake = new Snowflake(lease.getNodeId());
+	}
+
+	@Override
+	public String generateId() {
+		return current().generateId();
+	}
+
+	@Override
+	public Long generateLongId() {
+		return current().generateLongId();
+	}
+
+	@Override
+	public long[] generateLongIds(int count) {
+		return current().generateLongIds(count);
+	}
+
+	/**
+	 * 현재 노드 ID
+	 */
+	public long getNodeId() {
+		return snowflake.getNodeId();
+	}
+
+	/**
+	 * 유효한 임대의 노드 ID에 해당하는 생성기
+	 */
+	private Snowflake current() {
+		if (!lease.isValid()) {
+			throw new IllegalStateException(
+					"Snowflake node ID lease is not held, ID generation suspended until re-leased: nodeId=" + lease.getNodeId());
+		}
+		long nodeId = lease.getNodeId();
+		Snowflake current = snowflake;
+		if (current.getNodeId() == nodeId) {
+			return current;
+		}
+		synchronized (this) {
+			current = snowflake;
+			if (current.getNodeId() != nodeId) {
+				current = new Snowflake(nodeId);
+				snowflake = current;
+			}
+			return current;
+		}
+	}
+}
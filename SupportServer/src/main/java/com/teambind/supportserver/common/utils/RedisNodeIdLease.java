@@ -0,0 +1,136 @@
+package com.teambind.supportserver.common.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Redis 임대(lease) 기반 Snowflake 노드 ID 할당
+ *
+ * <p>{@code <keyPrefix><nodeId>} 키를 SET NX PX로 선점한 노드 ID를 사용하고, TTL의 1/3 주기로 임대를 갱신합니다.
+ * 갱신은 키 값이 자신의 소유자 토큰일 때만 만료 시각을 연장하며(Lua), 종료 시 자신이 소유한 키만 삭제합니다.
+ * 인스턴스가 비정상 종료되면 TTL 경과 후 노드 ID가 반환되어 재사용됩니다.</p>
+ *
+ * <p>임대는 마지막으로 성공한 선점/갱신 시작 시각부터 TTL 동안만 유효하다고 봅니다({@link #isValid()}).
+ * Redis 장애로 갱신하지 못하거나 다른 인스턴스가 노드 ID를 가져가면 유효하지 않게 되며,
+ * 이 동안 {@link LeasedSnowflake}는 ID를 발급하지 않습니다(fail closed). 노드 ID를 빼앗긴 경우 다음 갱신 주기에
+ * 비어 있는 다른 노드 ID를 선점하고, 발급기는 새 노드 ID로 생성기를 교체합니다.</p>
+ */
+@Slf4j
+public class RedisNodeIdLease implements DisposableBean {
+
+	private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+			"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+			Long.class);
+
+	private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+			"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+			Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final String keyPrefix;
+	private final Duration ttl;
+	private final String owner = UUID.randomUUID().toString();
+
+	/**
+	 * 임대한 노드 ID (다른 인스턴스에 빼앗긴 뒤 다른 ID를 선점하면 바뀜)
+	 */
+	private volatile long nodeId;
+
+	/**
+	 * 임대 유효 기한 ({@link System#nanoTime()} 기준, 노드 ID보다 나중에 기록하여 함께 발행)
+	 */
+	private volatile long validUntilNanos;
+
+	public RedisNodeIdLease(StringRedisTemplate redisTemplate, String keyPrefix, Duration ttl) {
+		this.redisTemplate = redisTemplate;
+		this.keyPrefix = keyPrefix;
+		this.ttl = ttl;
+		long startNanos = System.nanoTime();
+		this.nodeId = acquire();
+		this.validUntilNanos = startNanos + ttl.toNanos();
+	}
+
+	/**
+	 * 임대한 노드 ID
+	 */
+	public long getNodeId() {
+		return nodeId;
+	}
+
+	/**
+	 * 임대 유효 여부
+	 *
+	 * <p>마지막 선점/갱신 명령을 보내기 전 시각부터 TTL이 지나지 않았으면 유효합니다.
+	 * Redis 키는 그보다 늦게 만료되므로, 유효한 동안에는 다른 인스턴스가 같은 노드 ID를 선점할 수 없습니다.</p>
+	 */
+	public boolean isValid() {
+		return System.nanoTime() - validUntilNanos < 0;
+	}
+
+	/**
+	 * 임대 갱신
+	 *
+	 * <p>키가 만료되어 사라졌으면 다시 선점합니다. 다른 인스턴스가 가져갔으면 즉시 무효화하여 ID 발급을 멈추고
+	 * 비어 있는 다른 노드 ID를 선점합니다. 갱신이 예외로 실패하면 유효 기한이 지나는 대로 발급이 멈춥니다.</p>
+	 */
+	@Scheduled(fixedDelayString = "${snowflake.lease.renew-interval-ms:10000}")
+	public void renew() {
+		long startNanos = System.nanoTime();
+		long current = nodeId;
+		Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(key(current)), owner, String.valueOf(ttl.toMillis()));
+		if (renewed != null && renewed == 1L) {
+			validUntilNanos = startNanos + ttl.toNanos();
+			return;
+		}
+		if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key(current), owner, ttl))) {
+			validUntilNanos = startNanos + ttl.toNanos();
+			log.warn("Snowflake node ID lease expired and was re-acquired: nodeId={}", current);
+			return;
+		}
+
+		validUntilNanos = startNanos;
+		log.error("Snowflake node ID lease lost to another instance, ID generation suspended: nodeId={}", current);
+		try {
+			nodeId = acquire();
+			validUntilNanos = startNanos + ttl.toNanos();
+			log.warn("Snowflake node ID re-leased after loss: nodeId={} -> {}", current, nodeId);
+		} catch (IllegalStateException e) {
+			log.error("Failed to lease a new Snowflake node ID, ID generation stays suspended: {}", e.getMessage());
+		}
+	}
+
+	@Override
+	public void destroy() {
+		redisTemplate.execute(RELEASE_SCRIPT, List.of(key(nodeId)), owner);
+		log.info("Snowflake node ID lease released: nodeId={}", nodeId);
+	}
+
+	/**
+	 * 임의 위치부터 순회하며 비어 있는 노드 ID 선점 (인스턴스가 동시에 기동해도 같은 순서로 경합하지 않도록)
+	 */
+	private long acquire() {
+		long size = Snowflake.MAX_NODE_ID + 1;
+		long start = ThreadLocalRandom.current().nextLong(size);
+		for (long i = 0; i < size; i++) {
+			long candidate = (start + i) % size;
+			if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key(candidate), owner, ttl))) {
+				log.info("Snowflake node ID leased: nodeId={}, ttl={}", candidate, ttl);
+				return candidate;
+			}
+		}
+		throw new IllegalStateException("No free Snowflake node ID in Redis (all " + size + " leased)");
+	}
+
+	private String key(long id) {
+		return keyPrefix + id;
+	}
+}
@@ -1,81 +1,155 @@
 package com.teambind.supportserver.common.utils;
 
 
-import lombok.RequiredArgsConstructor;
-import org.springframework.context.annotation.Primary;
-import org.springframework.stereotype.Component;
-
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 
+/**
+ * Snowflake ID 생성기 (lock-free)
+ *
+ * <p>ID 구성: 41비트 타임스탬프(커스텀 epoch 기준 ms) | 10비트 노드 ID | 12비트 시퀀스</p>
+ *
+ * <p>마지막 발급 상태(타임스탬프 + 시퀀스)를 하나의 {@link AtomicLong}에 묶어 두고 CAS로 전진시키므로
+ * 요청 스레드들이 모니터 락에서 직렬화되지 않습니다. 시계가 뒤로 가면 마지막 타임스탬프를 논리 시계로 계속 사용하고
+ * 해당 밀리초의 시퀀스를 다 쓰면 실제 시계가 따라올 때까지 대기하므로, 발급 순서대로 증가하는 유일 ID를 보장합니다.</p>
+ *
+ * <p>배치 insert용으로 {@link #generateLongIds(int)}는 한 번의 CAS로 같은 밀리초의 시퀀스 구간을 예약한 뒤
+ * 호출 스레드에서 ID를 채웁니다.</p>
+ */
+public class Snowflake implements IdGenerator {
 
-public class Snowflake  implements IdGenerator{
-	
 	// ===== Bit Allocation =====
 	private static final int NODE_ID_BITS = 10;
 	private static final int SEQUENCE_BITS = 12;
-	
-	private static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+
+	public static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
 	private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
-	
+
 	private static final int NODE_ID_SHIFT = SEQUENCE_BITS;
 	private static final int TIMESTAMP_SHIFT = NODE_ID_BITS + SEQUENCE_BITS;
-	
+
 	// ===== Custom Epoch: 2024-01-01T00:00:00Z =====
 	private static final long CUSTOM_EPOCH = 1704067200000L;
-	private static final long maxNodeId = (1L << NODE_ID_BITS) - 1;
+
 	// ===== Instance Variables =====
-	private final long nodeId = ThreadLocalRandom.current().nextLong(maxNodeId + 1);
-	private long lastTimestamp = -1L;
-	private long sequence = 0L;
-	
+	private final long nodeId;
+
+	/**
+	 * 마지막 발급 상태: (epoch 기준 타임스탬프 << SEQUENCE_BITS) | 시퀀스
+	 */
+	private final AtomicLong state = new AtomicLong(-1L);
+
+	/**
+	 * 임의 노드 ID로 생성 (단일 인스턴스/로컬 실행용, 다중 인스턴스에서는 충돌 가능)
+	 */
+	public Snowflake() {
+		this(ThreadLocalRandom.current().nextLong(MAX_NODE_ID + 1));
+	}
+
+	/**
+	 * 지정한 노드 ID로 생성
+	 *
+	 * @param nodeId 노드 ID (0 ~ {@value #MAX_NODE_ID})
+	 */
+	public Snowflake(long nodeId) {
+		if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+			throw new IllegalArgumentException("Node ID must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+		}
+		this.nodeId = nodeId;
+	}
+
 	/** Generate next unique ID */
-	public synchronized long nextId() {
-		long currentTimestamp = currentTime();
-		
-		// Clock rollback handling
-		if (currentTimestamp < lastTimestamp) {
-			// Option 1: wait for time to catch up (soft fail)
-			currentTimestamp = waitNextMillis(lastTimestamp);
+	public long nextId() {
+		return compose(reserve(1));
+	}
+
+	/**
+	 * count개의 ID를 시퀀스 구간 예약으로 발급
+	 *
+	 * <p>밀리초당 시퀀스 범위 안에서 한 번의 CAS로 남은 만큼 예약하고, 부족하면 다음 밀리초에서 이어서 예약합니다.</p>
+	 */
+	@Override
+	public long[] generateLongIds(int count) {
+		long[] ids = new long[count];
+		int filled = 0;
+		while (filled < count) {
+			long first = reserve(count - filled);
+			int reserved = reservedCount(first, count - filled);
+			for (int i = 0; i < reserved; i++) {
+				ids[filled++] = compose(first + i);
+			}
 		}
-		
-		if (currentTimestamp == lastTimestamp) {
-			sequence = (sequence + 1) & MAX_SEQUENCE;
-			if (sequence == 0) {
-				// Sequence overflow: wait for next millisecond
-				currentTimestamp = waitNextMillis(currentTimestamp);
+		return ids;
+	}
+
+	public long getNodeId() {
+		return nodeId;
+	}
+
+	/**
+	 * 시퀀스 구간 예약
+	 *
+	 * @param count 요청 수 (현재 밀리초에 남은 시퀀스보다 많으면 남은 만큼만 예약)
+	 * @return 예약 구간의 첫 상태
+	 */
+	private long reserve(int count) {
+		while (true) {
+			long current = state.get();
+			long lastTimestamp = current >> SEQUENCE_BITS;
+			long now = currentTime() - CUSTOM_EPOCH;
+
+			long first;
+			if (current < 0 || now > lastTimestamp) {
+				first = now << SEQUENCE_BITS;
+			} else {
+				// 같은 밀리초 또는 시계 역행: 마지막 타임스탬프의 다음 시퀀스부터 사용
+				if ((current & MAX_SEQUENCE) == MAX_SEQUENCE) {
+					// Sequence overflow: wait for next millisecond
+					waitNextMillis(lastTimestamp);
+					continue;
+				}
+				first = current + 1;
+			}
+			long available = MAX_SEQUENCE - (first & MAX_SEQUENCE) + 1;
+			long next = first + Math.min(count, available) - 1;
+			if (state.compareAndSet(current, next)) {
+				return first;
 			}
-		} else {
-			sequence = 0;
 		}
-		
-		lastTimestamp = currentTimestamp;
-		
-		return ((currentTimestamp - CUSTOM_EPOCH) << TIMESTAMP_SHIFT)
+	}
+
+	/**
+	 * 시작 상태에서 요청 수만큼 예약했을 때 실제 예약된 수 (밀리초 경계에서 잘림)
+	 */
+	private static int reservedCount(long first, int requested) {
+		long available = MAX_SEQUENCE - (first & MAX_SEQUENCE) + 1;
+		return (int) Math.min(requested, available);
+	}
+
+	private long compose(long packedState) {
+		return ((packedState >> SEQUENCE_BITS) << TIMESTAMP_SHIFT)
 				| (nodeId << NODE_ID_SHIFT)
-				| sequence;
+				| (packedState & MAX_SEQUENCE);
 	}
-	
+
 	/** Busy-wait for next millisecond */
-	private long waitNextMillis(long lastTimestamp) {
-		long timestamp = currentTime();
-		while (timestamp <= lastTimestamp) {
+	private void waitNextMillis(long lastTimestamp) {
+		while (currentTime() - CUSTOM_EPOCH <= lastTimestamp) {
 			Thread.yield(); // Reduce CPU waste
-			timestamp = currentTime();
 		}
-		return timestamp;
 	}
-	
+
 	private long currentTime() {
 		return System.currentTimeMillis();
 	}
-	
-	
+
+
 	@Override
 	public String generateId() {
 		return String.valueOf(nextId());
 	}
-	
+
 	@Override
 	public Long generateLongId() {
 		return nextId();
@@ -1,15 +1,17 @@
 package com.teambind.supportserver.faq.controller;
 
-import com.teambind.supportserver.faq.entity.Faq;
 import com.teambind.supportserver.faq.entity.enums.FaqCategory;
+import com.teambind.supportserver.faq.service.FaqResponseSnapshot;
 import com.teambind.supportserver.faq.service.FaqService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 /**
  * FAQ 컨트롤러
  */
@@ -24,19 +26,43 @@ public class FaqController {
     /**
      * FAQ 목록 조회 (카테고리 필터링 가능)
      *
-     * @param category FAQ 카테고리 (선택, 기본값: ALL)
-     * @return FAQ 목록
+     * <p>갱신 시점에 미리 직렬화한 JSON 바이트를 그대로 응답합니다.
+     * If-None-Match가 현재 ETag와 일치하면 본문 없이 304를, 클라이언트가 gzip을 허용하고
+     * 미리 압축된 본문이 있으면 압축 본문을 응답합니다.</p>
+     *
+     * @param category       FAQ 카테고리 (선택, 기본값: ALL)
+     * @param ifNoneMatch    If-None-Match 헤더 (선택)
+     * @param acceptEncoding Accept-Encoding 헤더 (선택)
+     * @return FAQ 목록 JSON
      */
     @GetMapping
-    public ResponseEntity<List<Faq>> getFaqs(
-            @RequestParam(required = false, defaultValue = "ALL") FaqCategory category) {
-        log.info("Fetching FAQs: category={}", category);
+    public ResponseEntity<byte[]> getFaqs(
+            @RequestParam(required = false, defaultValue = "ALL") FaqCategory category,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        FaqResponseSnapshot snapshot = faqService.getResponseSnapshot(category);
+        boolean gzip = snapshot.hasGzip() && acceptsGzip(acceptEncoding);
+        String etag = gzip ? snapshot.getGzipEtag() : snapshot.getEtag();
 
-        List<Faq> faqs = faqService.getFaqsByCategory(category);
+        if (snapshot.matches(ifNoneMatch)) {
+            log.debug("FAQs not modified: category={}", category);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
 
-        log.info("Returned {} FAQs", faqs.size());
+        log.debug("Returned {} FAQs: category={}, gzip={}", snapshot.getCount(), category, gzip);
 
-        return ResponseEntity.ok(faqs);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        return gzip
+                ? builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.getGzipBody())
+                : builder.body(snapshot.getBody());
     }
 
     /**
@@ -54,4 +80,23 @@ public class FaqController {
 
         return ResponseEntity.ok("FAQ cache refreshed successfully");
     }
+
+    /**
+     * Accept-Encoding에 gzip이 허용되어 있는지 확인 (q=0은 거부로 간주)
+     */
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase("gzip") && !name.equals("*")) {
+                continue;
+            }
+            boolean rejected = parts.length > 1 && parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            return !rejected;
+        }
+        return false;
+    }
 }
@@ -0,0 +1,97 @@
+package com.teambind.supportserver.faq.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.supportserver.faq.entity.Faq;
+import com.teambind.supportserver.faq.entity.enums.FaqCategory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FAQ 캐시 스냅샷 (불변)
+ *
+ * <p>갱신 시점에 카테고리별 목록과 직렬화된 응답을 모두 만들어 두고, 서비스는 이 객체 하나를
+ * volatile 참조 교체로 발행합니다. 읽기 경로는 락, 복사, 필터링 없이 EnumMap 조회만 수행합니다.</p>
+ */
+public final class FaqCacheSnapshot {
+
+    private static final FaqCacheSnapshot EMPTY = of(List.of(), null, Integer.MAX_VALUE);
+
+    private final List<Faq> all;
+    private final Map<FaqCategory, List<Faq>> byCategory;
+    private final Map<FaqCategory, FaqResponseSnapshot> responses;
+
+    private FaqCacheSnapshot(List<Faq> all, Map<FaqCategory, List<Faq>> byCategory,
+                             Map<FaqCategory, FaqResponseSnapshot> responses) {
+        this.all = all;
+        this.byCategory = byCategory;
+        this.responses = responses;
+    }
+
+    /**
+     * FAQ 목록으로 스냅샷 생성
+     *
+     * @param faqs         전체 FAQ 목록 (조회 순서 유지)
+     * @param objectMapper 응답 직렬화에 사용하는 ObjectMapper (null이면 빈 응답)
+     * @param gzipMinBytes 이 크기 이상인 응답만 gzip 본문을 함께 생성
+     */
+    public static FaqCacheSnapshot of(List<Faq> faqs, ObjectMapper objectMapper, int gzipMinBytes) {
+        Map<FaqCategory, List<Faq>> grouped = new EnumMap<>(FaqCategory.class);
+        for (FaqCategory category : FaqCategory.values()) {
+            grouped.put(category, new ArrayList<>());
+        }
+        for (Faq faq : faqs) {
+            grouped.get(faq.getCategory()).add(faq);
+        }
+
+        List<Faq> all = List.copyOf(faqs);
+        Map<FaqCategory, List<Faq>> byCategory = new EnumMap<>(FaqCategory.class);
+        Map<FaqCategory, FaqResponseSnapshot> responses = new EnumMap<>(FaqCategory.class);
+        for (FaqCategory category : FaqCategory.values()) {
+            List<Faq> list = category == FaqCategory.ALL ? all : List.copyOf(grouped.get(category));
+            byCategory.put(category, list);
+            responses.put(category, objectMapper != null
+                    ? FaqResponseSnapshot.of(list, objectMapper, gzipMinBytes)
+                    : FaqResponseSnapshot.empty());
+        }
+        return new FaqCacheSnapshot(all, Collections.unmodifiableMap(byCategory), Collections.unmodifiableMap(responses));
+    }
+
+    /**
+     * 빈 스냅샷 (캐시 초기화 전)
+     */
+    public static FaqCacheSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 전체 FAQ 목록 (불변)
+     */
+    public List<Faq> getAll() {
+        return all;
+    }
+
+    /**
+     * 카테고리별 FAQ 목록 (불변, ALL은 전체 목록)
+     */
+    public List<Faq> get(FaqCategory category) {
+        return byCategory.get(category);
+    }
+
+    /**
+     * 카테고리별 직렬화된 응답
+     */
+    public FaqResponseSnapshot getResponse(FaqCategory category) {
+        return responses.get(category);
+    }
+
+    /**
+     * 전체 FAQ 수
+     */
+    public int size() {
+        return all.size();
+    }
+}
@@ -0,0 +1,128 @@
+package com.teambind.supportserver.faq.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.supportserver.faq.entity.Faq;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * FAQ 응답 스냅샷 (불변)
+ *
+ * <p>캐시 갱신 시점에 카테고리별 FAQ 목록을 JSON 바이트로 미리 직렬화해 두고,
+ * 요청마다 그대로 응답 본문으로 사용합니다. 데이터는 갱신 시에만 바뀌므로 요청 경로에서 직렬화 비용이 없습니다.</p>
+ *
+ * <ul>
+ *   <li>ETag: JSON 바이트의 MD5 (gzip 표현은 {@code -gzip} 접미사로 구분)</li>
+ *   <li>gzip: 본문이 {@code gzipMinBytes} 이상일 때만 미리 압축</li>
+ * </ul>
+ *
+ * <p>바이트 배열은 외부에 노출되지만 응답 쓰기 용도로만 사용하며 수정하지 않아야 합니다.</p>
+ */
+public final class FaqResponseSnapshot {
+
+    private static final String GZIP_SUFFIX = "-gzip";
+
+    private final int count;
+    private final byte[] body;
+    private final byte[] gzipBody;
+    private final String etag;
+    private final String gzipEtag;
+
+    private FaqResponseSnapshot(int count, byte[] body, byte[] gzipBody) {
+        String hash = DigestUtils.md5DigestAsHex(body);
+        this.count = count;
+        this.body = body;
+        this.gzipBody = gzipBody;
+        this.etag = "\"" + hash + "\"";
+        this.gzipEtag = "\"" + hash + GZIP_SUFFIX + "\"";
+    }
+
+    /**
+     * FAQ 목록으로 스냅샷 생성
+     *
+     * @param faqs         FAQ 목록
+     * @param objectMapper 응답 직렬화에 사용하는 ObjectMapper
+     * @param gzipMinBytes 이 크기 이상일 때 gzip 본문을 함께 생성
+     */
+    public static FaqResponseSnapshot of(List<Faq> faqs, ObjectMapper objectMapper, int gzipMinBytes) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(faqs);
+            byte[] gzipBody = body.length >= gzipMinBytes ? gzip(body) : null;
+            return new FaqResponseSnapshot(faqs.size(), body, gzipBody);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize FAQ snapshot", e);
+        }
+    }
+
+    /**
+     * 빈 스냅샷 (캐시 초기화 전)
+     */
+    public static FaqResponseSnapshot empty() {
+        return new FaqResponseSnapshot(0, "[]".getBytes(StandardCharsets.UTF_8), null);
+    }
+
+    /**
+     * If-None-Match 헤더가 이 스냅샷의 ETag(일반/gzip 표현)와 일치하는지 확인
+     *
+     * @param ifNoneMatch If-None-Match 헤더 값 (쉼표로 구분된 목록, 약한 ETag 허용)
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag) || tag.equals(gzipEtag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public boolean hasGzip() {
+        return gzipBody != null;
+    }
+
+    public byte[] getGzipBody() {
+        return gzipBody;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public String getGzipEtag() {
+        return gzipEtag;
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
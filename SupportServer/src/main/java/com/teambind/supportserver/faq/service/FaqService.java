@@ -1,5 +1,7 @@
 package com.teambind.supportserver.faq.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.supportserver.common.cache.ClusterCacheInvalidator;
 import com.teambind.supportserver.faq.entity.Faq;
 import com.teambind.supportserver.faq.entity.enums.FaqCategory;
 import com.teambind.supportserver.faq.repository.FaqRepository;
@@ -10,11 +12,8 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.stream.Collectors;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * FAQ 서비스
@@ -23,7 +22,8 @@ import java.util.stream.Collectors;
  *
  *   각 서버 인스턴스가 독립적인 로컬 캐시를 유지
  *   스케줄러가 각 인스턴스에서 독립적으로 실행되어 캐시 갱신 (읽기 전용이므로 문제없음)
- *   ReadWriteLock은 동일 서버 내 동시성 제어용 (멀티스레드 환경)
+ *   수동 갱신은 {@link ClusterCacheInvalidator}로 버전을 올려 다른 인스턴스도 지터를 두고 리로드
+ *   캐시는 불변 스냅샷 하나를 volatile 참조 교체로 발행하므로 조회는 락 없이 수행
  *   분산 락 불필요 - 각 인스턴스가 DB에서 독립적으로 읽기만 수행
  *
  */
@@ -32,13 +32,25 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class FaqService {
 
+    /**
+     * 이 크기(바이트) 이상인 응답만 gzip 본문을 미리 생성
+     */
+    private static final int GZIP_MIN_BYTES = 1024;
+
+    /**
+     * 클러스터 무효화 캐시 이름
+     */
+    public static final String CACHE_NAME = "faq";
+
     private final FaqRepository faqRepository;
+    private final ObjectMapper objectMapper;
+    private final ClusterCacheInvalidator cacheInvalidator;
 
-    // 로컬 서버 인스턴스 내 멀티스레드 동시성 제어용
-    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 동일 서버 내 갱신끼리만 직렬화 (늦게 읽은 데이터가 최신 스냅샷을 덮어쓰지 않도록), 조회는 락 미사용
+    private final ReentrantLock refreshLock = new ReentrantLock();
 
     // 로컬 캐시 (각 서버 인스턴스마다 독립적으로 유지)
-    private volatile List<Faq> cachedFaqs = new ArrayList<>();
+    private volatile FaqCacheSnapshot snapshot = FaqCacheSnapshot.empty();
 
     /**
      * 서버 시작 시 FAQ 데이터 캐싱
@@ -46,8 +58,9 @@ public class FaqService {
     @PostConstruct
     public void init() {
         log.info("Initializing FAQ cache...");
-        refreshCache();
-        log.info("FAQ cache initialized with {} items", cachedFaqs.size());
+        cacheInvalidator.register(CACHE_NAME, this::reloadLocalCache);
+        reloadLocalCache();
+        log.info("FAQ cache initialized with {} items", snapshot.size());
     }
 
     /**
@@ -59,59 +72,69 @@ public class FaqService {
     @Scheduled(cron = "0 0 3 * * *")
     public void scheduledRefreshCache() {
         log.info("Scheduled FAQ cache refresh started");
-        refreshCache();
-        log.info("Scheduled FAQ cache refresh completed with {} items", cachedFaqs.size());
+        reloadLocalCache();
+        log.info("Scheduled FAQ cache refresh completed with {} items", snapshot.size());
     }
 
     /**
-     * 캐시 갱신
+     * 캐시 갱신 후 클러스터 전체에 무효화 전파
      *
-     * <p>쓰기 락으로 동일 서버 내 멀티스레드 동시 갱신 방지</p>
-     * <p>DB 읽기만 수행하므로 분산 환경에서도 안전</p>
+     * <p>FAQ 데이터 변경 또는 수동 갱신 시 호출합니다. 로컬 캐시를 즉시 갱신하고,
+     * 다른 인스턴스는 무효화 메시지를 받아 지터를 둔 뒤 리로드합니다.</p>
      */
     @Transactional(readOnly = true)
     public void refreshCache() {
-        lock.writeLock().lock();
+        reloadLocalCache();
+        cacheInvalidator.publish(CACHE_NAME);
+    }
+
+    /**
+     * 로컬 캐시 갱신 (무효화 전파 없음)
+     *
+     * <p>카테고리별 목록과 직렬화된 응답을 모두 만든 뒤 스냅샷 참조를 한 번에 교체하므로,
+     * 조회 스레드는 갱신 전/후 스냅샷 중 하나만 보게 됨</p>
+     * <p>직렬화에 실패하면 기존 스냅샷을 유지</p>
+     */
+    @Transactional(readOnly = true)
+    public void reloadLocalCache() {
+        refreshLock.lock();
         try {
-            List<Faq> newCache = faqRepository.findAll();
-            cachedFaqs = newCache; // volatile 변수에 원자적 할당
-            log.debug("FAQ cache refreshed: {} items loaded", cachedFaqs.size());
+            List<Faq> faqs = faqRepository.findAll();
+            snapshot = FaqCacheSnapshot.of(faqs, objectMapper, GZIP_MIN_BYTES); // volatile 참조 교체로 발행
+            log.debug("FAQ cache refreshed: {} items loaded", faqs.size());
         } finally {
-            lock.writeLock().unlock();
+            refreshLock.unlock();
         }
     }
 
     /**
      * 모든 FAQ 조회
      *
-     * @return FAQ 목록
+     * @return FAQ 목록 (불변)
      */
     public List<Faq> getAllFaqs() {
-        lock.readLock().lock();
-        try {
-            return new ArrayList<>(cachedFaqs);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return snapshot.getAll();
     }
 
     /**
      * 카테고리별 FAQ 조회
      *
      * @param category FAQ 카테고리
-     * @return 필터링된 FAQ 목록
+     * @return 카테고리 FAQ 목록 (불변, ALL이면 전체)
      */
     public List<Faq> getFaqsByCategory(FaqCategory category) {
-        lock.readLock().lock();
-        try {
-            if (category == FaqCategory.ALL) {
-                return new ArrayList<>(cachedFaqs);
-            }
-            return cachedFaqs.stream()
-                    .filter(faq -> faq.getCategory() == category)
-                    .collect(Collectors.toList());
-        } finally {
-            lock.readLock().unlock();
-        }
+        return snapshot.get(category);
+    }
+
+    /**
+     * 카테고리별 직렬화된 응답 스냅샷 조회
+     *
+     * <p>갱신 시점에 만들어 둔 불변 스냅샷을 그대로 반환합니다.</p>
+     *
+     * @param category FAQ 카테고리
+     * @return 응답 스냅샷 (캐시 초기화 전이면 빈 목록)
+     */
+    public FaqResponseSnapshot getResponseSnapshot(FaqCategory category) {
+        return snapshot.getResponse(category);
     }
 }
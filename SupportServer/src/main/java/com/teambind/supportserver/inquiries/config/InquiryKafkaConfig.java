@@ -0,0 +1,38 @@
+package com.teambind.supportserver.inquiries.config;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+
+import java.util.Map;
+
+/**
+ * 문의 Kafka 설정
+ *
+ * 이미지 업로드 메시지는 배치 리스너로 소비하고 배치 단위로 오프셋을 커밋합니다.
+ * (기본 리스너의 ack-mode: record는 레코드마다 커밋하여 처리량이 제한됨)
+ */
+@Configuration
+public class InquiryKafkaConfig {
+
+	@Bean
+	public ConcurrentKafkaListenerContainerFactory<String, String> inquiryImageListenerContainerFactory(
+			KafkaProperties kafkaProperties,
+			@Value("${inquiry.image.max-poll-records:500}") int maxPollRecords,
+			@Value("${inquiry.image.concurrency:1}") int concurrency) {
+		Map<String, Object> props = kafkaProperties.buildConsumerProperties(null);
+		props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+
+		ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
+		factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
+		factory.setBatchListener(true);
+		factory.setConcurrency(concurrency);
+		factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+		return factory;
+	}
+}
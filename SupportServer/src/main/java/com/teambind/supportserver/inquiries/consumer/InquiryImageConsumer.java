@@ -0,0 +1,141 @@
+package com.teambind.supportserver.inquiries.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.supportserver.inquiries.dto.event.InquiryImageMessage;
+import com.teambind.supportserver.inquiries.service.InquiryFileService;
+import com.teambind.supportserver.inquiries.service.InquiryFileService.AttachResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 이미지 서버 업로드 메시지 배치 소비자
+ *
+ * poll 단위 배치를 한 트랜잭션으로 첨부 파일에 반영하고, 처리가 끝난 뒤 배치 단위로 오프셋을 커밋합니다.
+ * 반영 중 예외가 발생하면 배치 전체가 재전달되며, 첨부 추가가 멱등하므로 중복 반영되지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InquiryImageConsumer {
+
+	private final InquiryFileService inquiryFileService;
+	private final ObjectMapper objectMapper;
+
+	private final LongAdder batches = new LongAdder();
+	private final LongAdder records = new LongAdder();
+	private final LongAdder appended = new LongAdder();
+	private final LongAdder duplicated = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder skipped = new LongAdder();
+	private volatile int lastBatchSize;
+	private volatile long lastBatchLatencyMs;
+	private volatile long lag;
+
+	/**
+	 * 업로드 메시지 배치 소비
+	 */
+	@KafkaListener(
+			id = "inquiry-image-consumer",
+			topics = "${inquiry.image.topic:inquiry-image-uploaded}",
+			containerFactory = "inquiryImageListenerContainerFactory",
+			autoStartup = "${inquiry.image.auto-startup:true}"
+	)
+	public void consume(List<ConsumerRecord<String, String>> batch, Consumer<?, ?> consumer) {
+		consume(batch);
+		lag = currentLag(consumer);
+	}
+
+	/**
+	 * 배치 반영
+	 *
+	 * @return 처리 결과
+	 */
+	public AttachResult consume(List<ConsumerRecord<String, String>> batch) {
+		long start = System.nanoTime();
+		List<InquiryImageMessage> messages = new ArrayList<>(batch.size());
+		for (ConsumerRecord<String, String> record : batch) {
+			messages.add(parse(record));
+		}
+
+		AttachResult result = inquiryFileService.attachAll(messages);
+
+		batches.increment();
+		records.add(batch.size());
+		appended.add(result.appended());
+		duplicated.add(result.duplicated());
+		rejected.add(result.rejected());
+		skipped.add(result.unknown() + result.invalid());
+		lastBatchSize = batch.size();
+		lastBatchLatencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		log.debug("Inquiry image batch consumed - size: {}, appended: {}, duplicated: {}, rejected: {}, latencyMs: {}",
+				batch.size(), result.appended(), result.duplicated(), result.rejected(), lastBatchLatencyMs);
+		return result;
+	}
+
+	/**
+	 * 소비 메트릭 조회
+	 */
+	public Metrics getMetrics() {
+		return new Metrics(
+				batches.sum(),
+				records.sum(),
+				appended.sum(),
+				duplicated.sum(),
+				rejected.sum(),
+				skipped.sum(),
+				lastBatchSize,
+				lastBatchLatencyMs,
+				lag
+		);
+	}
+
+	private InquiryImageMessage parse(ConsumerRecord<String, String> record) {
+		try {
+			return objectMapper.readValue(record.value(), InquiryImageMessage.class);
+		} catch (Exception e) {
+			// 형식이 잘못된 메시지는 재시도해도 실패하므로 건너뜀
+			log.warn("Skipping malformed inquiry image message - partition: {}, offset: {}, cause: {}",
+					record.partition(), record.offset(), e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * 할당된 파티션의 소비 지연 합계 (브로커 조회 없이 마지막 fetch 기준)
+	 */
+	private long currentLag(Consumer<?, ?> consumer) {
+		long total = 0;
+		for (TopicPartition partition : consumer.assignment()) {
+			total += consumer.currentLag(partition).orElse(0);
+		}
+		return total;
+	}
+
+	/**
+	 * 소비 메트릭 스냅샷
+	 *
+	 * @param batches            누적 배치 수
+	 * @param records            누적 레코드 수
+	 * @param appended           누적 추가 파일 수
+	 * @param duplicated         누적 중복(재전달) 파일 수
+	 * @param rejected           누적 최대 첨부 수 초과 거부 수
+	 * @param skipped            누적 건너뛴 메시지 수 (형식 오류, 존재하지 않는 문의)
+	 * @param lastBatchSize      마지막 배치 크기
+	 * @param lastBatchLatencyMs 마지막 배치 처리 시간(ms)
+	 * @param lag                마지막 배치 시점의 소비 지연 (레코드 수)
+	 */
+	public record Metrics(long batches, long records, long appended, long duplicated, long rejected, long skipped,
+						  int lastBatchSize, long lastBatchLatencyMs, long lag) {
+	}
+}
@@ -0,0 +1,29 @@
+package com.teambind.supportserver.inquiries.controller;
+
+import com.teambind.supportserver.inquiries.consumer.InquiryImageConsumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 문의 관리 컨트롤러
+ *
+ * <p>운영용 메트릭은 공개 API(/api/v1)가 아닌 관리자 경로에서만 제공합니다.</p>
+ */
+@RestController
+@RequestMapping("/api/admin/inquiries")
+@RequiredArgsConstructor
+public class InquiryAdminController {
+
+	private final InquiryImageConsumer inquiryImageConsumer;
+
+	/**
+	 * 첨부 이미지 소비 메트릭 조회
+	 *
+	 * @return 배치 크기, 처리 시간, 소비 지연 등 메트릭
+	 */
+	@GetMapping("/images/metrics")
+	public ResponseEntity<InquiryImageConsumer.Metrics> getImageConsumerMetrics() {
+		return ResponseEntity.ok(inquiryImageConsumer.getMetrics());
+	}
+}
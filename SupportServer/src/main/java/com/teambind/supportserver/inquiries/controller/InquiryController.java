@@ -2,11 +2,11 @@ package com.teambind.supportserver.inquiries.controller;
 
 import com.teambind.supportserver.inquiries.dto.request.AnswerCreateRequest;
 import com.teambind.supportserver.inquiries.dto.request.InquiryCreateRequest;
+import com.teambind.supportserver.inquiries.dto.request.InquirySearchRequest;
 import com.teambind.supportserver.inquiries.dto.response.AnswerResponse;
 import com.teambind.supportserver.inquiries.dto.response.InquiryResponse;
-import com.teambind.supportserver.inquiries.entity.InquiryCategory;
-import com.teambind.supportserver.inquiries.entity.InquiryStatus;
 import com.teambind.supportserver.inquiries.service.InquiryService;
+import com.teambind.supportserver.report.dto.response.CursorPageResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,8 +14,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 /**
  * 문의 컨트롤러
  */
@@ -60,38 +58,22 @@ public class InquiryController {
 	}
 
 	/**
-	 * 문의 목록 조회 (필터링 가능)
+	 * 문의 목록 검색 (커서 기반 페이징)
 	 *
-	 * @param writerId 작성자 ID (선택)
-	 * @param category 카테고리 (선택)
-	 * @param status   상태 (선택)
-	 * @return 문의 목록
+	 * @param request 검색 조건 (writerId, category, status 필터 조합 / sortType: CREATED_AT, STATUS / cursor, size)
+	 * @return 커서 페이지 응답
 	 */
 	@GetMapping
-	public ResponseEntity<List<InquiryResponse>> getInquiries(
-			@RequestParam(required = false) String writerId,
-			@RequestParam(required = false) InquiryCategory category,
-			@RequestParam(required = false) InquiryStatus status) {
-		log.info("GET /api/v1/inquiries - Fetching inquiries: writerId={}, category={}, status={}",
-				writerId, category, status);
-
-		List<InquiryResponse> responses;
-
-		// 필터 조합에 따른 조회
-		if (writerId != null && status != null) {
-			responses = inquiryService.getInquiriesByWriterAndStatus(writerId, status);
-		} else if (writerId != null) {
-			responses = inquiryService.getInquiriesByWriter(writerId);
-		} else if (category != null) {
-			responses = inquiryService.getInquiriesByCategory(category);
-		} else if (status != null) {
-			responses = inquiryService.getInquiriesByStatus(status);
-		} else {
-			responses = inquiryService.getAllInquiries();
-		}
-
-		log.info("Returned {} inquiries", responses.size());
-		return ResponseEntity.ok(responses);
+	public ResponseEntity<CursorPageResponse<InquiryResponse>> searchInquiries(
+			@Valid @ModelAttribute InquirySearchRequest request) {
+		log.info("GET /api/v1/inquiries - Searching inquiries: writerId={}, category={}, status={}, sortType={}, size={}",
+				request.getWriterId(), request.getCategory(), request.getStatus(),
+				request.getSortType(), request.getSize());
+
+		CursorPageResponse<InquiryResponse> response = inquiryService.searchInquiries(request);
+
+		log.info("Returned {} inquiries, hasNext={}", response.getContent().size(), response.getHasNext());
+		return ResponseEntity.ok(response);
 	}
 
 	/**
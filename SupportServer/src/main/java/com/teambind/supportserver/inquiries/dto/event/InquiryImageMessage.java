@@ -0,0 +1,39 @@
+package com.teambind.supportserver.inquiries.dto.event;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.*;
+
+/**
+ * 이미지 서버 업로드 완료 메시지
+ *
+ * 이미지 서버는 참조 대상 ID를 referenceId로 전송하므로 별칭으로 함께 수용
+ */
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class InquiryImageMessage {
+
+	@JsonAlias("referenceId")
+	private String inquiryId;
+
+	private String imageId;
+
+	private String imageUrl;
+
+	// 원본 파일명 (없으면 imageId로 대체)
+	private String fileName;
+
+	/**
+	 * 필수 값 존재 여부
+	 */
+	public boolean isValid() {
+		return inquiryId != null && !inquiryId.isBlank()
+				&& imageId != null && !imageId.isBlank()
+				&& imageUrl != null && !imageUrl.isBlank();
+	}
+}
@@ -0,0 +1,60 @@
+package com.teambind.supportserver.inquiries.dto.request;
+
+import com.teambind.supportserver.inquiries.entity.InquiryCategory;
+import com.teambind.supportserver.inquiries.entity.InquiryStatus;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.*;
+
+/**
+ * 문의 검색 요청 DTO
+ *
+ * 필터는 자유롭게 조합할 수 있으며, 결과는 커서 기반으로 페이징됩니다.
+ */
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InquirySearchRequest {
+
+	// 필터 조건
+	private String writerId;               // 작성자 ID 필터
+	private InquiryCategory category;      // 카테고리 필터
+	private InquiryStatus status;          // 상태 필터
+
+	// 정렬 조건
+	private SortType sortType;             // 정렬 기준
+	private SortDirection sortDirection;   // 정렬 방향
+
+	// 커서 페이징
+	private String cursor;                 // 커서 (이전 응답의 nextCursor 토큰: 정렬 기준 값 + inquiryId)
+
+	@Min(value = 1, message = "페이지 크기는 최소 1 이상이어야 합니다")
+	@Max(value = 100, message = "페이지 크기는 최대 100까지 가능합니다")
+	private Integer size;                  // 페이지 크기 (기본값: 20)
+
+	public enum SortType {
+		STATUS,      // 상태 기준 정렬 (상태 내에서는 작성일 순)
+		CREATED_AT   // 작성일 기준 정렬
+	}
+
+	public enum SortDirection {
+		ASC,   // 오름차순
+		DESC   // 내림차순
+	}
+
+	// 기본값 설정
+	public SortType getSortType() {
+		return sortType != null ? sortType : SortType.CREATED_AT;
+	}
+
+	public SortDirection getSortDirection() {
+		return sortDirection != null ? sortDirection : SortDirection.DESC;
+	}
+
+	public Integer getSize() {
+		return size != null && size > 0 ? Math.min(size, 100) : 20;
+	}
+}
@@ -1,5 +1,6 @@
 package com.teambind.supportserver.inquiries.dto.response;
 
+import com.teambind.supportserver.common.utils.EntityIds;
 import com.teambind.supportserver.inquiries.entity.Answer;
 import lombok.*;
 
@@ -27,8 +28,8 @@ public class AnswerResponse {
 	 */
 	public static AnswerResponse from(Answer answer) {
 		return AnswerResponse.builder()
-				.id(answer.getId())
-				.inquiryId(answer.getInquiry().getId())
+				.id(EntityIds.format(answer.getId()))
+				.inquiryId(EntityIds.format(answer.getInquiry().getId()))
 				.writerId(answer.getWriterId())
 				.contents(answer.getContents())
 				.createdAt(answer.getCreatedAt())
@@ -1,5 +1,6 @@
 package com.teambind.supportserver.inquiries.dto.response;
 
+import com.teambind.supportserver.common.utils.EntityIds;
 import com.teambind.supportserver.inquiries.entity.Inquiry;
 import com.teambind.supportserver.inquiries.entity.InquiryCategory;
 import com.teambind.supportserver.inquiries.entity.InquiryStatus;
@@ -37,7 +38,7 @@ public class InquiryResponse {
 	 */
 	public static InquiryResponse from(Inquiry inquiry) {
 		InquiryResponseBuilder builder = InquiryResponse.builder()
-				.id(inquiry.getId())
+				.id(EntityIds.format(inquiry.getId()))
 				.title(inquiry.getTitle())
 				.contents(inquiry.getContents())
 				.category(inquiry.getCategory())
@@ -61,7 +62,7 @@ public class InquiryResponse {
 	 */
 	public static InquiryResponse fromWithoutAnswer(Inquiry inquiry) {
 		return InquiryResponse.builder()
-				.id(inquiry.getId())
+				.id(EntityIds.format(inquiry.getId()))
 				.title(inquiry.getTitle())
 				.contents(inquiry.getContents())
 				.category(inquiry.getCategory())
@@ -17,8 +17,8 @@ import java.time.LocalDateTime;
 public class Answer {
 	
 	@Id
-	@Column(name = "answer_id", length = 36)
-	private String id; // UUID
+	@Column(name = "answer_id")
+	private Long id; // Snowflake
 	
 	@OneToOne(fetch = FetchType.LAZY, optional = false)
 	@JoinColumn(name = "inquiry_id", nullable = false)
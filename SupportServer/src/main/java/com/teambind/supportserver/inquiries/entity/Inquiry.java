@@ -2,22 +2,44 @@ package com.teambind.supportserver.inquiries.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "inquiries")
+@Table(
+		name = "inquiries",
+		indexes = {
+				// 커서 페이징: 필터 컬럼 + 정렬 키 (created_at, inquiry_id) 또는 (status, created_at, inquiry_id)
+				@Index(name = "idx_inquiries_created_at_id", columnList = "created_at, inquiry_id"),
+				@Index(name = "idx_inquiries_status_created_at_id", columnList = "status, created_at, inquiry_id"),
+				@Index(name = "idx_inquiries_writer_created_at_id", columnList = "writer_id, created_at, inquiry_id"),
+				@Index(name = "idx_inquiries_writer_status_created_at_id", columnList = "writer_id, status, created_at, inquiry_id"),
+				@Index(name = "idx_inquiries_category_created_at_id", columnList = "category, created_at, inquiry_id")
+		}
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class Inquiry {
+
+	/**
+	 * 문의당 최대 첨부 파일 수
+	 */
+	public static final int MAX_FILES = 5;
 	
 	@Id
-	@Column(name = "inquiry_id", length = 36)
-	private String id; // UUID 문자열
+	@Column(name = "inquiry_id")
+	private Long id; // Snowflake
+
+	/**
+	 * BIGINT 전환 이전에 발급된 UUID 문자열 ID (이전 API 호출 호환용, 신규 문의는 null)
+	 */
+	@Column(name = "legacy_id", length = 36, unique = true)
+	private String legacyId;
 	
 	@Column(nullable = false, length = 200)
 	private String title;
@@ -56,6 +78,7 @@ public class Inquiry {
 			joinColumns = @JoinColumn(name = "inquiry_id")
 	)
 	@OrderColumn(name = "order_num") // 0..4
+	@BatchSize(size = 100) // 목록에서 접근 시 페이지 단위 IN 조회
 	private List<InquiryFile> files = new ArrayList<>();
 	
 	@PrePersist
@@ -73,8 +96,8 @@ public class Inquiry {
 	}
 	
 	private void validateFiles() {
-		if (files != null && files.size() > 5) {
-			throw new IllegalArgumentException("파일은 최대 5개까지 첨부할 수 있습니다.");
+		if (files != null && files.size() > MAX_FILES) {
+			throw new IllegalArgumentException("파일은 최대 " + MAX_FILES + "개까지 첨부할 수 있습니다.");
 		}
 	}
 
@@ -10,12 +10,12 @@ import java.util.Optional;
  * 답변 리포지토리
  */
 @Repository
-public interface AnswerRepository extends JpaRepository<Answer, String> {
+public interface AnswerRepository extends JpaRepository<Answer, Long> {
 
 	/**
 	 * 문의 ID로 답변 조회
 	 */
-	Optional<Answer> findByInquiryId(String inquiryId);
+	Optional<Answer> findByInquiryId(Long inquiryId);
 
 	/**
 	 * 작성자 ID로 답변 존재 여부 확인
@@ -0,0 +1,153 @@
+package com.teambind.supportserver.inquiries.repository;
+
+import com.teambind.supportserver.common.utils.EntityIds;
+import com.teambind.supportserver.inquiries.entity.InquiryFile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 문의 첨부 파일 JDBC 리포지토리
+ *
+ * 문의 엔티티를 로드/재저장하지 않고 inquiry_files 컬렉션 테이블에 직접 배치 INSERT 합니다.
+ * 같은 문의에 대한 동시 추가는 문의 행 잠금으로 직렬화되므로 호출자의 트랜잭션 안에서 사용해야 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class InquiryFileJdbcRepository {
+
+	private static final String LOCK_INQUIRIES_SQL_PREFIX = "SELECT inquiry_id, legacy_id FROM inquiries WHERE ";
+
+	private static final String LOCK_INQUIRIES_SQL_SUFFIX = " ORDER BY inquiry_id FOR UPDATE";
+
+	private static final String SELECT_FILES_SQL_PREFIX =
+			"SELECT inquiry_id, image_id, order_num FROM inquiry_files WHERE inquiry_id IN (";
+
+	private static final String INSERT_SQL = """
+			INSERT INTO inquiry_files (inquiry_id, order_num, image_id, image_url, file_name)
+			VALUES (?, ?, ?, ?, ?)
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 존재하는 문의 행을 ID 순서로 잠금
+	 *
+	 * <p>메시지의 문자열 ID 중 숫자는 inquiry_id로, 그 외(BIGINT 전환 이전 UUID)는 legacy_id로 찾습니다.</p>
+	 *
+	 * @return 요청한 문의 ID -> 문의 키 (존재하는 문의만 포함)
+	 */
+	public Map<String, Long> lockInquiries(Collection<String> inquiryIds) {
+		if (inquiryIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Long, String> numericIds = new HashMap<>();
+		List<String> legacyIds = new ArrayList<>();
+		for (String inquiryId : inquiryIds) {
+			EntityIds.parse(inquiryId).ifPresentOrElse(id -> numericIds.put(id, inquiryId), () -> legacyIds.add(inquiryId));
+		}
+
+		List<String> conditions = new ArrayList<>();
+		List<Object> args = new ArrayList<>();
+		if (!numericIds.isEmpty()) {
+			conditions.add("inquiry_id IN (" + placeholders(numericIds.size()) + ")");
+			args.addAll(numericIds.keySet());
+		}
+		if (!legacyIds.isEmpty()) {
+			conditions.add("legacy_id IN (" + placeholders(legacyIds.size()) + ")");
+			args.addAll(legacyIds);
+		}
+		String sql = LOCK_INQUIRIES_SQL_PREFIX + String.join(" OR ", conditions) + LOCK_INQUIRIES_SQL_SUFFIX;
+
+		Set<String> requestedLegacyIds = new HashSet<>(legacyIds);
+		Map<String, Long> result = new HashMap<>();
+		jdbcTemplate.query(sql, rs -> {
+			long id = rs.getLong("inquiry_id");
+			String legacyId = rs.getString("legacy_id");
+			if (numericIds.containsKey(id)) {
+				result.put(numericIds.get(id), id);
+			}
+			if (legacyId != null && requestedLegacyIds.contains(legacyId)) {
+				result.put(legacyId, id);
+			}
+		}, args.toArray());
+		return result;
+	}
+
+	/**
+	 * 문의별 첨부 파일 현황 조회
+	 *
+	 * @return 문의 ID -> 첨부 현황 (첨부가 없는 문의는 포함되지 않음)
+	 */
+	public Map<Long, AttachedFiles> findAttachedFiles(Collection<Long> inquiryIds) {
+		if (inquiryIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		List<Long> ids = new ArrayList<>(inquiryIds);
+		String sql = SELECT_FILES_SQL_PREFIX + placeholders(ids.size()) + ")";
+		Map<Long, AttachedFiles> result = new HashMap<>();
+		jdbcTemplate.query(sql, rs -> {
+			AttachedFiles files = result.computeIfAbsent(rs.getLong("inquiry_id"), id -> new AttachedFiles());
+			files.imageIds.add(rs.getString("image_id"));
+			files.nextOrder = Math.max(files.nextOrder, rs.getInt("order_num") + 1);
+		}, ids.toArray());
+		return result;
+	}
+
+	/**
+	 * 첨부 파일 배치 추가
+	 *
+	 * @param rows 추가할 행 목록 (순번은 호출자가 지정)
+	 */
+	public void insertAll(List<FileRow> rows) {
+		if (rows.isEmpty()) {
+			return;
+		}
+
+		jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+			ps.setLong(1, row.inquiryId());
+			ps.setInt(2, row.orderNum());
+			ps.setString(3, row.file().getImageId());
+			ps.setString(4, row.file().getImageUrl());
+			ps.setString(5, row.file().getFileName());
+		});
+	}
+
+	private String placeholders(int count) {
+		return String.join(", ", Collections.nCopies(count, "?"));
+	}
+
+	/**
+	 * 문의의 기존 첨부 현황
+	 */
+	public static final class AttachedFiles {
+		private final Set<String> imageIds = new LinkedHashSet<>();
+		private int nextOrder;
+
+		public Set<String> getImageIds() {
+			return imageIds;
+		}
+
+		public int getNextOrder() {
+			return nextOrder;
+		}
+	}
+
+	/**
+	 * 추가할 첨부 파일 행
+	 */
+	public record FileRow(long inquiryId, int orderNum, InquiryFile file) {
+	}
+}
@@ -7,12 +7,18 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 문의 리포지토리
  */
 @Repository
-public interface InquiryRepository extends JpaRepository<Inquiry, String> {
+public interface InquiryRepository extends JpaRepository<Inquiry, Long>, InquiryRepositoryCustom {
+
+	/**
+	 * BIGINT 전환 이전 UUID 문자열 ID로 문의 조회
+	 */
+	Optional<Inquiry> findByLegacyId(String legacyId);
 
 	/**
 	 * 작성자 ID로 문의 목록 조회
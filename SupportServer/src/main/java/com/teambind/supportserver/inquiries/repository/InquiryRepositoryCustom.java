@@ -0,0 +1,35 @@
+package com.teambind.supportserver.inquiries.repository;
+
+import com.teambind.supportserver.inquiries.dto.request.InquirySearchRequest;
+import com.teambind.supportserver.inquiries.dto.response.InquiryResponse;
+import com.teambind.supportserver.inquiries.entity.Inquiry;
+
+import java.util.List;
+
+/**
+ * 문의 커스텀 리포지토리 인터페이스
+ */
+public interface InquiryRepositoryCustom {
+
+	/**
+	 * 커서 기반 페이징으로 문의 목록 조회
+	 *
+	 * <p>답변은 fetch join으로 함께 조회합니다. (mappedBy 쪽 @OneToOne은 지연 로딩되지 않아
+	 * 조인하지 않으면 문의마다 answers 조회가 추가로 발생)</p>
+	 *
+	 * @param searchRequest 검색 조건 (필터, 정렬, 커서)
+	 * @return 문의 목록 (size + 1개)
+	 */
+	List<Inquiry> findInquiriesWithCursor(InquirySearchRequest searchRequest);
+
+	/**
+	 * 커서 기반 페이징으로 문의 목록 조회 (DTO 프로젝션)
+	 *
+	 * <p>엔티티를 영속성 컨텍스트에 올리지 않고 목록에 필요한 컬럼만 조회합니다.
+	 * 답변 여부는 answered_at IS NOT NULL로 계산하므로 answers 테이블을 조회하지 않습니다.</p>
+	 *
+	 * @param searchRequest 검색 조건 (필터, 정렬, 커서)
+	 * @return 문의 응답 목록 (size + 1개, 답변 정보 제외)
+	 */
+	List<InquiryResponse> findInquiryResponsesWithCursor(InquirySearchRequest searchRequest);
+}
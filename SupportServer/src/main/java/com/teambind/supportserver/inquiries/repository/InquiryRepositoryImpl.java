@@ -0,0 +1,166 @@
+package com.teambind.supportserver.inquiries.repository;
+
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.teambind.supportserver.inquiries.dto.request.InquirySearchRequest;
+import com.teambind.supportserver.inquiries.dto.response.InquiryResponse;
+import com.teambind.supportserver.inquiries.entity.Inquiry;
+import com.teambind.supportserver.inquiries.entity.InquiryCategory;
+import com.teambind.supportserver.inquiries.entity.InquiryStatus;
+import com.teambind.supportserver.inquiries.utils.InquiryCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.teambind.supportserver.inquiries.entity.QAnswer.answer;
+import static com.teambind.supportserver.inquiries.entity.QInquiry.inquiry;
+
+/**
+ * 문의 커스텀 리포지토리 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+public class InquiryRepositoryImpl implements InquiryRepositoryCustom {
+
+	private final JPAQueryFactory queryFactory;
+
+	@Override
+	public List<Inquiry> findInquiriesWithCursor(InquirySearchRequest searchRequest) {
+		// 쿼리 실행 (size + 1개를 조회하여 다음 페이지 존재 여부 확인)
+		return queryFactory
+				.selectFrom(inquiry)
+				.leftJoin(inquiry.answer, answer).fetchJoin()
+				.where(buildPredicate(searchRequest))
+				.orderBy(buildOrderSpecifiers(searchRequest))
+				.limit(searchRequest.getSize() + 1)
+				.fetch();
+	}
+
+	@Override
+	public List<InquiryResponse> findInquiryResponsesWithCursor(InquirySearchRequest searchRequest) {
+		// 엔티티 대신 필드 프로젝션으로 조회 (영속성 컨텍스트 미사용)
+		return queryFactory
+				.select(Projections.fields(InquiryResponse.class,
+						inquiry.id.stringValue().as("id"), // API 경계에서만 문자열 ID
+						inquiry.title,
+						inquiry.contents,
+						inquiry.category,
+						inquiry.status,
+						inquiry.writerId,
+						inquiry.createdAt,
+						inquiry.updatedAt,
+						inquiry.answeredAt,
+						inquiry.answeredAt.isNotNull().as("hasAnswer")))
+				.from(inquiry)
+				.where(buildPredicate(searchRequest))
+				.orderBy(buildOrderSpecifiers(searchRequest))
+				.limit(searchRequest.getSize() + 1)
+				.fetch();
+	}
+
+	/**
+	 * 검색 조건에 따른 Where 절 구성
+	 */
+	private BooleanExpression buildPredicate(InquirySearchRequest searchRequest) {
+		BooleanExpression predicate = null;
+		predicate = addAnd(predicate, writerIdEq(searchRequest.getWriterId()));
+		predicate = addAnd(predicate, categoryEq(searchRequest.getCategory()));
+		predicate = addAnd(predicate, statusEq(searchRequest.getStatus()));
+
+		// 커서 조건 (페이징)
+		if (searchRequest.getCursor() != null && !searchRequest.getCursor().isBlank()) {
+			predicate = addAnd(predicate, buildCursorCondition(searchRequest));
+		}
+
+		return predicate;
+	}
+
+	/**
+	 * 커서 조건 구성
+	 *
+	 * <p>정렬 키와 inquiryId의 튜플 비교(keyset)로 구성하여 정렬 순서와 정확히 일치시킵니다.
+	 * 예) DESC: createdAt &lt; :at OR (createdAt = :at AND inquiryId &lt; :id)</p>
+	 * <p>필터 컬럼을 선두로 하는 복합 인덱스 (..., created_at, inquiry_id), (..., status, created_at, inquiry_id)를
+	 * 타므로 페이지 깊이와 무관하게 인덱스 범위 스캔으로 처리됩니다.</p>
+	 */
+	private BooleanExpression buildCursorCondition(InquirySearchRequest searchRequest) {
+		InquirySearchRequest.SortType sortType = searchRequest.getSortType();
+		boolean desc = searchRequest.getSortDirection() == InquirySearchRequest.SortDirection.DESC;
+
+		// 커서 파싱 실패 시 무시
+		InquiryCursor cursor = InquiryCursor.decode(searchRequest.getCursor(), sortType).orElse(null);
+		if (cursor == null) {
+			return null;
+		}
+
+		// 작성일 기준 커서 (createdAt, inquiryId)
+		BooleanExpression createdAtCondition = (desc
+				? inquiry.createdAt.lt(cursor.getCreatedAt())
+				: inquiry.createdAt.gt(cursor.getCreatedAt()))
+				.or(inquiry.createdAt.eq(cursor.getCreatedAt()).and(desc
+						? inquiry.id.lt(cursor.getInquiryId())
+						: inquiry.id.gt(cursor.getInquiryId())));
+
+		if (sortType == InquirySearchRequest.SortType.STATUS) {
+			// 상태 기준 커서 (status, createdAt, inquiryId)
+			InquiryStatus cursorStatus = cursor.getStatus();
+			return (desc ? inquiry.status.lt(cursorStatus) : inquiry.status.gt(cursorStatus))
+					.or(inquiry.status.eq(cursorStatus).and(createdAtCondition));
+		}
+
+		return createdAtCondition;
+	}
+
+	/**
+	 * 정렬 조건 구성
+	 */
+	private OrderSpecifier<?>[] buildOrderSpecifiers(InquirySearchRequest searchRequest) {
+		List<OrderSpecifier<?>> orders = new ArrayList<>();
+		boolean desc = searchRequest.getSortDirection() == InquirySearchRequest.SortDirection.DESC;
+
+		if (searchRequest.getSortType() == InquirySearchRequest.SortType.STATUS) {
+			// 상태 기준 정렬
+			orders.add(desc ? inquiry.status.desc() : inquiry.status.asc());
+		}
+		// 작성일 기준 정렬 + 보조 정렬 (inquiryId)
+		orders.add(desc ? inquiry.createdAt.desc() : inquiry.createdAt.asc());
+		orders.add(desc ? inquiry.id.desc() : inquiry.id.asc());
+
+		return orders.toArray(new OrderSpecifier[0]);
+	}
+
+	/**
+	 * BooleanExpression AND 연결
+	 */
+	private BooleanExpression addAnd(BooleanExpression predicate, BooleanExpression condition) {
+		if (condition == null) {
+			return predicate;
+		}
+		return predicate == null ? condition : predicate.and(condition);
+	}
+
+	/**
+	 * 작성자 조건
+	 */
+	private BooleanExpression writerIdEq(String writerId) {
+		return writerId != null && !writerId.isBlank() ? inquiry.writerId.eq(writerId) : null;
+	}
+
+	/**
+	 * 카테고리 조건
+	 */
+	private BooleanExpression categoryEq(InquiryCategory category) {
+		return category != null ? inquiry.category.eq(category) : null;
+	}
+
+	/**
+	 * 상태 조건
+	 */
+	private BooleanExpression statusEq(InquiryStatus status) {
+		return status != null ? inquiry.status.eq(status) : null;
+	}
+}
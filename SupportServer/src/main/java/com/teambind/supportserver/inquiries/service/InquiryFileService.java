@@ -0,0 +1,123 @@
+package com.teambind.supportserver.inquiries.service;
+
+import com.teambind.supportserver.inquiries.dto.event.InquiryImageMessage;
+import com.teambind.supportserver.inquiries.entity.Inquiry;
+import com.teambind.supportserver.inquiries.entity.InquiryFile;
+import com.teambind.supportserver.inquiries.repository.InquiryFileJdbcRepository;
+import com.teambind.supportserver.inquiries.repository.InquiryFileJdbcRepository.AttachedFiles;
+import com.teambind.supportserver.inquiries.repository.InquiryFileJdbcRepository.FileRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 문의 첨부 파일 서비스
+ *
+ * 이미지 서버 메시지를 문의별로 묶어 한 트랜잭션에서 배치 추가합니다.
+ * 이미 첨부된 imageId는 건너뛰므로 재전달(redelivery)에도 멱등하며, 문의당 최대 첨부 수를 넘는 파일은 거부합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class InquiryFileService {
+
+	private final InquiryFileJdbcRepository inquiryFileJdbcRepository;
+
+	/**
+	 * 첨부 파일 배치 추가
+	 *
+	 * @param messages 이미지 서버 메시지 목록 (수신 순서)
+	 * @return 처리 결과
+	 */
+	@Transactional
+	public AttachResult attachAll(List<InquiryImageMessage> messages) {
+		int invalid = 0;
+		List<InquiryImageMessage> valid = new ArrayList<>();
+		Set<String> inquiryIds = new LinkedHashSet<>();
+		for (InquiryImageMessage message : messages) {
+			if (message == null || !message.isValid()) {
+				invalid++;
+				continue;
+			}
+			valid.add(message);
+			inquiryIds.add(message.getInquiryId());
+		}
+		if (valid.isEmpty()) {
+			return new AttachResult(0, 0, 0, 0, invalid);
+		}
+
+		// 같은 문의가 숫자 ID와 이전 UUID로 함께 들어와도 문의 키 하나로 묶어 수신 순서대로 처리
+		Map<String, Long> existing = inquiryFileJdbcRepository.lockInquiries(inquiryIds);
+		Map<Long, List<InquiryImageMessage>> byInquiry = new LinkedHashMap<>();
+		int unknown = 0;
+		for (InquiryImageMessage message : valid) {
+			Long id = existing.get(message.getInquiryId());
+			if (id == null) {
+				unknown++;
+				log.warn("Skipping image for unknown inquiry - inquiryId: {}, imageId: {}",
+						message.getInquiryId(), message.getImageId());
+				continue;
+			}
+			byInquiry.computeIfAbsent(id, key -> new ArrayList<>()).add(message);
+		}
+		Map<Long, AttachedFiles> attached = inquiryFileJdbcRepository.findAttachedFiles(byInquiry.keySet());
+
+		List<FileRow> rows = new ArrayList<>();
+		int duplicated = 0;
+		int rejected = 0;
+		for (Map.Entry<Long, List<InquiryImageMessage>> entry : byInquiry.entrySet()) {
+			Long id = entry.getKey();
+			AttachedFiles files = attached.get(id);
+			Set<String> imageIds = files != null ? new HashSet<>(files.getImageIds()) : new HashSet<>();
+			int nextOrder = files != null ? files.getNextOrder() : 0;
+			for (InquiryImageMessage message : entry.getValue()) {
+				if (!imageIds.add(message.getImageId())) {
+					duplicated++;
+					continue;
+				}
+				if (imageIds.size() > Inquiry.MAX_FILES) {
+					imageIds.remove(message.getImageId());
+					rejected++;
+					log.warn("Rejecting image over file limit - inquiryId: {}, imageId: {}",
+							id, message.getImageId());
+					continue;
+				}
+				rows.add(new FileRow(id, nextOrder++, toFile(message)));
+			}
+		}
+
+		inquiryFileJdbcRepository.insertAll(rows);
+		return new AttachResult(rows.size(), duplicated, rejected, unknown, invalid);
+	}
+
+	private InquiryFile toFile(InquiryImageMessage message) {
+		String fileName = message.getFileName();
+		return InquiryFile.builder()
+				.imageId(message.getImageId())
+				.imageUrl(message.getImageUrl())
+				.fileName(fileName != null && !fileName.isBlank() ? fileName : message.getImageId())
+				.build();
+	}
+
+	/**
+	 * 첨부 처리 결과
+	 *
+	 * @param appended   추가된 파일 수
+	 * @param duplicated 이미 첨부되어 건너뛴 파일 수 (재전달)
+	 * @param rejected   최대 첨부 수 초과로 거부된 파일 수
+	 * @param unknown    존재하지 않는 문의의 파일 수
+	 * @param invalid    필수 값이 없는 메시지 수
+	 */
+	public record AttachResult(int appended, int duplicated, int rejected, int unknown, int invalid) {
+	}
+}
@@ -2,12 +2,10 @@ package com.teambind.supportserver.inquiries.service;
 
 import com.teambind.supportserver.inquiries.dto.request.AnswerCreateRequest;
 import com.teambind.supportserver.inquiries.dto.request.InquiryCreateRequest;
+import com.teambind.supportserver.inquiries.dto.request.InquirySearchRequest;
 import com.teambind.supportserver.inquiries.dto.response.AnswerResponse;
 import com.teambind.supportserver.inquiries.dto.response.InquiryResponse;
-import com.teambind.supportserver.inquiries.entity.InquiryCategory;
-import com.teambind.supportserver.inquiries.entity.InquiryStatus;
-
-import java.util.List;
+import com.teambind.supportserver.report.dto.response.CursorPageResponse;
 
 /**
  * 문의 서비스 인터페이스
@@ -31,44 +29,12 @@ public interface InquiryService {
 	InquiryResponse getInquiry(String inquiryId);
 
 	/**
-	 * 문의 목록 조회 (전체)
-	 *
-	 * @return 문의 목록
-	 */
-	List<InquiryResponse> getAllInquiries();
-
-	/**
-	 * 작성자별 문의 목록 조회
-	 *
-	 * @param writerId 작성자 ID
-	 * @return 문의 목록
-	 */
-	List<InquiryResponse> getInquiriesByWriter(String writerId);
-
-	/**
-	 * 카테고리별 문의 목록 조회
-	 *
-	 * @param category 문의 카테고리
-	 * @return 문의 목록
-	 */
-	List<InquiryResponse> getInquiriesByCategory(InquiryCategory category);
-
-	/**
-	 * 상태별 문의 목록 조회
-	 *
-	 * @param status 문의 상태
-	 * @return 문의 목록
-	 */
-	List<InquiryResponse> getInquiriesByStatus(InquiryStatus status);
-
-	/**
-	 * 작성자 및 상태별 문의 목록 조회
+	 * 문의 검색 (커서 기반 페이징)
 	 *
-	 * @param writerId 작성자 ID
-	 * @param status   문의 상태
-	 * @return 문의 목록
+	 * @param searchRequest 검색 조건 (작성자/카테고리/상태 필터, 정렬, 커서)
+	 * @return 커서 페이지 응답
 	 */
-	List<InquiryResponse> getInquiriesByWriterAndStatus(String writerId, InquiryStatus status);
+	CursorPageResponse<InquiryResponse> searchInquiries(InquirySearchRequest searchRequest);
 
 	/**
 	 * 답변 생성 (문의에 답변 등록)
@@ -1,8 +1,10 @@
 package com.teambind.supportserver.inquiries.service;
 
+import com.teambind.supportserver.common.utils.EntityIds;
 import com.teambind.supportserver.common.utils.IdGenerator;
 import com.teambind.supportserver.inquiries.dto.request.AnswerCreateRequest;
 import com.teambind.supportserver.inquiries.dto.request.InquiryCreateRequest;
+import com.teambind.supportserver.inquiries.dto.request.InquirySearchRequest;
 import com.teambind.supportserver.inquiries.dto.response.AnswerResponse;
 import com.teambind.supportserver.inquiries.dto.response.InquiryResponse;
 import com.teambind.supportserver.inquiries.entity.*;
@@ -10,6 +12,8 @@ import com.teambind.supportserver.inquiries.exceptions.ErrorCode;
 import com.teambind.supportserver.inquiries.exceptions.InquiryException;
 import com.teambind.supportserver.inquiries.repository.AnswerRepository;
 import com.teambind.supportserver.inquiries.repository.InquiryRepository;
+import com.teambind.supportserver.inquiries.utils.InquiryCursor;
+import com.teambind.supportserver.report.dto.response.CursorPageResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -17,8 +21,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * 문의 서비스 구현체
@@ -40,7 +44,7 @@ public class InquiryServiceImpl implements InquiryService {
 				request.getTitle(), request.getCategory(), request.getWriterId());
 
 		Inquiry inquiry = Inquiry.builder()
-				.id(idGenerator.generateId())
+				.id(idGenerator.generateLongId())
 				.title(request.getTitle())
 				.contents(request.getContents())
 				.category(request.getCategory())
@@ -59,55 +63,33 @@ public class InquiryServiceImpl implements InquiryService {
 	public InquiryResponse getInquiry(String inquiryId) {
 		log.debug("Getting inquiry - id: {}", inquiryId);
 
-		Inquiry inquiry = inquiryRepository.findById(inquiryId)
-				.orElseThrow(() -> new InquiryException(ErrorCode.INQUIRY_NOT_FOUND));
+		Inquiry inquiry = findInquiry(inquiryId);
 
 		return InquiryResponse.from(inquiry);
 	}
 
 	@Override
-	public List<InquiryResponse> getAllInquiries() {
-		log.debug("Getting all inquiries");
-
-		return inquiryRepository.findAll().stream()
-				.map(InquiryResponse::fromWithoutAnswer)
-				.collect(Collectors.toList());
-	}
-
-	@Override
-	public List<InquiryResponse> getInquiriesByWriter(String writerId) {
-		log.debug("Getting inquiries by writer - writerId: {}", writerId);
-
-		return inquiryRepository.findByWriterId(writerId).stream()
-				.map(InquiryResponse::fromWithoutAnswer)
-				.collect(Collectors.toList());
-	}
-
-	@Override
-	public List<InquiryResponse> getInquiriesByCategory(InquiryCategory category) {
-		log.debug("Getting inquiries by category - category: {}", category);
-
-		return inquiryRepository.findByCategory(category).stream()
-				.map(InquiryResponse::fromWithoutAnswer)
-				.collect(Collectors.toList());
-	}
-
-	@Override
-	public List<InquiryResponse> getInquiriesByStatus(InquiryStatus status) {
-		log.debug("Getting inquiries by status - status: {}", status);
-
-		return inquiryRepository.findByStatus(status).stream()
-				.map(InquiryResponse::fromWithoutAnswer)
-				.collect(Collectors.toList());
-	}
-
-	@Override
-	public List<InquiryResponse> getInquiriesByWriterAndStatus(String writerId, InquiryStatus status) {
-		log.debug("Getting inquiries by writer and status - writerId: {}, status: {}", writerId, status);
+	public CursorPageResponse<InquiryResponse> searchInquiries(InquirySearchRequest searchRequest) {
+		log.debug("Searching inquiries - writerId: {}, category: {}, status: {}, sortType: {}, sortDirection: {}",
+				searchRequest.getWriterId(), searchRequest.getCategory(), searchRequest.getStatus(),
+				searchRequest.getSortType(), searchRequest.getSortDirection());
+
+		// Repository에서 size + 1개 조회 (다음 페이지 존재 여부 확인용, DTO 프로젝션)
+		List<InquiryResponse> inquiries = inquiryRepository.findInquiryResponsesWithCursor(searchRequest);
+
+		// 실제 반환할 데이터는 size만큼
+		int requestedSize = searchRequest.getSize();
+		boolean hasNext = inquiries.size() > requestedSize;
+		if (!hasNext) {
+			return CursorPageResponse.last(inquiries, requestedSize);
+		}
 
-		return inquiryRepository.findByWriterIdAndStatus(writerId, status).stream()
-				.map(InquiryResponse::fromWithoutAnswer)
-				.collect(Collectors.toList());
+		// 다음 커서 생성
+		List<InquiryResponse> content = new ArrayList<>(inquiries.subList(0, requestedSize));
+		InquiryResponse last = content.get(requestedSize - 1);
+		String nextCursor = InquiryCursor.encode(searchRequest.getSortType(),
+				last.getStatus(), last.getCreatedAt(), last.getId());
+		return CursorPageResponse.of(content, nextCursor, requestedSize);
 	}
 
 	@Override
@@ -115,11 +97,10 @@ public class InquiryServiceImpl implements InquiryService {
 	public AnswerResponse createAnswer(AnswerCreateRequest request) {
 		log.info("Creating answer - inquiryId: {}, writerId: {}", request.getInquiryId(), request.getWriterId());
 
-		Inquiry inquiry = inquiryRepository.findById(request.getInquiryId())
-				.orElseThrow(() -> new InquiryException(ErrorCode.INQUIRY_NOT_FOUND));
+		Inquiry inquiry = findInquiry(request.getInquiryId());
 
 		Answer answer = Answer.builder()
-				.id(idGenerator.generateId())
+				.id(idGenerator.generateLongId())
 				.inquiry(inquiry)
 				.writerId(request.getWriterId())
 				.contents(request.getContents())
@@ -143,8 +124,7 @@ public class InquiryServiceImpl implements InquiryService {
 	public void deleteAnswer(String inquiryId) {
 		log.info("Deleting answer - inquiryId: {}", inquiryId);
 
-		Inquiry inquiry = inquiryRepository.findById(inquiryId)
-				.orElseThrow(() -> new InquiryException(ErrorCode.INQUIRY_NOT_FOUND));
+		Inquiry inquiry = findInquiry(inquiryId);
 
 		// 연관관계 편의 메소드 사용 (엔티티에서 IllegalStateException 발생 가능)
 		try {
@@ -161,8 +141,7 @@ public class InquiryServiceImpl implements InquiryService {
 	public void confirmAnswer(String inquiryId, String writerId) {
 		log.info("Confirming answer - inquiryId: {}, writerId: {}", inquiryId, writerId);
 
-		Inquiry inquiry = inquiryRepository.findById(inquiryId)
-				.orElseThrow(() -> new InquiryException(ErrorCode.INQUIRY_NOT_FOUND));
+		Inquiry inquiry = findInquiry(inquiryId);
 
 		// 본인 확인
 		if (!inquiry.getWriterId().equals(writerId)) {
@@ -184,8 +163,7 @@ public class InquiryServiceImpl implements InquiryService {
 	public void deleteInquiry(String inquiryId, String writerId) {
 		log.info("Deleting inquiry - id: {}, writerId: {}", inquiryId, writerId);
 
-		Inquiry inquiry = inquiryRepository.findById(inquiryId)
-				.orElseThrow(() -> new InquiryException(ErrorCode.INQUIRY_NOT_FOUND));
+		Inquiry inquiry = findInquiry(inquiryId);
 
 		// 본인 확인
 		if (!inquiry.getWriterId().equals(writerId)) {
@@ -195,4 +173,17 @@ public class InquiryServiceImpl implements InquiryService {
 		inquiryRepository.delete(inquiry);
 		log.info("Inquiry deleted successfully - id: {}", inquiryId);
 	}
+
+	/**
+	 * API 문자열 ID로 문의 조회
+	 *
+	 * <p>숫자 ID는 BIGINT 기본 키로, 그 외(BIGINT 전환 이전 UUID)는 legacy_id로 조회합니다.</p>
+	 */
+	private Inquiry findInquiry(String inquiryId) {
+		Optional<Long> id = EntityIds.parse(inquiryId);
+		Optional<Inquiry> inquiry = id.isPresent()
+				? inquiryRepository.findById(id.get())
+				: Optional.ofNullable(inquiryId).flatMap(inquiryRepository::findByLegacyId);
+		return inquiry.orElseThrow(() -> new InquiryException(ErrorCode.INQUIRY_NOT_FOUND));
+	}
 }
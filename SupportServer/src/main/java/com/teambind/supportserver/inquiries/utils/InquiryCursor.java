@@ -0,0 +1,92 @@
+package com.teambind.supportserver.inquiries.utils;
+
+import com.teambind.supportserver.common.utils.EntityIds;
+import com.teambind.supportserver.inquiries.dto.request.InquirySearchRequest;
+import com.teambind.supportserver.inquiries.entity.InquiryStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 문의 목록 복합 키셋(keyset) 커서
+ *
+ * <p>정렬 키와 inquiryId를 하나의 튜플로 묶어 불투명(opaque) 토큰으로 인코딩합니다.</p>
+ *
+ * <p>토큰 형식: Base64URL("{sortType}|{status}|{createdAt}|{inquiryId}")</p>
+ * <ul>
+ *   <li>CREATED_AT: (createdAt, inquiryId), status 자리는 비움</li>
+ *   <li>STATUS: (status, createdAt, inquiryId)</li>
+ * </ul>
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class InquiryCursor {
+
+	private static final String DELIMITER = "|";
+
+	private final InquirySearchRequest.SortType sortType;
+	private final InquiryStatus status;
+	private final LocalDateTime createdAt;
+	private final Long inquiryId;
+
+	/**
+	 * 마지막 문의 항목으로부터 다음 페이지 커서 토큰 생성
+	 *
+	 * @param sortType  정렬 기준
+	 * @param status    마지막 문의 상태
+	 * @param createdAt 마지막 문의 작성일
+	 * @param inquiryId 마지막 문의 ID
+	 * @return 인코딩된 커서 토큰
+	 */
+	public static String encode(InquirySearchRequest.SortType sortType, InquiryStatus status,
+								LocalDateTime createdAt, String inquiryId) {
+		String statusValue = sortType == InquirySearchRequest.SortType.STATUS ? status.name() : "";
+		String raw = sortType.name() + DELIMITER + statusValue + DELIMITER + createdAt + DELIMITER + inquiryId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 커서 토큰 디코딩
+	 *
+	 * <p>형식이 올바르지 않거나 요청한 정렬 기준과 다른 커서인 경우 빈 값을 반환합니다.</p>
+	 *
+	 * @param token    커서 토큰
+	 * @param sortType 요청한 정렬 기준
+	 * @return 디코딩된 커서 Optional
+	 */
+	public static Optional<InquiryCursor> decode(String token, InquirySearchRequest.SortType sortType) {
+		if (token == null || token.isBlank()) {
+			return Optional.empty();
+		}
+
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			String[] parts = raw.split("\\" + DELIMITER, 4);
+			if (parts.length != 4) {
+				return Optional.empty();
+			}
+			Optional<Long> inquiryId = EntityIds.parse(parts[3]);
+			if (inquiryId.isEmpty()) {
+				return Optional.empty();
+			}
+
+			InquirySearchRequest.SortType tokenSortType = InquirySearchRequest.SortType.valueOf(parts[0]);
+			if (tokenSortType != sortType) {
+				return Optional.empty();
+			}
+
+			InquiryStatus status = tokenSortType == InquirySearchRequest.SortType.STATUS
+					? InquiryStatus.valueOf(parts[1])
+					: null;
+			return Optional.of(new InquiryCursor(tokenSortType, status, LocalDateTime.parse(parts[2]), inquiryId.get()));
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			return Optional.empty();
+		}
+	}
+}
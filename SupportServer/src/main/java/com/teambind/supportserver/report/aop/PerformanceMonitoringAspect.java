@@ -1,140 +1,267 @@
 package com.teambind.supportserver.report.aop;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 성능 모니터링 AOP
  *
- * <p>캐시 조회와 DB 조회의 실시간 성능을 모니터링합니다.</p>
+ * <p>서비스/리포지토리 메서드의 지연 시간을 나노초 단위로 Micrometer 타이머
+ * ({@value #METRIC_NAME})에 기록합니다. 타이머는 HdrHistogram 기반 분포로 p50/p99/p999를 계산하고
+ * 백분위 히스토그램 버킷을 함께 발행하므로 {@code /actuator/prometheus}에서 인스턴스 간 집계가 가능합니다.</p>
+ *
+ * <ul>
+ *   <li>태그: {@code layer}(service, repository, cache), {@code class}(빈 클래스 또는 리포지토리 인터페이스 이름), {@code method}</li>
+ *   <li>타이머는 (호출 대상 클래스, 메서드)별로 한 번만 조회/등록하여 호출 경로에서 레지스트리 조회를 생략</li>
+ *   <li>샘플링: 1/N 확률로만 측정하며 선택되지 않은 호출은 시각 측정 없이 그대로 진행.
+ *       샘플링 시 타이머의 count는 측정한 호출 수이며, 백분위는 샘플 기준 추정치</li>
+ *   <li>신고 카테고리 캐시 조회는 프록시 호출 비용만으로 조회 자체보다 비싸므로 애스펙트를 적용하지 않고,
+ *       {@code InMemoryReportCategoryCache}가 같은 타이머({@code layer=cache})에 직접 샘플링하여 기록</li>
+ *   <li>스레드별 버퍼: 측정값은 스레드 로컬 버퍼에 모았다가 버퍼가 차거나 {@code flush-interval-ms}마다
+ *       타이머에 반영하여 호출 스레드 간 히스토그램 경합을 줄임</li>
+ * </ul>
  */
 @Slf4j
 @Aspect
 @Component
 public class PerformanceMonitoringAspect {
 
-    private static final ConcurrentHashMap<String, PerformanceMetrics> metricsMap = new ConcurrentHashMap<>();
+    public static final String METRIC_NAME = "support.method.latency";
+
+    public static final String LAYER_SERVICE = "service";
+    public static final String LAYER_REPOSITORY = "repository";
+    public static final String LAYER_CACHE = "cache";
+
+    private static final String BASE_PACKAGE = "com.teambind.supportserver";
+    private static final Duration MIN_EXPECTED = Duration.ofNanos(100);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(30);
+
+    private final MeterRegistry meterRegistry;
+    private final int sampleRate;
+    private final int bufferSize;
+
+    /**
+     * 호출 대상 클래스 -> 메서드 -> 타이머
+     */
+    private final Map<Class<?>, Map<Method, Timer>> timers = new ConcurrentHashMap<>();
 
     /**
-     * 캐시 조회 성능 모니터링
+     * 스레드별 측정값 버퍼 (주기적 반영 대상 목록 포함)
      */
-    @Around("execution(* com.teambind.supportserver.report.utils.ReportCategoryCache.get(..))")
-    public Object monitorCacheAccess(ProceedingJoinPoint joinPoint) throws Throwable {
-        return monitorExecution(joinPoint, "Cache");
+    private final Set<SampleBuffer> buffers = ConcurrentHashMap.newKeySet();
+    private final ThreadLocal<SampleBuffer> localBuffer = ThreadLocal.withInitial(this::newBuffer);
+
+    public PerformanceMonitoringAspect(MeterRegistry meterRegistry,
+                                       @Value("${monitoring.latency.sample-rate:1}") int sampleRate,
+                                       @Value("${monitoring.latency.buffer-size:128}") int bufferSize) {
+        this.meterRegistry = meterRegistry;
+        this.sampleRate = sampleRate;
+        this.bufferSize = bufferSize;
     }
 
     /**
-     * DB 조회 성능 모니터링
+     * 지연 시간 타이머 조회/등록 ({@value #METRIC_NAME}, 애스펙트 밖에서 직접 기록하는 경로와 공유)
+     *
+     * @param meterRegistry 레지스트리
+     * @param layer         계층 태그
+     * @param className     클래스 태그
+     * @param methodName    메서드 태그
+     * @return 타이머
      */
-    @Around("execution(* com.teambind.supportserver.report.repository.ReportCategoryRepository.findById(..))")
-    public Object monitorDbAccess(ProceedingJoinPoint joinPoint) throws Throwable {
-        return monitorExecution(joinPoint, "DB");
+    public static Timer latencyTimer(MeterRegistry meterRegistry, String layer, String className, String methodName) {
+        return Timer.builder(METRIC_NAME)
+                .description("Service/repository/cache method latency")
+                .tag("layer", layer)
+                .tag("class", className)
+                .tag("method", methodName)
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(meterRegistry);
     }
 
-    private Object monitorExecution(ProceedingJoinPoint joinPoint, String type) throws Throwable {
-        long startTime = System.nanoTime();
+    /**
+     * 서비스 메서드 성능 모니터링
+     */
+    @Around("within(com.teambind.supportserver..*) && @within(org.springframework.stereotype.Service)")
+    public Object monitorService(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!sampled(sampleRate)) {
+            return joinPoint.proceed();
+        }
+        return monitorExecution(joinPoint, LAYER_SERVICE);
+    }
 
-        try {
-            Object result = joinPoint.proceed();
-            return result;
-        } finally {
-            long endTime = System.nanoTime();
-            long duration = (endTime - startTime) / 1_000_000; // 나노초 -> 밀리초
-
-            // 메트릭 기록
-            PerformanceMetrics metrics = metricsMap.computeIfAbsent(type, k -> new PerformanceMetrics());
-            metrics.record(duration);
-
-            // 100번마다 로그 출력
-            if (metrics.count.get() % 100 == 0) {
-                log.info("[{}] Count: {}, Avg: {:.4f}ms, Min: {}ms, Max: {}ms",
-                        type,
-                        metrics.count.get(),
-                        metrics.getAverage(),
-                        metrics.minTime.get(),
-                        metrics.maxTime.get());
-            }
+    /**
+     * 리포지토리 메서드 성능 모니터링 (Spring Data 리포지토리의 상속 메서드 포함)
+     */
+    @Around("execution(* com.teambind.supportserver..repository..*+.*(..))")
+    public Object monitorRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!sampled(sampleRate)) {
+            return joinPoint.proceed();
         }
+        return monitorExecution(joinPoint, LAYER_REPOSITORY);
     }
 
     /**
-     * 성능 메트릭 조회
+     * 스레드별 버퍼의 측정값을 타이머에 반영
+     *
+     * <p>종료된 스레드의 버퍼는 반영 후 목록에서 제거합니다.</p>
      */
-    public static PerformanceMetrics getMetrics(String type) {
-        return metricsMap.get(type);
+    @Scheduled(fixedDelayString = "${monitoring.latency.flush-interval-ms:1000}")
+    public void flush() {
+        buffers.removeIf(buffer -> {
+            buffer.drain();
+            return !buffer.owner.isAlive();
+        });
     }
 
     /**
-     * 메트릭 초기화
+     * 서비스/리포지토리 샘플링 비율 (1/N, 0이면 측정 안 함)
      */
-    public static void resetMetrics() {
-        metricsMap.clear();
+    public int getSampleRate() {
+        return sampleRate;
     }
 
     /**
-     * 성능 메트릭 데이터
+     * 메트릭 초기화
+     *
+     * <p>Micrometer 타이머는 값을 초기화할 수 없으므로 등록된 타이머를 레지스트리에서 제거하고
+     * 다음 호출 시 새로 등록합니다. 캐시 조회 타이머({@code layer=cache})처럼 애스펙트 밖에서 직접 기록하는 경로는
+     * 레지스트리의 제거 이벤트를 받아 다음 기록 시 다시 등록합니다.</p>
      */
-    public static class PerformanceMetrics {
-        private final LongAdder totalTime = new LongAdder();
-        private final AtomicLong count = new AtomicLong(0);
-        private final AtomicLong minTime = new AtomicLong(Long.MAX_VALUE);
-        private final AtomicLong maxTime = new AtomicLong(Long.MIN_VALUE);
-
-        public void record(long duration) {
-            totalTime.add(duration);
-            count.incrementAndGet();
-
-            // min 업데이트
-            long currentMin = minTime.get();
-            while (duration < currentMin) {
-                if (minTime.compareAndSet(currentMin, duration)) {
-                    break;
-                }
-                currentMin = minTime.get();
-            }
+    public void resetMetrics() {
+        flush();
+        timers.clear();
+        meterRegistry.find(METRIC_NAME).meters().forEach(meterRegistry::remove);
+    }
 
-            // max 업데이트
-            long currentMax = maxTime.get();
-            while (duration > currentMax) {
-                if (maxTime.compareAndSet(currentMax, duration)) {
-                    break;
-                }
-                currentMax = maxTime.get();
+    private Object monitorExecution(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        long startTime = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            long duration = System.nanoTime() - startTime;
+            Timer timer = timerFor(joinPoint, layer);
+            if (bufferSize > 1) {
+                localBuffer.get().add(timer, duration);
+            } else {
+                timer.record(duration, TimeUnit.NANOSECONDS);
             }
         }
+    }
 
-        public double getAverage() {
-            long cnt = count.get();
-            return cnt == 0 ? 0 : (double) totalTime.sum() / cnt;
+    /**
+     * 1/rate 확률로 측정 여부 결정 (rate가 1이면 항상, 0 이하면 측정 안 함)
+     */
+    private static boolean sampled(int rate) {
+        if (rate == 1) {
+            return true;
         }
+        return rate > 1 && ThreadLocalRandom.current().nextInt(rate) == 0;
+    }
+
+    private SampleBuffer newBuffer() {
+        SampleBuffer buffer = new SampleBuffer(Thread.currentThread(), bufferSize);
+        buffers.add(buffer);
+        return buffer;
+    }
 
-        public long getCount() {
-            return count.get();
+    private Timer timerFor(ProceedingJoinPoint joinPoint, String layer) {
+        Object self = joinPoint.getThis();
+        Class<?> selfClass = self != null ? self.getClass() : joinPoint.getSignature().getDeclaringType();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Map<Method, Timer> byMethod = timers.get(selfClass);
+        if (byMethod == null) {
+            byMethod = timers.computeIfAbsent(selfClass, key -> new ConcurrentHashMap<>());
         }
+        Timer timer = byMethod.get(method);
+        if (timer == null) {
+            timer = byMethod.computeIfAbsent(method, key -> register(joinPoint, layer));
+        }
+        return timer;
+    }
+
+    private Timer register(ProceedingJoinPoint joinPoint, String layer) {
+        String className = resolveClassName(joinPoint);
+        String methodName = joinPoint.getSignature().getName();
+        log.debug("Registering latency timer: layer={}, class={}, method={}", layer, className, methodName);
+        return latencyTimer(meterRegistry, layer, className, methodName);
+    }
 
-        public long getMinTime() {
-            return minTime.get() == Long.MAX_VALUE ? 0 : minTime.get();
+    /**
+     * 태그용 클래스 이름
+     *
+     * <p>Spring Data 리포지토리는 구현체가 SimpleJpaRepository이므로 프록시가 구현한 애플리케이션 인터페이스 이름을 사용합니다.</p>
+     */
+    private String resolveClassName(ProceedingJoinPoint joinPoint) {
+        Object target = joinPoint.getTarget();
+        Class<?> targetClass = target != null
+                ? ClassUtils.getUserClass(target)
+                : joinPoint.getSignature().getDeclaringType();
+        if (targetClass.getName().startsWith(BASE_PACKAGE)) {
+            return targetClass.getSimpleName();
+        }
+        Object self = joinPoint.getThis();
+        if (self != null) {
+            for (Class<?> type : ClassUtils.getAllInterfaces(self)) {
+                if (type.getName().startsWith(BASE_PACKAGE)) {
+                    return type.getSimpleName();
+                }
+            }
         }
+        return targetClass.getSimpleName();
+    }
+
+    /**
+     * 스레드별 측정값 버퍼
+     *
+     * <p>소유 스레드만 추가하고 반영은 소유 스레드(버퍼가 찼을 때)와 스케줄러가 수행하므로,
+     * 경합 없는 모니터 락으로 둘 사이만 동기화합니다.</p>
+     */
+    private static final class SampleBuffer {
+        private final Thread owner;
+        private final Timer[] timers;
+        private final long[] durations;
+        private int size;
 
-        public long getMaxTime() {
-            return maxTime.get() == Long.MIN_VALUE ? 0 : maxTime.get();
+        private SampleBuffer(Thread owner, int capacity) {
+            this.owner = owner;
+            this.timers = new Timer[capacity];
+            this.durations = new long[capacity];
         }
 
-        public long getTotalTime() {
-            return totalTime.sum();
+        private synchronized void add(Timer timer, long durationNanos) {
+            timers[size] = timer;
+            durations[size] = durationNanos;
+            if (++size == timers.length) {
+                drain();
+            }
         }
 
-        @Override
-        public String toString() {
-            return String.format("PerformanceMetrics{count=%d, avg=%.4fms, min=%dms, max=%dms, total=%dms}",
-                    getCount(), getAverage(), getMinTime(), getMaxTime(), getTotalTime());
+        private synchronized void drain() {
+            for (int i = 0; i < size; i++) {
+                timers[i].record(durations[i], TimeUnit.NANOSECONDS);
+                timers[i] = null;
+            }
+            size = 0;
         }
     }
 }
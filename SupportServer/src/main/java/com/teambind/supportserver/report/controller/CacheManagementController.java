@@ -1,14 +1,28 @@
 package com.teambind.supportserver.report.controller;
 
+import com.teambind.supportserver.common.cache.ClusterCacheInvalidator;
 import com.teambind.supportserver.report.aop.PerformanceMonitoringAspect;
+import com.teambind.supportserver.report.entity.SanctionRule;
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
 import com.teambind.supportserver.report.utils.ReportCategoryCache;
+import com.teambind.supportserver.report.utils.SanctionBloomFilter;
+import com.teambind.supportserver.report.utils.SanctionRuleCache;
+import com.teambind.supportserver.report.utils.SanctionStatusCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 캐시 관리 컨트롤러
@@ -18,7 +32,12 @@ import java.util.Map;
  * <p>주요 기능:</p>
  * <ul>
  *   <li>캐시 상태 조회 (헬스체크)</li>
- *   <li>캐시 수동 리로드</li>
+ *   <li>캐시 수동 리로드 (클러스터 전체 전파)</li>
+ *   <li>클러스터 캐시 무효화 동기화 상태 조회</li>
+ *   <li>제재 규칙 임계값 인덱스 상태 조회 및 리로드</li>
+ *   <li>제재 상태 캐시 메트릭 조회</li>
+ *   <li>제재 대상 Bloom Filter 상태 조회 및 재구성</li>
+ *   <li>메서드 지연 시간 분포(p50/p99/p999) 조회</li>
  * </ul>
  */
 @Slf4j
@@ -27,12 +46,23 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class CacheManagementController {
 
+    /**
+     * 성능 메트릭 응답에 포함할 메서드 수 (누적 소요 시간 순)
+     */
+    private static final int TOP_METHODS = 20;
+
     private final ReportCategoryCache reportCategoryCache;
+    private final SanctionRuleCache sanctionRuleCache;
+    private final SanctionStatusCache sanctionStatusCache;
+    private final SanctionBloomFilter sanctionBloomFilter;
+    private final ClusterCacheInvalidator clusterCacheInvalidator;
+    private final PerformanceMonitoringAspect performanceMonitoringAspect;
+    private final MeterRegistry meterRegistry;
 
     /**
      * 캐시 상태 조회 (헬스체크)
      *
-     * 캐시 초기화 여부, 캐시된 항목 수 등의 정보를 반환합니다.
+     * 캐시 초기화 여부, 캐시된 항목 수와 마지막 동기화 버전/방식/변경 행 수 등의 정보를 반환합니다.
      *
      * @return 캐시 상태 정보
      */
@@ -43,6 +73,14 @@ public class CacheManagementController {
         status.put("size", reportCategoryCache.size());
         status.put("cacheType", "ReportCategory");
 
+        ReportCategoryCache.SyncStatus syncStatus = reportCategoryCache.getSyncStatus();
+        status.put("lastSyncVersion", syncStatus.lastSyncVersion());
+        status.put("lastSyncAt", syncStatus.lastSyncAt());
+        status.put("lastSyncType", syncStatus.lastSyncType());
+        status.put("lastDeltaSize", syncStatus.lastDeltaSize());
+        status.put("fullReloads", syncStatus.fullReloads());
+        status.put("deltaSyncs", syncStatus.deltaSyncs());
+
         log.info("Cache status requested: {}", status);
 
         return ResponseEntity.ok(status);
@@ -52,7 +90,7 @@ public class CacheManagementController {
      * 캐시 수동 리로드
      *
      * DB에서 모든 카테고리를 다시 조회하여 캐시를 최신 상태로 갱신합니다.
-     * 운영 중 카테고리 데이터가 변경되었을 때 호출합니다.
+     * 운영 중 카테고리 데이터가 변경되었을 때 호출하며, 다른 인스턴스에도 리로드가 전파됩니다.
      *
      * @return 리로드 결과 메시지
      */
@@ -82,51 +120,256 @@ public class CacheManagementController {
         }
     }
 
+    /**
+     * 클러스터 캐시 무효화 동기화 상태 조회
+     *
+     * 캐시별 적용 버전, 수신한 최신 버전, 리로드 대기 여부와 누적 리로드/병합/실패 수를 반환합니다.
+     *
+     * @return 캐시 무효화 동기화 상태
+     */
+    @GetMapping("/invalidation/status")
+    public ResponseEntity<Map<String, Object>> getInvalidationStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("published", clusterCacheInvalidator.getPublishedCount());
+        status.put("received", clusterCacheInvalidator.getReceivedCount());
+
+        Map<String, Object> caches = new LinkedHashMap<>();
+        clusterCacheInvalidator.getStatus().forEach((cacheName, cacheStatus) -> {
+            Map<String, Object> cacheData = new LinkedHashMap<>();
+            cacheData.put("appliedVersion", cacheStatus.appliedVersion());
+            cacheData.put("targetVersion", cacheStatus.targetVersion());
+            cacheData.put("reloadPending", cacheStatus.reloadPending());
+            cacheData.put("reloads", cacheStatus.reloads());
+            cacheData.put("coalesced", cacheStatus.coalesced());
+            cacheData.put("failures", cacheStatus.failures());
+            caches.put(cacheName, cacheData);
+        });
+        status.put("caches", caches);
+
+        return ResponseEntity.ok(status);
+    }
+
+    /**
+     * 제재 규칙 인덱스 상태 조회
+     *
+     * 초기화 여부, 인덱싱된 규칙 수와 대상 타입별 임계값 목록을 반환합니다.
+     *
+     * @return 제재 규칙 인덱스 상태 정보
+     */
+    @GetMapping("/sanction-rules/status")
+    public ResponseEntity<Map<String, Object>> getSanctionRuleStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("initialized", sanctionRuleCache.isInitialized());
+        status.put("size", sanctionRuleCache.size());
+        status.put("cacheType", "SanctionRule");
+
+        Map<String, Object> thresholds = new LinkedHashMap<>();
+        for (ReferenceType referenceType : ReferenceType.values()) {
+            List<Map<String, Object>> rules = sanctionRuleCache.getRules(referenceType).stream()
+                    .map(this::toRuleSummary)
+                    .toList();
+            thresholds.put(referenceType.name(), rules);
+        }
+        status.put("thresholds", thresholds);
+
+        log.info("Sanction rule index status requested: initialized={}, size={}",
+                sanctionRuleCache.isInitialized(), sanctionRuleCache.size());
+
+        return ResponseEntity.ok(status);
+    }
+
+    /**
+     * 제재 규칙 인덱스 수동 리로드
+     *
+     * DB에서 활성 제재 규칙을 다시 조회하여 인덱스를 원자적으로 교체합니다.
+     * 운영 중 제재 규칙이 변경되었을 때 호출합니다.
+     *
+     * @return 리로드 결과 메시지
+     */
+    @PostMapping("/sanction-rules/reload")
+    public ResponseEntity<Map<String, Object>> reloadSanctionRules() {
+        log.info("Sanction rule index reload requested");
+
+        try {
+            sanctionRuleCache.reload();
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "Sanction rule index reloaded successfully");
+            response.put("size", sanctionRuleCache.size());
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Sanction rule index reload failed: {}", e.getMessage(), e);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", "Sanction rule index reload failed: " + e.getMessage());
+
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
+    /**
+     * 제재 상태 캐시 메트릭 조회
+     *
+     * 로컬/Redis 적중 수, 원본 조회 수, 평균 지연 시간 등을 반환합니다.
+     *
+     * @return 제재 상태 캐시 메트릭
+     */
+    @GetMapping("/sanction-status/metrics")
+    public ResponseEntity<Map<String, Object>> getSanctionStatusMetrics() {
+        SanctionStatusCache.Metrics cacheMetrics = sanctionStatusCache.getMetrics();
+
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("requests", cacheMetrics.requests());
+        metrics.put("localHits", cacheMetrics.localHits());
+        metrics.put("remoteHits", cacheMetrics.remoteHits());
+        metrics.put("misses", cacheMetrics.misses());
+        metrics.put("remoteErrors", cacheMetrics.remoteErrors());
+        metrics.put("hitRatio", String.format("%.4f", cacheMetrics.hitRatio()));
+        metrics.put("avgLookupMicros", String.format("%.2f", cacheMetrics.avgLookupMicros()));
+        metrics.put("avgLoadMicros", String.format("%.2f", cacheMetrics.avgLoadMicros()));
+        metrics.put("localSize", cacheMetrics.localSize());
+
+        return ResponseEntity.ok(metrics);
+    }
+
+    /**
+     * 제재 상태 캐시 메트릭 초기화
+     *
+     * @return 초기화 결과
+     */
+    @PostMapping("/sanction-status/metrics/reset")
+    public ResponseEntity<Map<String, Object>> resetSanctionStatusMetrics() {
+        sanctionStatusCache.resetMetrics();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Sanction status cache metrics reset successfully");
+
+        log.info("Sanction status cache metrics reset");
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 제재 대상 Bloom Filter 상태 조회
+     *
+     * 원소 수, 메모리 사용량, 이론적/관측 false positive 비율 등을 반환합니다.
+     *
+     * @return Bloom Filter 메트릭
+     */
+    @GetMapping("/sanction-bloom/status")
+    public ResponseEntity<Map<String, Object>> getSanctionBloomStatus() {
+        SanctionBloomFilter.Metrics bloomMetrics = sanctionBloomFilter.getMetrics();
+
+        Map<String, Object> status = new HashMap<>();
+        status.put("initialized", bloomMetrics.initialized());
+        status.put("elementCount", bloomMetrics.elementCount());
+        status.put("counterCount", bloomMetrics.counterCount());
+        status.put("hashCount", bloomMetrics.hashCount());
+        status.put("memoryBytes", bloomMetrics.memoryBytes());
+        status.put("expectedFpp", String.format("%.6f", bloomMetrics.expectedFpp()));
+        status.put("observedFpp", String.format("%.6f", bloomMetrics.observedFpp()));
+        status.put("queries", bloomMetrics.queries());
+        status.put("negatives", bloomMetrics.negatives());
+        status.put("falsePositives", bloomMetrics.falsePositives());
+        status.put("lastRebuildDurationMs", bloomMetrics.lastRebuildDurationMs());
+
+        return ResponseEntity.ok(status);
+    }
+
+    /**
+     * 제재 대상 Bloom Filter 수동 재구성
+     *
+     * @return 재구성 결과 메시지
+     */
+    @PostMapping("/sanction-bloom/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildSanctionBloom() {
+        log.info("Sanction Bloom filter rebuild requested");
+
+        try {
+            sanctionBloomFilter.rebuild();
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "Sanction Bloom filter rebuilt successfully");
+            response.put("elementCount", sanctionBloomFilter.getMetrics().elementCount());
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Sanction Bloom filter rebuild failed: {}", e.getMessage(), e);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", "Sanction Bloom filter rebuild failed: " + e.getMessage());
+
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
     /**
      * 성능 메트릭 조회
      *
-     * 캐시 조회와 DB 조회의 실시간 성능 메트릭을 반환합니다.
+     * 캐시 조회와 DB 조회(ReportCategoryRepository.findById)의 지연 시간 분포와,
+     * 누적 소요 시간이 큰 서비스/리포지토리 메서드 상위 목록을 반환합니다.
+     * 원본 타이머는 /actuator/prometheus에서 조회할 수 있습니다.
+     * 샘플링 중이면 count는 측정한 호출 수입니다 (실제 호출 수 ≈ count × sampleRate).
      *
      * @return 성능 메트릭 정보
      */
     @GetMapping("/metrics")
     public ResponseEntity<Map<String, Object>> getPerformanceMetrics() {
+        performanceMonitoringAspect.flush();
+
         Map<String, Object> metrics = new HashMap<>();
+        metrics.put("sampleRate", performanceMonitoringAspect.getSampleRate());
+        metrics.put("cacheSampleRate", reportCategoryCache.getLatencySampleRate());
 
-        PerformanceMonitoringAspect.PerformanceMetrics cacheMetrics =
-                PerformanceMonitoringAspect.getMetrics("Cache");
-        PerformanceMonitoringAspect.PerformanceMetrics dbMetrics =
-                PerformanceMonitoringAspect.getMetrics("DB");
-
-        if (cacheMetrics != null) {
-            Map<String, Object> cacheData = new HashMap<>();
-            cacheData.put("count", cacheMetrics.getCount());
-            cacheData.put("avgTimeMs", String.format("%.4f", cacheMetrics.getAverage()));
-            cacheData.put("minTimeMs", cacheMetrics.getMinTime());
-            cacheData.put("maxTimeMs", cacheMetrics.getMaxTime());
-            cacheData.put("totalTimeMs", cacheMetrics.getTotalTime());
-            metrics.put("cache", cacheData);
-        }
+        Timer cacheTimer = meterRegistry.find(PerformanceMonitoringAspect.METRIC_NAME)
+                .tag("layer", PerformanceMonitoringAspect.LAYER_CACHE)
+                .timer();
+        Timer dbTimer = meterRegistry.find(PerformanceMonitoringAspect.METRIC_NAME)
+                .tag("layer", PerformanceMonitoringAspect.LAYER_REPOSITORY)
+                .tag("class", "ReportCategoryRepository")
+                .tag("method", "findById")
+                .timer();
 
-        if (dbMetrics != null) {
-            Map<String, Object> dbData = new HashMap<>();
-            dbData.put("count", dbMetrics.getCount());
-            dbData.put("avgTimeMs", String.format("%.4f", dbMetrics.getAverage()));
-            dbData.put("minTimeMs", dbMetrics.getMinTime());
-            dbData.put("maxTimeMs", dbMetrics.getMaxTime());
-            dbData.put("totalTimeMs", dbMetrics.getTotalTime());
-            metrics.put("db", dbData);
+        HistogramSnapshot cacheSnapshot = cacheTimer != null ? cacheTimer.takeSnapshot() : null;
+        HistogramSnapshot dbSnapshot = dbTimer != null ? dbTimer.takeSnapshot() : null;
+        if (cacheSnapshot != null) {
+            metrics.put("cache", toLatencySummary(cacheSnapshot));
+        }
+        if (dbSnapshot != null) {
+            metrics.put("db", toLatencySummary(dbSnapshot));
         }
 
         // 비교 정보 추가
-        if (cacheMetrics != null && dbMetrics != null && cacheMetrics.getCount() > 0) {
+        if (cacheSnapshot != null && dbSnapshot != null && cacheSnapshot.count() > 0 && dbSnapshot.count() > 0) {
+            double cacheMean = cacheSnapshot.mean(TimeUnit.MILLISECONDS);
+            double dbMean = dbSnapshot.mean(TimeUnit.MILLISECONDS);
             Map<String, Object> comparison = new HashMap<>();
-            double speedup = dbMetrics.getAverage() / cacheMetrics.getAverage();
-            comparison.put("speedup", String.format("%.2fx", speedup));
-            comparison.put("timeSavedPerQueryMs", String.format("%.4f", dbMetrics.getAverage() - cacheMetrics.getAverage()));
+            comparison.put("speedup", String.format("%.2fx", dbMean / cacheMean));
+            comparison.put("timeSavedPerQueryMs", String.format("%.4f", dbMean - cacheMean));
             metrics.put("comparison", comparison);
         }
 
+        List<Map<String, Object>> methods = meterRegistry.find(PerformanceMonitoringAspect.METRIC_NAME).timers().stream()
+                .filter(timer -> timer.count() > 0)
+                .sorted(Comparator.comparingDouble((Timer timer) -> timer.totalTime(TimeUnit.NANOSECONDS)).reversed())
+                .limit(TOP_METHODS)
+                .map(timer -> {
+                    Map<String, Object> method = new LinkedHashMap<>();
+                    method.put("layer", timer.getId().getTag("layer"));
+                    method.put("class", timer.getId().getTag("class"));
+                    method.put("method", timer.getId().getTag("method"));
+                    method.putAll(toLatencySummary(timer.takeSnapshot()));
+                    return method;
+                })
+                .toList();
+        metrics.put("methods", methods);
+
         return ResponseEntity.ok(metrics);
     }
 
@@ -139,7 +382,7 @@ public class CacheManagementController {
      */
     @PostMapping("/metrics/reset")
     public ResponseEntity<Map<String, Object>> resetPerformanceMetrics() {
-        PerformanceMonitoringAspect.resetMetrics();
+        performanceMonitoringAspect.resetMetrics();
 
         Map<String, Object> response = new HashMap<>();
         response.put("success", true);
@@ -149,4 +392,34 @@ public class CacheManagementController {
 
         return ResponseEntity.ok(response);
     }
+
+    private Map<String, Object> toLatencySummary(HistogramSnapshot snapshot) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", snapshot.count());
+        summary.put("avgTimeMs", String.format("%.4f", snapshot.mean(TimeUnit.MILLISECONDS)));
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            String key = "p" + formatPercentile(percentile.percentile()) + "TimeMs";
+            summary.put(key, String.format("%.4f", percentile.value(TimeUnit.MILLISECONDS)));
+        }
+        summary.put("maxTimeMs", String.format("%.4f", snapshot.max(TimeUnit.MILLISECONDS)));
+        summary.put("totalTimeMs", String.format("%.4f", snapshot.total(TimeUnit.MILLISECONDS)));
+        return summary;
+    }
+
+    /**
+     * 0.5 -> "50", 0.99 -> "99", 0.999 -> "999"
+     */
+    private String formatPercentile(double percentile) {
+        String digits = String.valueOf(percentile).substring(2);
+        return digits.length() == 1 ? digits + "0" : digits;
+    }
+
+    private Map<String, Object> toRuleSummary(SanctionRule rule) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("ruleId", rule.getRuleId());
+        summary.put("threshold", rule.getReportThreshold());
+        summary.put("sanctionType", rule.getSanctionType());
+        summary.put("duration", rule.getDuration());
+        return summary;
+    }
 }
@@ -1,9 +1,11 @@
 package com.teambind.supportserver.report.controller;
 
+import com.teambind.supportserver.report.dto.request.ReportBulkStatusUpdateRequest;
 import com.teambind.supportserver.report.dto.request.ReportRequest;
 import com.teambind.supportserver.report.dto.request.ReportSearchRequest;
 import com.teambind.supportserver.report.dto.request.ReportStatusUpdateRequest;
 import com.teambind.supportserver.report.dto.response.CursorPageResponse;
+import com.teambind.supportserver.report.dto.response.ReportBulkStatusUpdateResponse;
 import com.teambind.supportserver.report.dto.response.ReportResponse;
 import com.teambind.supportserver.report.service.ReportService;
 import jakarta.validation.Valid;
@@ -33,7 +35,7 @@ public class ReportController {
      * 신고 등록 (통합 API - 프로필, 게시글, 비즈니스 신고)
      *
      * @param request 신고 요청 정보 (reporterId, reportedId, referenceType, reportCategory, reason)
-     * @return 생성된 신고 정보
+     * @return 생성된 신고 정보 (201), 같은 신고자/대상의 대기 중 신고가 이미 있으면 기존 신고 정보 (200)
      */
     @PostMapping
     public ResponseEntity<ReportResponse> createReport(@Valid @RequestBody ReportRequest request) {
@@ -48,6 +50,12 @@ public class ReportController {
                 request.getReason()
         );
 
+        // 이미 접수된 신고의 중복 제출이면 기존 신고를 200으로 응답 (멱등)
+        if (Boolean.TRUE.equals(response.getDuplicate())) {
+            log.info("Duplicate report submission: reportId={}", response.getReportId());
+            return ResponseEntity.ok(response);
+        }
+
         log.info("Report created successfully: reportId={}", response.getReportId());
 
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
@@ -117,6 +125,32 @@ public class ReportController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 신고 일괄 상태 변경 (스팸 신고 일괄 기각 등)
+     *
+     * <p>일부 ID가 없거나 변경할 수 없어도 나머지는 처리하고, ID별 결과를 반환합니다.</p>
+     *
+     * @param request 일괄 변경 요청 정보 (reportIds, status, adminId, comment)
+     * @return ID별 처리 결과
+     */
+    @PostMapping("/bulk-status")
+    public ResponseEntity<ReportBulkStatusUpdateResponse> bulkUpdateReportStatus(
+            @Valid @RequestBody ReportBulkStatusUpdateRequest request) {
+        log.info("Bulk updating report status: count={}, newStatus={}, adminId={}",
+                request.getReportIds().size(), request.getStatus(), request.getAdminId());
+
+        ReportBulkStatusUpdateResponse response = reportService.bulkUpdateReportStatus(
+                request.getReportIds(),
+                request.getStatus(),
+                request.getAdminId(),
+                request.getComment()
+        );
+
+        log.info("Report status bulk updated: updatedCount={}", response.getUpdatedCount());
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 신고 철회 (신고자만 가능)
      *
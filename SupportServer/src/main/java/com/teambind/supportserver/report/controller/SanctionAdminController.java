@@ -0,0 +1,123 @@
+package com.teambind.supportserver.report.controller;
+
+import com.teambind.supportserver.report.service.SanctionExpirationJob;
+import com.teambind.supportserver.report.service.SanctionExpiryScheduler;
+import com.teambind.supportserver.report.service.SanctionOutboxRelay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 제재 관리 컨트롤러
+ *
+ * <p>제재 만료 배치 작업, 타이밍 휠 만료 스케줄러, 제재 이벤트 아웃박스 릴레이의
+ * 메트릭 조회 및 수동 실행 엔드포인트를 제공합니다.</p>
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/sanctions")
+@RequiredArgsConstructor
+public class SanctionAdminController {
+
+    private final SanctionExpirationJob sanctionExpirationJob;
+    private final SanctionExpiryScheduler sanctionExpiryScheduler;
+    private final SanctionOutboxRelay sanctionOutboxRelay;
+
+    /**
+     * 제재 만료 작업 메트릭 조회
+     *
+     * 처리량(rows/sec)과 현재 시각 대비 만료 처리 지연(lag)을 반환합니다.
+     *
+     * @return 만료 작업 메트릭
+     */
+    @GetMapping("/expiration/metrics")
+    public ResponseEntity<SanctionExpirationJob.Metrics> getExpirationMetrics() {
+        return ResponseEntity.ok(sanctionExpirationJob.getMetrics());
+    }
+
+    /**
+     * 제재 만료 작업 수동 실행
+     *
+     * @return 실행 결과 메시지
+     */
+    @PostMapping("/expiration/run")
+    public ResponseEntity<Map<String, Object>> runExpiration() {
+        log.info("Sanction expiration run requested");
+
+        try {
+            int expired = sanctionExpirationJob.run();
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "Sanction expiration completed successfully");
+            response.put("expired", expired);
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Sanction expiration run failed: {}", e.getMessage(), e);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", "Sanction expiration failed: " + e.getMessage());
+
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
+    /**
+     * 타이밍 휠 만료 스케줄러 상태 조회
+     *
+     * 대기 중인 제재 수, 적재 범위, 만료 시각 대비 최대 실행 지연을 반환합니다.
+     *
+     * @return 만료 스케줄러 메트릭
+     */
+    @GetMapping("/expiry-wheel/status")
+    public ResponseEntity<SanctionExpiryScheduler.Metrics> getExpiryWheelStatus() {
+        return ResponseEntity.ok(sanctionExpiryScheduler.getMetrics());
+    }
+
+    /**
+     * 제재 이벤트 아웃박스 릴레이 메트릭 조회
+     *
+     * 전송 대기 백로그, 가장 오래된 대기 이벤트의 대기 시간, 배치 지연 시간 등 배압 지표를 반환합니다.
+     *
+     * @return 릴레이 메트릭
+     */
+    @GetMapping("/outbox/metrics")
+    public ResponseEntity<SanctionOutboxRelay.Metrics> getOutboxMetrics() {
+        return ResponseEntity.ok(sanctionOutboxRelay.getMetrics());
+    }
+
+    /**
+     * 제재 이벤트 아웃박스 릴레이 수동 실행
+     *
+     * @return 실행 결과 메시지
+     */
+    @PostMapping("/outbox/relay")
+    public ResponseEntity<Map<String, Object>> relayOutbox() {
+        log.info("Sanction outbox relay requested");
+
+        try {
+            int relayed = sanctionOutboxRelay.relay();
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "Sanction outbox relayed successfully");
+            response.put("sent", relayed);
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Sanction outbox relay failed: {}", e.getMessage(), e);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", "Sanction outbox relay failed: " + e.getMessage());
+
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.teambind.supportserver.report.dto.request;
+
+import com.teambind.supportserver.report.entity.enums.ReportStatus;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 신고 일괄 상태 변경 요청 DTO
+ */
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportBulkStatusUpdateRequest {
+
+    public static final int MAX_REPORT_IDS = 500;
+
+    @NotEmpty(message = "신고 ID 목록은 필수입니다")
+    @Size(max = MAX_REPORT_IDS, message = "한 번에 최대 500건까지 변경 가능합니다")
+    private List<@NotBlank(message = "신고 ID는 비어 있을 수 없습니다") String> reportIds;
+
+    @NotNull(message = "변경할 상태는 필수입니다")
+    private ReportStatus status;
+
+    @NotBlank(message = "관리자 ID는 필수입니다")
+    private String adminId;
+
+    @Size(max = 500, message = "코멘트는 최대 500자까지 입력 가능합니다")
+    private String comment;
+}
@@ -27,7 +27,7 @@ public class ReportSearchRequest {
     private SortDirection sortDirection;   // 정렬 방향
 
     // 커서 페이징
-    private String cursor;                 // 커서 (마지막 항목의 ID 또는 정렬 기준 값)
+    private String cursor;                 // 커서 (이전 응답의 nextCursor 토큰: 정렬 기준 값 + reportId)
     
     @Min(value = 1, message = "페이지 크기는 최소 1 이상이어야 합니다")
     @Max(value = 100, message = "페이지 크기는 최대 100까지 가능합니다")
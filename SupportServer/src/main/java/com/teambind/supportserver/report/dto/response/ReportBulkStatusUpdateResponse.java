@@ -0,0 +1,47 @@
+package com.teambind.supportserver.report.dto.response;
+
+import com.teambind.supportserver.report.entity.enums.ReportStatus;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 신고 일괄 상태 변경 응답 DTO
+ *
+ * <p>요청한 ID마다 처리 결과를 요청 순서대로 반환합니다 (중복 ID는 한 번만 포함).</p>
+ */
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportBulkStatusUpdateResponse {
+
+    private ReportStatus status;         // 변경할 상태
+    private Integer updatedCount;        // 실제로 변경된 신고 수
+    private List<Result> results;        // ID별 처리 결과
+
+    /**
+     * ID별 처리 결과
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+        private String reportId;
+        private Outcome outcome;
+        private ReportStatus previousStatus;  // 조회된 변경 전 상태 (NOT_FOUND이면 null)
+    }
+
+    /**
+     * 처리 결과 유형
+     */
+    public enum Outcome {
+        UPDATED,             // 상태 변경 및 이력 기록
+        UNCHANGED,           // 이미 요청한 상태
+        NOT_FOUND,           // 존재하지 않는 신고
+        INVALID_TRANSITION,  // 철회된 신고는 변경 불가
+        CONFLICT             // 같은 신고자/대상의 신고가 이미 요청한 상태로 존재 (uk_report_per_user)
+    }
+}
@@ -1,14 +1,18 @@
 package com.teambind.supportserver.report.dto.response;
 
+import com.teambind.supportserver.common.utils.EntityIds;
 import com.teambind.supportserver.report.entity.Report;
 import com.teambind.supportserver.report.entity.enums.ReferenceType;
 import com.teambind.supportserver.report.entity.enums.ReportStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
 import java.time.LocalDateTime;
 
 /**
  * 신고 응답 DTO
+ *
+ * <p>신고 ID는 BIGINT 키를 문자열로 노출합니다.</p>
  */
 @Data
 @Getter
@@ -27,12 +31,24 @@ public class ReportResponse {
     private LocalDateTime reportedAt;
     private ReportStatus status;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean duplicate;      // 이미 접수된 신고에 대한 중복 제출이면 true (새로 접수되면 생략)
+
+    /**
+     * DTO 프로젝션용 생성자 (BIGINT 신고 ID)
+     */
+    public ReportResponse(Long reportId, String reporterId, String reportedId, ReferenceType referenceType,
+                          String reportCategory, String reason, LocalDateTime reportedAt, ReportStatus status) {
+        this(EntityIds.format(reportId), reporterId, reportedId, referenceType, reportCategory, reason,
+                reportedAt, status, null);
+    }
+
     /**
      * Entity -> DTO 변환
      */
     public static ReportResponse from(Report report) {
         return ReportResponse.builder()
-                .reportId(report.getReportId())
+                .reportId(EntityIds.format(report.getReportId()))
                 .reporterId(report.getReporterId())
                 .reportedId(report.getReportedId())
                 .referenceType(report.getReferenceType())
@@ -42,4 +58,12 @@ public class ReportResponse {
                 .status(report.getStatus())
                 .build();
     }
+
+    /**
+     * 중복 제출 응답용 사본 생성
+     */
+    public ReportResponse asDuplicate() {
+        return new ReportResponse(reportId, reporterId, reportedId, referenceType, reportCategory, reason,
+                reportedAt, status, true);
+    }
 }
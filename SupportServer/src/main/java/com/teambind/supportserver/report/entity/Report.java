@@ -9,6 +9,7 @@ import org.hibernate.annotations.Comment;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 신고 엔티티
@@ -25,8 +26,9 @@ import java.util.List;
         indexes = {
                 @Index(name = "idx_report_reporter_id", columnList = "reporter_id"),
                 @Index(name = "idx_report_reported_id", columnList = "reported_id"),
-                @Index(name = "idx_report_reported_at", columnList = "reported_at"),
-                @Index(name = "idx_report_status", columnList = "status")
+                @Index(name = "idx_report_reported_at_id", columnList = "reported_at, report_id"),
+                @Index(name = "idx_report_status_id", columnList = "status, report_id"),
+                @Index(name = "idx_report_status_reported_at_id", columnList = "status, reported_at, report_id")
         }
 )
 @Getter
@@ -36,9 +38,8 @@ import java.util.List;
 public class Report {
 
     @Id
-    @Column(length = 100)
-    @Comment("신고 ID")
-    private String reportId;
+    @Comment("신고 ID (Snowflake)")
+    private Long reportId;
 
     @Column(nullable = false, length = 100)
     @Comment("신고자 ID")
@@ -79,7 +80,13 @@ public class Report {
     @Builder.Default
     private ReportStatus status = ReportStatus.PENDING;
 
-    @OneToMany(mappedBy = "report", cascade = CascadeType.ALL, orphanRemoval = true)
+    /**
+     * 처리 이력 (조회 전용)
+     *
+     * <p>이력은 추가만 하는 로그이므로 상태 변경 시 이 컬렉션을 로드하지 않고,
+     * {@link #changeStatus}가 반환한 이력을 ReportHistoryRepository로 직접 저장합니다.</p>
+     */
+    @OneToMany(mappedBy = "report")
     @Builder.Default
     private List<ReportHistory> histories = new ArrayList<>();
 
@@ -106,82 +113,74 @@ public class Report {
     //== 비즈니스 로직 ==//
 
     /**
-     * 신고 상태 변경 (히스토리 자동 생성)
+     * 신고 상태 변경 (히스토리 생성)
+     *
+     * <p>생성한 이력은 {@link #histories}에 추가하지 않고 반환하므로 호출자가 저장합니다.</p>
      *
      * @param newStatus 새로운 상태
      * @param adminId 처리한 관리자 ID
      * @param comment 변경 사유/코멘트
      * @param historyIdGenerator ID 생성 함수
+     * @return 상태 변경 이력 (동일한 상태로 변경 시 빈 값)
      */
-    public void changeStatus(ReportStatus newStatus, String adminId, String comment,
-                           java.util.function.Supplier<String> historyIdGenerator) {
+    public Optional<ReportHistory> changeStatus(ReportStatus newStatus, String adminId, String comment,
+                                                java.util.function.Supplier<Long> historyIdGenerator) {
         if (this.status == newStatus) {
-            return; // 동일한 상태로 변경 시 무시
+            return Optional.empty(); // 동일한 상태로 변경 시 무시
         }
 
         ReportStatus previousStatus = this.status;
         this.status = newStatus;
 
-        // 히스토리 생성 및 연관관계 설정
-        ReportHistory history = ReportHistory.createStatusChangeHistory(
+        return Optional.of(ReportHistory.createStatusChangeHistory(
                 historyIdGenerator.get(),
                 this,
                 adminId,
                 previousStatus,
                 newStatus,
                 comment
-        );
-
-        addHistory(history);
+        ));
     }
 
     /**
      * 신고 승인 (제재 적용)
      */
-    public void approve(String adminId, String comment, java.util.function.Supplier<String> historyIdGenerator) {
-        changeStatus(ReportStatus.APPROVED, adminId, comment, historyIdGenerator);
+    public Optional<ReportHistory> approve(String adminId, String comment, java.util.function.Supplier<Long> historyIdGenerator) {
+        return changeStatus(ReportStatus.APPROVED, adminId, comment, historyIdGenerator);
     }
 
     /**
      * 신고 거부 (기각)
      */
-    public void reject(String adminId, String comment, java.util.function.Supplier<String> historyIdGenerator) {
-        changeStatus(ReportStatus.REJECTED, adminId, comment, historyIdGenerator);
+    public Optional<ReportHistory> reject(String adminId, String comment, java.util.function.Supplier<Long> historyIdGenerator) {
+        return changeStatus(ReportStatus.REJECTED, adminId, comment, historyIdGenerator);
     }
 
     /**
      * 신고 철회 (신고자가 직접 철회)
      */
-    public void withdraw(String reporterId, String comment, java.util.function.Supplier<String> historyIdGenerator) {
+    public Optional<ReportHistory> withdraw(String reporterId, String comment, java.util.function.Supplier<Long> historyIdGenerator) {
         if (!this.reporterId.equals(reporterId)) {
             throw new IllegalArgumentException("Only the reporter can withdraw this report");
         }
         if (!isPending()) {
             throw new IllegalStateException("Only pending reports can be withdrawn");
         }
-        changeStatus(ReportStatus.WITHDRAWN, null, comment, historyIdGenerator);
+        return changeStatus(ReportStatus.WITHDRAWN, null, comment, historyIdGenerator);
     }
 
     /**
      * 검토 시작
      */
-    public void startReview(String adminId, String comment, java.util.function.Supplier<String> historyIdGenerator) {
-        changeStatus(ReportStatus.REVIEWING, adminId, comment, historyIdGenerator);
+    public Optional<ReportHistory> startReview(String adminId, String comment, java.util.function.Supplier<Long> historyIdGenerator) {
+        return changeStatus(ReportStatus.REVIEWING, adminId, comment, historyIdGenerator);
     }
 
     /**
      * 보류 처리
      */
-    public void hold(String adminId, String comment, java.util.function.Supplier<String> historyIdGenerator) {
-        changeStatus(ReportStatus.PENDING, adminId, comment, historyIdGenerator);
-    }
-
-    /**
-     * 히스토리 추가 (연관관계 편의 메서드)
-     */
-    private void addHistory(ReportHistory history) {
-        histories.add(history);
-        history.setReport(this);
+    public Optional<ReportHistory> hold(String adminId, String comment, java.util.function.Supplier<Long> historyIdGenerator) {
+        return changeStatus(ReportStatus.PENDING, adminId, comment, historyIdGenerator);
     }
 
     /**
@@ -4,12 +4,20 @@ import com.teambind.supportserver.report.entity.embeddable.ReportCategoryId;
 import com.teambind.supportserver.report.entity.enums.ReferenceType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
 
 /**
  * 신고 카테고리 엔티티
  */
 @Entity
-@Table(name = "report_categories")
+@Table(
+        name = "report_categories",
+        indexes = {
+                @Index(name = "idx_report_categories_updated_at", columnList = "updated_at")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -20,6 +28,16 @@ public class ReportCategory {
     @EmbeddedId
     private ReportCategoryId id;
 
+    @Column(name = "updated_at", nullable = false)
+    @Comment("최종 변경 일시 (캐시 증분 동기화 기준)")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onChange() {
+        updatedAt = LocalDateTime.now();
+    }
+
     public static ReportCategory of(ReferenceType referenceType, String reportCategory) {
         return ReportCategory.builder()
                 .id(new ReportCategoryId(referenceType, reportCategory))
@@ -6,11 +6,16 @@ import jakarta.annotation.Nullable;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.Comment;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 
 /**
  * 신고 처리 이력 엔티티
+ *
+ * <p>이력은 추가만 하는 로그이고 ID를 Snowflake로 미리 할당하므로 {@link Persistable}로 신규 여부를 알려
+ * {@code save()}가 merge(SELECT 후 INSERT) 대신 바로 persist 되도록 합니다.
+ * 덕분에 여러 건의 이력 INSERT가 JDBC 배치로 묶입니다.</p>
  */
 @Entity
 @Table(
@@ -24,12 +29,11 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-public class ReportHistory {
+public class ReportHistory implements Persistable<Long> {
 
     @Id
-    @Column(length = 100)
-    @Comment("이력 ID")
-    private String historyId;
+    @Comment("이력 ID (Snowflake)")
+    private Long historyId;
 	
 	/**
 	 * -- SETTER --
@@ -68,6 +72,11 @@ public class ReportHistory {
     @Comment("생성 일시")
     private LocalDateTime createdAt;
 
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    private boolean isNew = true;
+
     @PrePersist
     protected void onCreate() {
         if (createdAt == null) {
@@ -75,6 +84,22 @@ public class ReportHistory {
         }
     }
 
+    @PostPersist
+    @PostLoad
+    protected void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public Long getId() {
+        return historyId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
     //== 연관관계 편의 메서드 ==//
 	
 	//== 생성 메서드 (팩토리 메서드) ==//
@@ -83,7 +108,7 @@ public class ReportHistory {
      * 상태 변경 이력 생성
      */
     public static ReportHistory createStatusChangeHistory(
-            String historyId,
+            Long historyId,
             Report report,
             String adminId,
             ReportStatus previousStatus,
@@ -105,7 +130,7 @@ public class ReportHistory {
      * 검토 완료 이력 생성
      */
     public static ReportHistory createReviewedHistory(
-            String historyId,
+            Long historyId,
             Report report,
             String adminId,
             String comment
@@ -123,7 +148,7 @@ public class ReportHistory {
      * 제재 적용 이력 생성
      */
     public static ReportHistory createSanctionAppliedHistory(
-            String historyId,
+            Long historyId,
             Report report,
             String adminId,
             String comment
@@ -141,7 +166,7 @@ public class ReportHistory {
      * 담당자 할당 이력 생성
      */
     public static ReportHistory createAssignedHistory(
-            String historyId,
+            Long historyId,
             Report report,
             String adminId,
             String comment
@@ -159,7 +184,7 @@ public class ReportHistory {
      * 코멘트 추가 이력 생성
      */
     public static ReportHistory createCommentAddedHistory(
-            String historyId,
+            Long historyId,
             Report report,
             String adminId,
             String comment
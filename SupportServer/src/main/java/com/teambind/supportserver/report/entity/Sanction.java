@@ -15,9 +15,8 @@ import java.time.LocalDateTime;
 @Table(
         name = "sanctions",
         indexes = {
-                @Index(name = "idx_sanctions_target_id", columnList = "target_id"),
-                @Index(name = "idx_sanctions_status", columnList = "status"),
-                @Index(name = "idx_sanctions_expires_at", columnList = "expires_at")
+                @Index(name = "idx_sanctions_target_id_status", columnList = "target_id, status"),
+                @Index(name = "idx_sanctions_status_expires_at", columnList = "status, expires_at")
         }
 )
 @Getter
@@ -27,9 +26,8 @@ import java.time.LocalDateTime;
 public class Sanction {
 
     @Id
-    @Column(length = 100)
-    @Comment("제재 ID")
-    private String sanctionId;
+    @Comment("제재 ID (Snowflake)")
+    private Long sanctionId;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "report_id", nullable = false, foreignKey = @ForeignKey(name = "fk_sanctions_report"))
@@ -0,0 +1,74 @@
+package com.teambind.supportserver.report.entity;
+
+import com.teambind.supportserver.report.entity.enums.OutboxStatus;
+import com.teambind.supportserver.report.entity.enums.SanctionEventType;
+import com.teambind.supportserver.report.entity.enums.SanctionType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 제재 이벤트 아웃박스 엔티티
+ *
+ * <p>제재 변경과 같은 트랜잭션에서 기록되며, 릴레이가 Kafka로 전송한 뒤 SENT로 표시합니다.</p>
+ */
+@Entity
+@Table(
+        name = "sanction_outbox",
+        indexes = {
+                @Index(name = "idx_sanction_outbox_status_event_id", columnList = "status, event_id")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SanctionOutbox {
+
+    @Id
+    @Comment("이벤트 ID (Snowflake, 발생 순서)")
+    private Long eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Comment("이벤트 타입")
+    private SanctionEventType eventType;
+
+    @Column(nullable = false)
+    @Comment("제재 ID")
+    private Long sanctionId;
+
+    @Column(nullable = false, length = 100)
+    @Comment("제재 대상 ID (Kafka 메시지 키)")
+    private String targetId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    @Comment("제재 타입")
+    private SanctionType sanctionType;
+
+    @Column
+    @Comment("제재 만료 일시")
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    @Comment("이벤트 발생 일시")
+    private LocalDateTime occurredAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Comment("전송 상태")
+    @Builder.Default
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(nullable = false)
+    @Comment("전송 시도 횟수")
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column
+    @Comment("전송 완료 일시")
+    private LocalDateTime sentAt;
+}
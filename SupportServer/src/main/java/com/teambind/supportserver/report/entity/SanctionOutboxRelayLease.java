@@ -0,0 +1,35 @@
+package com.teambind.supportserver.report.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 제재 아웃박스 릴레이 임대(lease) 엔티티
+ *
+ * <p>여러 인스턴스 중 임대를 보유한 한 곳만 아웃박스를 릴레이하도록 릴레이 이름별로 한 행을 둡니다.
+ * 보유자는 배치마다 임대를 연장하고, 보유자가 비정상 종료하면 만료 후 다른 인스턴스가 가져갑니다.</p>
+ */
+@Entity
+@Table(name = "sanction_outbox_relay_lease")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SanctionOutboxRelayLease {
+
+    @Id
+    @Column(length = 50)
+    @Comment("릴레이 이름")
+    private String name;
+
+    @Column(nullable = false, length = 64)
+    @Comment("임대 보유 인스턴스")
+    private String owner;
+
+    @Column(nullable = false)
+    @Comment("임대 만료 일시 (DB 시각 기준)")
+    private LocalDateTime leaseUntil;
+}
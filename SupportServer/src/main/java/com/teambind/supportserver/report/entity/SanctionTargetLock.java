@@ -0,0 +1,31 @@
+package com.teambind.supportserver.report.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 제재 대상 잠금 엔티티
+ *
+ * <p>자동 제재 판정(활성 제재 확인 후 생성)을 대상별로 직렬화하기 위해 대상마다 한 행을 둡니다.
+ * 판정 트랜잭션이 이 행을 upsert하여 커밋까지 배타 잠금을 보유합니다.</p>
+ */
+@Entity
+@Table(name = "sanction_target_locks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SanctionTargetLock {
+
+    @Id
+    @Column(length = 100)
+    @Comment("제재 대상 ID")
+    private String targetId;
+
+    @Column(nullable = false)
+    @Comment("마지막 잠금 일시")
+    private LocalDateTime lockedAt;
+}
@@ -0,0 +1,9 @@
+package com.teambind.supportserver.report.entity.enums;
+
+/**
+ * 아웃박스 이벤트 상태
+ */
+public enum OutboxStatus {
+    PENDING,    // 전송 대기
+    SENT        // 전송 완료
+}
@@ -0,0 +1,10 @@
+package com.teambind.supportserver.report.entity.enums;
+
+/**
+ * 제재 이벤트 타입
+ */
+public enum SanctionEventType {
+    APPLIED,    // 제재 적용
+    REVOKED,    // 제재 취소 (해제)
+    EXPIRED     // 제재 만료 (해제)
+}
@@ -0,0 +1,33 @@
+package com.teambind.supportserver.report.event;
+
+import com.teambind.supportserver.report.repository.SanctionTarget;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 제재 만료 이벤트 (대상별 1건)
+ *
+ * @param targetId    제재 대상 ID
+ * @param sanctionIds 이번에 만료된 대상의 제재 ID 목록
+ * @param expiredAt   만료 처리 시각
+ */
+public record SanctionExpiredEvent(String targetId, List<Long> sanctionIds, LocalDateTime expiredAt) {
+
+    /**
+     * 만료 처리된 제재 목록을 대상별 이벤트로 묶음
+     */
+    public static List<SanctionExpiredEvent> groupByTarget(List<SanctionTarget> targets, LocalDateTime expiredAt) {
+        Map<String, List<Long>> sanctionIdsByTarget = new LinkedHashMap<>();
+        for (SanctionTarget target : targets) {
+            sanctionIdsByTarget.computeIfAbsent(target.targetId(), key -> new ArrayList<>()).add(target.sanctionId());
+        }
+        List<SanctionExpiredEvent> events = new ArrayList<>(sanctionIdsByTarget.size());
+        sanctionIdsByTarget.forEach((targetId, sanctionIds) ->
+                events.add(new SanctionExpiredEvent(targetId, List.copyOf(sanctionIds), expiredAt)));
+        return events;
+    }
+}
@@ -0,0 +1,30 @@
+package com.teambind.supportserver.report.event;
+
+import com.teambind.supportserver.report.utils.SanctionBloomFilter;
+import com.teambind.supportserver.report.utils.SanctionStatusCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 제재 만료 이벤트 리스너
+ *
+ * <p>만료된 제재 수만큼 Bloom Filter에서 대상을 제거하고, 제재 상태 캐시를 무효화합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SanctionExpiredEventListener {
+
+    private final SanctionBloomFilter sanctionBloomFilter;
+    private final SanctionStatusCache sanctionStatusCache;
+
+    @EventListener
+    public void onSanctionExpired(SanctionExpiredEvent event) {
+        event.sanctionIds().forEach(sanctionId -> sanctionBloomFilter.remove(event.targetId()));
+        sanctionStatusCache.evict(event.targetId());
+
+        log.debug("Sanction expired: targetId={}, sanctionIds={}", event.targetId(), event.sanctionIds());
+    }
+}
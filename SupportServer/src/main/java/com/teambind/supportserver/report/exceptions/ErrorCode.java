@@ -7,6 +7,10 @@ import org.springframework.http.HttpStatus;
 public enum ErrorCode {
 	REPORT_NOT_FOUND("REPORT_NOT_FOUND", "Report Not Found", HttpStatus.NOT_FOUND),
 	REPORT_CATEGORY_NOT_FOUND("REPORT_CATEGORY_NOT_FOUND", "Report Category Not Found", HttpStatus.NOT_FOUND),
+	REPORT_STATISTICS_NOT_FOUND("REPORT_STATISTICS_NOT_FOUND", "Report Statistics Not Found", HttpStatus.NOT_FOUND),
+	SANCTION_NOT_FOUND("SANCTION_NOT_FOUND", "Sanction Not Found", HttpStatus.NOT_FOUND),
+	REPORT_ALREADY_EXISTS("REPORT_ALREADY_EXISTS", "Report Already Exists", HttpStatus.CONFLICT),
+	INVALID_STATUS_TRANSITION("INVALID_STATUS_TRANSITION", "Invalid Report Status Transition", HttpStatus.BAD_REQUEST),
 	;
 	private final String errCode;
 	private final String message;
@@ -3,12 +3,31 @@ package com.teambind.supportserver.report.repository;
 import com.teambind.supportserver.report.entity.ReportCategory;
 import com.teambind.supportserver.report.entity.embeddable.ReportCategoryId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * 신고 카테고리 리포지토리
  */
 @Repository
 public interface ReportCategoryRepository extends JpaRepository<ReportCategory, ReportCategoryId> {
 
+    /**
+     * 지정 시각 이후 변경된 카테고리 조회 (캐시 증분 동기화용)
+     *
+     * @param since 기준 시각 (포함)
+     * @return 변경된 카테고리 목록
+     */
+    List<ReportCategory> findByUpdatedAtGreaterThanEqual(LocalDateTime since);
+
+    /**
+     * 전체 카테고리 복합키 조회 (캐시 증분 동기화 시 삭제 감지용, PK만 읽음)
+     *
+     * @return 카테고리 복합키 목록
+     */
+    @Query("SELECT c.id FROM ReportCategory c")
+    List<ReportCategoryId> findAllIds();
 }
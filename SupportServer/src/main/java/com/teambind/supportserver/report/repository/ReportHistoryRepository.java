@@ -8,6 +8,6 @@ import org.springframework.stereotype.Repository;
  * 신고 처리 이력 리포지토리
  */
 @Repository
-public interface ReportHistoryRepository extends JpaRepository<ReportHistory, String> {
+public interface ReportHistoryRepository extends JpaRepository<ReportHistory, Long> {
 
 }
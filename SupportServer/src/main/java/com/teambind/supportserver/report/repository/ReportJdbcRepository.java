@@ -0,0 +1,191 @@
+package com.teambind.supportserver.report.repository;
+
+import com.teambind.supportserver.common.utils.IdGenerator;
+import com.teambind.supportserver.report.entity.Report;
+import com.teambind.supportserver.report.entity.enums.ActionType;
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
+import com.teambind.supportserver.report.entity.enums.ReportStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 신고 JDBC 리포지토리
+ *
+ * <p>신고 접수와 일괄 상태 변경처럼 선조회나 엔티티 로딩/더티 체킹이 필요 없는 작업을 SQL로 수행합니다.
+ * 모든 메서드는 호출자의 트랜잭션에 참여하므로 잠금, 상태 변경, 이력 기록이 원자적으로 커밋/롤백됩니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReportJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO report
+                (report_id, reporter_id, reported_id, reference_type, report_category, reason, reported_at, status)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String LOCK_SQL_PREFIX = """
+            SELECT report_id, reporter_id, reference_type, reported_id, status
+            FROM report
+            WHERE report_id IN (""";
+
+    private static final String SELECT_STATUS_KEYS_SQL_PREFIX = """
+            SELECT reporter_id, reference_type, reported_id
+            FROM report
+            WHERE status = ? AND reported_id IN (""";
+
+    private static final String UPDATE_STATUS_SQL_PREFIX =
+            "UPDATE report SET status = ? WHERE report_id IN (";
+
+    private static final String INSERT_HISTORY_SQL = """
+            INSERT INTO report_history
+                (history_id, report_id, admin_id, previous_status, new_status, action_type, comment, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdGenerator idGenerator;
+
+    /**
+     * 신고 접수 (호출자 트랜잭션 참여)
+     *
+     * <p>ID를 애플리케이션에서 할당하므로 JPA {@code save()}의 merge 선조회 없이 INSERT 한 번으로 기록하고,
+     * uk_report_per_user 위반(같은 신고자/대상의 PENDING 신고 존재)은 예외 대신 {@code false}로 반환합니다.
+     * MySQL/MariaDB는 실패한 문장만 롤백하므로 호출자 트랜잭션은 계속 사용할 수 있습니다.
+     * INSERT IGNORE와 달리 길이 초과 등 다른 오류는 경고로 바뀌지 않고 그대로 예외가 됩니다.</p>
+     *
+     * @param report 접수할 신고 (ID, 카테고리, 신고 일시 설정 완료)
+     * @return 기록되었으면 true, 이미 접수된 중복 신고이면 false
+     */
+    @Transactional
+    public boolean insertIfAbsent(Report report) {
+        try {
+            jdbcTemplate.update(INSERT_SQL,
+                    report.getReportId(),
+                    report.getReporterId(),
+                    report.getReportedId(),
+                    report.getReferenceType().name(),
+                    report.getReportCategory(),
+                    report.getReason(),
+                    Timestamp.valueOf(report.getReportedAt()),
+                    report.getStatus().name());
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 신고 행을 기본 키 IN 조회로 잠그고 현재 상태를 조회 (호출자 트랜잭션 참여)
+     *
+     * @param reportIds 신고 ID 목록
+     * @return 존재하는 신고의 현재 상태 (없는 ID는 제외)
+     */
+    @Transactional
+    public List<ReportStatusRow> lockStatuses(Collection<Long> reportIds) {
+        if (reportIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(LOCK_SQL_PREFIX + placeholders(reportIds.size()) + ") FOR UPDATE",
+                (rs, rowNum) -> new ReportStatusRow(
+                        rs.getLong("report_id"),
+                        rs.getString("reporter_id"),
+                        ReferenceType.valueOf(rs.getString("reference_type")),
+                        rs.getString("reported_id"),
+                        ReportStatus.valueOf(rs.getString("status"))),
+                reportIds.toArray());
+    }
+
+    /**
+     * 지정한 상태의 신고 중 신고 대상이 겹치는 행의 유니크 키 조회 (uk_report_per_user 충돌 사전 확인용)
+     *
+     * @param status      상태
+     * @param reportedIds 신고 대상 ID 목록
+     * @return 해당 상태로 이미 존재하는 신고의 {@link ReportStatusRow#uniqueKey()} 집합
+     */
+    public Set<String> findUniqueKeysByStatus(ReportStatus status, Collection<String> reportedIds) {
+        if (reportedIds.isEmpty()) {
+            return Set.of();
+        }
+        Object[] args = new Object[reportedIds.size() + 1];
+        args[0] = status.name();
+        int i = 1;
+        for (String reportedId : reportedIds) {
+            args[i++] = reportedId;
+        }
+        return new HashSet<>(jdbcTemplate.query(SELECT_STATUS_KEYS_SQL_PREFIX + placeholders(reportedIds.size()) + ")",
+                (rs, rowNum) -> ReportStatusRow.uniqueKey(
+                        rs.getString("reporter_id"),
+                        ReferenceType.valueOf(rs.getString("reference_type")),
+                        rs.getString("reported_id")),
+                args));
+    }
+
+    /**
+     * 여러 신고의 상태를 한 번의 UPDATE로 변경 (호출자 트랜잭션 참여)
+     *
+     * @param reportIds 신고 ID 목록
+     * @param status    변경할 상태
+     * @return 변경된 행 수
+     */
+    @Transactional
+    public int updateStatus(Collection<Long> reportIds, ReportStatus status) {
+        if (reportIds.isEmpty()) {
+            return 0;
+        }
+        Object[] args = new Object[reportIds.size() + 1];
+        args[0] = status.name();
+        int i = 1;
+        for (Long reportId : reportIds) {
+            args[i++] = reportId;
+        }
+        return jdbcTemplate.update(UPDATE_STATUS_SQL_PREFIX + placeholders(reportIds.size()) + ")", args);
+    }
+
+    /**
+     * 상태 변경 이력을 JDBC 배치로 기록 (호출자 트랜잭션 참여)
+     *
+     * @param changes   상태가 바뀐 신고 목록 (변경 전 상태 포함)
+     * @param newStatus 변경된 상태
+     * @param adminId   처리한 관리자 ID
+     * @param comment   처리 의견
+     * @param now       기록 시각
+     */
+    @Transactional
+    public void appendStatusHistories(List<ReportStatusRow> changes, ReportStatus newStatus,
+                                      String adminId, String comment, LocalDateTime now) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        // 이력 ID는 시퀀스 구간 예약으로 한 번에 발급
+        long[] historyIds = idGenerator.generateLongIds(changes.size());
+        Timestamp createdAt = Timestamp.valueOf(now);
+        int[] index = {0};
+        jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, changes, changes.size(), (ps, change) -> {
+            ps.setLong(1, historyIds[index[0]++]);
+            ps.setLong(2, change.reportId());
+            ps.setString(3, adminId);
+            ps.setString(4, change.status().name());
+            ps.setString(5, newStatus.name());
+            ps.setString(6, ActionType.STATUS_CHANGED.name());
+            ps.setString(7, comment);
+            ps.setTimestamp(8, createdAt);
+        });
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+}
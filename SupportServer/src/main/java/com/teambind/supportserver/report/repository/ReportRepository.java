@@ -1,13 +1,22 @@
 package com.teambind.supportserver.report.repository;
 
 import com.teambind.supportserver.report.entity.Report;
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
+import com.teambind.supportserver.report.entity.enums.ReportStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 /**
  * 신고 리포지토리
  */
 @Repository
-public interface ReportRepository extends JpaRepository<Report, String>, ReportRepositoryCustom {
+public interface ReportRepository extends JpaRepository<Report, Long>, ReportRepositoryCustom {
 
+    /**
+     * uk_report_per_user 키로 신고 조회 (중복 접수 시 기존 신고 응답용)
+     */
+    Optional<Report> findByReporterIdAndReferenceTypeAndReportedIdAndStatus(
+            String reporterId, ReferenceType referenceType, String reportedId, ReportStatus status);
 }
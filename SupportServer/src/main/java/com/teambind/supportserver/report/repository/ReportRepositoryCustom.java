@@ -1,6 +1,7 @@
 package com.teambind.supportserver.report.repository;
 
 import com.teambind.supportserver.report.dto.request.ReportSearchRequest;
+import com.teambind.supportserver.report.dto.response.ReportResponse;
 import com.teambind.supportserver.report.entity.Report;
 
 import java.util.List;
@@ -18,6 +19,17 @@ public interface ReportRepositoryCustom {
      */
     List<Report> findReportsWithCursor(ReportSearchRequest searchRequest);
 
+    /**
+     * 커서 기반 페이징으로 신고 목록 조회 (DTO 프로젝션)
+     *
+     * <p>엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 조회하여
+     * ReportResponse로 바로 매핑합니다. (프록시/컬렉션 래퍼/스냅샷 생성 없음)</p>
+     *
+     * @param searchRequest 검색 조건 (필터, 정렬, 커서)
+     * @return 신고 응답 목록 (size + 1개)
+     */
+    List<ReportResponse> findReportResponsesWithCursor(ReportSearchRequest searchRequest);
+
     /**
      * 신고자 ID로 신고 목록 조회
      *
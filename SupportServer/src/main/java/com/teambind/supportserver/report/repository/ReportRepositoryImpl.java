@@ -1,12 +1,15 @@
 package com.teambind.supportserver.report.repository;
 
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.teambind.supportserver.report.dto.request.ReportSearchRequest;
+import com.teambind.supportserver.report.dto.response.ReportResponse;
 import com.teambind.supportserver.report.entity.Report;
 import com.teambind.supportserver.report.entity.enums.ReferenceType;
 import com.teambind.supportserver.report.entity.enums.ReportStatus;
+import com.teambind.supportserver.report.utils.ReportCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
@@ -42,6 +45,29 @@ public class ReportRepositoryImpl implements ReportRepositoryCustom {
                 .fetch();
     }
 
+    @Override
+    public List<ReportResponse> findReportResponsesWithCursor(ReportSearchRequest searchRequest) {
+        BooleanExpression predicate = buildPredicate(searchRequest);
+        OrderSpecifier<?>[] orderSpecifiers = buildOrderSpecifiers(searchRequest);
+
+        // 엔티티 대신 생성자 프로젝션으로 조회 (영속성 컨텍스트 미사용)
+        return queryFactory
+                .select(Projections.constructor(ReportResponse.class,
+                        report.reportId,
+                        report.reporterId,
+                        report.reportedId,
+                        report.referenceType,
+                        report.reportCategory,
+                        report.reason,
+                        report.reportedAt,
+                        report.status))
+                .from(report)
+                .where(predicate)
+                .orderBy(orderSpecifiers)
+                .limit(searchRequest.getSize() + 1)
+                .fetch();
+    }
+
     @Override
     public List<Report> findByReporterId(String reporterId) {
         return queryFactory
@@ -61,9 +87,9 @@ public class ReportRepositoryImpl implements ReportRepositoryCustom {
     }
 
     /**
-     * 검색 조건에 따른 Where 절 구성
+     * 검색 조건에 따른 Where 절 구성 (벤치마크에서 직접 호출하므로 package-private)
      */
-    private BooleanExpression buildPredicate(ReportSearchRequest searchRequest) {
+    BooleanExpression buildPredicate(ReportSearchRequest searchRequest) {
         BooleanExpression predicate = null;
 
         // 상태 필터
@@ -91,37 +117,43 @@ public class ReportRepositoryImpl implements ReportRepositoryCustom {
 
     /**
      * 커서 조건 구성
+     *
+     * <p>정렬 키와 reportId의 튜플 비교(keyset)로 구성하여 정렬 순서와 정확히 일치시킵니다.
+     * 예) DESC: reportedAt &lt; :at OR (reportedAt = :at AND reportId &lt; :id)</p>
+     * <p>복합 인덱스 (reported_at, report_id), (status, report_id)를 타므로
+     * 페이지 깊이와 무관하게 인덱스 범위 스캔으로 처리됩니다.</p>
      */
     private BooleanExpression buildCursorCondition(ReportSearchRequest searchRequest) {
-        String cursor = searchRequest.getCursor();
         ReportSearchRequest.SortType sortType = searchRequest.getSortType();
-        ReportSearchRequest.SortDirection direction = searchRequest.getSortDirection();
+        boolean desc = searchRequest.getSortDirection() == ReportSearchRequest.SortDirection.DESC;
 
-        try {
-            if (sortType == ReportSearchRequest.SortType.REPORTED_AT) {
-                // 신고일 기준 커서
-                LocalDateTime cursorDateTime = LocalDateTime.parse(cursor);
-                return direction == ReportSearchRequest.SortDirection.DESC
-                        ? report.reportedAt.lt(cursorDateTime)
-                        : report.reportedAt.gt(cursorDateTime);
-            } else if (sortType == ReportSearchRequest.SortType.STATUS) {
-                // 상태 기준 커서 (reportId를 보조 키로 사용)
-                return direction == ReportSearchRequest.SortDirection.DESC
-                        ? report.reportId.lt(cursor)
-                        : report.reportId.gt(cursor);
-            }
-        } catch (Exception e) {
-            // 커서 파싱 실패 시 무시
+        // 커서 파싱 실패 시 무시
+        ReportCursor cursor = ReportCursor.decode(searchRequest.getCursor(), sortType).orElse(null);
+        if (cursor == null) {
             return null;
         }
 
-        return null;
+        BooleanExpression idCondition = desc
+                ? report.reportId.lt(cursor.getReportId())
+                : report.reportId.gt(cursor.getReportId());
+
+        if (sortType == ReportSearchRequest.SortType.STATUS) {
+            // 상태 기준 커서 (status, reportId)
+            ReportStatus cursorStatus = cursor.getStatus();
+            return (desc ? report.status.lt(cursorStatus) : report.status.gt(cursorStatus))
+                    .or(report.status.eq(cursorStatus).and(idCondition));
+        }
+
+        // 신고일 기준 커서 (reportedAt, reportId)
+        LocalDateTime cursorDateTime = cursor.getReportedAt();
+        return (desc ? report.reportedAt.lt(cursorDateTime) : report.reportedAt.gt(cursorDateTime))
+                .or(report.reportedAt.eq(cursorDateTime).and(idCondition));
     }
 
     /**
-     * 정렬 조건 구성
+     * 정렬 조건 구성 (벤치마크에서 직접 호출하므로 package-private)
      */
-    private OrderSpecifier<?>[] buildOrderSpecifiers(ReportSearchRequest searchRequest) {
+    OrderSpecifier<?>[] buildOrderSpecifiers(ReportSearchRequest searchRequest) {
         List<OrderSpecifier<?>> orders = new ArrayList<>();
         ReportSearchRequest.SortType sortType = searchRequest.getSortType();
         ReportSearchRequest.SortDirection direction = searchRequest.getSortDirection();
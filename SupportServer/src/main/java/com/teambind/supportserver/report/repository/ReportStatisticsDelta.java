@@ -0,0 +1,25 @@
+package com.teambind.supportserver.report.repository;
+
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 신고 통계 증분 (write-behind 배치 반영 단위)
+ *
+ * <p>(referenceType, reportedId, reportCategory) 키별로 메모리에서 누적된 신고 횟수 증분입니다.</p>
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ReportStatisticsDelta {
+
+    private final ReferenceType referenceType;
+    private final String reportedId;
+    private final String reportCategory;
+    private final long delta;
+    private final LocalDateTime lastReportedAt;
+}
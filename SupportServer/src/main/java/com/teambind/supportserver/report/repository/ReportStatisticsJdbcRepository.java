@@ -0,0 +1,54 @@
+package com.teambind.supportserver.report.repository;
+
+import com.teambind.supportserver.common.utils.IdGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 신고 통계 JDBC 리포지토리
+ *
+ * <p>메모리에 누적된 증분을 키당 한 번의 upsert로 반영합니다.
+ * 행을 읽지 않고 DB에서 원자적으로 더하므로(read-modify-write 없음) 여러 인스턴스가 동시에 반영해도 안전합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReportStatisticsJdbcRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO report_statistics
+                (stat_id, reference_type, reported_id, report_category, report_count, last_reported_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                report_count = report_count + VALUES(report_count),
+                last_reported_at = GREATEST(last_reported_at, VALUES(last_reported_at))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdGenerator idGenerator;
+
+    /**
+     * 증분 목록을 JDBC 배치로 반영 (단일 트랜잭션)
+     *
+     * @param deltas 키별 증분 목록
+     */
+    @Transactional
+    public void batchIncrement(List<ReportStatisticsDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setString(1, idGenerator.generateId());
+            ps.setString(2, delta.getReferenceType().name());
+            ps.setString(3, delta.getReportedId());
+            ps.setString(4, delta.getReportCategory());
+            ps.setLong(5, delta.getDelta());
+            ps.setTimestamp(6, Timestamp.valueOf(delta.getLastReportedAt()));
+        });
+    }
+}
@@ -1,13 +1,35 @@
 package com.teambind.supportserver.report.repository;
 
 import com.teambind.supportserver.report.entity.ReportStatistics;
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
  * 신고 통계 집계 리포지토리
  */
 @Repository
 public interface ReportStatisticsRepository extends JpaRepository<ReportStatistics, String> {
 
+    /**
+     * 통계 키로 조회
+     */
+    Optional<ReportStatistics> findByReferenceTypeAndReportedIdAndReportCategory(
+            ReferenceType referenceType, String reportedId, String reportCategory);
+
+    /**
+     * 신고 대상 ID로 카테고리별 통계 조회
+     */
+    List<ReportStatistics> findByReportedId(String reportedId);
+
+    /**
+     * 신고 대상의 총 신고 횟수 조회
+     */
+    @Query("select coalesce(sum(s.reportCount), 0) from ReportStatistics s where s.reportedId = :reportedId")
+    long sumReportCountByReportedId(@Param("reportedId") String reportedId);
 }
@@ -0,0 +1,30 @@
+package com.teambind.supportserver.report.repository;
+
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
+import com.teambind.supportserver.report.entity.enums.ReportStatus;
+
+/**
+ * 신고 상태 프로젝션 (일괄 상태 변경용)
+ *
+ * <p>uk_report_per_user 충돌 확인을 위해 유니크 키 구성 컬럼을 함께 담습니다.</p>
+ *
+ * @param reportId      신고 ID
+ * @param reporterId    신고자 ID
+ * @param referenceType 신고 대상 타입
+ * @param reportedId    신고 대상 ID
+ * @param status        현재 상태
+ */
+public record ReportStatusRow(long reportId, String reporterId, ReferenceType referenceType,
+                              String reportedId, ReportStatus status) {
+
+    /**
+     * uk_report_per_user 키에서 상태를 제외한 부분
+     */
+    public String uniqueKey() {
+        return uniqueKey(reporterId, referenceType, reportedId);
+    }
+
+    static String uniqueKey(String reporterId, ReferenceType referenceType, String reportedId) {
+        return reporterId + '\u0000' + referenceType + '\u0000' + reportedId;
+    }
+}
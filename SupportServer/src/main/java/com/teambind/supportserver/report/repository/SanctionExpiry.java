@@ -0,0 +1,13 @@
+package com.teambind.supportserver.report.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 예정 제재 프로젝션
+ *
+ * @param sanctionId 제재 ID
+ * @param targetId   제재 대상 ID
+ * @param expiresAt  만료 일시
+ */
+public record SanctionExpiry(Long sanctionId, String targetId, LocalDateTime expiresAt) {
+}
@@ -0,0 +1,205 @@
+package com.teambind.supportserver.report.repository;
+
+import com.teambind.supportserver.report.entity.enums.SanctionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 제재 JDBC 리포지토리
+ *
+ * <p>만료 처리처럼 다수의 행을 한 번에 바꾸는 작업을 엔티티 로딩/더티 체킹 없이 SQL로 수행합니다.
+ * 만료 처리 시 제재 이벤트 아웃박스도 같은 트랜잭션에서 기록합니다.
+ * 조회 조건은 모두 (status, expires_at) 복합 인덱스를 타도록 작성되어 있습니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class SanctionJdbcRepository {
+
+    private static final String SELECT_OVERDUE_SQL = """
+            SELECT sanction_id, target_id
+            FROM sanctions
+            WHERE status = 'ACTIVE' AND expires_at <= ?
+            ORDER BY expires_at
+            LIMIT ?
+            FOR UPDATE
+            """;
+
+    private static final String SELECT_DUE_BY_IDS_SQL_PREFIX = """
+            SELECT sanction_id, target_id
+            FROM sanctions
+            WHERE status = 'ACTIVE' AND expires_at <= ? AND sanction_id IN (""";
+
+    private static final String SELECT_UPCOMING_SQL = """
+            SELECT sanction_id, target_id, expires_at
+            FROM sanctions
+            WHERE status = 'ACTIVE'
+              AND (expires_at > ? OR (expires_at = ? AND sanction_id > ?))
+              AND expires_at <= ?
+            ORDER BY expires_at, sanction_id
+            LIMIT ?
+            """;
+
+    private static final String EXPIRE_SQL_PREFIX =
+            "UPDATE sanctions SET status = 'EXPIRED' WHERE status = 'ACTIVE' AND sanction_id IN (";
+
+    private static final String LOCK_TARGET_SQL = """
+            INSERT INTO sanction_target_locks (target_id, locked_at)
+            VALUES (?, ?)
+            ON DUPLICATE KEY UPDATE locked_at = VALUES(locked_at)
+            """;
+
+    private static final String EXISTS_ACTIVE_FOR_UPDATE_SQL = """
+            SELECT sanction_id
+            FROM sanctions
+            WHERE target_id = ? AND status = 'ACTIVE' AND sanction_type = ?
+            LIMIT 1
+            FOR UPDATE
+            """;
+
+    private static final String OLDEST_OVERDUE_SQL = """
+            SELECT MIN(expires_at)
+            FROM sanctions
+            WHERE status = 'ACTIVE' AND expires_at <= ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SanctionOutboxJdbcRepository sanctionOutboxJdbcRepository;
+
+    /**
+     * 만료 시각이 지난 활성 제재를 최대 limit건 만료 처리 (짧은 단일 트랜잭션)
+     *
+     * <p>대상 행을 인덱스 순서대로 잠근 뒤 한 번의 UPDATE로 상태를 바꿉니다.
+     * 잠금 범위가 청크 크기로 제한되므로 다른 트랜잭션의 대기 시간도 짧게 유지됩니다.</p>
+     *
+     * @param now   기준 시각
+     * @param limit 청크 크기
+     * @return 만료 처리된 제재 목록
+     */
+    @Transactional
+    public List<SanctionTarget> expireChunk(LocalDateTime now, int limit) {
+        List<SanctionTarget> targets = jdbcTemplate.query(SELECT_OVERDUE_SQL,
+                (rs, rowNum) -> new SanctionTarget(rs.getLong("sanction_id"), rs.getString("target_id")),
+                Timestamp.valueOf(now), limit);
+        if (targets.isEmpty()) {
+            return targets;
+        }
+
+        expire(targets, now);
+        return targets;
+    }
+
+    /**
+     * 지정한 제재 중 만료 시각이 지난 활성 제재만 만료 처리 (짧은 단일 트랜잭션)
+     *
+     * <p>그 사이 취소되었거나 이미 만료 처리된 제재는 제외됩니다.</p>
+     *
+     * @param sanctionIds 제재 ID 목록
+     * @param now         기준 시각
+     * @return 실제로 만료 처리된 제재 목록
+     */
+    @Transactional
+    public List<SanctionTarget> expireDue(List<Long> sanctionIds, LocalDateTime now) {
+        if (sanctionIds.isEmpty()) {
+            return List.of();
+        }
+        Object[] args = new Object[sanctionIds.size() + 1];
+        args[0] = Timestamp.valueOf(now);
+        for (int i = 0; i < sanctionIds.size(); i++) {
+            args[i + 1] = sanctionIds.get(i);
+        }
+        List<SanctionTarget> targets = jdbcTemplate.query(
+                SELECT_DUE_BY_IDS_SQL_PREFIX + placeholders(sanctionIds.size()) + ") FOR UPDATE",
+                (rs, rowNum) -> new SanctionTarget(rs.getLong("sanction_id"), rs.getString("target_id")),
+                args);
+        if (targets.isEmpty()) {
+            return targets;
+        }
+
+        expire(targets, now);
+        return targets;
+    }
+
+    /**
+     * 만료 예정 활성 제재를 (expires_at, sanction_id) 키셋 순서로 조회
+     *
+     * @param afterExpiresAt  직전 청크 마지막 만료 시각 (키셋 커서)
+     * @param afterSanctionId 직전 청크 마지막 제재 ID (키셋 커서)
+     * @param until           조회 상한 만료 시각 (inclusive)
+     * @param limit           청크 크기
+     * @return 만료 예정 제재 목록
+     */
+    public List<SanctionExpiry> findUpcoming(LocalDateTime afterExpiresAt, long afterSanctionId,
+                                             LocalDateTime until, int limit) {
+        Timestamp after = Timestamp.valueOf(afterExpiresAt);
+        return jdbcTemplate.query(SELECT_UPCOMING_SQL,
+                (rs, rowNum) -> new SanctionExpiry(
+                        rs.getLong("sanction_id"),
+                        rs.getString("target_id"),
+                        rs.getTimestamp("expires_at").toLocalDateTime()),
+                after, after, afterSanctionId, Timestamp.valueOf(until), limit);
+    }
+
+    /**
+     * 대상 잠금 (호출자 트랜잭션이 끝날 때까지 같은 대상의 잠금 요청을 대기시킴)
+     *
+     * <p>대상 잠금 행을 upsert하여 행 배타 잠금을 얻습니다. 행이 아직 없어도 동시에 삽입하는 쪽은 중복 키에서
+     * 대기하므로, 활성 제재 확인 후 생성하는 구간이 대상별로 직렬화됩니다.</p>
+     *
+     * @param targetId 제재 대상 ID
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lockTarget(String targetId) {
+        jdbcTemplate.update(LOCK_TARGET_SQL, targetId, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * 대상에게 같은 타입의 활성 제재가 있는지 잠금 읽기로 확인
+     *
+     * <p>일관된 읽기(스냅샷)는 대상 잠금을 기다리는 동안 다른 트랜잭션이 커밋한 제재를 보지 못할 수 있으므로,
+     * 최신 커밋 기준으로 읽는 잠금 읽기를 사용합니다. {@link #lockTarget(String)} 이후에 호출합니다.</p>
+     *
+     * @param targetId     제재 대상 ID
+     * @param sanctionType 제재 타입
+     * @return 활성 제재 존재 여부
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean existsActiveForUpdate(String targetId, SanctionType sanctionType) {
+        return !jdbcTemplate.queryForList(EXISTS_ACTIVE_FOR_UPDATE_SQL, Long.class, targetId, sanctionType.name())
+                .isEmpty();
+    }
+
+    /**
+     * 아직 만료 처리되지 않은 가장 오래된 만료 시각 조회 (만료 작업 지연 측정용)
+     *
+     * @param now 기준 시각
+     * @return 가장 오래된 미처리 만료 시각 (없으면 empty)
+     */
+    public Optional<LocalDateTime> findOldestOverdueExpiresAt(LocalDateTime now) {
+        Timestamp oldest = jdbcTemplate.queryForObject(OLDEST_OVERDUE_SQL, Timestamp.class, Timestamp.valueOf(now));
+        return Optional.ofNullable(oldest).map(Timestamp::toLocalDateTime);
+    }
+
+    /**
+     * 상태 변경과 만료 이벤트 아웃박스 기록을 같은 트랜잭션에서 수행
+     */
+    private void expire(List<SanctionTarget> targets, LocalDateTime now) {
+        String sql = EXPIRE_SQL_PREFIX + placeholders(targets.size()) + ")";
+        jdbcTemplate.update(sql, targets.stream().map(SanctionTarget::sanctionId).toArray());
+        sanctionOutboxJdbcRepository.append(targets.stream()
+                .map(target -> SanctionOutboxMessage.expired(target, now))
+                .toList());
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,224 @@
+package com.teambind.supportserver.report.repository;
+
+import com.teambind.supportserver.common.utils.IdGenerator;
+import com.teambind.supportserver.report.entity.enums.SanctionEventType;
+import com.teambind.supportserver.report.entity.enums.SanctionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 제재 아웃박스 JDBC 리포지토리
+ *
+ * <p>기록은 호출자의 트랜잭션에 참여하므로 제재 변경과 원자적으로 커밋/롤백됩니다.
+ * 릴레이 조회는 (status, event_id) 인덱스 순서로 수행됩니다.</p>
+ *
+ * <p>릴레이 임대는 인스턴스 간 시계 차이의 영향을 받지 않도록 DB 시각으로 만료를 판정합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class SanctionOutboxJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO sanction_outbox
+                (event_id, event_type, sanction_id, target_id, sanction_type, expires_at, occurred_at, status, attempts)
+            VALUES (?, ?, ?, ?, ?, ?, ?, 'PENDING', 0)
+            """;
+
+    private static final String SELECT_PENDING_SQL = """
+            SELECT event_id, event_type, sanction_id, target_id, sanction_type, expires_at, occurred_at
+            FROM sanction_outbox
+            WHERE status = 'PENDING'
+            ORDER BY event_id
+            LIMIT ?
+            """;
+
+    private static final String MARK_SENT_SQL_PREFIX =
+            "UPDATE sanction_outbox SET status = 'SENT', sent_at = ? WHERE status = 'PENDING' AND event_id IN (";
+
+    private static final String INCREMENT_ATTEMPTS_SQL_PREFIX =
+            "UPDATE sanction_outbox SET attempts = attempts + 1 WHERE event_id IN (";
+
+    private static final String COUNT_PENDING_SQL = "SELECT COUNT(*) FROM sanction_outbox WHERE status = 'PENDING'";
+
+    private static final String OLDEST_PENDING_SQL =
+            "SELECT MIN(occurred_at) FROM sanction_outbox WHERE status = 'PENDING'";
+
+    private static final String DELETE_SENT_SQL =
+            "DELETE FROM sanction_outbox WHERE status = 'SENT' AND sent_at < ? LIMIT ?";
+
+    private static final String RENEW_LEASE_SQL = """
+            UPDATE sanction_outbox_relay_lease
+            SET owner = ?, lease_until = TIMESTAMPADD(MICROSECOND, ?, LOCALTIMESTAMP(6))
+            WHERE name = ? AND (owner = ? OR lease_until < LOCALTIMESTAMP(6))
+            """;
+
+    private static final String INSERT_LEASE_SQL = """
+            INSERT INTO sanction_outbox_relay_lease (name, owner, lease_until)
+            VALUES (?, ?, TIMESTAMPADD(MICROSECOND, ?, LOCALTIMESTAMP(6)))
+            """;
+
+    private static final String RELEASE_LEASE_SQL =
+            "UPDATE sanction_outbox_relay_lease SET lease_until = LOCALTIMESTAMP(6) WHERE name = ? AND owner = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdGenerator idGenerator;
+
+    /**
+     * 아웃박스 기록 (호출자 트랜잭션 참여)
+     *
+     * @param messages 기록할 메시지 목록 (eventId는 무시하고 새로 발급)
+     */
+    @Transactional
+    public void append(List<SanctionOutboxMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        // 이벤트 ID는 시퀀스 구간 예약으로 한 번에 발급 (발생 순서 = 목록 순서)
+        long[] eventIds = idGenerator.generateLongIds(messages.size());
+        int[] index = {0};
+        jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(), (ps, message) -> {
+            ps.setLong(1, eventIds[index[0]++]);
+            ps.setString(2, message.eventType().name());
+            ps.setLong(3, message.sanctionId());
+            ps.setString(4, message.targetId());
+            if (message.sanctionType() != null) {
+                ps.setString(5, message.sanctionType().name());
+            } else {
+                ps.setNull(5, Types.VARCHAR);
+            }
+            if (message.expiresAt() != null) {
+                ps.setTimestamp(6, Timestamp.valueOf(message.expiresAt()));
+            } else {
+                ps.setNull(6, Types.TIMESTAMP);
+            }
+            ps.setTimestamp(7, Timestamp.valueOf(message.occurredAt()));
+        });
+    }
+
+    /**
+     * 전송 대기 이벤트를 발생 순서대로 조회
+     *
+     * @param limit 최대 조회 건수
+     * @return 전송 대기 메시지 목록
+     */
+    public List<SanctionOutboxMessage> findPending(int limit) {
+        return jdbcTemplate.query(SELECT_PENDING_SQL, (rs, rowNum) -> {
+            String sanctionType = rs.getString("sanction_type");
+            Timestamp expiresAt = rs.getTimestamp("expires_at");
+            return new SanctionOutboxMessage(
+                    rs.getLong("event_id"),
+                    SanctionEventType.valueOf(rs.getString("event_type")),
+                    rs.getLong("sanction_id"),
+                    rs.getString("target_id"),
+                    sanctionType != null ? SanctionType.valueOf(sanctionType) : null,
+                    expiresAt != null ? expiresAt.toLocalDateTime() : null,
+                    rs.getTimestamp("occurred_at").toLocalDateTime());
+        }, limit);
+    }
+
+    /**
+     * 전송 완료 표시
+     */
+    @Transactional
+    public int markSent(List<Long> eventIds, LocalDateTime sentAt) {
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+        Object[] args = new Object[eventIds.size() + 1];
+        args[0] = Timestamp.valueOf(sentAt);
+        for (int i = 0; i < eventIds.size(); i++) {
+            args[i + 1] = eventIds.get(i);
+        }
+        return jdbcTemplate.update(MARK_SENT_SQL_PREFIX + placeholders(eventIds.size()) + ")", args);
+    }
+
+    /**
+     * 전송 실패 횟수 증가
+     */
+    @Transactional
+    public void incrementAttempts(List<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(INCREMENT_ATTEMPTS_SQL_PREFIX + placeholders(eventIds.size()) + ")", eventIds.toArray());
+    }
+
+    /**
+     * 전송 대기 이벤트 수
+     */
+    public long countPending() {
+        Long count = jdbcTemplate.queryForObject(COUNT_PENDING_SQL, Long.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 가장 오래된 전송 대기 이벤트의 발생 일시
+     */
+    public Optional<LocalDateTime> findOldestPendingOccurredAt() {
+        Timestamp oldest = jdbcTemplate.queryForObject(OLDEST_PENDING_SQL, Timestamp.class);
+        return Optional.ofNullable(oldest).map(Timestamp::toLocalDateTime);
+    }
+
+    /**
+     * 보관 기간이 지난 전송 완료 이벤트 삭제
+     *
+     * @param before 기준 일시 (이전에 전송된 이벤트 삭제)
+     * @param limit  최대 삭제 건수
+     * @return 삭제된 건수
+     */
+    @Transactional
+    public int deleteSentBefore(LocalDateTime before, int limit) {
+        return jdbcTemplate.update(DELETE_SENT_SQL, Timestamp.valueOf(before), limit);
+    }
+
+    /**
+     * 릴레이 임대 획득 또는 연장
+     *
+     * <p>임대가 비어 있거나 만료되었거나 이미 자신이 보유 중이면 만료 시각을 지금부터 {@code leaseMs} 후로 설정합니다.
+     * 다른 인스턴스가 유효한 임대를 보유 중이면 false를 반환합니다.</p>
+     *
+     * @param name    릴레이 이름
+     * @param owner   인스턴스 식별자
+     * @param leaseMs 임대 기간(ms)
+     * @return 임대 보유 여부
+     */
+    @Transactional
+    public boolean tryAcquireRelayLease(String name, String owner, long leaseMs) {
+        long leaseMicros = leaseMs * 1_000;
+        if (jdbcTemplate.update(RENEW_LEASE_SQL, owner, leaseMicros, name, owner) > 0) {
+            return true;
+        }
+        try {
+            return jdbcTemplate.update(INSERT_LEASE_SQL, name, owner, leaseMicros) > 0;
+        } catch (DuplicateKeyException e) {
+            // 다른 인스턴스가 보유 중 (또는 동시에 최초 행을 생성)
+            return false;
+        }
+    }
+
+    /**
+     * 자신이 보유한 릴레이 임대를 즉시 만료 (종료 시 다른 인스턴스가 바로 이어받도록)
+     *
+     * @param name  릴레이 이름
+     * @param owner 인스턴스 식별자
+     */
+    @Transactional
+    public void releaseRelayLease(String name, String owner) {
+        jdbcTemplate.update(RELEASE_LEASE_SQL, name, owner);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,51 @@
+package com.teambind.supportserver.report.repository;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.teambind.supportserver.report.entity.Sanction;
+import com.teambind.supportserver.report.entity.enums.SanctionEventType;
+import com.teambind.supportserver.report.entity.enums.SanctionType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 제재 아웃박스 메시지 (Kafka 전송 페이로드)
+ *
+ * @param eventId      이벤트 ID (기록 전에는 null, 소비자 멱등 처리 키)
+ * @param eventType    이벤트 타입
+ * @param sanctionId   제재 ID (페이로드에서는 문자열로 직렬화)
+ * @param targetId     제재 대상 ID
+ * @param sanctionType 제재 타입 (만료 이벤트는 null)
+ * @param expiresAt    제재 만료 일시
+ * @param occurredAt   이벤트 발생 일시
+ */
+public record SanctionOutboxMessage(Long eventId, SanctionEventType eventType,
+                                    @JsonFormat(shape = JsonFormat.Shape.STRING) Long sanctionId, String targetId,
+                                    SanctionType sanctionType, LocalDateTime expiresAt, LocalDateTime occurredAt) {
+
+    /**
+     * 제재 적용 이벤트
+     */
+    public static SanctionOutboxMessage applied(Sanction sanction) {
+        return of(SanctionEventType.APPLIED, sanction);
+    }
+
+    /**
+     * 제재 취소 이벤트
+     */
+    public static SanctionOutboxMessage revoked(Sanction sanction) {
+        return of(SanctionEventType.REVOKED, sanction);
+    }
+
+    /**
+     * 제재 만료 이벤트
+     */
+    public static SanctionOutboxMessage expired(SanctionTarget target, LocalDateTime expiredAt) {
+        return new SanctionOutboxMessage(null, SanctionEventType.EXPIRED, target.sanctionId(), target.targetId(),
+                null, null, expiredAt);
+    }
+
+    private static SanctionOutboxMessage of(SanctionEventType eventType, Sanction sanction) {
+        return new SanctionOutboxMessage(null, eventType, sanction.getSanctionId(), sanction.getTargetId(),
+                sanction.getSanctionType(), sanction.getExpiresAt(), LocalDateTime.now());
+    }
+}
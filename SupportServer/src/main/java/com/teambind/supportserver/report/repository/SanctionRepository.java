@@ -1,13 +1,58 @@
 package com.teambind.supportserver.report.repository;
 
 import com.teambind.supportserver.report.entity.Sanction;
+import com.teambind.supportserver.report.entity.enums.SanctionStatus;
+import com.teambind.supportserver.report.entity.enums.SanctionType;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
  * 제재 리포지토리
  */
 @Repository
-public interface SanctionRepository extends JpaRepository<Sanction, String> {
+public interface SanctionRepository extends JpaRepository<Sanction, Long> {
+
+    /**
+     * 제재 조회 (행 쓰기 잠금 - 만료 작업과의 상태 전이 경합 방지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from Sanction s where s.sanctionId = :sanctionId")
+    Optional<Sanction> findByIdForUpdate(@Param("sanctionId") Long sanctionId);
+
+    /**
+     * 대상의 특정 상태 제재 조회
+     */
+    List<Sanction> findByTargetIdAndStatus(String targetId, SanctionStatus status);
+
+    /**
+     * 대상의 전체 제재 이력 조회 (최신순)
+     */
+    List<Sanction> findByTargetIdOrderBySanctionedAtDesc(String targetId);
+
+    /**
+     * 대상에게 동일 타입의 특정 상태 제재가 있는지 확인
+     */
+    boolean existsByTargetIdAndSanctionTypeAndStatus(String targetId, SanctionType sanctionType, SanctionStatus status);
+
+    /**
+     * 특정 상태 제재 수 조회
+     */
+    long countByStatus(SanctionStatus status);
 
+    /**
+     * 특정 상태 제재 대상을 sanctionId 키셋으로 청크 조회
+     */
+    @Query("select new com.teambind.supportserver.report.repository.SanctionTarget(s.sanctionId, s.targetId) " +
+            "from Sanction s where s.status = :status and s.sanctionId > :afterId order by s.sanctionId")
+    List<SanctionTarget> findTargetsByStatusAfter(@Param("status") SanctionStatus status,
+                                                  @Param("afterId") Long afterId,
+                                                  Pageable pageable);
 }
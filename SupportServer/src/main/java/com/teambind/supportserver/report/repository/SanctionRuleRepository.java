@@ -4,10 +4,16 @@ import com.teambind.supportserver.report.entity.SanctionRule;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * 제재 규칙 리포지토리
  */
 @Repository
 public interface SanctionRuleRepository extends JpaRepository<SanctionRule, String> {
 
+    /**
+     * 활성 규칙 전체 조회
+     */
+    List<SanctionRule> findByIsActiveTrue();
 }
@@ -0,0 +1,10 @@
+package com.teambind.supportserver.report.repository;
+
+/**
+ * 제재 대상 프로젝션 (Bloom Filter 재구성용 청크 조회)
+ *
+ * @param sanctionId 제재 ID (키셋 커서)
+ * @param targetId   제재 대상 ID
+ */
+public record SanctionTarget(Long sanctionId, String targetId) {
+}
@@ -2,6 +2,7 @@ package com.teambind.supportserver.report.service;
 
 import com.teambind.supportserver.report.dto.request.ReportRequest;
 import com.teambind.supportserver.report.dto.request.ReportSearchRequest;
+import com.teambind.supportserver.report.dto.response.ReportBulkStatusUpdateResponse;
 import com.teambind.supportserver.report.dto.response.CursorPageResponse;
 import com.teambind.supportserver.report.dto.response.ReportResponse;
 import com.teambind.supportserver.report.entity.Report;
@@ -22,10 +23,13 @@ public interface ReportService {
     /**
      * 신고 등록 (DTO)
      *
+     * <p>같은 신고자/대상의 PENDING 신고가 이미 있으면 새로 만들지 않고 기존 신고를
+     * {@code duplicate = true}로 표시해 반환합니다 (멱등).</p>
+     *
      * @param request 신고 요청 DTO
-     * @return 등록된 신고 엔티티
+     * @return 등록된 신고 (중복 제출이면 기존 신고)
      */
-    Report createReport(ReportRequest request);
+    ReportResponse createReport(ReportRequest request);
 
     /**
      * 신고 상세 조회
@@ -77,6 +81,21 @@ public interface ReportService {
      */
     void updateReportStatus(String reportId, ReportStatus newStatus, String adminId, String comment);
 
+    /**
+     * 신고 일괄 상태 변경 (히스토리 일괄 생성)
+     *
+     * <p>대상 신고를 한 번의 IN 조회로 잠근 뒤 전이 가능 여부를 메모리에서 판단하고,
+     * 변경 대상만 한 번의 UPDATE와 이력 배치 INSERT로 반영합니다.</p>
+     *
+     * @param reportIds 신고 ID 목록
+     * @param newStatus 변경할 상태 (철회는 신고자만 가능하므로 불가)
+     * @param adminId   처리한 관리자 ID
+     * @param comment   변경 사유/코멘트
+     * @return ID별 처리 결과
+     */
+    ReportBulkStatusUpdateResponse bulkUpdateReportStatus(List<String> reportIds, ReportStatus newStatus,
+                                                          String adminId, String comment);
+
     /**
      * 신고 승인 및 제재 적용
      *
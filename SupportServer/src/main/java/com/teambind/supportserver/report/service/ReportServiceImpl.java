@@ -3,6 +3,8 @@ package com.teambind.supportserver.report.service;
 import com.teambind.supportserver.report.dto.request.ReportRequest;
 import com.teambind.supportserver.report.dto.request.ReportSearchRequest;
 import com.teambind.supportserver.report.dto.response.CursorPageResponse;
+import com.teambind.supportserver.report.dto.response.ReportBulkStatusUpdateResponse;
+import com.teambind.supportserver.report.dto.response.ReportBulkStatusUpdateResponse.Outcome;
 import com.teambind.supportserver.report.dto.response.ReportResponse;
 import com.teambind.supportserver.report.entity.Report;
 import com.teambind.supportserver.report.entity.ReportCategory;
@@ -10,15 +12,34 @@ import com.teambind.supportserver.report.entity.enums.ReferenceType;
 import com.teambind.supportserver.report.entity.enums.ReportStatus;
 import com.teambind.supportserver.report.exceptions.ErrorCode;
 import com.teambind.supportserver.report.exceptions.ReportException;
+import com.teambind.supportserver.report.repository.ReportHistoryRepository;
+import com.teambind.supportserver.report.repository.ReportJdbcRepository;
 import com.teambind.supportserver.report.repository.ReportRepository;
+import com.teambind.supportserver.report.repository.ReportStatusRow;
+import com.teambind.supportserver.common.utils.EntityIds;
 import com.teambind.supportserver.common.utils.IdGenerator;
 import com.teambind.supportserver.report.utils.ReportCategoryCache;
+import com.teambind.supportserver.report.utils.ReportCursor;
+import com.teambind.supportserver.report.utils.ReportSubmissionWindow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -31,22 +52,35 @@ import java.util.stream.Collectors;
 public class ReportServiceImpl implements ReportService {
 
     private final ReportRepository reportRepository;
+    private final ReportHistoryRepository reportHistoryRepository;
+    private final ReportJdbcRepository reportJdbcRepository;
     private final ReportCategoryCache reportCategoryCache;
+    private final ReportSubmissionWindow reportSubmissionWindow;
+    private final ReportStatisticsService reportStatisticsService;
+    private final SanctionService sanctionService;
     private final IdGenerator idGenerator;
 
 
     @Override
     @Transactional
-    public Report createReport(ReportRequest request) {
+    public ReportResponse createReport(ReportRequest request) {
         log.info("Creating report: reporterId={}, reportedId={}, referenceType={}, category={}",
                 request.getReporterId(), request.getReportedId(),
                 request.getReferenceType(), request.getReportCategory());
 
+        // 0. 직전 제출 재사용 (더블 클릭/재시도는 DB까지 가지 않음)
+        Optional<ReportResponse> recent = reportSubmissionWindow.find(
+                request.getReporterId(), request.getReferenceType(), request.getReportedId());
+        if (recent.isPresent()) {
+            log.info("Duplicate report absorbed by submission window: reportId={}", recent.get().getReportId());
+            return recent.get();
+        }
+
         // 1. 카테고리 존재 여부 검증 (캐시 조회)
 	    ReportCategory category =validateCategory(request.getReferenceType(), request.getReportCategory());
 
         // 2. Report ID 생성
-        String reportId = String.valueOf(idGenerator.generateId());
+        Long reportId = idGenerator.generateLongId();
 
         // 3. Report 엔티티 생성
         Report report = Report.builder()
@@ -54,24 +88,43 @@ public class ReportServiceImpl implements ReportService {
                 .reporterId(request.getReporterId())
                 .reportedId(request.getReportedId())
                 .reason(request.getReason())
+                .reportedAt(LocalDateTime.now())
                 .build();
 
         // 4. 카테고리 설정 (연관관계 편의 메서드)
         report.setCategory(category);
 
-        // 5. 저장
-        Report savedReport = reportRepository.save(report);
+        // 5. 저장 (선조회 없는 단일 INSERT, 유니크 키 중복이면 기존 신고로 응답)
+        if (!reportJdbcRepository.insertIfAbsent(report)) {
+            ReportResponse existing = reportRepository.findByReporterIdAndReferenceTypeAndReportedIdAndStatus(
+                            report.getReporterId(), report.getReferenceType(), report.getReportedId(), ReportStatus.PENDING)
+                    .map(ReportResponse::from)
+                    .orElseThrow(() -> new ReportException(ErrorCode.REPORT_ALREADY_EXISTS));
+            afterCommit(() -> reportSubmissionWindow.record(existing));
+            log.info("Duplicate report: existing reportId={}", existing.getReportId());
+            return existing.asDuplicate();
+        }
+
+        // 6. 신고 통계 증가 (메모리 누적, 배치 반영)
+        reportStatisticsService.incrementReportCount(
+                category.getId().getReferenceType(),
+                request.getReportedId(),
+                category.getId().getReportCategory());
+
+        // 7. 자동 제재 판정 (메모리 임계값 인덱스, 신고 재조회 없음)
+        sanctionService.applyAutoSanction(reportId, category.getId().getReferenceType(),
+                category.getId().getReportCategory(), request.getReportedId());
 
         log.info("Report created successfully: reportId={}", reportId);
 
-        return savedReport;
+        ReportResponse response = ReportResponse.from(report);
+        afterCommit(() -> reportSubmissionWindow.record(response));
+        return response;
     }
 
     @Override
     public ReportResponse getReportById(String reportId) {
-        Report report = reportRepository.findById(reportId)
-                .orElseThrow(() -> new ReportException(ErrorCode.REPORT_NOT_FOUND));
-        return ReportResponse.from(report);
+        return ReportResponse.from(findReportEntity(reportId));
     }
 
     @Override
@@ -80,22 +133,21 @@ public class ReportServiceImpl implements ReportService {
                 searchRequest.getStatus(), searchRequest.getReferenceType(),
                 searchRequest.getReportCategory(), searchRequest.getSortType(), searchRequest.getSortDirection());
 
-        // Repository에서 size + 1개 조회 (다음 페이지 존재 여부 확인용)
-        List<Report> reports = reportRepository.findReportsWithCursor(searchRequest);
+        // Repository에서 size + 1개 조회 (다음 페이지 존재 여부 확인용, DTO 프로젝션)
+        List<ReportResponse> reports = reportRepository.findReportResponsesWithCursor(searchRequest);
 
         // 실제 반환할 데이터는 size만큼
         int requestedSize = searchRequest.getSize();
         boolean hasNext = reports.size() > requestedSize;
 
-        List<ReportResponse> content = reports.stream()
-                .limit(requestedSize)
-                .map(ReportResponse::from)
-                .collect(Collectors.toList());
+        List<ReportResponse> content = hasNext
+                ? new ArrayList<>(reports.subList(0, requestedSize))
+                : reports;
 
         // 다음 커서 생성
         String nextCursor = null;
         if (hasNext && !content.isEmpty()) {
-            Report lastReport = reports.get(requestedSize - 1);
+            ReportResponse lastReport = content.get(requestedSize - 1);
             nextCursor = generateCursor(lastReport, searchRequest.getSortType());
         }
 
@@ -128,16 +180,90 @@ public class ReportServiceImpl implements ReportService {
     @Transactional
     public void updateReportStatus(String reportId, ReportStatus newStatus, String adminId, String comment) {
         Report report = findReportEntity(reportId);
-        report.changeStatus(newStatus, adminId, comment, idGenerator::generateId);
+        report.changeStatus(newStatus, adminId, comment, idGenerator::generateLongId)
+                .ifPresent(reportHistoryRepository::save);
 
         log.info("Report status updated: reportId={}, newStatus={}, adminId={}", reportId, newStatus, adminId);
     }
 
+    @Override
+    @Transactional
+    public ReportBulkStatusUpdateResponse bulkUpdateReportStatus(List<String> reportIds, ReportStatus newStatus,
+                                                                 String adminId, String comment) {
+        // 철회는 신고자 본인만 가능하므로 관리자 일괄 변경 대상이 아님
+        if (newStatus == ReportStatus.WITHDRAWN) {
+            throw new ReportException(ErrorCode.INVALID_STATUS_TRANSITION);
+        }
+
+        // 1. 요청 ID 해석 (중복 제거, 요청 순서 유지 / 숫자가 아닌 ID는 null)
+        Map<String, Long> requested = new LinkedHashMap<>();
+        for (String reportId : reportIds) {
+            requested.put(reportId, EntityIds.parse(reportId).orElse(null));
+        }
+        Set<Long> keys = requested.values().stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        // 2. 대상 신고를 한 번의 IN 조회로 잠금
+        Map<Long, ReportStatusRow> rows = reportJdbcRepository.lockStatuses(keys).stream()
+                .collect(Collectors.toMap(ReportStatusRow::reportId, Function.identity()));
+
+        // 3. 전이 가능 여부를 메모리에서 판단 (uk_report_per_user 충돌은 기존 행 + 요청 내 중복 모두 확인)
+        List<ReportStatusRow> candidates = keys.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .filter(row -> row.status() != newStatus && row.status() != ReportStatus.WITHDRAWN)
+                .toList();
+        Set<String> takenKeys = new HashSet<>(reportJdbcRepository.findUniqueKeysByStatus(newStatus,
+                candidates.stream().map(ReportStatusRow::reportedId).collect(Collectors.toSet())));
+
+        Map<Long, Outcome> outcomes = new HashMap<>();
+        List<ReportStatusRow> changes = new ArrayList<>();
+        for (ReportStatusRow row : rows.values()) {
+            if (row.status() == newStatus) {
+                outcomes.put(row.reportId(), Outcome.UNCHANGED);
+            } else if (row.status() == ReportStatus.WITHDRAWN) {
+                outcomes.put(row.reportId(), Outcome.INVALID_TRANSITION);
+            }
+        }
+        for (ReportStatusRow row : candidates) {
+            if (takenKeys.add(row.uniqueKey())) {
+                outcomes.put(row.reportId(), Outcome.UPDATED);
+                changes.add(row);
+            } else {
+                outcomes.put(row.reportId(), Outcome.CONFLICT);
+            }
+        }
+
+        // 4. 대상 상태별 한 번의 UPDATE + 이력 배치 INSERT
+        reportJdbcRepository.updateStatus(changes.stream().map(ReportStatusRow::reportId).toList(), newStatus);
+        reportJdbcRepository.appendStatusHistories(changes, newStatus, adminId, comment, LocalDateTime.now());
+
+        List<ReportBulkStatusUpdateResponse.Result> results = requested.entrySet().stream()
+                .map(entry -> {
+                    ReportStatusRow row = entry.getValue() != null ? rows.get(entry.getValue()) : null;
+                    return row == null
+                            ? new ReportBulkStatusUpdateResponse.Result(entry.getKey(), Outcome.NOT_FOUND, null)
+                            : new ReportBulkStatusUpdateResponse.Result(entry.getKey(), outcomes.get(row.reportId()), row.status());
+                })
+                .toList();
+
+        log.info("Report statuses bulk updated: requested={}, updated={}, newStatus={}, adminId={}",
+                requested.size(), changes.size(), newStatus, adminId);
+
+        return ReportBulkStatusUpdateResponse.builder()
+                .status(newStatus)
+                .updatedCount(changes.size())
+                .results(results)
+                .build();
+    }
+
     @Override
     @Transactional
     public void approveReport(String reportId, String adminId) {
         Report report = findReportEntity(reportId);
-        report.approve(adminId, "신고 승인 - 제재 적용", idGenerator::generateId);
+        report.approve(adminId, "신고 승인 - 제재 적용", idGenerator::generateLongId)
+                .ifPresent(reportHistoryRepository::save);
 
         log.info("Report approved: reportId={}, adminId={}", reportId, adminId);
 
@@ -148,7 +274,8 @@ public class ReportServiceImpl implements ReportService {
     @Transactional
     public void rejectReport(String reportId, String adminId, String reason) {
         Report report = findReportEntity(reportId);
-        report.reject(adminId, reason, idGenerator::generateId);
+        report.reject(adminId, reason, idGenerator::generateLongId)
+                .ifPresent(reportHistoryRepository::save);
 
         log.info("Report rejected: reportId={}, adminId={}, reason={}", reportId, adminId, reason);
     }
@@ -157,7 +284,8 @@ public class ReportServiceImpl implements ReportService {
     @Transactional
     public void withdrawReport(String reportId, String reporterId, String reason) {
         Report report = findReportEntity(reportId);
-        report.withdraw(reporterId, reason != null ? reason : "신고자가 직접 철회", idGenerator::generateId);
+        report.withdraw(reporterId, reason != null ? reason : "신고자가 직접 철회", idGenerator::generateLongId)
+                .ifPresent(reportHistoryRepository::save);
 
         log.info("Report withdrawn: reportId={}, reporterId={}, reason={}", reportId, reporterId, reason);
     }
@@ -172,7 +300,8 @@ public class ReportServiceImpl implements ReportService {
     @Transactional
     public void startReview(String reportId, String adminId) {
         Report report = findReportEntity(reportId);
-        report.startReview(adminId, "검토 시작", idGenerator::generateId);
+        report.startReview(adminId, "검토 시작", idGenerator::generateLongId)
+                .ifPresent(reportHistoryRepository::save);
 
         log.info("Review started: reportId={}, adminId={}", reportId, adminId);
     }
@@ -181,12 +310,14 @@ public class ReportServiceImpl implements ReportService {
     @Transactional
     public void holdReport(String reportId, String adminId, String reason) {
         Report report = findReportEntity(reportId);
-        report.hold(adminId, reason != null ? reason : "보류 처리", idGenerator::generateId);
+        report.hold(adminId, reason != null ? reason : "보류 처리", idGenerator::generateLongId)
+                .ifPresent(reportHistoryRepository::save);
 
         log.info("Report held: reportId={}, adminId={}, reason={}", reportId, adminId, reason);
     }
 
     @Override
+    @Transactional
     public ReportResponse createReport(String reporterId, String reportedId, ReferenceType referenceType, String reportCategory, String reason) {
         ReportRequest request = ReportRequest.builder()
                 .reporterId(reporterId)
@@ -196,8 +327,7 @@ public class ReportServiceImpl implements ReportService {
                 .reason(reason)
                 .build();
 
-        Report report = createReport(request);
-        return ReportResponse.from(report);
+        return createReport(request);
     }
 
     @Override
@@ -207,9 +337,12 @@ public class ReportServiceImpl implements ReportService {
 
     /**
      * Report 엔티티 조회 (내부용)
+     *
+     * <p>API로 받은 문자열 ID를 BIGINT 키로 해석하며, 숫자가 아닌 ID는 존재하지 않는 신고로 처리합니다.</p>
      */
     private Report findReportEntity(String reportId) {
-        return reportRepository.findById(reportId)
+        return EntityIds.parse(reportId)
+                .flatMap(reportRepository::findById)
                 .orElseThrow(() -> new ReportException(ErrorCode.REPORT_NOT_FOUND));
     }
 	
@@ -225,14 +358,26 @@ public class ReportServiceImpl implements ReportService {
 
     /**
      * 커서 생성 (정렬 기준에 따라)
+     *
+     * <p>(정렬 키, reportId) 튜플을 불투명 토큰으로 인코딩합니다.</p>
+     */
+    private String generateCursor(ReportResponse report, ReportSearchRequest.SortType sortType) {
+        return ReportCursor.encode(report, sortType);
+    }
+
+    /**
+     * 커밋 이후 실행 (제출 윈도우 기록 - 롤백된 신고가 중복 제출 응답으로 재사용되지 않도록)
      */
-    private String generateCursor(Report report, ReportSearchRequest.SortType sortType) {
-        if (sortType == ReportSearchRequest.SortType.REPORTED_AT) {
-            // 신고일 기준: ISO 8601 형식의 LocalDateTime
-            return report.getReportedAt().toString();
-        } else {
-            // 상태 기준: reportId를 커서로 사용
-            return report.getReportId();
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
         }
+        action.run();
     }
 }
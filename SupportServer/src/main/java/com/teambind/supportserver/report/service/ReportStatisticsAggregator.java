@@ -0,0 +1,374 @@
+package com.teambind.supportserver.report.service;
+
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
+import com.teambind.supportserver.report.repository.ReportStatisticsDelta;
+import com.teambind.supportserver.report.repository.ReportStatisticsJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 신고 통계 write-behind 집계기
+ *
+ * <p>신고 1건마다 report_statistics 행을 갱신하면 동일 대상에 신고가 몰릴 때 해당 행이 핫스팟이 됩니다.
+ * 이 집계기는 (referenceType, reportedId, reportCategory) 키별 LongAdder에 증분을 누적하고,
+ * 주기적으로 키당 한 번의 upsert 배치로 DB에 반영합니다.</p>
+ *
+ * <p>유실 범위(loss window):</p>
+ * <ul>
+ *   <li>flush 주기({@code report.statistics.flush-interval-ms})마다 반영</li>
+ *   <li>미반영 증분이 {@code report.statistics.max-pending}을 넘으면 즉시 비동기 flush</li>
+ *   <li>애플리케이션 종료 시 남은 증분 flush</li>
+ *   <li>flush 실패 시 증분을 다시 적재하여 다음 주기에 재시도</li>
+ * </ul>
+ * <p>따라서 비정상 종료 시 최대 한 주기 또는 max-pending 건의 증분만 유실될 수 있습니다.</p>
+ *
+ * <p>flush 중인 증분은 배치가 커밋되거나 재적재될 때까지 in-flight 맵에 남아 미반영 증분으로 계속 집계되므로,
+ * "DB 반영분 + 미반영 증분"이 flush 도중 줄어들지 않습니다. 두 값을 함께 읽는 조회는 flush 시퀀스로
+ * 배치 커밋과 겹치지 않은 읽기만 채택하여 같은 증분을 두 번 세지도 않습니다.</p>
+ */
+@Slf4j
+@Component
+public class ReportStatisticsAggregator {
+
+    private static final long CONSISTENT_READ_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long FLUSH_WAIT_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    private final ReportStatisticsJdbcRepository reportStatisticsJdbcRepository;
+    private final long maxPending;
+
+    /**
+     * 키별 카운터 (ConcurrentHashMap + LongAdder로 스트라이핑)
+     */
+    private final Map<StatisticsKey, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 미반영 증분 합계
+     */
+    private final LongAdder pending = new LongAdder();
+
+    /**
+     * flush 중인 증분 (배치 커밋 또는 재적재 전까지 미반영 증분으로 집계)
+     */
+    private volatile Map<StatisticsKey, Long> inFlight = Map.of();
+
+    /**
+     * flush 시퀀스 (홀수: flush 진행 중 - 회수~커밋/재적재 구간)
+     */
+    private final AtomicLong flushSequence = new AtomicLong();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean earlyFlushRequested = new AtomicBoolean(false);
+    private final ExecutorService earlyFlushExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "report-statistics-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ReportStatisticsAggregator(ReportStatisticsJdbcRepository reportStatisticsJdbcRepository,
+                                      @Value("${report.statistics.max-pending:10000}") long maxPending) {
+        this.reportStatisticsJdbcRepository = reportStatisticsJdbcRepository;
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * 신고 횟수 1 증가 (메모리 누적)
+     */
+    public void increment(ReferenceType referenceType, String reportedId, String reportCategory) {
+        add(new StatisticsKey(referenceType, reportedId, reportCategory), 1, System.currentTimeMillis());
+        pending.increment();
+
+        if (pending.sum() >= maxPending && earlyFlushRequested.compareAndSet(false, true)) {
+            earlyFlushExecutor.execute(() -> {
+                try {
+                    flush();
+                } finally {
+                    earlyFlushRequested.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * 신고 횟수 1 감소 (롤백된 신고의 증분 보정)
+     */
+    public void decrement(ReferenceType referenceType, String reportedId, String reportCategory) {
+        add(new StatisticsKey(referenceType, reportedId, reportCategory), -1, Long.MIN_VALUE);
+        pending.decrement();
+    }
+
+    /**
+     * 특정 키의 미반영 증분 조회 (flush 중인 증분 포함)
+     */
+    public long getPendingCount(ReferenceType referenceType, String reportedId, String reportCategory) {
+        StatisticsKey key = new StatisticsKey(referenceType, reportedId, reportCategory);
+        Counter counter = counters.get(key);
+        return (counter != null ? counter.count.sum() : 0) + inFlight.getOrDefault(key, 0L);
+    }
+
+    /**
+     * 특정 대상의 전체 카테고리 미반영 증분 조회 (flush 중인 증분 포함)
+     */
+    public long getPendingCount(String reportedId) {
+        long sum = 0;
+        for (Map.Entry<StatisticsKey, Counter> entry : counters.entrySet()) {
+            if (entry.getKey().reportedId().equals(reportedId)) {
+                sum += entry.getValue().count.sum();
+            }
+        }
+        for (Map.Entry<StatisticsKey, Long> entry : inFlight.entrySet()) {
+            if (entry.getKey().reportedId().equals(reportedId)) {
+                sum += entry.getValue();
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * 특정 키의 DB 반영분 + 미반영 증분 조회
+     *
+     * @param persistedCount DB 반영분 조회
+     */
+    public long getCount(ReferenceType referenceType, String reportedId, String reportCategory,
+                         LongSupplier persistedCount) {
+        return readWithPending(() -> getPendingCount(referenceType, reportedId, reportCategory), persistedCount);
+    }
+
+    /**
+     * 특정 대상의 전체 카테고리 DB 반영분 + 미반영 증분 조회
+     *
+     * @param persistedCount DB 반영분 합계 조회
+     */
+    public long getTotalCount(String reportedId, LongSupplier persistedCount) {
+        return readWithPending(() -> getPendingCount(reportedId), persistedCount);
+    }
+
+    /**
+     * 미반영 증분과 DB 반영분을 배치 커밋과 겹치지 않게 읽어 합산
+     *
+     * <p>읽는 동안 flush가 진행되지 않았으면(시퀀스가 짝수로 유지) 두 값이 같은 시점 기준이므로 그대로 합산합니다.
+     * flush가 끝나지 않으면 기다리다가, 대기 한도를 넘기면 미반영 증분을 먼저 읽는 순서로 합산합니다.
+     * 이 경우 flush 중인 증분이 두 번 집계될 수는 있어도 누락되지는 않습니다.</p>
+     */
+    private long readWithPending(LongSupplier pendingCount, LongSupplier persistedCount) {
+        long deadline = System.nanoTime() + CONSISTENT_READ_WAIT_NANOS;
+        do {
+            long sequence = flushSequence.get();
+            if ((sequence & 1) == 0) {
+                long pendingSnapshot = pendingCount.getAsLong();
+                long persisted = persistedCount.getAsLong();
+                if (flushSequence.get() == sequence) {
+                    return persisted + pendingSnapshot;
+                }
+            } else {
+                LockSupport.parkNanos(FLUSH_WAIT_PARK_NANOS);
+            }
+        } while (System.nanoTime() < deadline);
+
+        long pendingSnapshot = pendingCount.getAsLong();
+        return persistedCount.getAsLong() + pendingSnapshot;
+    }
+
+    /**
+     * 키별 카운터에 증분 누적
+     *
+     * <p>flush가 유휴 카운터를 제거하는 것과 경합할 수 있으므로, 누적 후 카운터가 제거(retired) 상태이면
+     * 해당 카운터에 남은 증분을 회수해 새 카운터로 옮깁니다. 제거 전에 누적된 증분은 flush가 제거 직후 회수하므로
+     * 어느 쪽에서든 정확히 한 번만 집계됩니다.</p>
+     */
+    private void add(StatisticsKey key, long delta, long reportedAtMillis) {
+        long remaining = delta;
+        while (remaining != 0) {
+            Counter counter = counters.computeIfAbsent(key, k -> new Counter());
+            counter.count.add(remaining);
+            counter.lastReportedAt.accumulate(reportedAtMillis);
+            if (!counter.retired) {
+                return;
+            }
+            remaining = counter.count.sumThenReset();
+        }
+    }
+
+    /**
+     * 전체 미반영 증분 조회
+     */
+    public long getPendingCount() {
+        return pending.sum();
+    }
+
+    /**
+     * 주기적 flush
+     */
+    @Scheduled(fixedDelayString = "${report.statistics.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * 종료 시 남은 증분 flush
+     */
+    @PreDestroy
+    public void shutdown() {
+        earlyFlushExecutor.shutdown();
+        flush();
+        log.info("Report statistics aggregator stopped. Remaining pending increments: {}", pending.sum());
+    }
+
+    /**
+     * 누적된 증분을 DB에 반영
+     *
+     * @return 반영된 키 수
+     */
+    public int flush() {
+        flushLock.lock();
+        flushSequence.incrementAndGet();
+        try {
+            List<Map.Entry<StatisticsKey, Counter>> drained = new ArrayList<>();
+
+            for (Map.Entry<StatisticsKey, Counter> entry : counters.entrySet()) {
+                if (drain(entry, drained)) {
+                    continue;
+                }
+                // 한 주기 동안 증분이 없던 카운터는 제거 후, 제거 표시 이전에 들어온 증분을 회수
+                Counter counter = entry.getValue();
+                counter.retired = true;
+                counters.remove(entry.getKey(), counter);
+                drain(entry, drained);
+            }
+
+            if (drained.isEmpty()) {
+                return 0;
+            }
+
+            List<ReportStatisticsDelta> deltas = merge(drained);
+            long drainedTotal = deltas.stream().mapToLong(ReportStatisticsDelta::getDelta).sum();
+            pending.add(-drainedTotal);
+            inFlight = toInFlight(deltas);
+
+            try {
+                reportStatisticsJdbcRepository.batchIncrement(deltas);
+                log.debug("Flushed report statistics: keys={}, increments={}", deltas.size(), drainedTotal);
+                return deltas.size();
+            } catch (Exception e) {
+                log.error("Failed to flush report statistics (keys={}, increments={}). Will retry on next flush: {}",
+                        deltas.size(), drainedTotal, e.getMessage(), e);
+                restore(deltas);
+                return 0;
+            }
+        } finally {
+            // 커밋되었으면 DB 반영분에, 실패했으면 재적재된 카운터에 포함되므로 in-flight에서 제거
+            inFlight = Map.of();
+            flushSequence.incrementAndGet();
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 카운터 증분 회수
+     *
+     * @return 증분이 있었는지 여부
+     */
+    private boolean drain(Map.Entry<StatisticsKey, Counter> entry, List<Map.Entry<StatisticsKey, Counter>> drained) {
+        long delta = entry.getValue().count.sumThenReset();
+        if (delta == 0) {
+            return false;
+        }
+        Counter snapshot = new Counter();
+        snapshot.count.add(delta);
+        snapshot.lastReportedAt.accumulate(entry.getValue().lastReportedAt.get());
+        drained.add(Map.entry(entry.getKey(), snapshot));
+        return true;
+    }
+
+    /**
+     * 동일 키 증분 병합 (제거된 카운터와 새로 생성된 카운터가 같은 키를 가질 수 있음)
+     */
+    private List<ReportStatisticsDelta> merge(List<Map.Entry<StatisticsKey, Counter>> drained) {
+        Map<StatisticsKey, Counter> merged = new LinkedHashMap<>();
+        for (Map.Entry<StatisticsKey, Counter> entry : drained) {
+            merged.merge(entry.getKey(), entry.getValue(), (a, b) -> {
+                a.count.add(b.count.sum());
+                a.lastReportedAt.accumulate(b.lastReportedAt.get());
+                return a;
+            });
+        }
+
+        List<ReportStatisticsDelta> deltas = new ArrayList<>(merged.size());
+        merged.forEach((key, counter) -> deltas.add(new ReportStatisticsDelta(
+                key.referenceType(),
+                key.reportedId(),
+                key.reportCategory(),
+                counter.count.sum(),
+                toLocalDateTime(counter.lastReportedAt.get())
+        )));
+        return deltas;
+    }
+
+    private Map<StatisticsKey, Long> toInFlight(List<ReportStatisticsDelta> deltas) {
+        Map<StatisticsKey, Long> drainedByKey = new HashMap<>(deltas.size() * 2);
+        for (ReportStatisticsDelta delta : deltas) {
+            drainedByKey.put(new StatisticsKey(delta.getReferenceType(), delta.getReportedId(), delta.getReportCategory()),
+                    delta.getDelta());
+        }
+        return drainedByKey;
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        // 증분과 시각 기록 사이에 회수된 경우 현재 시각 사용
+        long millis = epochMillis == Long.MIN_VALUE ? System.currentTimeMillis() : epochMillis;
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+
+    /**
+     * flush 실패 시 증분 재적재
+     */
+    private void restore(List<ReportStatisticsDelta> deltas) {
+        for (ReportStatisticsDelta delta : deltas) {
+            add(new StatisticsKey(delta.getReferenceType(), delta.getReportedId(), delta.getReportCategory()),
+                    delta.getDelta(),
+                    delta.getLastReportedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            pending.add(delta.getDelta());
+        }
+    }
+
+    /**
+     * 통계 키
+     */
+    private record StatisticsKey(ReferenceType referenceType, String reportedId, String reportCategory) {
+    }
+
+    /**
+     * 키별 카운터
+     */
+    private static final class Counter {
+        private final LongAdder count = new LongAdder();
+        private final LongAccumulator lastReportedAt = new LongAccumulator(Long::max, Long.MIN_VALUE);
+
+        /**
+         * flush에 의해 맵에서 제거되었는지 여부
+         */
+        private volatile boolean retired;
+    }
+}
@@ -31,7 +31,17 @@ public interface ReportStatisticsService {
     void incrementReportCount(ReferenceType referenceType, String reportedId, String reportCategory);
 
     /**
-     * 특정 대상의 총 신고 횟수 조회
+     * 통계 키의 현재 신고 횟수 조회 (DB 반영분 + 미반영 증분)
+     *
+     * @param referenceType  대상 타입
+     * @param reportedId     신고 대상 ID
+     * @param reportCategory 신고 카테고리
+     * @return 신고 횟수
+     */
+    long getReportCount(ReferenceType referenceType, String reportedId, String reportCategory);
+
+    /**
+     * 특정 대상의 총 신고 횟수 조회 (전체 카테고리의 DB 반영분 + 미반영 증분)
      *
      * @param reportedId 신고 대상 ID
      * @return 총 신고 횟수
@@ -49,11 +59,12 @@ public interface ReportStatisticsService {
     /**
      * 자동 제재 임계값 도달 확인
      *
+     * @param referenceType  대상 타입
      * @param reportedId     신고 대상 ID
      * @param reportCategory 신고 카테고리
      * @return 임계값 도달 여부
      */
-    boolean isAutoSanctionThresholdReached(String reportedId, String reportCategory);
+    boolean isAutoSanctionThresholdReached(ReferenceType referenceType, String reportedId, String reportCategory);
 
     /**
      * 신고 통계 초기화
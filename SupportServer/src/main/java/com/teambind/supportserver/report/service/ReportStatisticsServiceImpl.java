@@ -0,0 +1,123 @@
+package com.teambind.supportserver.report.service;
+
+import com.teambind.supportserver.common.utils.IdGenerator;
+import com.teambind.supportserver.report.entity.ReportCategory;
+import com.teambind.supportserver.report.entity.ReportStatistics;
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
+import com.teambind.supportserver.report.exceptions.ErrorCode;
+import com.teambind.supportserver.report.exceptions.ReportException;
+import com.teambind.supportserver.report.repository.ReportStatisticsRepository;
+import com.teambind.supportserver.report.utils.ReportCategoryCache;
+import com.teambind.supportserver.report.utils.SanctionRuleCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 신고 통계 서비스 구현체
+ *
+ * <p>신고 횟수 증가는 {@link ReportStatisticsAggregator}를 통해 메모리에 누적한 뒤 배치로 반영(write-behind)하므로,
+ * 조회 결과는 최대 flush 주기만큼 늦게 반영될 수 있습니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReportStatisticsServiceImpl implements ReportStatisticsService {
+
+    private final ReportStatisticsRepository reportStatisticsRepository;
+    private final ReportStatisticsAggregator reportStatisticsAggregator;
+    private final ReportCategoryCache reportCategoryCache;
+    private final SanctionRuleCache sanctionRuleCache;
+    private final IdGenerator idGenerator;
+
+    @Override
+    @Transactional
+    public ReportStatistics getOrCreateStatistics(ReferenceType referenceType, String reportedId,
+                                                  String reportCategory) {
+        return reportStatisticsRepository
+                .findByReferenceTypeAndReportedIdAndReportCategory(referenceType, reportedId, reportCategory)
+                .orElseGet(() -> {
+                    ReportCategory category = reportCategoryCache.get(referenceType, reportCategory)
+                            .orElseThrow(() -> new ReportException(ErrorCode.REPORT_CATEGORY_NOT_FOUND));
+
+                    ReportStatistics statistics = ReportStatistics.builder()
+                            .statId(idGenerator.generateId())
+                            .category(category)
+                            .referenceType(category.getId().getReferenceType())
+                            .reportedId(reportedId)
+                            .reportCategory(category.getId().getReportCategory())
+                            .lastReportedAt(LocalDateTime.now())
+                            .build();
+                    return reportStatisticsRepository.save(statistics);
+                });
+    }
+
+    /**
+     * 신고 횟수 증가
+     *
+     * <p>같은 트랜잭션의 자동 제재 판정이 이번 신고를 포함한 횟수를 보도록 즉시 누적하고,
+     * 트랜잭션이 롤백되면 증분을 되돌려 롤백된 신고가 집계되지 않도록 합니다.</p>
+     */
+    @Override
+    public void incrementReportCount(ReferenceType referenceType, String reportedId, String reportCategory) {
+        reportStatisticsAggregator.increment(referenceType, reportedId, reportCategory);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        reportStatisticsAggregator.decrement(referenceType, reportedId, reportCategory);
+                    }
+                }
+            });
+        }
+    }
+
+    @Override
+    public long getReportCount(ReferenceType referenceType, String reportedId, String reportCategory) {
+        return reportStatisticsAggregator.getCount(referenceType, reportedId, reportCategory,
+                () -> reportStatisticsRepository
+                        .findByReferenceTypeAndReportedIdAndReportCategory(referenceType, reportedId, reportCategory)
+                        .map(ReportStatistics::getReportCount)
+                        .orElse(0));
+    }
+
+    @Override
+    public int getTotalReportCount(String reportedId) {
+        return Math.toIntExact(reportStatisticsAggregator.getTotalCount(reportedId,
+                () -> reportStatisticsRepository.sumReportCountByReportedId(reportedId)));
+    }
+
+    @Override
+    public List<ReportStatistics> getStatisticsByReportedId(String reportedId) {
+        return reportStatisticsRepository.findByReportedId(reportedId);
+    }
+
+    @Override
+    public boolean isAutoSanctionThresholdReached(ReferenceType referenceType, String reportedId,
+                                                  String reportCategory) {
+        if (!sanctionRuleCache.hasRules(referenceType)) {
+            return false;
+        }
+        long reportCount = getReportCount(referenceType, reportedId, reportCategory);
+        return sanctionRuleCache.findApplicableRule(referenceType, reportCount).isPresent();
+    }
+
+    @Override
+    @Transactional
+    public void resetStatistics(String statId) {
+        ReportStatistics statistics = reportStatisticsRepository.findById(statId)
+                .orElseThrow(() -> new ReportException(ErrorCode.REPORT_STATISTICS_NOT_FOUND));
+        statistics.resetReportCount();
+
+        log.info("Report statistics reset: statId={}", statId);
+    }
+}
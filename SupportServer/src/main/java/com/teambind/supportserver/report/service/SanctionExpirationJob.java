@@ -0,0 +1,139 @@
+package com.teambind.supportserver.report.service;
+
+import com.teambind.supportserver.report.event.SanctionExpiredEvent;
+import com.teambind.supportserver.report.repository.SanctionJdbcRepository;
+import com.teambind.supportserver.report.repository.SanctionTarget;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 제재 만료 배치 작업
+ *
+ * <p>만료 시각이 지난 활성 제재를 청크 단위 bulk UPDATE로 만료 처리합니다.
+ * 청크마다 별도의 짧은 트랜잭션을 사용하여 행 잠금 시간을 최소화하고,
+ * 커밋된 청크마다 대상별로 {@link SanctionExpiredEvent}를 1건씩 발행합니다.</p>
+ *
+ * <p>메트릭:</p>
+ * <ul>
+ *   <li>처리량: 마지막 실행의 초당 만료 처리 건수</li>
+ *   <li>지연(lag): 실행 직후 남아 있는 가장 오래된 미처리 만료 시각과 현재 시각의 차이</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class SanctionExpirationJob {
+
+    private final SanctionJdbcRepository sanctionJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder totalExpired = new LongAdder();
+    private volatile Metrics lastMetrics = new Metrics(0, 0, 0, 0, 0.0, 0, null);
+
+    public SanctionExpirationJob(SanctionJdbcRepository sanctionJdbcRepository,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${report.sanction.expire.chunk-size:500}") int chunkSize,
+                                 @Value("${report.sanction.expire.max-chunks-per-run:200}") int maxChunksPerRun) {
+        this.sanctionJdbcRepository = sanctionJdbcRepository;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+    }
+
+    /**
+     * 주기적 만료 처리 ({@link SanctionExpiryScheduler}가 놓친 제재 보정)
+     */
+    @Scheduled(fixedDelayString = "${report.sanction.expire.interval-ms:600000}")
+    public void scheduledRun() {
+        try {
+            run();
+        } catch (Exception e) {
+            log.error("Sanction expiration job failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 만료 처리 실행
+     *
+     * <p>한 번의 실행에서 최대 {@code max-chunks-per-run}개의 청크를 처리하며,
+     * 남은 건은 다음 실행에서 이어서 처리합니다. 동시에 한 번만 실행됩니다.</p>
+     *
+     * @return 만료 처리된 제재 건수
+     */
+    public int run() {
+        if (!runLock.tryLock()) {
+            log.debug("Sanction expiration job is already running. Skipping.");
+            return 0;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            long start = System.nanoTime();
+            int expired = 0;
+
+            for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+                List<SanctionTarget> targets = sanctionJdbcRepository.expireChunk(now, chunkSize);
+                expired += targets.size();
+                SanctionExpiredEvent.groupByTarget(targets, now).forEach(eventPublisher::publishEvent);
+                if (targets.size() < chunkSize) {
+                    break;
+                }
+            }
+
+            long durationNanos = System.nanoTime() - start;
+            long lagMs = sanctionJdbcRepository.findOldestOverdueExpiresAt(LocalDateTime.now())
+                    .map(oldest -> Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()))
+                    .orElse(0L);
+            recordMetrics(expired, durationNanos, lagMs);
+
+            if (expired > 0) {
+                log.info("Expired {} sanctions in {}ms (lag={}ms)", expired, durationNanos / 1_000_000, lagMs);
+            }
+            return expired;
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    /**
+     * 작업 메트릭 조회
+     */
+    public Metrics getMetrics() {
+        return lastMetrics;
+    }
+
+    private void recordMetrics(int expired, long durationNanos, long lagMs) {
+        runs.increment();
+        totalExpired.add(expired);
+        double rowsPerSecond = durationNanos == 0 ? 0.0 : expired * 1_000_000_000.0 / durationNanos;
+        lastMetrics = new Metrics(runs.sum(), totalExpired.sum(), expired, durationNanos / 1_000_000,
+                rowsPerSecond, lagMs, LocalDateTime.now());
+    }
+
+    /**
+     * 만료 작업 메트릭 스냅샷
+     *
+     * @param runs              누적 실행 횟수
+     * @param totalExpired      누적 만료 처리 건수
+     * @param lastRunExpired    마지막 실행 만료 처리 건수
+     * @param lastRunDurationMs 마지막 실행 소요 시간(ms)
+     * @param rowsPerSecond     마지막 실행 처리량(건/초)
+     * @param lagMs             미처리 만료 건의 지연 시간(ms)
+     * @param lastRunAt         마지막 실행 시각
+     */
+    public record Metrics(long runs, long totalExpired, long lastRunExpired, long lastRunDurationMs,
+                          double rowsPerSecond, long lagMs, LocalDateTime lastRunAt) {
+    }
+}
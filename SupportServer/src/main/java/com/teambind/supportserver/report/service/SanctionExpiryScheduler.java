@@ -0,0 +1,361 @@
+package com.teambind.supportserver.report.service;
+
+import com.teambind.supportserver.report.event.SanctionExpiredEvent;
+import com.teambind.supportserver.report.repository.SanctionExpiry;
+import com.teambind.supportserver.report.repository.SanctionJdbcRepository;
+import com.teambind.supportserver.report.repository.SanctionTarget;
+import com.teambind.supportserver.report.utils.HierarchicalTimingWheel;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 타이밍 휠 기반 제재 만료 스케줄러
+ *
+ * <p>현재 시각부터 {@code look-ahead-ms} 이내에 만료되는 활성 제재만 {@link HierarchicalTimingWheel}에 적재하고,
+ * 전용 스레드가 {@code tick-ms}마다 휠을 전진시켜 만료 시각이 된 제재를 즉시 만료 처리합니다.
+ * 따라서 만료 처리 지연은 폴링 주기가 아니라 틱 간격으로 제한됩니다.</p>
+ *
+ * <ul>
+ *   <li>적재 범위(horizon)는 {@code load-interval-ms}마다 (expires_at, sanction_id) 키셋 청크 조회로 확장</li>
+ *   <li>적재 범위 안에서 생성된 제재는 커밋 후 직접 등록, 취소된 제재는 휠에서 제거</li>
+ *   <li>재시작 시 DB에서 적재 범위를 다시 읽어 상태를 복구 (이미 지난 제재는 다음 틱에 처리)</li>
+ *   <li>만료 처리는 활성 상태인 행만 갱신하므로 {@link SanctionExpirationJob}과 중복 실행되어도 안전</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class SanctionExpiryScheduler implements ApplicationRunner {
+
+    private static final long RETRY_DELAY_MS = 5_000;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final SanctionJdbcRepository sanctionJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long tickMs;
+    private final int wheelSize;
+    private final long lookAheadMs;
+    private final int chunkSize;
+
+    /**
+     * 휠과 대기 맵은 wheelLock으로 보호
+     */
+    private final ReentrantLock wheelLock = new ReentrantLock();
+    private final Map<Long, HierarchicalTimingWheel.Timer<SanctionTarget>> pending = new HashMap<>();
+    private HierarchicalTimingWheel<SanctionTarget> wheel;
+    private long startedAtMs;
+
+    /**
+     * 휠에 등록을 허용하는 만료 시각 상한(epoch ms, 시작 전에는 등록하지 않음)
+     */
+    private volatile long horizonMs = Long.MIN_VALUE;
+
+    /**
+     * 다음 적재 조회 시작 시각 (이 시각까지의 제재는 적재 완료)
+     */
+    private LocalDateTime loadedUntil = EPOCH;
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "sanction-expiry-wheel");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final LongAdder fired = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LongAccumulator maxFireDelayMs = new LongAccumulator(Long::max, 0);
+
+    public SanctionExpiryScheduler(SanctionJdbcRepository sanctionJdbcRepository,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${report.sanction.expiry-wheel.tick-ms:500}") long tickMs,
+                                   @Value("${report.sanction.expiry-wheel.wheel-size:64}") int wheelSize,
+                                   @Value("${report.sanction.expiry-wheel.look-ahead-ms:3600000}") long lookAheadMs,
+                                   @Value("${report.sanction.expiry-wheel.chunk-size:1000}") int chunkSize) {
+        this.sanctionJdbcRepository = sanctionJdbcRepository;
+        this.eventPublisher = eventPublisher;
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.lookAheadMs = lookAheadMs;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Starting sanction expiry timing wheel...");
+        initialize(System.currentTimeMillis());
+        ticker.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+    }
+
+    /**
+     * 휠 생성 및 최초 적재
+     */
+    void initialize(long nowMs) {
+        wheelLock.lock();
+        try {
+            wheel = new HierarchicalTimingWheel<>(tickMs, wheelSize, nowMs);
+            startedAtMs = nowMs;
+        } finally {
+            wheelLock.unlock();
+        }
+        try {
+            loadWindow(nowMs);
+        } catch (Exception e) {
+            log.error("Failed to load sanction expiry window. Will retry on next load: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 주기적 적재 범위 확장
+     */
+    @Scheduled(initialDelayString = "${report.sanction.expiry-wheel.load-interval-ms:300000}",
+            fixedDelayString = "${report.sanction.expiry-wheel.load-interval-ms:300000}")
+    public void scheduledLoad() {
+        try {
+            loadWindow(System.currentTimeMillis());
+        } catch (Exception e) {
+            log.error("Failed to extend sanction expiry window: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 적재 범위를 nowMs + look-ahead까지 확장
+     *
+     * <p>조회 전에 horizon을 먼저 올려 두므로, 조회 중 커밋된 제재는 직접 등록 경로로 들어옵니다.
+     * 두 경로에서 같은 제재가 들어오면 제재 ID로 중복을 제거합니다.</p>
+     *
+     * @return 새로 등록된 제재 수
+     */
+    int loadWindow(long nowMs) {
+        if (!loadLock.tryLock()) {
+            return 0;
+        }
+        try {
+            long newHorizonMs = nowMs + lookAheadMs;
+            horizonMs = Math.max(horizonMs, newHorizonMs);
+            LocalDateTime until = toLocalDateTime(newHorizonMs);
+
+            LocalDateTime cursorExpiresAt = loadedUntil;
+            long cursorSanctionId = 0L;
+            int loaded = 0;
+            while (true) {
+                List<SanctionExpiry> chunk = sanctionJdbcRepository.findUpcoming(
+                        cursorExpiresAt, cursorSanctionId, until, chunkSize);
+                wheelLock.lock();
+                try {
+                    for (SanctionExpiry expiry : chunk) {
+                        if (add(expiry.sanctionId(), expiry.targetId(), toEpochMillis(expiry.expiresAt()))) {
+                            loaded++;
+                        }
+                    }
+                } finally {
+                    wheelLock.unlock();
+                }
+                if (!chunk.isEmpty()) {
+                    SanctionExpiry last = chunk.get(chunk.size() - 1);
+                    cursorExpiresAt = last.expiresAt();
+                    cursorSanctionId = last.sanctionId();
+                    // 같은 만료 시각의 나머지는 다음 적재에서 다시 읽어도 중복 제거됨
+                    loadedUntil = last.expiresAt();
+                }
+                if (chunk.size() < chunkSize) {
+                    break;
+                }
+            }
+            loadedUntil = until;
+
+            log.debug("Sanction expiry window loaded: until={}, loaded={}, pending={}", until, loaded, getPendingCount());
+            return loaded;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * 제재 만료 예약 (제재 생성 커밋 후 호출)
+     *
+     * <p>적재 범위를 벗어난 제재는 이후 적재 시 조회되므로 등록하지 않습니다.</p>
+     */
+    public void schedule(Long sanctionId, String targetId, LocalDateTime expiresAt) {
+        if (expiresAt == null) {
+            return;
+        }
+        long deadlineMs = toEpochMillis(expiresAt);
+        if (deadlineMs > horizonMs) {
+            return;
+        }
+        wheelLock.lock();
+        try {
+            add(sanctionId, targetId, deadlineMs);
+        } finally {
+            wheelLock.unlock();
+        }
+    }
+
+    /**
+     * 제재 만료 예약 취소 (제재 취소 커밋 후 호출)
+     */
+    public void cancel(Long sanctionId) {
+        wheelLock.lock();
+        try {
+            HierarchicalTimingWheel.Timer<SanctionTarget> timer = pending.remove(sanctionId);
+            if (wheel != null) {
+                wheel.cancel(timer);
+            }
+        } finally {
+            wheelLock.unlock();
+        }
+    }
+
+    /**
+     * 휠 전진 (전용 스레드에서 tick-ms마다 호출)
+     */
+    void tick() {
+        try {
+            tick(System.currentTimeMillis());
+        } catch (Exception e) {
+            log.error("Sanction expiry tick failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 휠을 nowMs까지 전진시키고 만료 시각이 된 제재를 만료 처리
+     *
+     * @return 만료 처리된 제재 수
+     */
+    int tick(long nowMs) {
+        List<SanctionTarget> due = new ArrayList<>();
+        wheelLock.lock();
+        try {
+            if (wheel == null) {
+                return 0;
+            }
+            wheel.advance(nowMs, timer -> {
+                pending.remove(timer.payload().sanctionId());
+                if (timer.deadlineMs() >= startedAtMs) {
+                    // 시작 전에 이미 지난 제재(재시작 복구분)는 지연 측정에서 제외
+                    maxFireDelayMs.accumulate(nowMs - timer.deadlineMs());
+                }
+                due.add(timer.payload());
+            });
+        } finally {
+            wheelLock.unlock();
+        }
+        if (due.isEmpty()) {
+            return 0;
+        }
+        fired.add(due.size());
+
+        int count = 0;
+        LocalDateTime now = toLocalDateTime(nowMs);
+        for (int from = 0; from < due.size(); from += chunkSize) {
+            List<SanctionTarget> chunk = due.subList(from, Math.min(from + chunkSize, due.size()));
+            try {
+                List<SanctionTarget> targets = sanctionJdbcRepository.expireDue(
+                        chunk.stream().map(SanctionTarget::sanctionId).toList(), now);
+                SanctionExpiredEvent.groupByTarget(targets, now).forEach(eventPublisher::publishEvent);
+                count += targets.size();
+            } catch (Exception e) {
+                log.error("Failed to expire {} sanctions. Retrying in {}ms: {}",
+                        chunk.size(), RETRY_DELAY_MS, e.getMessage(), e);
+                retry(chunk, nowMs + RETRY_DELAY_MS);
+            }
+        }
+        expired.add(count);
+        return count;
+    }
+
+    /**
+     * 대기 중인 제재 수
+     */
+    public int getPendingCount() {
+        wheelLock.lock();
+        try {
+            return pending.size();
+        } finally {
+            wheelLock.unlock();
+        }
+    }
+
+    /**
+     * 스케줄러 메트릭 조회
+     */
+    public Metrics getMetrics() {
+        long horizon = horizonMs;
+        return new Metrics(
+                getPendingCount(),
+                horizon == Long.MIN_VALUE ? null : toLocalDateTime(horizon),
+                fired.sum(),
+                expired.sum(),
+                maxFireDelayMs.get()
+        );
+    }
+
+    /**
+     * 휠에 등록 (wheelLock 보유 상태에서 호출)
+     *
+     * @return 새로 등록되었는지 여부
+     */
+    private boolean add(Long sanctionId, String targetId, long deadlineMs) {
+        if (wheel == null || pending.containsKey(sanctionId)) {
+            return false;
+        }
+        pending.put(sanctionId, wheel.schedule(new SanctionTarget(sanctionId, targetId), deadlineMs));
+        return true;
+    }
+
+    private void retry(List<SanctionTarget> targets, long deadlineMs) {
+        wheelLock.lock();
+        try {
+            for (SanctionTarget target : targets) {
+                add(target.sanctionId(), target.targetId(), deadlineMs);
+            }
+        } finally {
+            wheelLock.unlock();
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    /**
+     * 만료 스케줄러 메트릭 스냅샷
+     *
+     * @param pending        휠에 대기 중인 제재 수
+     * @param horizon        적재 범위 상한 만료 시각
+     * @param fired          누적 타이머 실행 수
+     * @param expired        누적 만료 처리 건수 (취소 등으로 이미 비활성인 제재 제외)
+     * @param maxFireDelayMs 만료 시각 대비 최대 실행 지연(ms, 재시작 복구분 제외)
+     */
+    public record Metrics(int pending, LocalDateTime horizon, long fired, long expired, long maxFireDelayMs) {
+    }
+}
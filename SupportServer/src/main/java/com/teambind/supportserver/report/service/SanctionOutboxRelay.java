@@ -0,0 +1,320 @@
+package com.teambind.supportserver.report.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.supportserver.report.repository.SanctionOutboxJdbcRepository;
+import com.teambind.supportserver.report.repository.SanctionOutboxMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 제재 이벤트 아웃박스 릴레이
+ *
+ * <p>아웃박스의 전송 대기 이벤트를 발생 순서대로 배치 조회하여 Kafka로 전송하고, 브로커 확인(ack)을 받은
+ * 이벤트만 SENT로 표시합니다. 제재 트랜잭션은 아웃박스 기록까지만 수행하므로 브로커가 느려도 지연되지 않습니다.</p>
+ *
+ * <ul>
+ *   <li>단일 릴레이: 여러 인스턴스가 같은 대기 이벤트를 중복 전송하거나 같은 대상의 이벤트를 서로 다른 프로듀서로
+ *       섞어 보내지 않도록, DB 임대({@code sanction_outbox_relay_lease})를 보유한 인스턴스만 릴레이합니다.
+ *       임대는 배치마다 연장하고 배치 최대 소요 시간(send-timeout-ms)보다 길게 잡으며,
+ *       보유자가 비정상 종료하면 만료 후, 정상 종료하면 즉시 다른 인스턴스가 이어받습니다</li>
+ *   <li>순서: 메시지 키가 targetId이므로 대상별로 같은 파티션에 전송되며, 대상별 ack 대기 이벤트를 1건으로 제한해
+ *       앞선 이벤트의 ack를 받은 뒤에만 다음 이벤트를 전송합니다. 대상의 이벤트 하나가 실패하면 같은 배치의 이후 이벤트는
+ *       전송하지 않고 다음 주기에 실패한 이벤트부터 순서대로 재전송</li>
+ *   <li>전송 순서는 eventId 순서입니다. eventId는 커밋 전에 발급되므로 서로 다른 제재의 이벤트끼리는 커밋 순서와
+ *       다를 수 있지만, 한 제재의 해제/만료 이벤트는 적용 커밋 이후 제재 행을 잠근 트랜잭션에서 발급되므로
+ *       항상 적용 이벤트 뒤에 전송됩니다. 소비자는 상태를 sanctionId 단위로 관리합니다</li>
+ *   <li>멱등성: 멱등 프로듀서(enable.idempotence)로 재시도 중복을 막고, 릴레이 재전송으로 인한 중복은
+ *       메시지의 eventId(헤더 {@code eventId})로 소비자가 제거</li>
+ *   <li>배압: 배치 단위로 ack를 기다린 뒤 다음 배치를 조회하므로 전송 중인 메시지는 최대 batch-size건(대상 수),
+ *       실패가 발생하면 해당 주기의 전송을 중단</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class SanctionOutboxRelay implements DisposableBean {
+
+    private static final String LEASE_NAME = "sanction-outbox";
+
+    private final SanctionOutboxJdbcRepository sanctionOutboxJdbcRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final String topic;
+    private final int batchSize;
+    private final long sendTimeoutMs;
+    private final int maxBatchesPerRun;
+    private final long retentionMs;
+    private final long leaseMs;
+    private final String owner = UUID.randomUUID().toString();
+
+    private final ReentrantLock relayLock = new ReentrantLock();
+    private volatile boolean leaseHolder;
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private volatile int inFlight;
+    private volatile int lastBatchSize;
+    private volatile long lastBatchLatencyMs;
+
+    public SanctionOutboxRelay(SanctionOutboxJdbcRepository sanctionOutboxJdbcRepository,
+                               KafkaTemplate<String, String> kafkaTemplate,
+                               ObjectMapper objectMapper,
+                               @Value("${report.sanction.outbox.topic:sanction-events}") String topic,
+                               @Value("${report.sanction.outbox.batch-size:500}") int batchSize,
+                               @Value("${report.sanction.outbox.send-timeout-ms:10000}") long sendTimeoutMs,
+                               @Value("${report.sanction.outbox.max-batches-per-run:20}") int maxBatchesPerRun,
+                               @Value("${report.sanction.outbox.retention-ms:604800000}") long retentionMs,
+                               @Value("${report.sanction.outbox.lease-ms:30000}") long leaseMs) {
+        this.sanctionOutboxJdbcRepository = sanctionOutboxJdbcRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.topic = topic;
+        this.batchSize = batchSize;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.retentionMs = retentionMs;
+        // 배치 전송 중 임대가 만료되어 다른 인스턴스가 같은 이벤트를 보내지 않도록 배치 최대 소요 시간보다 길게
+        this.leaseMs = Math.max(leaseMs, sendTimeoutMs * 2);
+    }
+
+    /**
+     * 주기적 릴레이
+     */
+    @Scheduled(fixedDelayString = "${report.sanction.outbox.poll-interval-ms:500}")
+    public void scheduledRelay() {
+        try {
+            relay();
+        } catch (Exception e) {
+            log.error("Sanction outbox relay failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 전송 대기 이벤트 릴레이
+     *
+     * <p>다른 인스턴스가 릴레이 임대를 보유 중이면 아무것도 하지 않습니다.</p>
+     *
+     * @return 전송 완료된 이벤트 수
+     */
+    public int relay() {
+        if (!relayLock.tryLock()) {
+            return 0;
+        }
+        try {
+            int total = 0;
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                if (!acquireLease()) {
+                    break;
+                }
+                List<SanctionOutboxMessage> messages = sanctionOutboxJdbcRepository.findPending(batchSize);
+                if (messages.isEmpty()) {
+                    break;
+                }
+                BatchResult result = sendBatch(messages);
+                total += result.sentCount();
+                if (result.failedCount() > 0 || messages.size() < batchSize) {
+                    break;
+                }
+            }
+            return total;
+        } finally {
+            relayLock.unlock();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (!leaseHolder) {
+            return;
+        }
+        try {
+            sanctionOutboxJdbcRepository.releaseRelayLease(LEASE_NAME, owner);
+            log.info("Sanction outbox relay lease released: owner={}", owner);
+        } catch (Exception e) {
+            log.warn("Failed to release sanction outbox relay lease: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 릴레이 임대 획득/연장 (보유자 변경 시 로그)
+     */
+    private boolean acquireLease() {
+        boolean acquired = sanctionOutboxJdbcRepository.tryAcquireRelayLease(LEASE_NAME, owner, leaseMs);
+        if (acquired != leaseHolder) {
+            log.info("Sanction outbox relay lease {}: owner={}", acquired ? "acquired" : "held by another instance", owner);
+        }
+        leaseHolder = acquired;
+        return acquired;
+    }
+
+    /**
+     * 보관 기간이 지난 전송 완료 이벤트 정리
+     */
+    @Scheduled(fixedDelayString = "${report.sanction.outbox.purge-interval-ms:3600000}")
+    public void purgeSent() {
+        try {
+            LocalDateTime before = LocalDateTime.now().minus(Duration.ofMillis(retentionMs));
+            int deleted;
+            int total = 0;
+            do {
+                deleted = sanctionOutboxJdbcRepository.deleteSentBefore(before, batchSize);
+                total += deleted;
+            } while (deleted == batchSize);
+
+            if (total > 0) {
+                log.info("Purged {} sent sanction outbox events before {}", total, before);
+            }
+        } catch (Exception e) {
+            log.error("Sanction outbox purge failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 릴레이 메트릭 조회
+     */
+    public Metrics getMetrics() {
+        long oldestPendingAgeMs = sanctionOutboxJdbcRepository.findOldestPendingOccurredAt()
+                .map(oldest -> Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()))
+                .orElse(0L);
+        return new Metrics(
+                leaseHolder,
+                sanctionOutboxJdbcRepository.countPending(),
+                oldestPendingAgeMs,
+                inFlight,
+                sent.sum(),
+                failed.sum(),
+                lastBatchSize,
+                lastBatchLatencyMs
+        );
+    }
+
+    /**
+     * 배치 전송 후 ack를 받은 이벤트를 SENT로 표시
+     *
+     * <p>대상별로 ack 대기 중인 이벤트를 최대 1건으로 제한합니다. 매 회차마다 대상별 가장 앞선 미전송 이벤트만
+     * 전송하고 ack를 기다린 뒤 그 대상의 다음 이벤트로 넘어가므로, 앞선 이벤트가 실패한 대상의 이후 이벤트는
+     * 브로커에 도달하지 않고 다음 주기에 실패한 이벤트부터 다시 전송됩니다. 서로 다른 대상의 이벤트는 한 회차에 함께 전송됩니다.</p>
+     */
+    private BatchResult sendBatch(List<SanctionOutboxMessage> messages) {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+
+        Map<String, ArrayDeque<SanctionOutboxMessage>> pendingByTarget = new LinkedHashMap<>();
+        for (SanctionOutboxMessage message : messages) {
+            pendingByTarget.computeIfAbsent(message.targetId(), targetId -> new ArrayDeque<>()).add(message);
+        }
+
+        List<Long> sentIds = new ArrayList<>(messages.size());
+        List<Long> failedIds = new ArrayList<>();
+        while (!pendingByTarget.isEmpty()) {
+            List<SanctionOutboxMessage> round = new ArrayList<>(pendingByTarget.size());
+            List<CompletableFuture<SendResult<String, String>>> futures = new ArrayList<>(pendingByTarget.size());
+            for (ArrayDeque<SanctionOutboxMessage> pending : pendingByTarget.values()) {
+                SanctionOutboxMessage message = pending.peekFirst();
+                round.add(message);
+                futures.add(send(message));
+            }
+            inFlight = futures.size();
+
+            for (int i = 0; i < round.size(); i++) {
+                SanctionOutboxMessage message = round.get(i);
+                if (await(futures.get(i), deadline, message)) {
+                    sentIds.add(message.eventId());
+                    ArrayDeque<SanctionOutboxMessage> pending = pendingByTarget.get(message.targetId());
+                    pending.pollFirst();
+                    if (pending.isEmpty()) {
+                        pendingByTarget.remove(message.targetId());
+                    }
+                } else {
+                    // 순서 유지를 위해 이 대상의 이후 이벤트는 전송하지 않고 다음 주기로 미룸
+                    failedIds.add(message.eventId());
+                    pendingByTarget.remove(message.targetId());
+                }
+            }
+        }
+        inFlight = 0;
+
+        sanctionOutboxJdbcRepository.markSent(sentIds, LocalDateTime.now());
+        sanctionOutboxJdbcRepository.incrementAttempts(failedIds);
+
+        sent.add(sentIds.size());
+        failed.add(failedIds.size());
+        lastBatchSize = messages.size();
+        lastBatchLatencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        if (!failedIds.isEmpty()) {
+            log.warn("Sanction outbox relay batch partially failed: sent={}, failed={}, deferred={}",
+                    sentIds.size(), failedIds.size(), messages.size() - sentIds.size() - failedIds.size());
+        } else {
+            log.debug("Sanction outbox relay batch sent: size={}, latencyMs={}", sentIds.size(), lastBatchLatencyMs);
+        }
+        return new BatchResult(sentIds.size(), failedIds.size());
+    }
+
+    private CompletableFuture<SendResult<String, String>> send(SanctionOutboxMessage message) {
+        try {
+            ProducerRecord<String, String> record = new ProducerRecord<>(
+                    topic, message.targetId(), objectMapper.writeValueAsString(message));
+            record.headers()
+                    .add("eventId", String.valueOf(message.eventId()).getBytes(StandardCharsets.UTF_8))
+                    .add("eventType", message.eventType().name().getBytes(StandardCharsets.UTF_8));
+            return kafkaTemplate.send(record);
+        } catch (Exception e) {
+            // 직렬화 실패 또는 버퍼 포화 등으로 send 호출 자체가 실패한 경우
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private boolean await(CompletableFuture<SendResult<String, String>> future, long deadlineNanos,
+                          SanctionOutboxMessage message) {
+        try {
+            future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.warn("Failed to send sanction event: eventId={}, targetId={}, cause={}",
+                    message.eventId(), message.targetId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private record BatchResult(int sentCount, int failedCount) {
+    }
+
+    /**
+     * 릴레이 메트릭 스냅샷
+     *
+     * @param leaseHolder        이 인스턴스가 릴레이 임대를 보유 중인지 여부
+     * @param pending            전송 대기 이벤트 수 (백로그)
+     * @param oldestPendingAgeMs 가장 오래된 전송 대기 이벤트의 대기 시간(ms)
+     * @param inFlight           ack 대기 중인 메시지 수
+     * @param sent               누적 전송 완료 수
+     * @param failed             누적 전송 실패 수
+     * @param lastBatchSize      마지막 배치 크기
+     * @param lastBatchLatencyMs 마지막 배치 전송~ack 소요 시간(ms)
+     */
+    public record Metrics(boolean leaseHolder, long pending, long oldestPendingAgeMs, int inFlight, long sent, long failed,
+                          int lastBatchSize, long lastBatchLatencyMs) {
+    }
+}
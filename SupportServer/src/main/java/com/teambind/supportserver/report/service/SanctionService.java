@@ -1,6 +1,7 @@
 package com.teambind.supportserver.report.service;
 
 import com.teambind.supportserver.report.entity.Sanction;
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
 import com.teambind.supportserver.report.entity.enums.SanctionType;
 
 import java.util.List;
@@ -20,7 +21,7 @@ public interface SanctionService {
      * @param reason       제재 사유
      * @return 적용된 제재 엔티티
      */
-    Sanction createSanction(String reportId, String targetId, SanctionType sanctionType, 
+    Sanction createSanction(Long reportId, String targetId, SanctionType sanctionType, 
                            Integer duration, String reason);
 
     /**
@@ -30,7 +31,20 @@ public interface SanctionService {
      * @param targetId 제재 대상 ID
      * @return 적용된 제재 엔티티
      */
-    Sanction applyAutoSanction(String reportId, String targetId);
+    Sanction applyAutoSanction(Long reportId, String targetId);
+
+    /**
+     * 자동 제재 적용 (신고 횟수 기반, 신고 조회 없이 판정)
+     *
+     * <p>방금 접수한 신고처럼 타입/카테고리를 이미 알고 있으면 신고를 다시 조회하지 않고 판정합니다.</p>
+     *
+     * @param reportId       연관 신고 ID
+     * @param referenceType  신고 대상 타입
+     * @param reportCategory 신고 카테고리
+     * @param targetId       제재 대상 ID
+     * @return 적용된 제재 엔티티 (적용하지 않으면 null)
+     */
+    Sanction applyAutoSanction(Long reportId, ReferenceType referenceType, String reportCategory, String targetId);
 
     /**
      * 제재 상세 조회
@@ -38,7 +52,7 @@ public interface SanctionService {
      * @param sanctionId 제재 ID
      * @return 제재 엔티티
      */
-    Sanction getSanctionById(String sanctionId);
+    Sanction getSanctionById(Long sanctionId);
 
     /**
      * 특정 대상의 활성 제재 조회
@@ -62,7 +76,7 @@ public interface SanctionService {
      * @param sanctionId 제재 ID
      * @param adminId    처리한 관리자 ID
      */
-    void revokeSanction(String sanctionId, String adminId);
+    void revokeSanction(Long sanctionId, String adminId);
 
     /**
      * 만료된 제재 처리
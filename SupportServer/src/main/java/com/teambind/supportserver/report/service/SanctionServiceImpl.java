@@ -0,0 +1,271 @@
+package com.teambind.supportserver.report.service;
+
+import com.teambind.supportserver.common.utils.IdGenerator;
+import com.teambind.supportserver.report.entity.Report;
+import com.teambind.supportserver.report.entity.Sanction;
+import com.teambind.supportserver.report.entity.SanctionRule;
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
+import com.teambind.supportserver.report.entity.enums.SanctionStatus;
+import com.teambind.supportserver.report.entity.enums.SanctionType;
+import com.teambind.supportserver.report.exceptions.ErrorCode;
+import com.teambind.supportserver.report.exceptions.ReportException;
+import com.teambind.supportserver.report.repository.ReportRepository;
+import com.teambind.supportserver.report.repository.SanctionJdbcRepository;
+import com.teambind.supportserver.report.repository.SanctionOutboxJdbcRepository;
+import com.teambind.supportserver.report.repository.SanctionOutboxMessage;
+import com.teambind.supportserver.report.repository.SanctionRepository;
+import com.teambind.supportserver.report.utils.SanctionBloomFilter;
+import com.teambind.supportserver.report.utils.SanctionRuleCache;
+import com.teambind.supportserver.report.utils.SanctionState;
+import com.teambind.supportserver.report.utils.SanctionStatusCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 제재 서비스 구현체
+ *
+ * <p>제재 적용/해제 이벤트는 제재 변경과 같은 트랜잭션에서 아웃박스에 기록되며,
+ * Kafka 전송은 {@link SanctionOutboxRelay}가 트랜잭션 밖에서 비동기로 수행합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SanctionServiceImpl implements SanctionService {
+
+    private final SanctionRepository sanctionRepository;
+    private final SanctionJdbcRepository sanctionJdbcRepository;
+    private final ReportRepository reportRepository;
+    private final ReportStatisticsService reportStatisticsService;
+    private final SanctionRuleCache sanctionRuleCache;
+    private final SanctionStatusCache sanctionStatusCache;
+    private final SanctionBloomFilter sanctionBloomFilter;
+    private final SanctionExpirationJob sanctionExpirationJob;
+    private final SanctionExpiryScheduler sanctionExpiryScheduler;
+    private final SanctionOutboxJdbcRepository sanctionOutboxJdbcRepository;
+    private final IdGenerator idGenerator;
+
+    /**
+     * 제재 적용
+     *
+     * <p>신고는 연관관계(FK) 설정에만 쓰이므로 조회하지 않고 참조만 사용합니다.
+     * 존재하지 않는 신고 ID이면 flush 시 FK 제약 위반으로 실패합니다.</p>
+     */
+    @Override
+    @Transactional
+    public Sanction createSanction(Long reportId, String targetId, SanctionType sanctionType,
+                                   Integer duration, String reason) {
+        Report report = reportRepository.getReferenceById(reportId);
+
+        Sanction sanction = Sanction.builder()
+                .sanctionId(idGenerator.generateLongId())
+                .report(report)
+                .targetId(targetId)
+                .sanctionType(sanctionType)
+                .duration(duration)
+                .reason(reason)
+                .build();
+        Sanction savedSanction = sanctionRepository.save(sanction);
+        sanctionOutboxJdbcRepository.append(List.of(SanctionOutboxMessage.applied(savedSanction)));
+        afterCommit(() -> {
+            sanctionBloomFilter.add(targetId);
+            sanctionStatusCache.evict(targetId);
+            sanctionExpiryScheduler.schedule(savedSanction.getSanctionId(), targetId, savedSanction.getExpiresAt());
+        });
+
+        log.info("Sanction created: sanctionId={}, targetId={}, sanctionType={}, duration={}",
+                savedSanction.getSanctionId(), targetId, sanctionType, duration);
+
+        return savedSanction;
+    }
+
+    /**
+     * 자동 제재 적용 (신고를 조회해 타입/카테고리 확인 후 판정)
+     */
+    @Override
+    @Transactional
+    public Sanction applyAutoSanction(Long reportId, String targetId) {
+        Report report = findReportEntity(reportId);
+        return applyAutoSanction(reportId, report.getReferenceType(), report.getReportCategory(), targetId);
+    }
+
+    /**
+     * 자동 제재 적용 (신고 횟수 기반)
+     *
+     * <p>규칙 판정은 메모리 임계값 인덱스의 이진 탐색으로 수행하며, 규칙이 있는 대상 타입에 대해서만
+     * 신고 횟수를 조회합니다. 대상에게 같은 타입의 활성 제재가 이미 있으면 중복 적용하지 않습니다.
+     * 적용할 규칙이 있으면 대상 잠금을 먼저 얻어, 같은 대상에 대한 동시 신고가 활성 제재 확인과 생성 사이에
+     * 끼어들어 중복 제재를 만들지 않도록 합니다.</p>
+     *
+     * @return 적용된 제재 엔티티 (적용할 규칙이 없으면 null)
+     */
+    @Override
+    @Transactional
+    public Sanction applyAutoSanction(Long reportId, ReferenceType referenceType, String reportCategory,
+                                      String targetId) {
+        if (!sanctionRuleCache.hasRules(referenceType)) {
+            return null;
+        }
+
+        long reportCount = reportStatisticsService.getReportCount(
+                referenceType, targetId, reportCategory);
+        Optional<SanctionRule> rule = sanctionRuleCache.findApplicableRule(referenceType, reportCount);
+        if (rule.isEmpty()) {
+            return null;
+        }
+
+        SanctionRule sanctionRule = rule.get();
+        sanctionJdbcRepository.lockTarget(targetId);
+        if (sanctionJdbcRepository.existsActiveForUpdate(targetId, sanctionRule.getSanctionType())) {
+            log.debug("Auto sanction skipped (already active): targetId={}, sanctionType={}",
+                    targetId, sanctionRule.getSanctionType());
+            return null;
+        }
+
+        log.info("Auto sanction triggered: targetId={}, reportCount={}, ruleId={}",
+                targetId, reportCount, sanctionRule.getRuleId());
+
+        return createSanction(reportId, targetId, sanctionRule.getSanctionType(), sanctionRule.getDuration(),
+                "자동 제재: 신고 " + reportCount + "회 누적 (규칙 " + sanctionRule.getRuleId() + ")");
+    }
+
+    @Override
+    public Sanction getSanctionById(Long sanctionId) {
+        return findSanctionEntity(sanctionId);
+    }
+
+    @Override
+    public List<Sanction> getActiveSanctions(String targetId) {
+        return sanctionRepository.findByTargetIdAndStatus(targetId, SanctionStatus.ACTIVE).stream()
+                .filter(Sanction::isActive)
+                .toList();
+    }
+
+    @Override
+    public List<Sanction> getSanctionHistory(String targetId) {
+        return sanctionRepository.findByTargetIdOrderBySanctionedAtDesc(targetId);
+    }
+
+    /**
+     * 제재 취소
+     *
+     * <p>제재 행을 쓰기 잠금으로 읽어 만료 작업과 직렬화합니다. 잠금을 얻은 시점에 활성 상태인 제재만
+     * 취소하며, 그 사이 만료되었거나 이미 취소된 제재는 그대로 두고 이벤트/Bloom Filter도 건드리지 않습니다.</p>
+     */
+    @Override
+    @Transactional
+    public void revokeSanction(Long sanctionId, String adminId) {
+        Sanction sanction = sanctionRepository.findByIdForUpdate(sanctionId)
+                .orElseThrow(() -> new ReportException(ErrorCode.SANCTION_NOT_FOUND));
+        if (sanction.getStatus() != SanctionStatus.ACTIVE) {
+            log.info("Sanction revoke skipped (not active): sanctionId={}, status={}, adminId={}",
+                    sanctionId, sanction.getStatus(), adminId);
+            return;
+        }
+
+        sanction.revoke();
+        sanctionOutboxJdbcRepository.append(List.of(SanctionOutboxMessage.revoked(sanction)));
+
+        String targetId = sanction.getTargetId();
+        afterCommit(() -> {
+            sanctionBloomFilter.remove(targetId);
+            sanctionStatusCache.evict(targetId);
+            sanctionExpiryScheduler.cancel(sanctionId);
+        });
+
+        log.info("Sanction revoked: sanctionId={}, adminId={}", sanctionId, adminId);
+    }
+
+    /**
+     * 만료된 제재 처리
+     *
+     * <p>청크 단위 bulk UPDATE로 처리하며 청크마다 별도의 짧은 트랜잭션을 사용하므로,
+     * 호출자의 트랜잭션에 참여하지 않습니다.</p>
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void expireOldSanctions() {
+        sanctionExpirationJob.run();
+    }
+
+    /**
+     * 제재 여부 확인
+     *
+     * <p>Bloom Filter 음성과 상태 캐시 적중은 DB를 거치지 않으므로 트랜잭션을 열지 않습니다.
+     * 캐시 미스 시의 로드만 리포지토리 호출 단위로 커넥션을 사용합니다.</p>
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean isSanctioned(String targetId) {
+        if (!sanctionBloomFilter.mightContain(targetId)) {
+            return false;
+        }
+
+        boolean sanctioned = sanctionStatusCache.get(targetId, this::loadSanctionState)
+                .isSanctionedAt(LocalDateTime.now());
+        if (!sanctioned) {
+            sanctionBloomFilter.recordFalsePositive();
+        }
+        return sanctioned;
+    }
+
+    /**
+     * DB에서 대상의 제재 상태 로드 (캐시 미스 시)
+     */
+    private SanctionState loadSanctionState(String targetId) {
+        List<Sanction> activeSanctions = getActiveSanctions(targetId);
+        if (activeSanctions.isEmpty()) {
+            return SanctionState.none();
+        }
+        if (activeSanctions.stream().anyMatch(sanction -> sanction.getExpiresAt() == null)) {
+            return SanctionState.permanent();
+        }
+        return activeSanctions.stream()
+                .map(Sanction::getExpiresAt)
+                .max(Comparator.naturalOrder())
+                .map(SanctionState::until)
+                .orElseGet(SanctionState::none);
+    }
+
+    /**
+     * 커밋 이후 실행 (Bloom Filter 갱신, 제재 상태 캐시 무효화 - 롤백 시 실행하지 않음)
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    /**
+     * Report 엔티티 조회 (내부용)
+     */
+    private Report findReportEntity(Long reportId) {
+        return reportRepository.findById(reportId)
+                .orElseThrow(() -> new ReportException(ErrorCode.REPORT_NOT_FOUND));
+    }
+
+    /**
+     * Sanction 엔티티 조회 (내부용)
+     */
+    private Sanction findSanctionEntity(Long sanctionId) {
+        return sanctionRepository.findById(sanctionId)
+                .orElseThrow(() -> new ReportException(ErrorCode.SANCTION_NOT_FOUND));
+    }
+}
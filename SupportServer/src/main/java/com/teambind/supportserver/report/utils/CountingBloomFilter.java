@@ -0,0 +1,183 @@
+package com.teambind.supportserver.report.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 4비트 카운터 기반 Counting Bloom Filter
+ *
+ * <p>일반 Bloom Filter는 삭제가 불가능하므로, 슬롯마다 4비트 카운터를 두어 추가/삭제를 모두 지원합니다.
+ * 카운터는 long 하나에 16개씩 묶어 AtomicLongArray에 CAS로 갱신하므로 락 없이 스레드 세이프합니다.</p>
+ *
+ * <ul>
+ *   <li>false negative 없음 (삭제는 추가된 원소에 대해서만 호출되어야 함)</li>
+ *   <li>카운터가 최댓값(15)에 도달하면 고정되어 더 이상 감소하지 않음 (false positive 방향으로만 오차 발생)</li>
+ *   <li>해시는 64비트 해시 두 개를 조합하는 double hashing(Kirsch-Mitzenmacher) 사용</li>
+ * </ul>
+ */
+public final class CountingBloomFilter {
+
+    private static final int BITS_PER_COUNTER = 4;
+    private static final int COUNTERS_PER_WORD = Long.SIZE / BITS_PER_COUNTER;
+    private static final long COUNTER_MASK = 0xFL;
+
+    private final AtomicLongArray words;
+    private final long counterCount;
+    private final int hashCount;
+
+    private CountingBloomFilter(long counterCount, int hashCount) {
+        this.counterCount = counterCount;
+        this.hashCount = hashCount;
+        this.words = new AtomicLongArray(Math.toIntExact((counterCount + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD));
+    }
+
+    /**
+     * 예상 원소 수와 목표 false positive 확률로 필터 생성
+     *
+     * @param expectedInsertions 예상 원소 수
+     * @param fpp                목표 false positive 확률 (0 < fpp < 1)
+     */
+    public static CountingBloomFilter create(long expectedInsertions, double fpp) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be positive: " + expectedInsertions);
+        }
+        if (fpp <= 0.0 || fpp >= 1.0) {
+            throw new IllegalArgumentException("fpp must be between 0 and 1: " + fpp);
+        }
+        long counters = Math.max(COUNTERS_PER_WORD,
+                (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2))));
+        int hashes = Math.max(1, (int) Math.round((double) counters / expectedInsertions * Math.log(2)));
+        return new CountingBloomFilter(counters, hashes);
+    }
+
+    /**
+     * 원소 추가
+     */
+    public void add(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < hashCount; i++) {
+            increment(index(hash1, hash2, i));
+        }
+    }
+
+    /**
+     * 원소 삭제 (이전에 추가된 원소에 대해서만 호출)
+     */
+    public void remove(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < hashCount; i++) {
+            decrement(index(hash1, hash2, i));
+        }
+    }
+
+    /**
+     * 원소 포함 가능성 확인
+     *
+     * @return false이면 확실히 없음, true이면 있을 수 있음
+     */
+    public boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < hashCount; i++) {
+            if (counter(index(hash1, hash2, i)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 원소 수 기준 이론적 false positive 확률 (1 - e^(-kn/m))^k
+     */
+    public double expectedFpp(long elementCount) {
+        return Math.pow(1 - Math.exp(-(double) hashCount * elementCount / counterCount), hashCount);
+    }
+
+    /**
+     * 카운터 배열 메모리 사용량(byte)
+     */
+    public long memoryBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    public long counterCount() {
+        return counterCount;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    private long index(long hash1, long hash2, int i) {
+        return Math.floorMod(hash1 + i * hash2, counterCount);
+    }
+
+    private int counter(long index) {
+        long word = words.get(wordIndex(index));
+        return (int) ((word >>> shift(index)) & COUNTER_MASK);
+    }
+
+    private void increment(long index) {
+        int wordIndex = wordIndex(index);
+        int shift = shift(index);
+        while (true) {
+            long word = words.get(wordIndex);
+            long value = (word >>> shift) & COUNTER_MASK;
+            if (value == COUNTER_MASK) {
+                return; // 포화 카운터는 고정
+            }
+            if (words.compareAndSet(wordIndex, word, word + (1L << shift))) {
+                return;
+            }
+        }
+    }
+
+    private void decrement(long index) {
+        int wordIndex = wordIndex(index);
+        int shift = shift(index);
+        while (true) {
+            long word = words.get(wordIndex);
+            long value = (word >>> shift) & COUNTER_MASK;
+            if (value == 0 || value == COUNTER_MASK) {
+                return; // 0 이하로 내려가지 않으며, 포화 카운터는 감소시키지 않음
+            }
+            if (words.compareAndSet(wordIndex, word, word - (1L << shift))) {
+                return;
+            }
+        }
+    }
+
+    private static int wordIndex(long index) {
+        return (int) (index / COUNTERS_PER_WORD);
+    }
+
+    private static int shift(long index) {
+        return (int) (index % COUNTERS_PER_WORD) * BITS_PER_COUNTER;
+    }
+
+    /**
+     * 64비트 FNV-1a 해시
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * MurmurHash3 fmix64 (비트 확산)
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
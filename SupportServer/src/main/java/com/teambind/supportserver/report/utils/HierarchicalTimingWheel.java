@@ -0,0 +1,226 @@
+package com.teambind.supportserver.report.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠 (Hierarchical Timing Wheel)
+ *
+ * <p>레벨 0은 {@code tickMs} 간격의 버킷 {@code wheelSize}개로 구성되고, 상위 레벨의 틱은 하위 레벨 한 바퀴 크기입니다.
+ * 하위 레벨 범위를 넘는 타이머는 상위 레벨에 두었다가, 해당 버킷 구간에 도달하면 하위 레벨로 재배치(cascade)합니다.
+ * 상위 레벨은 필요할 때만 생성됩니다.</p>
+ *
+ * <ul>
+ *   <li>등록/취소 O(1), 타이머당 고정 크기 노드 1개 (버킷은 침습형 이중 연결 리스트)</li>
+ *   <li>타이머는 만료 시각이 지난 뒤 다음 틱에서 실행되므로 지연은 최대 {@code tickMs}</li>
+ *   <li>스레드 세이프하지 않으므로 호출자가 동기화해야 함</li>
+ * </ul>
+ *
+ * @param <T> 타이머 페이로드 타입
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final List<Level<T>> levels = new ArrayList<>();
+
+    /**
+     * 현재 휠 시각 (tickMs 배수, 이 시각 이전 만료 타이머는 모두 실행됨)
+     */
+    private long currentTime;
+    private int size;
+
+    /**
+     * @param tickMs    레벨 0 틱 간격(ms)
+     * @param wheelSize 레벨당 버킷 수
+     * @param startMs   시작 시각(epoch ms)
+     */
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0) {
+            throw new IllegalArgumentException("tickMs must be positive: " + tickMs);
+        }
+        if (wheelSize < 2) {
+            throw new IllegalArgumentException("wheelSize must be at least 2: " + wheelSize);
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.currentTime = startMs - Math.floorMod(startMs, tickMs);
+        this.levels.add(new Level<>(tickMs, wheelSize));
+    }
+
+    /**
+     * 타이머 등록
+     *
+     * <p>만료 시각이 이미 지난 타이머는 현재 버킷에 배치되어 다음 틱에 실행됩니다.</p>
+     *
+     * @param payload    페이로드
+     * @param deadlineMs 만료 시각(epoch ms)
+     * @return 등록된 타이머 (취소 핸들)
+     */
+    public Timer<T> schedule(T payload, long deadlineMs) {
+        Timer<T> timer = new Timer<>(payload, deadlineMs);
+        place(timer);
+        size++;
+        return timer;
+    }
+
+    /**
+     * 타이머 취소
+     *
+     * @return 대기 중이던 타이머를 취소했는지 여부
+     */
+    public boolean cancel(Timer<T> timer) {
+        if (timer == null || timer.bucket == null) {
+            return false;
+        }
+        timer.unlink();
+        size--;
+        return true;
+    }
+
+    /**
+     * 휠 시각을 nowMs까지 전진시키며 만료된 타이머 실행
+     *
+     * @param nowMs   현재 시각(epoch ms)
+     * @param expired 만료된 타이머 콜백
+     */
+    public void advance(long nowMs, Consumer<Timer<T>> expired) {
+        while (currentTime + tickMs <= nowMs) {
+            // 레벨 0의 현재 버킷([currentTime, currentTime + tickMs))이 모두 만료됨
+            Bucket<T> due = levels.get(0).bucketFor(currentTime);
+            currentTime += tickMs;
+            drain(due, timer -> {
+                size--;
+                expired.accept(timer);
+            });
+
+            // 상위 레벨 버킷 구간에 진입하면 하위 레벨로 재배치
+            for (int i = levels.size() - 1; i >= 1; i--) {
+                Level<T> level = levels.get(i);
+                if (currentTime % level.tickMs == 0) {
+                    drain(level.bucketFor(currentTime), this::place);
+                }
+            }
+        }
+    }
+
+    /**
+     * 대기 중인 타이머 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 현재 레벨 수
+     */
+    public int levelCount() {
+        return levels.size();
+    }
+
+    /**
+     * 현재 휠 시각(epoch ms)
+     */
+    public long currentTime() {
+        return currentTime;
+    }
+
+    /**
+     * 타이머를 수용 가능한 가장 낮은 레벨에 배치
+     */
+    private void place(Timer<T> timer) {
+        long deadline = Math.max(timer.deadlineMs, currentTime);
+        for (int i = 0; ; i++) {
+            if (i == levels.size()) {
+                Level<T> top = levels.get(i - 1);
+                levels.add(new Level<>(Math.multiplyExact(top.tickMs, (long) wheelSize), wheelSize));
+            }
+            Level<T> level = levels.get(i);
+            if (Math.floorDiv(deadline, level.tickMs) - Math.floorDiv(currentTime, level.tickMs) < wheelSize) {
+                level.bucketFor(deadline).append(timer);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 버킷의 타이머를 모두 꺼내 처리
+     */
+    private void drain(Bucket<T> bucket, Consumer<Timer<T>> action) {
+        Timer<T> timer = bucket.head.next;
+        while (timer != bucket.head) {
+            Timer<T> next = timer.next;
+            timer.unlink();
+            action.accept(timer);
+            timer = next;
+        }
+    }
+
+    /**
+     * 등록된 타이머 (취소 핸들)
+     */
+    public static final class Timer<T> {
+        private final T payload;
+        private final long deadlineMs;
+        private Timer<T> prev;
+        private Timer<T> next;
+        private Bucket<T> bucket;
+
+        private Timer(T payload, long deadlineMs) {
+            this.payload = payload;
+            this.deadlineMs = deadlineMs;
+        }
+
+        public T payload() {
+            return payload;
+        }
+
+        public long deadlineMs() {
+            return deadlineMs;
+        }
+
+        private void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = null;
+            next = null;
+            bucket = null;
+        }
+    }
+
+    private static final class Level<T> {
+        private final long tickMs;
+        private final Bucket<T>[] buckets;
+
+        @SuppressWarnings("unchecked")
+        private Level(long tickMs, int wheelSize) {
+            this.tickMs = tickMs;
+            this.buckets = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new Bucket<>();
+            }
+        }
+
+        private Bucket<T> bucketFor(long timeMs) {
+            return buckets[(int) Math.floorMod(Math.floorDiv(timeMs, tickMs), (long) buckets.length)];
+        }
+    }
+
+    private static final class Bucket<T> {
+        private final Timer<T> head = new Timer<>(null, 0);
+
+        private Bucket() {
+            head.prev = head;
+            head.next = head;
+        }
+
+        private void append(Timer<T> timer) {
+            timer.bucket = this;
+            timer.prev = head.prev;
+            timer.next = head;
+            head.prev.next = timer;
+            head.prev = timer;
+        }
+    }
+}
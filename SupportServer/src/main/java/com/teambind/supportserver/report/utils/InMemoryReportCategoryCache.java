@@ -1,52 +1,91 @@
 package com.teambind.supportserver.report.utils;
 
+import com.teambind.supportserver.common.cache.ClusterCacheInvalidator;
+import com.teambind.supportserver.report.aop.PerformanceMonitoringAspect;
 import com.teambind.supportserver.report.entity.ReportCategory;
 import com.teambind.supportserver.report.entity.embeddable.ReportCategoryId;
 import com.teambind.supportserver.report.entity.enums.ReferenceType;
 import com.teambind.supportserver.report.repository.ReportCategoryRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * 인메모리 기반 ReportCategory 캐시 구현체
  *
- * <p>애플리케이션 시작 시 DB에서 모든 카테고리를 로드하여 ConcurrentHashMap에 캐싱합니다.
- * 스레드 세이프하며, 운영 중 수동 리로드를 통해 DB와 동기화할 수 있습니다.</p>
+ * <p>애플리케이션 시작 시 DB에서 모든 카테고리를 로드하여 불변 스냅샷으로 캐싱합니다.
+ * 리로드는 새 스냅샷을 만든 뒤 참조를 한 번에 교체하므로 조회 스레드가 비어 있거나 일부만 채워진 캐시를 보지 않으며,
+ * 운영 중 수동 리로드를 통해 DB와 동기화할 수 있습니다.</p>
  *
  * <p>주요 특징:</p>
  * <ul>
  *   <li>ApplicationRunner를 통한 자동 초기화</li>
- *   <li>ConcurrentHashMap 기반 스레드 세이프 캐시</li>
+ *   <li>불변 스냅샷 + volatile 참조 교체 (조회 시 락/복사 없음)</li>
+ *   <li>정규화된 입력은 조회 시 객체 할당 없음 (createReport마다 호출되는 경로)</li>
  *   <li>단일 쿼리로 전체 카테고리 로드 (N+1 방지)</li>
  *   <li>초기 로딩 실패 시 재시도 전략</li>
+ *   <li>수동 리로드 시 {@link ClusterCacheInvalidator}로 다른 인스턴스에도 리로드 전파</li>
+ *   <li>주기적 증분 동기화: {@code updated_at}이 마지막 동기화 버전 이후인 행만 조회하여 스냅샷에 반영.
+ *       커밋 지연으로 늦게 보이는 행을 놓치지 않도록 {@code delta-overlap-ms}만큼 겹쳐 조회하고,
+ *       반영 후 복합키 집합이 DB 키 집합과 다르면(행 삭제) 전체 리로드. 건수가 아닌 키를 비교하므로
+ *       같은 주기에 삭제와 추가가 함께 일어나도 감지</li>
+ *   <li>조회 지연 시간은 AOP 프록시 대신 조회 메서드 안에서 1/N 샘플링으로 직접 측정
+ *       ({@code monitoring.latency.cache-sample-rate}, 0이면 측정 안 함). 선택되지 않은 호출은 난수 1회 외에
+ *       시각 측정이나 기록 비용이 없음</li>
  * </ul>
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class InMemoryReportCategoryCache implements ReportCategoryCache, ApplicationRunner {
 
+    /**
+     * 클러스터 무효화 캐시 이름
+     */
+    public static final String CACHE_NAME = "report-category";
+
+    private static final String SYNC_FULL = "FULL";
+    private static final String SYNC_DELTA = "DELTA";
+
     private final ReportCategoryRepository reportCategoryRepository;
+    private final ClusterCacheInvalidator cacheInvalidator;
+    private final long deltaOverlapMs;
+    private final int sampleRate;
+    private final MeterRegistry meterRegistry;
 
     /**
-     * 복합키(ReferenceType + category)를 키로 하는 캐시 맵
+     * 조회 지연 시간 타이머 (측정 안 하거나 레지스트리에서 제거되었으면 null, 다음 측정 시 다시 등록)
      */
-    private final Map<ReportCategoryId, ReportCategory> cache = new ConcurrentHashMap<>();
+    private volatile Timer lookupTimer;
 
     /**
-     * 캐시 초기화 완료 플래그
+     * 현재 캐시 스냅샷 (초기화 전이면 null)
      */
-    private volatile boolean initialized = false;
+    private volatile ReportCategorySnapshot snapshot;
+
+    /**
+     * 전체 리로드와 증분 동기화 직렬화 (늦게 끝난 동기화가 최신 스냅샷을 덮어쓰지 않도록), 조회는 락 미사용
+     */
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    private final LongAdder fullReloads = new LongAdder();
+    private final LongAdder deltaSyncs = new LongAdder();
+    private volatile LocalDateTime lastSyncAt;
+    private volatile String lastSyncType;
+    private volatile int lastDeltaSize;
 
     /**
      * 최대 재시도 횟수
@@ -58,9 +97,31 @@ public class InMemoryReportCategoryCache implements ReportCategoryCache, Applica
      */
     private static final long RETRY_DELAY_MS = 2000;
 
+    public InMemoryReportCategoryCache(ReportCategoryRepository reportCategoryRepository,
+                                       ClusterCacheInvalidator cacheInvalidator,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${monitoring.latency.cache-sample-rate:256}") int sampleRate,
+                                       @Value("${report.category.cache.delta-overlap-ms:5000}") long deltaOverlapMs) {
+        this.reportCategoryRepository = reportCategoryRepository;
+        this.cacheInvalidator = cacheInvalidator;
+        this.deltaOverlapMs = deltaOverlapMs;
+        this.sampleRate = sampleRate;
+        this.meterRegistry = meterRegistry;
+        if (sampleRate > 0) {
+            this.lookupTimer = registerLookupTimer();
+            // 메트릭 초기화(PerformanceMonitoringAspect.resetMetrics)로 제거된 타이머에 계속 기록하지 않도록
+            meterRegistry.config().onMeterRemoved(meter -> {
+                if (meter == lookupTimer) {
+                    lookupTimer = null;
+                }
+            });
+        }
+    }
+
     @Override
     public void run(ApplicationArguments args) {
         log.info("Starting ReportCategory cache initialization...");
+        cacheInvalidator.register(CACHE_NAME, this::syncChanges);
         int attempt = 0;
         boolean success = false;
 
@@ -69,7 +130,7 @@ public class InMemoryReportCategoryCache implements ReportCategoryCache, Applica
             try {
                 loadCache();
                 success = true;
-                log.info("ReportCategory cache initialized successfully. Total categories: {}", cache.size());
+                log.info("ReportCategory cache initialized successfully. Total categories: {}", size());
             } catch (Exception e) {
                 log.error("Failed to initialize ReportCategory cache (attempt {}/{}): {}",
                         attempt, MAX_RETRY_COUNT, e.getMessage(), e);
@@ -90,110 +151,182 @@ public class InMemoryReportCategoryCache implements ReportCategoryCache, Applica
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>로컬 리로드 성공 후 버전을 올려 다른 인스턴스도 지터를 두고 리로드하도록 전파합니다.</p>
+     */
     @Override
     @Transactional(readOnly = true)
     public void reload() {
         log.info("Reloading ReportCategory cache...");
         try {
             loadCache();
-            log.info("ReportCategory cache reloaded successfully. Total categories: {}", cache.size());
+            log.info("ReportCategory cache reloaded successfully. Total categories: {}", size());
         } catch (Exception e) {
             log.error("Failed to reload ReportCategory cache: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to reload category cache", e);
         }
+        cacheInvalidator.publish(CACHE_NAME);
+    }
+
+    /**
+     * 주기적 증분 동기화
+     */
+    @Scheduled(fixedDelayString = "${report.category.cache.sync-interval-ms:30000}",
+            initialDelayString = "${report.category.cache.sync-interval-ms:30000}")
+    public void scheduledSync() {
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            syncChanges();
+        } catch (Exception e) {
+            log.warn("ReportCategory cache delta sync failed: {}", e.getMessage());
+        }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>로컬 캐시만 갱신하며 다른 인스턴스에 전파하지 않습니다 (각 인스턴스가 주기적으로 직접 수행).</p>
+     */
     @Override
-    public Optional<ReportCategory> get(ReferenceType referenceType, String category) {
-        if (!initialized) {
-            log.warn("Cache is not initialized yet. Attempting to access category: {}:{}", referenceType, category);
-            return Optional.empty();
+    @Transactional(readOnly = true)
+    public void syncChanges() {
+        syncLock.lock();
+        try {
+            ReportCategorySnapshot current = snapshot;
+            if (current == null || current.version() == null) {
+                loadCache();
+                return;
+            }
+
+            LocalDateTime since = current.version().minusNanos(deltaOverlapMs * 1_000_000);
+            List<ReportCategory> changed = reportCategoryRepository.findByUpdatedAtGreaterThanEqual(since);
+            ReportCategorySnapshot next = current.withChanges(changed);
+            List<ReportCategoryId> ids = reportCategoryRepository.findAllIds();
+            if (!next.hasSameKeys(ids)) {
+                log.info("ReportCategory keys differ after delta (db={}), falling back to full reload", ids.size());
+                loadCache();
+                return;
+            }
+
+            snapshot = next; // volatile 참조 교체로 발행
+            deltaSyncs.increment();
+            lastDeltaSize = changed.size();
+            lastSyncType = SYNC_DELTA;
+            lastSyncAt = LocalDateTime.now();
+            log.debug("ReportCategory cache delta synced: changed={}, version={}", changed.size(), next.version());
+        } finally {
+            syncLock.unlock();
         }
+    }
 
-        // 카테고리 문자열 정규화 (trim 및 소문자)
-        String normalizedCategory = normalizeCategory(category);
-        ReportCategoryId categoryId = new ReportCategoryId(referenceType, normalizedCategory);
+    @Override
+    public SyncStatus getSyncStatus() {
+        ReportCategorySnapshot current = snapshot;
+        return new SyncStatus(
+                current == null ? null : current.version(),
+                lastSyncAt,
+                lastSyncType,
+                lastDeltaSize,
+                fullReloads.sum(),
+                deltaSyncs.sum()
+        );
+    }
 
-        return Optional.ofNullable(cache.get(categoryId));
+    @Override
+    public int getLatencySampleRate() {
+        return sampleRate;
+    }
+
+    @Override
+    public Optional<ReportCategory> get(ReferenceType referenceType, String category) {
+        if (sampled()) {
+            return timedLookup(referenceType, category);
+        }
+        return lookup(referenceType, category);
     }
 
     @Override
     public Optional<ReportCategory> get(ReportCategoryId categoryId) {
-        if (!initialized) {
-            log.warn("Cache is not initialized yet. Attempting to access categoryId: {}", categoryId);
-            return Optional.empty();
+        return get(categoryId.getReferenceType(), categoryId.getReportCategory());
+    }
+
+    /**
+     * 측정 경로 (조회 경로가 인라인되도록 기록 코드는 별도 메서드로 분리)
+     */
+    private Optional<ReportCategory> timedLookup(ReferenceType referenceType, String category) {
+        long startTime = System.nanoTime();
+        try {
+            return lookup(referenceType, category);
+        } finally {
+            Timer timer = lookupTimer;
+            if (timer == null) {
+                timer = registerLookupTimer();
+                lookupTimer = timer;
+            }
+            timer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
         }
+    }
 
-        // 복합키의 카테고리 문자열 정규화
-        String normalizedCategory = normalizeCategory(categoryId.getReportCategory());
-        ReportCategoryId normalizedId = new ReportCategoryId(
-                categoryId.getReferenceType(),
-                normalizedCategory
-        );
+    private Timer registerLookupTimer() {
+        return PerformanceMonitoringAspect.latencyTimer(meterRegistry, PerformanceMonitoringAspect.LAYER_CACHE,
+                "ReportCategoryCache", "get");
+    }
 
-        return Optional.ofNullable(cache.get(normalizedId));
+    private Optional<ReportCategory> lookup(ReferenceType referenceType, String category) {
+        ReportCategorySnapshot current = snapshot;
+        if (current == null) {
+            log.warn("Cache is not initialized yet. Attempting to access category: {}:{}", referenceType, category);
+            return Optional.empty();
+        }
+        return current.get(referenceType, category);
+    }
+
+    /**
+     * 1/sampleRate 확률로 측정 여부 결정 (1이면 항상, 0 이하면 측정 안 함)
+     */
+    private boolean sampled() {
+        if (sampleRate == 1) {
+            return true;
+        }
+        return sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) == 0;
     }
 
     @Override
     public boolean isInitialized() {
-        return initialized;
+        return snapshot != null;
     }
 
     @Override
     public int size() {
-        return cache.size();
+        ReportCategorySnapshot current = snapshot;
+        return current == null ? 0 : current.size();
     }
 
     /**
      * DB에서 모든 카테고리를 조회하여 캐시에 로드
      *
      * <p>단일 쿼리로 모든 데이터를 가져와 N+1 문제를 방지합니다.
-     * 기존 캐시를 clear하고 새로운 데이터로 교체합니다.</p>
+     * 새 스냅샷을 완성한 뒤 참조를 교체하므로 조회 중인 스레드는 이전 스냅샷을 그대로 사용합니다.</p>
      */
     @Transactional(readOnly = true)
     protected void loadCache() {
-        List<ReportCategory> categories = reportCategoryRepository.findAll();
-
-        // 새로운 맵을 생성하여 원자적으로 교체
-        Map<ReportCategoryId, ReportCategory> newCache = categories.stream()
-                .collect(Collectors.toMap(
-                        category -> {
-                            // 카테고리 문자열 정규화하여 키 생성
-                            String normalizedCategory = normalizeCategory(category.getId().getReportCategory());
-                            return new ReportCategoryId(
-                                    category.getId().getReferenceType(),
-                                    normalizedCategory
-                            );
-                        },
-                        category -> category,
-                        (existing, replacement) -> {
-                            log.warn("Duplicate category found: {}. Keeping first occurrence.", existing.getId());
-                            return existing;
-                        }
-                ));
-
-        // 기존 캐시를 비우고 새 데이터로 교체
-        cache.clear();
-        cache.putAll(newCache);
-
-        // 초기화 완료 플래그 설정
-        initialized = true;
-
-        log.debug("Loaded {} categories into cache", cache.size());
-    }
+        syncLock.lock();
+        try {
+            List<ReportCategory> categories = reportCategoryRepository.findAll();
+            ReportCategorySnapshot loaded = ReportCategorySnapshot.of(categories);
+            snapshot = loaded; // volatile 참조 교체로 발행 (초기화 완료 표시 겸용)
 
-    /**
-     * 카테고리 문자열 정규화
-     *
-     * <p>일관성을 위해 trim 및 소문자 변환을 수행합니다.</p>
-     *
-     * @param category 원본 카테고리 문자열
-     * @return 정규화된 카테고리 문자열
-     */
-    private String normalizeCategory(String category) {
-        if (category == null) {
-            return null;
+            fullReloads.increment();
+            lastDeltaSize = categories.size();
+            lastSyncType = SYNC_FULL;
+            lastSyncAt = LocalDateTime.now();
+            log.debug("Loaded {} categories into cache", loaded.size());
+        } finally {
+            syncLock.unlock();
         }
-        return category.trim().toLowerCase();
     }
 }
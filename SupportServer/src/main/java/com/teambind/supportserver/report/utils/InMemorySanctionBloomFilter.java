@@ -0,0 +1,221 @@
+package com.teambind.supportserver.report.utils;
+
+import com.teambind.supportserver.common.cache.ClusterCacheInvalidator;
+import com.teambind.supportserver.report.entity.enums.SanctionStatus;
+import com.teambind.supportserver.report.repository.SanctionRepository;
+import com.teambind.supportserver.report.repository.SanctionTarget;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 인메모리 Counting Bloom Filter 기반 제재 대상 필터 구현체
+ *
+ * <p>활성 제재 1건당 대상 ID를 한 번 추가하고, 취소/만료 시 한 번 제거합니다.
+ * 재구성은 sanctionId 키셋으로 활성 제재를 청크 단위로 읽어 새 필터를 만든 뒤 참조를 교체하며,
+ * 재구성 중 발생한 추가는 새 필터에도 함께 반영합니다. 재구성 중 제거는 새 필터에 반영하지 않으므로
+ * 오차는 항상 false positive 방향으로만 발생하고, 다음 재구성에서 정리됩니다.</p>
+ *
+ * <p>필터는 인스턴스마다 따로 있으므로 추가는 {@link ClusterCacheInvalidator}의 키 단위 변경으로 모든 인스턴스에 전파합니다.
+ * 추가가 누락된 인스턴스는 제재 대상을 "확실히 제재 없음"으로 잘못 판정하므로, 메시지 유실(재연결, 버전 키 폴링으로 확인)이
+ * 확인되면 재구성이 끝날 때까지 필터를 건너뛰고 제재 상태 캐시로 판정합니다. 제거는 전파하지 않습니다(false positive 방향).</p>
+ */
+@Slf4j
+@Component
+public class InMemorySanctionBloomFilter implements SanctionBloomFilter, ApplicationRunner {
+
+    /**
+     * 클러스터 전파 캐시 이름
+     */
+    public static final String CACHE_NAME = "sanction-bloom";
+
+    private final SanctionRepository sanctionRepository;
+    private final ClusterCacheInvalidator cacheInvalidator;
+    private final long expectedInsertions;
+    private final double fpp;
+    private final int chunkSize;
+
+    /**
+     * 조회에 사용하는 현재 필터 (구성 전에는 null)
+     */
+    private volatile CountingBloomFilter filter;
+
+    /**
+     * 재구성 중인 필터 (재구성 중이 아니면 null)
+     */
+    private volatile CountingBloomFilter building;
+
+    private final AtomicLong elementCount = new AtomicLong();
+    private final AtomicLong buildingCount = new AtomicLong();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private final LongAdder queries = new LongAdder();
+    private final LongAdder negatives = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private volatile long lastRebuildDurationMs;
+
+    public InMemorySanctionBloomFilter(SanctionRepository sanctionRepository,
+                                       ClusterCacheInvalidator cacheInvalidator,
+                                       @Value("${report.sanction.bloom.expected-insertions:1000000}") long expectedInsertions,
+                                       @Value("${report.sanction.bloom.fpp:0.01}") double fpp,
+                                       @Value("${report.sanction.bloom.chunk-size:1000}") int chunkSize) {
+        this.sanctionRepository = sanctionRepository;
+        this.cacheInvalidator = cacheInvalidator;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Starting sanction Bloom filter initialization...");
+        cacheInvalidator.register(CACHE_NAME, this::rebuild, this::addLocal);
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Failed to initialize sanction Bloom filter. Lookups will bypass the filter until rebuild: {}",
+                    e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 주기적 재구성 (포화 카운터 및 누적된 false positive 정리)
+     */
+    @Scheduled(initialDelayString = "${report.sanction.bloom.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${report.sanction.bloom.rebuild-interval-ms:3600000}")
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Scheduled sanction Bloom filter rebuild failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean mightContain(String targetId) {
+        CountingBloomFilter current = filter;
+        if (current == null || cacheInvalidator.isBehind(CACHE_NAME)) {
+            return true;
+        }
+        queries.increment();
+        if (!current.mightContain(targetId)) {
+            negatives.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>로컬 필터에 반영한 뒤 다른 인스턴스에 전파합니다.</p>
+     */
+    @Override
+    public void add(String targetId) {
+        addLocal(targetId);
+        cacheInvalidator.publish(CACHE_NAME, targetId);
+    }
+
+    /**
+     * 로컬 필터에만 추가 (다른 인스턴스가 전파한 추가 수신 시)
+     */
+    private void addLocal(String targetId) {
+        // 교체(filter = building → building = null)와 경합해도 새 필터에 반드시 반영되도록 building을 먼저 읽음
+        CountingBloomFilter next = building;
+        CountingBloomFilter current = filter;
+        if (next != null) {
+            next.add(targetId);
+            buildingCount.incrementAndGet();
+        }
+        if (current != null && current != next) {
+            current.add(targetId);
+            elementCount.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void remove(String targetId) {
+        CountingBloomFilter current = filter;
+        if (current != null) {
+            current.remove(targetId);
+            elementCount.updateAndGet(count -> Math.max(0, count - 1));
+        }
+    }
+
+    @Override
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    @Override
+    public boolean isInitialized() {
+        return filter != null;
+    }
+
+    @Override
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            long activeCount = sanctionRepository.countByStatus(SanctionStatus.ACTIVE);
+            CountingBloomFilter next = CountingBloomFilter.create(Math.max(expectedInsertions, activeCount * 2), fpp);
+
+            buildingCount.set(0);
+            building = next;
+            try {
+                long afterId = 0L;
+                List<SanctionTarget> chunk;
+                do {
+                    chunk = sanctionRepository.findTargetsByStatusAfter(
+                            SanctionStatus.ACTIVE, afterId, PageRequest.of(0, chunkSize));
+                    for (SanctionTarget target : chunk) {
+                        next.add(target.targetId());
+                    }
+                    buildingCount.addAndGet(chunk.size());
+                    if (!chunk.isEmpty()) {
+                        afterId = chunk.get(chunk.size() - 1).sanctionId();
+                    }
+                } while (chunk.size() == chunkSize);
+
+                filter = next;
+                elementCount.set(buildingCount.get());
+            } finally {
+                building = null;
+            }
+
+            lastRebuildDurationMs = System.currentTimeMillis() - start;
+            log.info("Sanction Bloom filter rebuilt: elements={}, counters={}, hashes={}, memory={}KB, took={}ms",
+                    elementCount.get(), next.counterCount(), next.hashCount(), next.memoryBytes() / 1024,
+                    lastRebuildDurationMs);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @Override
+    public Metrics getMetrics() {
+        CountingBloomFilter current = filter;
+        long elements = elementCount.get();
+        return new Metrics(
+                current != null,
+                elements,
+                current != null ? current.counterCount() : 0,
+                current != null ? current.hashCount() : 0,
+                current != null ? current.memoryBytes() : 0,
+                current != null ? current.expectedFpp(elements) : 0.0,
+                queries.sum(),
+                negatives.sum(),
+                falsePositives.sum(),
+                lastRebuildDurationMs
+        );
+    }
+}
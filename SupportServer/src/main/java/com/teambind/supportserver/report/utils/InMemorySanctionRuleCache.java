@@ -0,0 +1,164 @@
+package com.teambind.supportserver.report.utils;
+
+import com.teambind.supportserver.report.entity.SanctionRule;
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
+import com.teambind.supportserver.report.repository.SanctionRuleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 인메모리 기반 제재 규칙 임계값 인덱스 구현체
+ *
+ * <p>애플리케이션 시작 시 활성 제재 규칙을 로드하여 ReferenceType별로 임계값 오름차순 배열을 구성합니다.
+ * 인덱스는 불변 스냅샷이며, 리로드 시 새 스냅샷을 만든 뒤 volatile 참조를 한 번에 교체하므로
+ * 조회 스레드는 락 없이 항상 일관된 규칙 집합을 봅니다.</p>
+ *
+ * <p>동일 대상 타입에 같은 임계값의 규칙이 여러 개라면 가장 강한 제재 타입의 규칙만 유지합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InMemorySanctionRuleCache implements SanctionRuleCache, ApplicationRunner {
+
+    private final SanctionRuleRepository sanctionRuleRepository;
+
+    /**
+     * ReferenceType별 임계값 인덱스 스냅샷
+     */
+    private volatile Map<ReferenceType, RuleThresholds> index = Collections.emptyMap();
+
+    /**
+     * 인덱스 초기화 완료 플래그
+     */
+    private volatile boolean initialized = false;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Starting SanctionRule index initialization...");
+        try {
+            loadIndex();
+            log.info("SanctionRule index initialized successfully. Total rules: {}", size());
+        } catch (Exception e) {
+            log.error("Failed to initialize SanctionRule index. Auto sanction is disabled until reload: {}",
+                    e.getMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void reload() {
+        log.info("Reloading SanctionRule index...");
+        try {
+            loadIndex();
+            log.info("SanctionRule index reloaded successfully. Total rules: {}", size());
+        } catch (Exception e) {
+            log.error("Failed to reload SanctionRule index: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to reload sanction rule index", e);
+        }
+    }
+
+    @Override
+    public Optional<SanctionRule> findApplicableRule(ReferenceType referenceType, long reportCount) {
+        RuleThresholds thresholds = index.get(referenceType);
+        if (thresholds == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(thresholds.floor(reportCount));
+    }
+
+    @Override
+    public boolean hasRules(ReferenceType referenceType) {
+        return index.containsKey(referenceType);
+    }
+
+    @Override
+    public List<SanctionRule> getRules(ReferenceType referenceType) {
+        RuleThresholds thresholds = index.get(referenceType);
+        return thresholds != null ? List.of(thresholds.rules()) : List.of();
+    }
+
+    @Override
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+    @Override
+    public int size() {
+        return index.values().stream().mapToInt(thresholds -> thresholds.rules().length).sum();
+    }
+
+    /**
+     * DB에서 활성 규칙을 조회하여 새 인덱스로 교체
+     */
+    @Transactional(readOnly = true)
+    protected void loadIndex() {
+        List<SanctionRule> rules = sanctionRuleRepository.findByIsActiveTrue();
+
+        Map<ReferenceType, List<SanctionRule>> grouped = new EnumMap<>(ReferenceType.class);
+        for (SanctionRule rule : rules) {
+            grouped.computeIfAbsent(rule.getReferenceType(), type -> new ArrayList<>()).add(rule);
+        }
+
+        Map<ReferenceType, RuleThresholds> newIndex = new EnumMap<>(ReferenceType.class);
+        grouped.forEach((referenceType, typeRules) -> newIndex.put(referenceType, RuleThresholds.of(typeRules)));
+
+        // 새 스냅샷으로 원자적 교체
+        index = Collections.unmodifiableMap(newIndex);
+        initialized = true;
+
+        log.debug("Indexed {} sanction rules for {} reference types", size(), newIndex.size());
+    }
+
+    /**
+     * 대상 타입별 정렬된 임계값 배열
+     *
+     * @param thresholds 임계값 오름차순 배열
+     * @param rules      thresholds와 같은 순서의 규칙 배열
+     */
+    private record RuleThresholds(int[] thresholds, SanctionRule[] rules) {
+
+        static RuleThresholds of(List<SanctionRule> typeRules) {
+            List<SanctionRule> sorted = new ArrayList<>(typeRules);
+            sorted.sort(Comparator.comparing(SanctionRule::getReportThreshold)
+                    .thenComparing(SanctionRule::getSanctionType, Comparator.reverseOrder()));
+
+            List<SanctionRule> deduplicated = new ArrayList<>(sorted.size());
+            for (SanctionRule rule : sorted) {
+                if (!deduplicated.isEmpty()
+                        && deduplicated.get(deduplicated.size() - 1).getReportThreshold()
+                        .equals(rule.getReportThreshold())) {
+                    log.warn("Duplicate sanction rule threshold found: referenceType={}, threshold={}. Ignoring ruleId={}",
+                            rule.getReferenceType(), rule.getReportThreshold(), rule.getRuleId());
+                    continue;
+                }
+                deduplicated.add(rule);
+            }
+
+            int[] thresholds = deduplicated.stream().mapToInt(SanctionRule::getReportThreshold).toArray();
+            return new RuleThresholds(thresholds, deduplicated.toArray(new SanctionRule[0]));
+        }
+
+        /**
+         * 임계값이 reportCount 이하인 규칙 중 가장 큰 임계값의 규칙 (없으면 null)
+         */
+        SanctionRule floor(long reportCount) {
+            int key = (int) Math.min(reportCount, Integer.MAX_VALUE);
+            int position = Arrays.binarySearch(thresholds, key);
+            int floorIndex = position >= 0 ? position : -position - 2;
+            return floorIndex >= 0 ? rules[floorIndex] : null;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.teambind.supportserver.report.entity.ReportCategory;
 import com.teambind.supportserver.report.entity.embeddable.ReportCategoryId;
 import com.teambind.supportserver.report.entity.enums.ReferenceType;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
@@ -15,7 +16,7 @@ import java.util.Optional;
  * <p>주요 기능:</p>
  * <ul>
  *   <li>복합키(ReferenceType + category) 기반 빠른 조회</li>
- *   <li>캐시 리로드를 통한 데이터 동기화</li>
+ *   <li>캐시 리로드 및 변경분 증분 동기화를 통한 데이터 동기화</li>
  *   <li>캐시 상태 모니터링</li>
  * </ul>
  */
@@ -56,7 +57,38 @@ public interface ReportCategoryCache {
      * DB에서 모든 카테고리를 다시 로드하여 캐시 갱신
      *
      * <p>운영 중 카테고리 데이터가 변경되었을 때 수동으로 호출하여
-     * 캐시를 최신 상태로 동기화할 수 있습니다.</p>
+     * 캐시를 최신 상태로 동기화할 수 있습니다. 클러스터 환경에서는 다른 인스턴스에도 리로드가 전파됩니다.</p>
      */
     void reload();
+
+    /**
+     * 마지막 동기화 이후 변경된 카테고리만 조회하여 캐시에 반영
+     *
+     * <p>변경분을 현재 캐시에 적용한 새 스냅샷으로 교체하며, 삭제 등으로 증분 반영이 불가능하면 전체 리로드합니다.</p>
+     */
+    void syncChanges();
+
+    /**
+     * 동기화 상태 조회
+     */
+    SyncStatus getSyncStatus();
+
+    /**
+     * 조회 지연 시간 측정 비율 (1/N, 0이면 측정 안 함)
+     */
+    int getLatencySampleRate();
+
+    /**
+     * 캐시 동기화 상태 스냅샷
+     *
+     * @param lastSyncVersion 캐시에 반영된 최신 변경 시각 (카테고리 최대 updatedAt)
+     * @param lastSyncAt      마지막 동기화 수행 시각
+     * @param lastSyncType    마지막 동기화 방식 (FULL, DELTA)
+     * @param lastDeltaSize   마지막 동기화에서 조회한 행 수 (DELTA면 변경 행 수, FULL이면 전체 행 수)
+     * @param fullReloads     누적 전체 리로드 수
+     * @param deltaSyncs      누적 증분 동기화 수
+     */
+    record SyncStatus(LocalDateTime lastSyncVersion, LocalDateTime lastSyncAt, String lastSyncType,
+                      int lastDeltaSize, long fullReloads, long deltaSyncs) {
+    }
 }
@@ -0,0 +1,200 @@
+package com.teambind.supportserver.report.utils;
+
+import com.teambind.supportserver.report.entity.ReportCategory;
+import com.teambind.supportserver.report.entity.embeddable.ReportCategoryId;
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 신고 카테고리 캐시의 불변 스냅샷
+ *
+ * <p>ReferenceType ordinal로 인덱싱한 배열에 타입별 조회 맵을 두며, 키는 정규화(trim + 소문자)된 카테고리 문자열과
+ * DB에 저장된 원래 표기입니다. 값은 미리 감싼 {@link Optional}이므로 이미 정규화된 입력(또는 DB 표기 그대로의 입력)은
+ * 조회 시 객체를 할당하지 않습니다. 생성 후 변경되지 않으므로 volatile 참조 교체로 안전하게 발행할 수 있습니다.</p>
+ *
+ * <p>스냅샷 버전은 포함된 카테고리의 최대 {@code updatedAt}이며, 증분 동기화는 이 시각 이후 변경분을
+ * {@link #withChanges(Collection)}로 반영한 새 스냅샷을 만듭니다.</p>
+ */
+@Slf4j
+final class ReportCategorySnapshot {
+
+    private static final ReferenceType[] REFERENCE_TYPES = ReferenceType.values();
+
+    private final Map<String, Optional<ReportCategory>>[] byType;
+    private final List<ReportCategory> categories;
+    private final List<ReportCategory> rows;
+    private final LocalDateTime version;
+
+    private ReportCategorySnapshot(Map<String, Optional<ReportCategory>>[] byType, List<ReportCategory> categories,
+                                   List<ReportCategory> rows, LocalDateTime version) {
+        this.byType = byType;
+        this.categories = categories;
+        this.rows = rows;
+        this.version = version;
+    }
+
+    /**
+     * 카테고리 목록으로 스냅샷 생성
+     *
+     * <p>정규화 키가 중복되면 먼저 나온 카테고리를 유지합니다.</p>
+     */
+    @SuppressWarnings("unchecked")
+    static ReportCategorySnapshot of(Collection<ReportCategory> source) {
+        Map<String, Optional<ReportCategory>>[] byType = new Map[REFERENCE_TYPES.length];
+        Map<String, Optional<ReportCategory>>[] aliases = new Map[REFERENCE_TYPES.length];
+        for (int i = 0; i < byType.length; i++) {
+            byType[i] = new HashMap<>();
+            aliases[i] = new HashMap<>();
+        }
+
+        List<ReportCategory> categories = new ArrayList<>(source.size());
+        List<ReportCategory> rows = new ArrayList<>(source.size());
+        LocalDateTime version = null;
+        for (ReportCategory category : source) {
+            ReferenceType referenceType = category.getId().getReferenceType();
+            String original = category.getId().getReportCategory();
+            if (referenceType == null || original == null) {
+                continue;
+            }
+            rows.add(category);
+            LocalDateTime updatedAt = category.getUpdatedAt();
+            if (updatedAt != null && (version == null || updatedAt.isAfter(version))) {
+                version = updatedAt;
+            }
+
+            String normalized = normalize(original);
+            Map<String, Optional<ReportCategory>> map = byType[referenceType.ordinal()];
+            if (map.containsKey(normalized)) {
+                log.warn("Duplicate category found: {}:{}. Keeping first occurrence.", referenceType, normalized);
+                continue;
+            }
+            Optional<ReportCategory> value = Optional.of(category);
+            map.put(normalized, value);
+            aliases[referenceType.ordinal()].putIfAbsent(original, value);
+            categories.add(category);
+        }
+
+        // 정규화 키가 우선하도록 원래 표기는 비어 있는 키에만 추가
+        for (int i = 0; i < byType.length; i++) {
+            for (Map.Entry<String, Optional<ReportCategory>> alias : aliases[i].entrySet()) {
+                byType[i].putIfAbsent(alias.getKey(), alias.getValue());
+            }
+        }
+        return new ReportCategorySnapshot(byType, Collections.unmodifiableList(categories),
+                Collections.unmodifiableList(rows), version);
+    }
+
+    /**
+     * 변경된 카테고리를 반영한 새 스냅샷 생성
+     *
+     * <p>같은 복합키의 카테고리는 교체하고 새 카테고리는 추가합니다. 현재 스냅샷은 변경되지 않습니다.</p>
+     *
+     * @param changed 변경(추가/수정)된 카테고리 목록
+     * @return 새 스냅샷 (변경분이 없으면 현재 스냅샷)
+     */
+    ReportCategorySnapshot withChanges(Collection<ReportCategory> changed) {
+        if (changed.isEmpty()) {
+            return this;
+        }
+        Map<ReportCategoryId, ReportCategory> merged = new LinkedHashMap<>();
+        for (ReportCategory category : rows) {
+            merged.put(category.getId(), category);
+        }
+        for (ReportCategory category : changed) {
+            merged.put(category.getId(), category);
+        }
+        return of(merged.values());
+    }
+
+    /**
+     * 카테고리 조회
+     *
+     * <p>입력 그대로 먼저 조회하고, 실패했는데 정규화가 필요한 입력일 때만 정규화 문자열을 만들어 다시 조회합니다.</p>
+     *
+     * @return 조회 결과 (캐시된 Optional 인스턴스 또는 {@link Optional#empty()})
+     */
+    Optional<ReportCategory> get(ReferenceType referenceType, String category) {
+        if (referenceType == null || category == null) {
+            return Optional.empty();
+        }
+        Map<String, Optional<ReportCategory>> map = byType[referenceType.ordinal()];
+        Optional<ReportCategory> found = map.get(category);
+        if (found != null) {
+            return found;
+        }
+        if (isNormalized(category)) {
+            return Optional.empty();
+        }
+        found = map.get(normalize(category));
+        return found != null ? found : Optional.empty();
+    }
+
+    /**
+     * 캐시된 카테고리 수 (별칭 키 제외)
+     */
+    int size() {
+        return categories.size();
+    }
+
+    /**
+     * 스냅샷 버전 (포함된 카테고리의 최대 updatedAt, 없으면 null)
+     */
+    LocalDateTime version() {
+        return version;
+    }
+
+    /**
+     * 스냅샷을 만든 원본 행의 복합키 집합이 주어진 키 집합과 같은지 확인 (정규화 키 중복으로 제외된 행 포함)
+     *
+     * <p>건수만 비교하면 같은 주기에 삭제와 추가가 함께 일어난 경우를 놓치므로 키 자체를 비교합니다.</p>
+     *
+     * @param ids DB의 전체 카테고리 복합키
+     * @return 삭제된 행이 없으면 true
+     */
+    boolean hasSameKeys(Collection<ReportCategoryId> ids) {
+        if (ids.size() != rows.size()) {
+            return false;
+        }
+        Set<ReportCategoryId> rowIds = new HashSet<>(rows.size() * 2);
+        for (ReportCategory row : rows) {
+            rowIds.add(row.getId());
+        }
+        return rowIds.containsAll(ids);
+    }
+
+    /**
+     * 카테고리 문자열 정규화 (trim + 소문자)
+     */
+    static String normalize(String category) {
+        return category.trim().toLowerCase();
+    }
+
+    /**
+     * 정규화해도 바뀌지 않는 문자열인지 할당 없이 확인
+     */
+    private static boolean isNormalized(String category) {
+        int length = category.length();
+        if (length > 0 && (category.charAt(0) <= ' ' || category.charAt(length - 1) <= ' ')) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = category.charAt(i);
+            if (Character.toLowerCase(c) != c) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,127 @@
+package com.teambind.supportserver.report.utils;
+
+import com.teambind.supportserver.common.utils.EntityIds;
+import com.teambind.supportserver.report.dto.request.ReportSearchRequest;
+import com.teambind.supportserver.report.dto.response.ReportResponse;
+import com.teambind.supportserver.report.entity.Report;
+import com.teambind.supportserver.report.entity.enums.ReportStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 신고 목록 복합 키셋(keyset) 커서
+ *
+ * <p>정렬 키와 reportId를 하나의 튜플로 묶어 불투명(opaque) 토큰으로 인코딩합니다.
+ * 동일한 신고일/상태를 가진 행이 여러 건이어도 reportId가 보조 키로 동작하므로
+ * 페이지 경계에서 누락이나 중복이 발생하지 않습니다.</p>
+ *
+ * <p>토큰 형식: Base64URL("{sortType}|{sortValue}|{reportId}"), reportId는 BIGINT 키의 10진수 표기이므로
+ * 문자열 ID 시절에 발급된 토큰도 그대로 해석됩니다.</p>
+ * <ul>
+ *   <li>REPORTED_AT: (reportedAt, reportId)</li>
+ *   <li>STATUS: (status, reportId)</li>
+ * </ul>
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReportCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final ReportSearchRequest.SortType sortType;
+    private final String sortValue;
+    private final Long reportId;
+
+    /**
+     * 마지막 신고 항목으로부터 다음 페이지 커서 토큰 생성
+     *
+     * @param report   현재 페이지의 마지막 신고
+     * @param sortType 정렬 기준
+     * @return 인코딩된 커서 토큰
+     */
+    public static String encode(Report report, ReportSearchRequest.SortType sortType) {
+        return encode(sortType, report.getReportedAt(), report.getStatus(), EntityIds.format(report.getReportId()));
+    }
+
+    /**
+     * 마지막 신고 응답(DTO 프로젝션)으로부터 다음 페이지 커서 토큰 생성
+     *
+     * @param report   현재 페이지의 마지막 신고 응답
+     * @param sortType 정렬 기준
+     * @return 인코딩된 커서 토큰
+     */
+    public static String encode(ReportResponse report, ReportSearchRequest.SortType sortType) {
+        return encode(sortType, report.getReportedAt(), report.getStatus(), report.getReportId());
+    }
+
+    private static String encode(ReportSearchRequest.SortType sortType, LocalDateTime reportedAt,
+                                 ReportStatus status, String reportId) {
+        String sortValue = sortType == ReportSearchRequest.SortType.STATUS
+                ? status.name()
+                : reportedAt.toString();
+
+        String raw = sortType.name() + DELIMITER + sortValue + DELIMITER + reportId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 토큰 디코딩
+     *
+     * <p>형식이 올바르지 않거나 요청한 정렬 기준과 다른 커서인 경우 빈 값을 반환합니다.</p>
+     *
+     * @param token    커서 토큰
+     * @param sortType 요청한 정렬 기준
+     * @return 디코딩된 커서 Optional
+     */
+    public static Optional<ReportCursor> decode(String token, ReportSearchRequest.SortType sortType) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, 3);
+            Optional<Long> reportId = parts.length == 3 ? EntityIds.parse(parts[2]) : Optional.empty();
+            if (reportId.isEmpty()) {
+                return Optional.empty();
+            }
+
+            ReportSearchRequest.SortType tokenSortType = ReportSearchRequest.SortType.valueOf(parts[0]);
+            if (tokenSortType != sortType) {
+                return Optional.empty();
+            }
+
+            ReportCursor cursor = new ReportCursor(tokenSortType, parts[1], reportId.get());
+            // 정렬 값 형식 검증
+            if (tokenSortType == ReportSearchRequest.SortType.STATUS) {
+                cursor.getStatus();
+            } else {
+                cursor.getReportedAt();
+            }
+            return Optional.of(cursor);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 신고일 정렬 값
+     */
+    public LocalDateTime getReportedAt() {
+        return LocalDateTime.parse(sortValue);
+    }
+
+    /**
+     * 상태 정렬 값
+     */
+    public ReportStatus getStatus() {
+        return ReportStatus.valueOf(sortValue);
+    }
+}
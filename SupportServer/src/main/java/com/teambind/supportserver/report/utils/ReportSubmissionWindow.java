@@ -0,0 +1,55 @@
+package com.teambind.supportserver.report.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teambind.supportserver.report.dto.response.ReportResponse;
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 신고 중복 제출 창 (로컬)
+ *
+ * <p>직전에 처리한 신고를 (신고자, 대상 타입, 대상) 키로 짧은 시간 기억하여,
+ * 더블 클릭이나 클라이언트 재시도처럼 연달아 들어온 같은 신고를 DB에 보내지 않고 앞선 결과로 응답합니다.
+ * 키는 uk_report_per_user에서 상태를 뺀 부분이며, 새 신고는 항상 PENDING이므로 같은 키는 DB에서도 중복입니다.</p>
+ *
+ * <p>인스턴스 로컬 창이므로 다른 인스턴스로 간 중복은 DB 유니크 키가 걸러냅니다.</p>
+ */
+@Component
+public class ReportSubmissionWindow {
+
+    private final Cache<String, ReportResponse> recent;
+
+    public ReportSubmissionWindow(@Value("${report.submission.dedup-window-ms:3000}") long windowMs,
+                                  @Value("${report.submission.dedup-max-size:100000}") long maxSize) {
+        this.recent = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(windowMs))
+                .build();
+    }
+
+    /**
+     * 창 안에서 처리된 같은 신고 조회
+     *
+     * @return 앞서 처리된 신고 (중복 응답으로 표시된 사본)
+     */
+    public Optional<ReportResponse> find(String reporterId, ReferenceType referenceType, String reportedId) {
+        return Optional.ofNullable(recent.getIfPresent(key(reporterId, referenceType, reportedId)))
+                .map(ReportResponse::asDuplicate);
+    }
+
+    /**
+     * 처리된 신고 기록 (창 시간 동안 유지)
+     */
+    public void record(ReportResponse report) {
+        recent.put(key(report.getReporterId(), report.getReferenceType(), report.getReportedId()), report);
+    }
+
+    private static String key(String reporterId, ReferenceType referenceType, String reportedId) {
+        return reporterId + '\u0000' + referenceType + '\u0000' + reportedId;
+    }
+}
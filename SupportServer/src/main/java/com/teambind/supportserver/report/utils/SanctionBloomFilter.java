@@ -0,0 +1,94 @@
+package com.teambind.supportserver.report.utils;
+
+/**
+ * 제재 대상 Bloom Filter 인터페이스 (isSanctioned 네거티브 캐시)
+ *
+ * <p>대부분의 제재 여부 조회는 제재 이력이 없는 사용자에 대한 것이므로,
+ * 활성 제재 대상 ID 집합을 Bloom Filter로 보관하여 "확실히 제재 없음"을 캐시/DB 접근 없이 판정합니다.</p>
+ *
+ * <p>주요 기능:</p>
+ * <ul>
+ *   <li>포함 가능성 조회 (false이면 확실히 제재 없음)</li>
+ *   <li>제재 생성/취소/만료 시 증분 갱신</li>
+ *   <li>DB 청크 스트리밍 기반 재구성</li>
+ *   <li>false positive 비율 및 메모리 사용량 메트릭</li>
+ * </ul>
+ */
+public interface SanctionBloomFilter {
+
+    /**
+     * 대상이 활성 제재 대상일 가능성이 있는지 확인
+     *
+     * <p>필터가 아직 구성되지 않았거나 다른 인스턴스의 추가를 놓쳐 재구성을 기다리는 중이면
+     * 판단할 수 없으므로 true를 반환합니다.</p>
+     *
+     * @param targetId 대상 ID
+     * @return false이면 확실히 활성 제재 없음
+     */
+    boolean mightContain(String targetId);
+
+    /**
+     * 활성 제재 1건 추가 (다른 인스턴스의 필터에도 전파)
+     *
+     * @param targetId 대상 ID
+     */
+    void add(String targetId);
+
+    /**
+     * 활성 제재 1건 제거 (취소/만료)
+     *
+     * @param targetId 대상 ID
+     */
+    void remove(String targetId);
+
+    /**
+     * 필터는 양성이었으나 실제로는 제재가 없었던 조회 기록
+     */
+    void recordFalsePositive();
+
+    /**
+     * 필터가 구성되었는지 확인
+     *
+     * @return 초기화 여부
+     */
+    boolean isInitialized();
+
+    /**
+     * DB에서 활성 제재 대상을 청크 단위로 읽어 필터 재구성
+     */
+    void rebuild();
+
+    /**
+     * 필터 메트릭 조회
+     *
+     * @return 메트릭 스냅샷
+     */
+    Metrics getMetrics();
+
+    /**
+     * Bloom Filter 메트릭 스냅샷
+     *
+     * @param initialized          초기화 여부
+     * @param elementCount         추정 원소 수 (활성 제재 건수)
+     * @param counterCount         카운터 슬롯 수
+     * @param hashCount            해시 함수 수
+     * @param memoryBytes          카운터 배열 메모리 사용량(byte)
+     * @param expectedFpp          현재 원소 수 기준 이론적 false positive 확률
+     * @param queries              조회 수
+     * @param negatives            확정 음성(단락) 수
+     * @param falsePositives       false positive 수
+     * @param lastRebuildDurationMs 마지막 재구성 소요 시간(ms)
+     */
+    record Metrics(boolean initialized, long elementCount, long counterCount, int hashCount, long memoryBytes,
+                   double expectedFpp, long queries, long negatives, long falsePositives,
+                   long lastRebuildDurationMs) {
+
+        /**
+         * 관측된 false positive 비율 FP / (FP + TN)
+         */
+        public double observedFpp() {
+            long actualNegatives = falsePositives + negatives;
+            return actualNegatives == 0 ? 0.0 : (double) falsePositives / actualNegatives;
+        }
+    }
+}
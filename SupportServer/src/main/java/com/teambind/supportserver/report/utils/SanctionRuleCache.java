@@ -0,0 +1,69 @@
+package com.teambind.supportserver.report.utils;
+
+import com.teambind.supportserver.report.entity.SanctionRule;
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 제재 규칙 임계값 인덱스 인터페이스
+ *
+ * <p>활성 제재 규칙을 ReferenceType별 정렬된 임계값 배열로 메모리에 보관하여,
+ * "신고 N회가 어떤 제재에 해당하는가"를 DB 조회 없이 이진 탐색으로 판별합니다.</p>
+ *
+ * <p>주요 기능:</p>
+ * <ul>
+ *   <li>ReferenceType별 임계값 이진 탐색</li>
+ *   <li>불변 스냅샷 원자적 교체를 통한 리로드</li>
+ *   <li>인덱스 상태 모니터링</li>
+ * </ul>
+ */
+public interface SanctionRuleCache {
+
+    /**
+     * 신고 횟수에 해당하는 제재 규칙 조회
+     *
+     * <p>임계값이 신고 횟수 이하인 규칙 중 임계값이 가장 큰 규칙을 반환합니다.</p>
+     *
+     * @param referenceType 대상 타입
+     * @param reportCount   신고 횟수
+     * @return 적용 대상 제재 규칙 Optional
+     */
+    Optional<SanctionRule> findApplicableRule(ReferenceType referenceType, long reportCount);
+
+    /**
+     * 대상 타입에 활성 규칙이 존재하는지 확인
+     *
+     * @param referenceType 대상 타입
+     * @return 규칙 존재 여부
+     */
+    boolean hasRules(ReferenceType referenceType);
+
+    /**
+     * 대상 타입의 임계값 오름차순 규칙 목록 조회
+     *
+     * @param referenceType 대상 타입
+     * @return 규칙 목록 (없으면 빈 목록)
+     */
+    List<SanctionRule> getRules(ReferenceType referenceType);
+
+    /**
+     * 인덱스가 초기화되었는지 확인
+     *
+     * @return 초기화 여부
+     */
+    boolean isInitialized();
+
+    /**
+     * 인덱싱된 규칙 수 조회
+     *
+     * @return 규칙 수
+     */
+    int size();
+
+    /**
+     * DB에서 활성 규칙을 다시 로드하여 인덱스 교체
+     */
+    void reload();
+}
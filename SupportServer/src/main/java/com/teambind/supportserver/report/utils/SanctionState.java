@@ -0,0 +1,77 @@
+package com.teambind.supportserver.report.utils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 대상의 제재 상태 스냅샷 (캐시 값)
+ *
+ * <p>유효한 활성 제재 중 가장 늦게 끝나는 시각을 보관하여, 캐시된 값만으로도
+ * 만료 시각 이후에는 제재 해제로 판정할 수 있습니다.</p>
+ *
+ * @param sanctioned 활성 제재 존재 여부
+ * @param until      제재 종료 시각 (영구 제재이거나 제재가 없으면 null)
+ */
+public record SanctionState(boolean sanctioned, LocalDateTime until) {
+
+    private static final SanctionState NONE = new SanctionState(false, null);
+    private static final SanctionState PERMANENT = new SanctionState(true, null);
+
+    private static final String NONE_VALUE = "N";
+    private static final String PERMANENT_VALUE = "P";
+
+    public static SanctionState none() {
+        return NONE;
+    }
+
+    public static SanctionState permanent() {
+        return PERMANENT;
+    }
+
+    public static SanctionState until(LocalDateTime until) {
+        return new SanctionState(true, until);
+    }
+
+    /**
+     * 특정 시각 기준 제재 중인지 확인
+     */
+    public boolean isSanctionedAt(LocalDateTime now) {
+        return sanctioned && (until == null || until.isAfter(now));
+    }
+
+    /**
+     * 영구 제재 여부
+     */
+    public boolean isPermanent() {
+        return sanctioned && until == null;
+    }
+
+    /**
+     * 원격 캐시 저장용 문자열로 변환 ("N", "P" 또는 종료 시각 epoch millis)
+     */
+    public String encode() {
+        if (!sanctioned) {
+            return NONE_VALUE;
+        }
+        if (until == null) {
+            return PERMANENT_VALUE;
+        }
+        return String.valueOf(until.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    /**
+     * 원격 캐시 문자열로부터 복원
+     *
+     * @throws NumberFormatException 형식이 올바르지 않은 경우
+     */
+    public static SanctionState decode(String value) {
+        if (NONE_VALUE.equals(value)) {
+            return NONE;
+        }
+        if (PERMANENT_VALUE.equals(value)) {
+            return PERMANENT;
+        }
+        return until(LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(value)), ZoneId.systemDefault()));
+    }
+}
@@ -0,0 +1,70 @@
+package com.teambind.supportserver.report.utils;
+
+import java.util.function.Function;
+
+/**
+ * 제재 여부 조회 캐시 인터페이스
+ *
+ * <p>로그인, 게시글 작성 등 매 요청마다 호출되는 "제재 대상 여부" 조회를
+ * DB 대신 캐시로 처리하기 위한 인터페이스입니다.</p>
+ *
+ * <p>주요 기능:</p>
+ * <ul>
+ *   <li>대상 ID별 제재 상태 조회 (캐시 미스 시 loader로 로드)</li>
+ *   <li>제재 생성/취소/만료 시 무효화</li>
+ *   <li>적중/미스/지연 시간 메트릭</li>
+ * </ul>
+ */
+public interface SanctionStatusCache {
+
+    /**
+     * 대상의 제재 상태 조회
+     *
+     * @param targetId 대상 ID
+     * @param loader   캐시 미스 시 원본(DB)에서 상태를 읽어오는 함수
+     * @return 제재 상태
+     */
+    SanctionState get(String targetId, Function<String, SanctionState> loader);
+
+    /**
+     * 대상의 캐시 무효화
+     *
+     * @param targetId 대상 ID
+     */
+    void evict(String targetId);
+
+    /**
+     * 캐시 메트릭 조회
+     *
+     * @return 메트릭 스냅샷
+     */
+    Metrics getMetrics();
+
+    /**
+     * 캐시 메트릭 초기화
+     */
+    void resetMetrics();
+
+    /**
+     * 캐시 메트릭 스냅샷
+     *
+     * @param requests          전체 조회 수
+     * @param localHits         로컬 캐시 적중 수
+     * @param remoteHits        Redis 적중 수
+     * @param misses            원본(DB) 조회 수
+     * @param remoteErrors      Redis 오류 수
+     * @param avgLookupMicros   조회 평균 지연 시간(마이크로초)
+     * @param avgLoadMicros     원본 조회 평균 지연 시간(마이크로초)
+     * @param localSize         로컬 캐시 항목 수
+     */
+    record Metrics(long requests, long localHits, long remoteHits, long misses, long remoteErrors,
+                   double avgLookupMicros, double avgLoadMicros, long localSize) {
+
+        /**
+         * 전체 적중률 (로컬 + Redis)
+         */
+        public double hitRatio() {
+            return requests == 0 ? 0.0 : (double) (localHits + remoteHits) / requests;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.teambind.supportserver.report.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 로컬 near-cache + Redis 2단계 제재 상태 캐시 구현체
+ *
+ * <p>조회 순서는 로컬(Caffeine) → Redis → 원본(DB)이며, 하위 단계에서 읽은 값은 상위 단계에 채워 넣습니다.
+ * 로컬 캐시는 크기 제한이 있고, 항목별 만료 시간을 설정 TTL과 제재 종료 시각 중 더 이른 쪽으로 잡아
+ * 제재가 끝나는 순간 캐시에서도 사라집니다. Redis 장애 시에는 원본 조회로 대체합니다.</p>
+ *
+ * <p>무효화는 제재 생성/취소/만료 시 호출되며 로컬과 Redis를 모두 지웁니다.
+ * 다른 인스턴스의 로컬 캐시는 {@code local-ttl-ms} 이내에 만료되므로 그 시간만큼의 지연이 허용됩니다.</p>
+ *
+ * <p>원본 조회와 동시에 제재가 커밋되면, 커밋 전 상태를 읽은 로더가 무효화 이후에 Redis에 값을 써서
+ * 오래된 상태가 {@code remote-ttl-ms} 동안 모든 인스턴스에 노출될 수 있습니다. 이를 막기 위해 무효화 시 대상별
+ * 버전 키를 증가시키고, 로더는 원본 조회 전에 읽은 버전이 그대로이고 키가 비어 있을 때만 값을 기록합니다(Lua).</p>
+ */
+@Slf4j
+@Component
+public class TwoTierSanctionStatusCache implements SanctionStatusCache {
+
+    private static final String KEY_PREFIX = "sanction:status:";
+    private static final String VERSION_KEY_PREFIX = "sanction:status:version:";
+
+    /**
+     * 버전이 로드 시작 시점과 같을 때만 SET NX PX (KEYS: 값, 버전 / ARGV: 예상 버전, 값, TTL)
+     */
+    private static final RedisScript<Long> WRITE_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('get', KEYS[2]) or '') ~= ARGV[1] then return 0 end "
+                    + "if redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3], 'NX') then return 1 else return 0 end",
+            Long.class);
+
+    /**
+     * 값 삭제와 버전 증가 (KEYS: 값, 버전 / ARGV: 버전 TTL)
+     */
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('del', KEYS[1]) local version = redis.call('incr', KEYS[2]) "
+                    + "redis.call('pexpire', KEYS[2], ARGV[1]) return version",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration localTtl;
+    private final Duration remoteTtl;
+    private final Cache<String, SanctionState> localCache;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder remoteErrors = new LongAdder();
+    private final LongAdder lookupNanos = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    public TwoTierSanctionStatusCache(StringRedisTemplate redisTemplate,
+                                      @Value("${report.sanction.cache.local-max-size:100000}") long localMaxSize,
+                                      @Value("${report.sanction.cache.local-ttl-ms:5000}") long localTtlMs,
+                                      @Value("${report.sanction.cache.remote-ttl-ms:600000}") long remoteTtlMs) {
+        this.redisTemplate = redisTemplate;
+        this.localTtl = Duration.ofMillis(localTtlMs);
+        this.remoteTtl = Duration.ofMillis(remoteTtlMs);
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfter(new Expiry<String, SanctionState>() {
+                    @Override
+                    public long expireAfterCreate(String key, SanctionState value, long currentTime) {
+                        return ttl(value, localTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, SanctionState value, long currentTime,
+                                                  long currentDuration) {
+                        return ttl(value, localTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, SanctionState value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public SanctionState get(String targetId, Function<String, SanctionState> loader) {
+        long start = System.nanoTime();
+        requests.increment();
+        try {
+            boolean[] localMiss = {false};
+            // 로컬 캐시의 키별 계산은 원자적이므로 동일 대상 동시 미스는 한 번만 하위 단계로 전달
+            SanctionState state = localCache.get(targetId, key -> {
+                localMiss[0] = true;
+                return loadFromRemoteOrSource(key, loader);
+            });
+            if (!localMiss[0]) {
+                localHits.increment();
+            }
+            return state;
+        } finally {
+            lookupNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void evict(String targetId) {
+        localCache.invalidate(targetId);
+        try {
+            // 버전 키는 진행 중인 로드보다 오래 남으면 충분하므로 Redis 캐시 TTL만큼만 유지
+            redisTemplate.execute(EVICT_SCRIPT, List.of(KEY_PREFIX + targetId, VERSION_KEY_PREFIX + targetId),
+                    String.valueOf(remoteTtl.toMillis()));
+        } catch (RuntimeException e) {
+            remoteErrors.increment();
+            log.warn("Failed to evict sanction status from Redis: targetId={}, error={}", targetId, e.getMessage());
+        }
+    }
+
+    @Override
+    public Metrics getMetrics() {
+        long requestCount = requests.sum();
+        long missCount = misses.sum();
+        return new Metrics(
+                requestCount,
+                localHits.sum(),
+                remoteHits.sum(),
+                missCount,
+                remoteErrors.sum(),
+                requestCount == 0 ? 0.0 : lookupNanos.sum() / 1_000.0 / requestCount,
+                missCount == 0 ? 0.0 : loadNanos.sum() / 1_000.0 / missCount,
+                localCache.estimatedSize()
+        );
+    }
+
+    @Override
+    public void resetMetrics() {
+        requests.reset();
+        localHits.reset();
+        remoteHits.reset();
+        misses.reset();
+        remoteErrors.reset();
+        lookupNanos.reset();
+        loadNanos.reset();
+    }
+
+    /**
+     * Redis 조회 후 없으면 원본에서 로드하여 Redis에 저장
+     */
+    private SanctionState loadFromRemoteOrSource(String targetId, Function<String, SanctionState> loader) {
+        String key = KEY_PREFIX + targetId;
+        String versionKey = VERSION_KEY_PREFIX + targetId;
+
+        // 값과 버전을 한 번에 조회 (버전은 원본 조회 전에 읽어야 로드 중 무효화를 감지할 수 있음)
+        List<String> remote = readRemote(key, versionKey);
+        if (remote != null) {
+            SanctionState cached = decode(key, remote.get(0));
+            if (cached != null) {
+                remoteHits.increment();
+                return cached;
+            }
+        }
+
+        misses.increment();
+        long start = System.nanoTime();
+        SanctionState loaded = loader.apply(targetId);
+        loadNanos.add(System.nanoTime() - start);
+
+        // 버전을 알 수 없으면(Redis 오류) 오래된 값을 덮어쓸 위험이 있으므로 기록하지 않음
+        if (remote != null) {
+            writeRemote(key, versionKey, remote.get(1), loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 값과 버전 조회
+     *
+     * @return [값, 버전] (없는 항목은 null), Redis 오류 시 null
+     */
+    private List<String> readRemote(String key, String versionKey) {
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(key, versionKey));
+            return values != null && values.size() == 2 ? values : null;
+        } catch (RuntimeException e) {
+            remoteErrors.increment();
+            log.warn("Failed to read sanction status from Redis: key={}, error={}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private SanctionState decode(String key, String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return SanctionState.decode(value);
+        } catch (NumberFormatException e) {
+            log.warn("Invalid sanction status value in Redis: key={}", key);
+            return null;
+        }
+    }
+
+    private void writeRemote(String key, String versionKey, String expectedVersion, SanctionState state) {
+        Duration ttl = ttl(state, remoteTtl);
+        if (ttl.toMillis() <= 0) {
+            return;
+        }
+        try {
+            Long written = redisTemplate.execute(WRITE_SCRIPT, List.of(key, versionKey),
+                    expectedVersion != null ? expectedVersion : "", state.encode(), String.valueOf(ttl.toMillis()));
+            if (written == null || written == 0L) {
+                log.debug("Skipped stale sanction status write: key={}", key);
+            }
+        } catch (RuntimeException e) {
+            remoteErrors.increment();
+            log.warn("Failed to write sanction status to Redis: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 설정 TTL과 제재 종료 시각 중 더 이른 만료 시간
+     */
+    private static Duration ttl(SanctionState state, Duration maxTtl) {
+        if (!state.sanctioned() || state.isPermanent()) {
+            return maxTtl;
+        }
+        Duration remaining = Duration.between(LocalDateTime.now(), state.until());
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
+        }
+        return remaining.compareTo(maxTtl) < 0 ? remaining : maxTtl;
+    }
+}
@@ -0,0 +1,148 @@
+-- =====================================================================
+-- 문자열(VARCHAR) 기본 키 -> BIGINT(Snowflake) 전환
+--
+-- 대상: report, report_history, sanctions, sanction_outbox.sanction_id,
+--       inquiries, answers, inquiry_files.inquiry_id
+--
+-- 애플리케이션은 BIGINT 키로 동작하고 API 경계에서만 문자열 ID를 사용합니다.
+--   - 기존에 문자열로 발급된 Snowflake ID("3051...")는 같은 숫자 키로 변환되므로 클라이언트가 가진 ID가 그대로 유효합니다.
+--   - 숫자가 아닌 문의 ID(초기 UUID)는 새 BIGINT 키를 부여하고 inquiries.legacy_id에 보존하여
+--     이전 ID로 들어오는 API 호출/이미지 메시지를 legacy_id로 찾습니다 (dual read).
+--
+-- 순서: 0. 사전 점검 -> 1. 측정(전) -> 2. 확장(expand) -> 3. 채움(backfill) -> 4. 축소(contract) -> 5. 측정(후)
+-- 4단계는 테이블을 재작성하므로 점검 시간대에 실행하고, 새 버전 배포 전에 완료해야 합니다.
+-- =====================================================================
+
+
+-- ---------------------------------------------------------------------
+-- 0. 사전 점검: 신고/제재 ID는 항상 Snowflake 숫자 문자열로 발급되었으므로 0건이어야 합니다.
+--    0건이 아니면 중단하고 해당 행을 먼저 정리합니다.
+-- ---------------------------------------------------------------------
+SELECT 'report' AS table_name, COUNT(*) AS non_numeric FROM report WHERE report_id NOT REGEXP '^[1-9][0-9]{0,18}$'
+UNION ALL
+SELECT 'report_history', COUNT(*) FROM report_history
+WHERE history_id NOT REGEXP '^[1-9][0-9]{0,18}$' OR report_id NOT REGEXP '^[1-9][0-9]{0,18}$'
+UNION ALL
+SELECT 'sanctions', COUNT(*) FROM sanctions
+WHERE sanction_id NOT REGEXP '^[1-9][0-9]{0,18}$' OR report_id NOT REGEXP '^[1-9][0-9]{0,18}$'
+UNION ALL
+SELECT 'sanction_outbox', COUNT(*) FROM sanction_outbox WHERE sanction_id NOT REGEXP '^[1-9][0-9]{0,18}$';
+
+
+-- ---------------------------------------------------------------------
+-- 1. 측정(전): 인덱스별 크기(바이트)
+-- ---------------------------------------------------------------------
+ANALYZE TABLE report, report_history, sanctions, sanction_outbox, inquiries, answers, inquiry_files;
+
+SELECT table_name, index_name, stat_value * @@innodb_page_size AS size_bytes
+FROM mysql.innodb_index_stats
+WHERE database_name = DATABASE()
+  AND stat_name = 'size'
+  AND table_name IN ('report', 'report_history', 'sanctions', 'sanction_outbox', 'inquiries', 'answers', 'inquiry_files')
+ORDER BY table_name, index_name;
+
+
+-- ---------------------------------------------------------------------
+-- 2. 확장: 문의 이전 ID 보존 컬럼과 UUID -> BIGINT 매핑
+--    새 키는 1부터 순번으로 부여합니다. Snowflake ID는 2^22 이상이므로 충돌하지 않습니다.
+--    답변 ID는 API로 조회되지 않으므로 이전 ID를 보존하지 않고 새 키만 부여합니다.
+-- ---------------------------------------------------------------------
+ALTER TABLE inquiries ADD COLUMN legacy_id VARCHAR(36) NULL;
+
+CREATE TABLE inquiry_id_map (
+    legacy_id VARCHAR(36) NOT NULL PRIMARY KEY,
+    new_id    BIGINT      NOT NULL UNIQUE
+) ENGINE=InnoDB;
+
+INSERT INTO inquiry_id_map (legacy_id, new_id)
+SELECT inquiry_id, ROW_NUMBER() OVER (ORDER BY created_at, inquiry_id)
+FROM inquiries
+WHERE inquiry_id NOT REGEXP '^[1-9][0-9]{0,18}$';
+
+CREATE TABLE answer_id_map (
+    legacy_id VARCHAR(36) NOT NULL PRIMARY KEY,
+    new_id    BIGINT      NOT NULL UNIQUE
+) ENGINE=InnoDB;
+
+INSERT INTO answer_id_map (legacy_id, new_id)
+SELECT answer_id, ROW_NUMBER() OVER (ORDER BY created_at, answer_id)
+FROM answers
+WHERE answer_id NOT REGEXP '^[1-9][0-9]{0,18}$';
+
+
+-- ---------------------------------------------------------------------
+-- 3. 채움: 숫자가 아닌 문의/답변 ID를 새 키로 치환 (FK 검사를 끄고 부모/자식을 같은 트랜잭션에서 변경)
+-- ---------------------------------------------------------------------
+SET FOREIGN_KEY_CHECKS = 0;
+START TRANSACTION;
+
+UPDATE inquiries i JOIN inquiry_id_map m ON i.inquiry_id = m.legacy_id
+SET i.legacy_id = m.legacy_id, i.inquiry_id = m.new_id;
+
+UPDATE answers a JOIN inquiry_id_map m ON a.inquiry_id = m.legacy_id
+SET a.inquiry_id = m.new_id;
+
+UPDATE answers a JOIN answer_id_map m ON a.answer_id = m.legacy_id
+SET a.answer_id = m.new_id;
+
+UPDATE inquiry_files f JOIN inquiry_id_map m ON f.inquiry_id = m.legacy_id
+SET f.inquiry_id = m.new_id;
+
+COMMIT;
+SET FOREIGN_KEY_CHECKS = 1;
+
+
+-- ---------------------------------------------------------------------
+-- 4. 축소: 컬럼 타입을 BIGINT로 변경 (참조 FK를 먼저 제거하고 부모부터 변경 후 재생성)
+--    answers / inquiry_files의 FK 이름은 Hibernate가 생성하므로
+--    SHOW CREATE TABLE answers; SHOW CREATE TABLE inquiry_files; 로 확인한 이름으로 바꿔 실행합니다.
+-- ---------------------------------------------------------------------
+ALTER TABLE sanctions DROP FOREIGN KEY fk_sanctions_report;
+ALTER TABLE report_history DROP FOREIGN KEY fk_report_history_report;
+
+ALTER TABLE report
+    MODIFY report_id BIGINT NOT NULL COMMENT '신고 ID (Snowflake)';
+
+ALTER TABLE report_history
+    MODIFY history_id BIGINT NOT NULL COMMENT '이력 ID (Snowflake)',
+    MODIFY report_id BIGINT NOT NULL COMMENT '신고 ID',
+    ADD CONSTRAINT fk_report_history_report FOREIGN KEY (report_id) REFERENCES report (report_id);
+
+ALTER TABLE sanctions
+    MODIFY sanction_id BIGINT NOT NULL COMMENT '제재 ID (Snowflake)',
+    MODIFY report_id BIGINT NOT NULL COMMENT '연관 신고 ID',
+    ADD CONSTRAINT fk_sanctions_report FOREIGN KEY (report_id) REFERENCES report (report_id);
+
+ALTER TABLE sanction_outbox
+    MODIFY sanction_id BIGINT NOT NULL COMMENT '제재 ID';
+
+ALTER TABLE answers DROP FOREIGN KEY FK_answers_inquiry;
+ALTER TABLE inquiry_files DROP FOREIGN KEY FK_inquiry_files_inquiry;
+
+ALTER TABLE inquiries
+    MODIFY inquiry_id BIGINT NOT NULL,
+    ADD CONSTRAINT uk_inquiries_legacy_id UNIQUE (legacy_id);
+
+ALTER TABLE answers
+    MODIFY answer_id BIGINT NOT NULL,
+    MODIFY inquiry_id BIGINT NOT NULL,
+    ADD CONSTRAINT FK_answers_inquiry FOREIGN KEY (inquiry_id) REFERENCES inquiries (inquiry_id);
+
+ALTER TABLE inquiry_files
+    MODIFY inquiry_id BIGINT NOT NULL,
+    ADD CONSTRAINT FK_inquiry_files_inquiry FOREIGN KEY (inquiry_id) REFERENCES inquiries (inquiry_id);
+
+DROP TABLE inquiry_id_map, answer_id_map;
+
+
+-- ---------------------------------------------------------------------
+-- 5. 측정(후): 1단계와 같은 쿼리로 인덱스 크기를 비교합니다.
+-- ---------------------------------------------------------------------
+ANALYZE TABLE report, report_history, sanctions, sanction_outbox, inquiries, answers, inquiry_files;
+
+SELECT table_name, index_name, stat_value * @@innodb_page_size AS size_bytes
+FROM mysql.innodb_index_stats
+WHERE database_name = DATABASE()
+  AND stat_name = 'size'
+  AND table_name IN ('report', 'report_history', 'sanctions', 'sanction_outbox', 'inquiries', 'answers', 'inquiry_files')
+ORDER BY table_name, index_name;
@@ -2,12 +2,14 @@
 CREATE TABLE report_categories (
                                    report_category VARCHAR(100) NOT NULL COMMENT '신고 카테고리',
                                    reference_type VARCHAR(20) NOT NULL COMMENT '신고 대상 타입 (PROFILE, ARTICLE, BUSINESS)',
-                                   PRIMARY KEY (report_category, reference_type)
+                                   updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6) COMMENT '최종 변경 일시 (캐시 증분 동기화 기준)',
+                                   PRIMARY KEY (report_category, reference_type),
+                                   INDEX idx_report_categories_updated_at (updated_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='신고 카테고리 마스터';
 
 -- 신고 테이블
 CREATE TABLE report (
-                        report_id VARCHAR(100) NOT NULL PRIMARY KEY COMMENT '신고 ID',
+                        report_id BIGINT NOT NULL PRIMARY KEY COMMENT '신고 ID (Snowflake)',
                         reporter_id VARCHAR(100) NOT NULL COMMENT '신고자 ID',
                         reported_id VARCHAR(100) NOT NULL COMMENT '신고 대상 ID',
                         reference_type VARCHAR(20) NOT NULL COMMENT '신고 대상 타입',
@@ -25,8 +27,10 @@ CREATE TABLE report (
 
                         INDEX idx_report_reporter_id (reporter_id),
                         INDEX idx_report_reported_id (reported_id),
-                        INDEX idx_report_reported_at (reported_at),
-                        INDEX idx_report_status (status)
+                        -- 커서 페이징용 복합 인덱스 (정렬 키 + report_id)
+                        INDEX idx_report_reported_at_id (reported_at, report_id),
+                        INDEX idx_report_status_id (status, report_id),
+                        INDEX idx_report_status_reported_at_id (status, reported_at, report_id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='신고 내역';
 
 -- 제재 규칙 테이블 (변경 없음: FK 없음)
@@ -44,8 +48,8 @@ CREATE TABLE sanction_rules (
 
 -- 제재 테이블 (변경 없음)
 CREATE TABLE sanctions (
-                           sanction_id VARCHAR(100) NOT NULL PRIMARY KEY COMMENT '제재 ID',
-                           report_id VARCHAR(100) NOT NULL COMMENT '연관 신고 ID',
+                           sanction_id BIGINT NOT NULL PRIMARY KEY COMMENT '제재 ID (Snowflake)',
+                           report_id BIGINT NOT NULL COMMENT '연관 신고 ID',
                            target_id VARCHAR(100) NOT NULL COMMENT '제재 대상 ID',
                            sanction_type VARCHAR(20) NOT NULL COMMENT '제재 타입',
                            duration INT NULL COMMENT '제재 기간 (일 단위)',
@@ -58,15 +62,14 @@ CREATE TABLE sanctions (
                                FOREIGN KEY (report_id)
                                    REFERENCES report(report_id),
 
-                           INDEX idx_sanctions_target_id (target_id),
-                           INDEX idx_sanctions_status (status),
-                           INDEX idx_sanctions_expires_at (expires_at)
+                           INDEX idx_sanctions_target_id_status (target_id, status),
+                           INDEX idx_sanctions_status_expires_at (status, expires_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='제재 내역';
 
 -- 신고 처리 이력 테이블 (변경 없음)
 CREATE TABLE report_history (
-                                history_id VARCHAR(100) NOT NULL PRIMARY KEY COMMENT '이력 ID',
-                                report_id VARCHAR(100) NOT NULL COMMENT '신고 ID',
+                                history_id BIGINT NOT NULL PRIMARY KEY COMMENT '이력 ID (Snowflake)',
+                                report_id BIGINT NOT NULL COMMENT '신고 ID',
                                 admin_id VARCHAR(100) NULL COMMENT '처리한 관리자 ID',
                                 previous_status VARCHAR(20) NULL COMMENT '이전 상태',
                                 new_status VARCHAR(20) NOT NULL COMMENT '새 상태',
@@ -98,6 +101,34 @@ CREATE TABLE report_statistics (
                                    CONSTRAINT uk_report_statistics
                                        UNIQUE KEY (reference_type, reported_id, report_category)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='신고 통계 집계 (성능 최적화용)';
+
+-- 제재 이벤트 아웃박스 테이블
+CREATE TABLE sanction_outbox (
+                                 event_id BIGINT NOT NULL PRIMARY KEY COMMENT '이벤트 ID (Snowflake, 발생 순서)',
+                                 event_type VARCHAR(20) NOT NULL COMMENT '이벤트 타입',
+                                 sanction_id BIGINT NOT NULL COMMENT '제재 ID',
+                                 target_id VARCHAR(100) NOT NULL COMMENT '제재 대상 ID (Kafka 메시지 키)',
+                                 sanction_type VARCHAR(20) NULL COMMENT '제재 타입',
+                                 expires_at DATETIME(6) NULL COMMENT '제재 만료 일시',
+                                 occurred_at DATETIME(6) NOT NULL COMMENT '이벤트 발생 일시',
+                                 status VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT '전송 상태',
+                                 attempts INT NOT NULL DEFAULT 0 COMMENT '전송 시도 횟수',
+                                 sent_at DATETIME(6) NULL COMMENT '전송 완료 일시',
+
+                                 INDEX idx_sanction_outbox_status_event_id (status, event_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='제재 이벤트 아웃박스';
+
+CREATE TABLE sanction_outbox_relay_lease (
+                                             name VARCHAR(50) NOT NULL PRIMARY KEY COMMENT '릴레이 이름',
+                                             owner VARCHAR(64) NOT NULL COMMENT '임대 보유 인스턴스',
+                                             lease_until DATETIME(6) NOT NULL COMMENT '임대 만료 일시 (DB 시각 기준)'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='제재 아웃박스 릴레이 임대';
+
+-- 제재 대상 잠금 테이블 (자동 제재 판정 직렬화)
+CREATE TABLE sanction_target_locks (
+                                       target_id VARCHAR(100) NOT NULL PRIMARY KEY COMMENT '제재 대상 ID',
+                                       locked_at DATETIME(6) NOT NULL COMMENT '마지막 잠금 일시'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='제재 대상 잠금';
 -- 프로필 신고 카테고리
 INSERT INTO report_categories (reference_type, report_category) VALUES
 ('PROFILE', '욕설, 비속어, 음란'),
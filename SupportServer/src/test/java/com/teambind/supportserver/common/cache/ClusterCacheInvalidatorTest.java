@@ -0,0 +1,382 @@
+package com.teambind.supportserver.common.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ClusterCacheInvalidator 테스트
+ *
+ * <p>인메모리 전송 계층 하나를 여러 인스턴스가 공유하도록 하여 Redis 버전 키 + pub/sub 클러스터를 재현합니다.</p>
+ */
+@DisplayName("ClusterCacheInvalidator 테스트")
+class ClusterCacheInvalidatorTest {
+
+	private static final String CACHE = "faq";
+
+	private InMemoryCacheInvalidationTransport transport;
+	private final List<ClusterCacheInvalidator> nodes = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		transport = new InMemoryCacheInvalidationTransport();
+	}
+
+	@AfterEach
+	void tearDown() {
+		nodes.forEach(ClusterCacheInvalidator::destroy);
+	}
+
+	@Test
+	@DisplayName("한 인스턴스에서 발행하면 다른 인스턴스만 리로드한다")
+	void publish_ReloadsOtherNodes() throws InterruptedException {
+		// given
+		AtomicInteger publisherReloads = new AtomicInteger();
+		CountDownLatch reloaded = new CountDownLatch(2);
+		ClusterCacheInvalidator publisher = node(0);
+		publisher.register(CACHE, publisherReloads::incrementAndGet);
+		node(0).register(CACHE, reloaded::countDown);
+		node(0).register(CACHE, reloaded::countDown);
+
+		// when
+		publisher.publish(CACHE);
+
+		// then
+		assertThat(reloaded.await(2, TimeUnit.SECONDS)).isTrue();
+		assertThat(publisherReloads).hasValue(0);
+		assertThat(transport.currentVersion(CACHE)).isEqualTo(1);
+		nodes.forEach(n -> assertThat(awaitApplied(n, 1)).isTrue());
+	}
+
+	@Test
+	@DisplayName("지터 대기 중 연속으로 도착한 무효화는 한 번의 리로드로 합쳐진다")
+	void burst_CoalescedIntoSingleReload() throws InterruptedException {
+		// given
+		ClusterCacheInvalidator publisher = node(0);
+		publisher.register(CACHE, () -> { });
+		AtomicInteger reloads = new AtomicInteger();
+		ClusterCacheInvalidator subscriber = node(300);
+		subscriber.register(CACHE, reloads::incrementAndGet);
+
+		// when
+		for (int i = 0; i < 10; i++) {
+			publisher.publish(CACHE);
+		}
+
+		// then
+		assertThat(awaitApplied(subscriber, 10)).isTrue();
+		ClusterCacheInvalidator.CacheStatus status = subscriber.getStatus().get(CACHE);
+		assertThat(reloads.get()).isLessThan(10);
+		assertThat(status.reloads()).isEqualTo(reloads.get());
+		assertThat(status.coalesced()).isGreaterThan(0);
+		assertThat(status.reloadPending()).isFalse();
+	}
+
+	@Test
+	@DisplayName("리로드 중 더 새 버전이 도착하면 완료 후 다시 리로드한다")
+	void newerVersionDuringReload_ReloadsAgain() throws InterruptedException {
+		// given
+		ClusterCacheInvalidator publisher = node(0);
+		publisher.register(CACHE, () -> { });
+		CountDownLatch inReload = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger reloads = new AtomicInteger();
+		ClusterCacheInvalidator subscriber = node(0);
+		subscriber.register(CACHE, () -> {
+			if (reloads.incrementAndGet() == 1) {
+				inReload.countDown();
+				await(release);
+			}
+		});
+
+		// when
+		publisher.publish(CACHE);
+		assertThat(inReload.await(2, TimeUnit.SECONDS)).isTrue();
+		publisher.publish(CACHE);
+		release.countDown();
+
+		// then
+		assertThat(awaitApplied(subscriber, 2)).isTrue();
+		assertThat(reloads).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("메시지가 유실되어도 버전 키 폴링으로 리로드한다")
+	void missedMessage_RecoveredByPolling() throws InterruptedException {
+		// given
+		AtomicInteger reloads = new AtomicInteger();
+		ClusterCacheInvalidator subscriber = node(0);
+		subscriber.register(CACHE, reloads::incrementAndGet);
+		transport.incrementVersion(CACHE); // 메시지 없이 버전만 증가 (pub/sub 유실)
+
+		// when
+		subscriber.pollVersions();
+
+		// then
+		assertThat(awaitApplied(subscriber, 1)).isTrue();
+		assertThat(reloads).hasValue(1);
+
+		// 이미 반영된 버전은 다시 리로드하지 않음
+		subscriber.pollVersions();
+		Thread.sleep(100);
+		assertThat(reloads).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("리로드가 실패하면 적용 버전을 유지하고 다음 폴링에서 재시도한다")
+	void reloadFailure_RetriedOnNextPoll() throws InterruptedException {
+		// given
+		ClusterCacheInvalidator publisher = node(0);
+		publisher.register(CACHE, () -> { });
+		AtomicInteger attempts = new AtomicInteger();
+		ClusterCacheInvalidator subscriber = node(0);
+		subscriber.register(CACHE, () -> {
+			if (attempts.incrementAndGet() == 1) {
+				throw new IllegalStateException("DB unavailable");
+			}
+		});
+
+		// when
+		publisher.publish(CACHE);
+		assertThat(awaitFailures(subscriber, 1)).isTrue();
+		assertThat(subscriber.getStatus().get(CACHE).appliedVersion()).isZero();
+		subscriber.pollVersions();
+
+		// then
+		assertThat(awaitApplied(subscriber, 1)).isTrue();
+		assertThat(attempts).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("등록 시점의 버전은 적용된 것으로 간주하고, 잘못된 메시지는 무시한다")
+	void register_StartsFromCurrentVersion() throws InterruptedException {
+		// given
+		transport.incrementVersion(CACHE);
+		transport.incrementVersion(CACHE);
+		AtomicInteger reloads = new AtomicInteger();
+		ClusterCacheInvalidator subscriber = node(0);
+		subscriber.register(CACHE, reloads::incrementAndGet);
+
+		// when
+		transport.publish(CACHE + "|2|other-node");
+		transport.publish("malformed");
+		transport.publish(CACHE + "|not-a-number|other-node");
+		transport.publish("unknown-cache|5|other-node");
+		subscriber.pollVersions();
+		Thread.sleep(100);
+
+		// then
+		assertThat(reloads).hasValue(0);
+		assertThat(subscriber.getStatus().get(CACHE).appliedVersion()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("키 단위 변경은 다른 인스턴스가 리로드 없이 키 리스너로 반영한다")
+	void publishKey_AppliedWithoutReload() {
+		// given
+		ClusterCacheInvalidator publisher = node(0);
+		publisher.register(CACHE, () -> { }, key -> { });
+		AtomicInteger reloads = new AtomicInteger();
+		List<String> keys = new CopyOnWriteArrayList<>();
+		ClusterCacheInvalidator subscriber = node(0);
+		subscriber.register(CACHE, reloads::incrementAndGet, keys::add);
+
+		// when
+		publisher.publish(CACHE, "USER-001");
+		publisher.publish(CACHE, "USER-002");
+
+		// then
+		assertThat(keys).containsExactly("USER-001", "USER-002");
+		assertThat(reloads).hasValue(0);
+		assertThat(subscriber.getStatus().get(CACHE).appliedVersion()).isEqualTo(2);
+		assertThat(publisher.getStatus().get(CACHE).appliedVersion()).isEqualTo(2);
+		assertThat(subscriber.isBehind(CACHE)).isFalse();
+	}
+
+	@Test
+	@DisplayName("순서가 바뀌어 도착한 키 변경은 앞 버전이 도착하면 적용 버전이 이어진다")
+	void publishKey_OutOfOrder() {
+		// given
+		AtomicInteger reloads = new AtomicInteger();
+		List<String> keys = new CopyOnWriteArrayList<>();
+		ClusterCacheInvalidator subscriber = node(0);
+		subscriber.register(CACHE, reloads::incrementAndGet, keys::add);
+
+		// when
+		transport.publish(CACHE + "|2|other-node|USER-002");
+		long appliedBeforeGap = subscriber.getStatus().get(CACHE).appliedVersion();
+		transport.publish(CACHE + "|1|other-node|USER-001");
+
+		// then
+		assertThat(appliedBeforeGap).isZero();
+		assertThat(subscriber.getStatus().get(CACHE).appliedVersion()).isEqualTo(2);
+		assertThat(keys).containsExactlyInAnyOrder("USER-001", "USER-002");
+		assertThat(reloads).hasValue(0);
+	}
+
+	@Test
+	@DisplayName("키 변경 메시지가 유실되면 버전 키 폴링에서 전체 리로드한다")
+	void missedKeyMessage_ReloadedByPolling() {
+		// given
+		AtomicInteger reloads = new AtomicInteger();
+		ClusterCacheInvalidator subscriber = node(0);
+		subscriber.register(CACHE, reloads::incrementAndGet, key -> { });
+		transport.incrementVersion(CACHE); // 버전 1 메시지 유실
+		transport.incrementVersion(CACHE);
+		transport.publish(CACHE + "|2|other-node|USER-002");
+		assertThat(subscriber.getStatus().get(CACHE).appliedVersion()).isZero();
+
+		// when
+		subscriber.pollVersions();
+
+		// then
+		assertThat(awaitApplied(subscriber, 2)).isTrue();
+		assertThat(reloads).hasValue(1);
+		assertThat(subscriber.isBehind(CACHE)).isFalse();
+	}
+
+	@Test
+	@DisplayName("채널을 다시 구독하면 끊긴 동안의 유실을 바로 확인해 리로드한다")
+	void resubscribe_PollsVersions() {
+		// given
+		AtomicReference<Runnable> onSubscribed = new AtomicReference<>();
+		CacheInvalidationTransport reconnecting = new CacheInvalidationTransport() {
+			@Override
+			public long incrementVersion(String cacheName) {
+				return transport.incrementVersion(cacheName);
+			}
+
+			@Override
+			public long currentVersion(String cacheName) {
+				return transport.currentVersion(cacheName);
+			}
+
+			@Override
+			public void publish(String message) {
+				transport.publish(message);
+			}
+
+			@Override
+			public void subscribe(Consumer<String> listener, Runnable callback) {
+				transport.subscribe(listener, callback);
+				onSubscribed.set(callback);
+			}
+		};
+		ClusterCacheInvalidator subscriber = new ClusterCacheInvalidator(reconnecting, 0);
+		nodes.add(subscriber);
+		AtomicInteger reloads = new AtomicInteger();
+		subscriber.register(CACHE, reloads::incrementAndGet, key -> { });
+		transport.incrementVersion(CACHE); // 연결이 끊긴 동안 발행된 변경
+
+		// when
+		onSubscribed.get().run();
+
+		// then
+		assertThat(awaitApplied(subscriber, 1)).isTrue();
+		assertThat(reloads).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("발행에 실패한 키 변경은 다음 폴링에서 버전만 올려 재발행한다")
+	void publishKeyFailure_RepublishedOnPoll() {
+		// given
+		AtomicInteger failures = new AtomicInteger(1);
+		CacheInvalidationTransport flaky = new CacheInvalidationTransport() {
+			@Override
+			public long incrementVersion(String cacheName) {
+				if (failures.getAndDecrement() > 0) {
+					throw new IllegalStateException("Redis unavailable");
+				}
+				return transport.incrementVersion(cacheName);
+			}
+
+			@Override
+			public long currentVersion(String cacheName) {
+				return transport.currentVersion(cacheName);
+			}
+
+			@Override
+			public void publish(String message) {
+				transport.publish(message);
+			}
+
+			@Override
+			public void subscribe(Consumer<String> listener, Runnable callback) {
+				transport.subscribe(listener, callback);
+			}
+		};
+		ClusterCacheInvalidator publisher = new ClusterCacheInvalidator(flaky, 0);
+		nodes.add(publisher);
+		publisher.register(CACHE, () -> { }, key -> { });
+		AtomicInteger reloads = new AtomicInteger();
+		ClusterCacheInvalidator subscriber = node(0);
+		subscriber.register(CACHE, reloads::incrementAndGet, key -> { });
+
+		// when
+		publisher.publish(CACHE, "USER-001");
+		assertThat(transport.currentVersion(CACHE)).isZero();
+		publisher.pollVersions();
+
+		// then
+		assertThat(transport.currentVersion(CACHE)).isEqualTo(1);
+		assertThat(awaitApplied(subscriber, 1)).isTrue();
+		assertThat(reloads).hasValue(1);
+	}
+
+	private ClusterCacheInvalidator node(long maxJitterMs) {
+		ClusterCacheInvalidator node = new ClusterCacheInvalidator(transport, maxJitterMs);
+		nodes.add(node);
+		return node;
+	}
+
+	private boolean awaitApplied(ClusterCacheInvalidator node, long version) {
+		return awaitCondition(() -> {
+			ClusterCacheInvalidator.CacheStatus status = node.getStatus().get(CACHE);
+			return status.appliedVersion() >= version && !status.reloadPending();
+		});
+	}
+
+	private boolean awaitFailures(ClusterCacheInvalidator node, long failures) {
+		return awaitCondition(() -> {
+			ClusterCacheInvalidator.CacheStatus status = node.getStatus().get(CACHE);
+			return status.failures() >= failures && !status.reloadPending();
+		});
+	}
+
+	private boolean awaitCondition(BooleanSupplier condition) {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(3);
+		while (System.nanoTime() < deadline) {
+			if (condition.getAsBoolean()) {
+				return true;
+			}
+			try {
+				Thread.sleep(10);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+		return condition.getAsBoolean();
+	}
+
+	private void await(CountDownLatch latch) {
+		try {
+			latch.await(2, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
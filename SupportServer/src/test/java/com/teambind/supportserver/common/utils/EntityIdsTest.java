@@ -0,0 +1,47 @@
+package com.teambind.supportserver.common.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EntityIds 테스트
+ */
+@DisplayName("EntityIds 테스트")
+class EntityIdsTest {
+
+	@Test
+	@DisplayName("문자열로 발급된 Snowflake ID는 같은 BIGINT 키로 해석한다")
+	void parse_SnowflakeString() {
+		// given
+		long id = new Snowflake(1).nextId();
+
+		// when & then
+		assertThat(EntityIds.parse(String.valueOf(id))).contains(id);
+		assertThat(EntityIds.parse(String.valueOf(Long.MAX_VALUE))).contains(Long.MAX_VALUE);
+	}
+
+	@Test
+	@DisplayName("양의 10진수가 아닌 ID는 예외 없이 빈 값을 반환한다")
+	void parse_NonNumeric() {
+		assertThat(EntityIds.parse(null)).isEmpty();
+		assertThat(EntityIds.parse("")).isEmpty();
+		assertThat(EntityIds.parse(UUID.randomUUID().toString())).isEmpty();
+		assertThat(EntityIds.parse("REPORT-001")).isEmpty();
+		assertThat(EntityIds.parse("-1")).isEmpty();
+		assertThat(EntityIds.parse("+1")).isEmpty();
+		assertThat(EntityIds.parse("0")).isEmpty();
+		assertThat(EntityIds.parse("9223372036854775808")).isEmpty(); // Long.MAX_VALUE + 1
+		assertThat(EntityIds.parse("12345678901234567890")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("BIGINT 키를 API 문자열 ID로 변환한다")
+	void format() {
+		assertThat(EntityIds.format(123456789L)).isEqualTo("123456789");
+		assertThat(EntityIds.format(null)).isNull();
+	}
+}
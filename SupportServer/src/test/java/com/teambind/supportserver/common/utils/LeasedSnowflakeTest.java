@@ -0,0 +1,59 @@
+package com.teambind.supportserver.common.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * LeasedSnowflake 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LeasedSnowflake 테스트")
+class LeasedSnowflakeTest {
+
+	@Mock
+	private RedisNodeIdLease lease;
+
+	@Test
+	@DisplayName("임대가 유효하지 않으면 ID를 발급하지 않는다")
+	void generate_FailsClosedWithoutLease() {
+		// given
+		when(lease.getNodeId()).thenReturn(7L);
+		LeasedSnowflake idGenerator = new LeasedSnowflake(lease);
+		when(lease.isValid()).thenReturn(false);
+
+		// when & then
+		assertThatThrownBy(idGenerator::generateLongId).isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(idGenerator::generateId).isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> idGenerator.generateLongIds(3)).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	@DisplayName("임대한 노드 ID가 바뀌면 새 노드 ID로 발급한다")
+	void generate_SwitchesToNewNodeId() {
+		// given
+		when(lease.isValid()).thenReturn(true);
+		when(lease.getNodeId()).thenReturn(7L);
+		LeasedSnowflake idGenerator = new LeasedSnowflake(lease);
+		long before = idGenerator.generateLongId();
+
+		// when
+		when(lease.getNodeId()).thenReturn(9L);
+		long after = idGenerator.generateLongId();
+
+		// then
+		assertThat(nodeIdOf(before)).isEqualTo(7);
+		assertThat(nodeIdOf(after)).isEqualTo(9);
+		assertThat(idGenerator.getNodeId()).isEqualTo(9);
+	}
+
+	private static long nodeIdOf(long id) {
+		return (id >> 12) & Snowflake.MAX_NODE_ID;
+	}
+}
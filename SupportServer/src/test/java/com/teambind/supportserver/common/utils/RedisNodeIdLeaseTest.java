@@ -0,0 +1,151 @@
+package com.teambind.supportserver.common.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * RedisNodeIdLease 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisNodeIdLease 테스트")
+class RedisNodeIdLeaseTest {
+
+	private static final String PREFIX = "snowflake:node:";
+	private static final Duration TTL = Duration.ofSeconds(30);
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private final Set<String> leasedKeys = new HashSet<>();
+
+	@BeforeEach
+	void setUp() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.setIfAbsent(anyString(), anyString(), eq(TTL)))
+				.thenAnswer(invocation -> leasedKeys.add(invocation.getArgument(0)));
+	}
+
+	@Test
+	@DisplayName("이미 임대된 노드 ID를 건너뛰고 비어 있는 ID를 선점한다")
+	void acquire_SkipsLeasedIds() {
+		// given
+		for (long id = 0; id <= Snowflake.MAX_NODE_ID; id++) {
+			if (id != 17) {
+				leasedKeys.add(PREFIX + id);
+			}
+		}
+
+		// when
+		RedisNodeIdLease lease = new RedisNodeIdLease(redisTemplate, PREFIX, TTL);
+
+		// then
+		assertThat(lease.getNodeId()).isEqualTo(17);
+		assertThat(leasedKeys).contains(PREFIX + 17);
+	}
+
+	@Test
+	@DisplayName("모든 노드 ID가 임대 중이면 예외가 발생한다")
+	void acquire_FailsWhenExhausted() {
+		// given
+		for (long id = 0; id <= Snowflake.MAX_NODE_ID; id++) {
+			leasedKeys.add(PREFIX + id);
+		}
+
+		// when & then
+		assertThatThrownBy(() -> new RedisNodeIdLease(redisTemplate, PREFIX, TTL))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	@DisplayName("임대 키가 만료되어 갱신에 실패하면 같은 노드 ID를 다시 선점한다")
+	void renew_ReacquiresExpiredLease() {
+		// given
+		RedisNodeIdLease lease = new RedisNodeIdLease(redisTemplate, PREFIX, TTL);
+		String key = PREFIX + lease.getNodeId();
+		leasedKeys.remove(key);
+		when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(), any())).thenReturn(0L);
+
+		// when
+		lease.renew();
+
+		// then
+		assertThat(leasedKeys).contains(key);
+	}
+
+	@Test
+	@DisplayName("소유한 임대는 만료 시각만 연장한다")
+	void renew_ExtendsOwnedLease() {
+		// given
+		RedisNodeIdLease lease = new RedisNodeIdLease(redisTemplate, PREFIX, TTL);
+		String key = PREFIX + lease.getNodeId();
+		when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of(key)), any(), eq("30000"))).thenReturn(1L);
+
+		// when
+		lease.renew();
+
+		// then
+		// 기동 시 선점 1회 외에 재선점하지 않음
+		verify(valueOperations, times(1)).setIfAbsent(eq(key), anyString(), eq(TTL));
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스에 노드 ID를 빼앗기면 다른 비어 있는 노드 ID를 선점한다")
+	void renew_LeasesNewIdWhenLost() {
+		// given: 키는 남아 있지만 소유자가 다름 (갱신 스크립트 실패, NX 선점 실패)
+		RedisNodeIdLease lease = new RedisNodeIdLease(redisTemplate, PREFIX, TTL);
+		long lostId = lease.getNodeId();
+		when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(), any())).thenReturn(0L);
+
+		// when
+		lease.renew();
+
+		// then
+		assertThat(lease.getNodeId()).isNotEqualTo(lostId);
+		assertThat(lease.isValid()).isTrue();
+		assertThat(leasedKeys).contains(PREFIX + lease.getNodeId());
+	}
+
+	@Test
+	@DisplayName("노드 ID를 빼앗기고 비어 있는 노드 ID도 없으면 임대가 무효화된다")
+	void renew_InvalidatesWhenLostAndExhausted() {
+		// given
+		RedisNodeIdLease lease = new RedisNodeIdLease(redisTemplate, PREFIX, TTL);
+		assertThat(lease.isValid()).isTrue();
+		for (long id = 0; id <= Snowflake.MAX_NODE_ID; id++) {
+			leasedKeys.add(PREFIX + id);
+		}
+		when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(), any())).thenReturn(0L);
+
+		// when
+		lease.renew();
+
+		// then
+		assertThat(lease.isValid()).isFalse();
+	}
+}
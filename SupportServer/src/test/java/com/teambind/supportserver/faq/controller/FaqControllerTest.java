@@ -1,13 +1,16 @@
 package com.teambind.supportserver.faq.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.teambind.supportserver.faq.entity.Faq;
 import com.teambind.supportserver.faq.entity.enums.FaqCategory;
+import com.teambind.supportserver.faq.service.FaqResponseSnapshot;
 import com.teambind.supportserver.faq.service.FaqService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
@@ -29,6 +32,9 @@ class FaqControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @MockBean
     private FaqService faqService;
 
@@ -37,7 +43,7 @@ class FaqControllerTest {
     void getFaqs_WithoutCategoryParam() throws Exception {
         // given
         List<Faq> faqs = createTestFaqs();
-        given(faqService.getFaqsByCategory(FaqCategory.ALL)).willReturn(faqs);
+        given(faqService.getResponseSnapshot(FaqCategory.ALL)).willReturn(snapshot(faqs));
 
         // when & then
         mockMvc.perform(get("/api/v1/faqs"))
@@ -47,7 +53,7 @@ class FaqControllerTest {
                 .andExpect(jsonPath("$[0].category").value("RESERVATION"))
                 .andExpect(jsonPath("$[0].question").value("예약은 어떻게 하나요?"));
 
-        verify(faqService, times(1)).getFaqsByCategory(FaqCategory.ALL);
+        verify(faqService, times(1)).getResponseSnapshot(FaqCategory.ALL);
     }
 
     @Test
@@ -55,7 +61,7 @@ class FaqControllerTest {
     void getFaqs_WithAllCategory() throws Exception {
         // given
         List<Faq> faqs = createTestFaqs();
-        given(faqService.getFaqsByCategory(FaqCategory.ALL)).willReturn(faqs);
+        given(faqService.getResponseSnapshot(FaqCategory.ALL)).willReturn(snapshot(faqs));
 
         // when & then
         mockMvc.perform(get("/api/v1/faqs")
@@ -63,7 +69,7 @@ class FaqControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(5));
 
-        verify(faqService, times(1)).getFaqsByCategory(FaqCategory.ALL);
+        verify(faqService, times(1)).getResponseSnapshot(FaqCategory.ALL);
     }
 
     @Test
@@ -71,7 +77,7 @@ class FaqControllerTest {
     void getFaqs_WithReservationCategory() throws Exception {
         // given
         List<Faq> faqs = List.of(createFaq(1L, FaqCategory.RESERVATION, "예약 관련", "예약은 어떻게 하나요?", "앱에서 예약 가능합니다."));
-        given(faqService.getFaqsByCategory(FaqCategory.RESERVATION)).willReturn(faqs);
+        given(faqService.getResponseSnapshot(FaqCategory.RESERVATION)).willReturn(snapshot(faqs));
 
         // when & then
         mockMvc.perform(get("/api/v1/faqs")
@@ -81,7 +87,7 @@ class FaqControllerTest {
                 .andExpect(jsonPath("$[0].category").value("RESERVATION"))
                 .andExpect(jsonPath("$[0].question").value("예약은 어떻게 하나요?"));
 
-        verify(faqService, times(1)).getFaqsByCategory(FaqCategory.RESERVATION);
+        verify(faqService, times(1)).getResponseSnapshot(FaqCategory.RESERVATION);
     }
 
     @Test
@@ -89,7 +95,7 @@ class FaqControllerTest {
     void getFaqs_WithCheckInCategory() throws Exception {
         // given
         List<Faq> faqs = List.of(createFaq(2L, FaqCategory.CHECK_IN, "체크인 안내", "체크인 시간은 언제인가요?", "오후 3시부터 가능합니다."));
-        given(faqService.getFaqsByCategory(FaqCategory.CHECK_IN)).willReturn(faqs);
+        given(faqService.getResponseSnapshot(FaqCategory.CHECK_IN)).willReturn(snapshot(faqs));
 
         // when & then
         mockMvc.perform(get("/api/v1/faqs")
@@ -98,7 +104,7 @@ class FaqControllerTest {
                 .andExpect(jsonPath("$.length()").value(1))
                 .andExpect(jsonPath("$[0].category").value("CHECK_IN"));
 
-        verify(faqService, times(1)).getFaqsByCategory(FaqCategory.CHECK_IN);
+        verify(faqService, times(1)).getResponseSnapshot(FaqCategory.CHECK_IN);
     }
 
     @Test
@@ -106,7 +112,7 @@ class FaqControllerTest {
     void getFaqs_WithPaymentCategory() throws Exception {
         // given
         List<Faq> faqs = List.of(createFaq(3L, FaqCategory.PAYMENT, "결제 방법", "결제 수단은 무엇이 있나요?", "카드와 계좌이체가 가능합니다."));
-        given(faqService.getFaqsByCategory(FaqCategory.PAYMENT)).willReturn(faqs);
+        given(faqService.getResponseSnapshot(FaqCategory.PAYMENT)).willReturn(snapshot(faqs));
 
         // when & then
         mockMvc.perform(get("/api/v1/faqs")
@@ -115,7 +121,7 @@ class FaqControllerTest {
                 .andExpect(jsonPath("$.length()").value(1))
                 .andExpect(jsonPath("$[0].category").value("PAYMENT"));
 
-        verify(faqService, times(1)).getFaqsByCategory(FaqCategory.PAYMENT);
+        verify(faqService, times(1)).getResponseSnapshot(FaqCategory.PAYMENT);
     }
 
     @Test
@@ -123,7 +129,7 @@ class FaqControllerTest {
     void getFaqs_WithReviewReportCategory() throws Exception {
         // given
         List<Faq> faqs = List.of(createFaq(4L, FaqCategory.REVIEW_REPORT, "리뷰 작성", "리뷰는 어떻게 작성하나요?", "이용 후 앱에서 작성 가능합니다."));
-        given(faqService.getFaqsByCategory(FaqCategory.REVIEW_REPORT)).willReturn(faqs);
+        given(faqService.getResponseSnapshot(FaqCategory.REVIEW_REPORT)).willReturn(snapshot(faqs));
 
         // when & then
         mockMvc.perform(get("/api/v1/faqs")
@@ -132,7 +138,7 @@ class FaqControllerTest {
                 .andExpect(jsonPath("$.length()").value(1))
                 .andExpect(jsonPath("$[0].category").value("REVIEW_REPORT"));
 
-        verify(faqService, times(1)).getFaqsByCategory(FaqCategory.REVIEW_REPORT);
+        verify(faqService, times(1)).getResponseSnapshot(FaqCategory.REVIEW_REPORT);
     }
 
     @Test
@@ -140,7 +146,7 @@ class FaqControllerTest {
     void getFaqs_WithEtcCategory() throws Exception {
         // given
         List<Faq> faqs = List.of(createFaq(5L, FaqCategory.ETC, "문의 방법", "문의는 어디로 하나요?", "고객센터로 문의해주세요."));
-        given(faqService.getFaqsByCategory(FaqCategory.ETC)).willReturn(faqs);
+        given(faqService.getResponseSnapshot(FaqCategory.ETC)).willReturn(snapshot(faqs));
 
         // when & then
         mockMvc.perform(get("/api/v1/faqs")
@@ -149,14 +155,14 @@ class FaqControllerTest {
                 .andExpect(jsonPath("$.length()").value(1))
                 .andExpect(jsonPath("$[0].category").value("ETC"));
 
-        verify(faqService, times(1)).getFaqsByCategory(FaqCategory.ETC);
+        verify(faqService, times(1)).getResponseSnapshot(FaqCategory.ETC);
     }
 
     @Test
     @DisplayName("FAQ 목록 조회 - 빈 목록 반환")
     void getFaqs_EmptyList() throws Exception {
         // given
-        given(faqService.getFaqsByCategory(any())).willReturn(List.of());
+        given(faqService.getResponseSnapshot(any())).willReturn(snapshot(List.of()));
 
         // when & then
         mockMvc.perform(get("/api/v1/faqs")
@@ -164,7 +170,7 @@ class FaqControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(0));
 
-        verify(faqService, times(1)).getFaqsByCategory(FaqCategory.PAYMENT);
+        verify(faqService, times(1)).getResponseSnapshot(FaqCategory.PAYMENT);
     }
 
     @Test
@@ -189,7 +195,7 @@ class FaqControllerTest {
                         .param("category", "INVALID_CATEGORY"))
                 .andExpect(status().isBadRequest());
 
-        verify(faqService, never()).getFaqsByCategory(any());
+        verify(faqService, never()).getResponseSnapshot(any());
     }
 
     @Test
@@ -208,7 +214,7 @@ class FaqControllerTest {
                         .updatedAt(now)
                         .build()
         );
-        given(faqService.getFaqsByCategory(FaqCategory.RESERVATION)).willReturn(faqs);
+        given(faqService.getResponseSnapshot(FaqCategory.RESERVATION)).willReturn(snapshot(faqs));
 
         // when & then
         mockMvc.perform(get("/api/v1/faqs")
@@ -222,11 +228,82 @@ class FaqControllerTest {
                 .andExpect(jsonPath("$[0].createdAt").exists())
                 .andExpect(jsonPath("$[0].updatedAt").exists());
 
-        verify(faqService, times(1)).getFaqsByCategory(FaqCategory.RESERVATION);
+        verify(faqService, times(1)).getResponseSnapshot(FaqCategory.RESERVATION);
+    }
+
+    @Test
+    @DisplayName("FAQ 목록 조회 - ETag와 Cache-Control 헤더 포함")
+    void getFaqs_WithEtag() throws Exception {
+        // given
+        FaqResponseSnapshot snapshot = snapshot(createTestFaqs());
+        given(faqService.getResponseSnapshot(FaqCategory.ALL)).willReturn(snapshot);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/faqs"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, snapshot.getEtag()))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().bytes(snapshot.getBody()));
+    }
+
+    @Test
+    @DisplayName("FAQ 목록 조회 - If-None-Match가 일치하면 304 반환")
+    void getFaqs_NotModified() throws Exception {
+        // given
+        FaqResponseSnapshot snapshot = snapshot(createTestFaqs());
+        given(faqService.getResponseSnapshot(FaqCategory.ALL)).willReturn(snapshot);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/faqs")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"stale\", " + snapshot.getEtag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, snapshot.getEtag()))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("FAQ 목록 조회 - If-None-Match가 다르면 본문 반환")
+    void getFaqs_EtagMismatch() throws Exception {
+        // given
+        given(faqService.getResponseSnapshot(FaqCategory.ALL)).willReturn(snapshot(createTestFaqs()));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/faqs")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5));
+    }
+
+    @Test
+    @DisplayName("FAQ 목록 조회 - gzip 허용 시 미리 압축된 본문 반환")
+    void getFaqs_Gzip() throws Exception {
+        // given
+        FaqResponseSnapshot snapshot = FaqResponseSnapshot.of(createTestFaqs(), objectMapper, 0);
+        given(faqService.getResponseSnapshot(FaqCategory.ALL)).willReturn(snapshot);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/faqs")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, snapshot.getGzipEtag()))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(content().bytes(snapshot.getGzipBody()));
+
+        mockMvc.perform(get("/api/v1/faqs")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().bytes(snapshot.getBody()));
     }
 
     // === 테스트 데이터 생성 헬퍼 메서드 ===
 
+    private FaqResponseSnapshot snapshot(List<Faq> faqs) {
+        return FaqResponseSnapshot.of(faqs, objectMapper, Integer.MAX_VALUE);
+    }
+
     private List<Faq> createTestFaqs() {
         return List.of(
                 createFaq(1L, FaqCategory.RESERVATION, "예약 관련", "예약은 어떻게 하나요?", "앱에서 예약 가능합니다."),
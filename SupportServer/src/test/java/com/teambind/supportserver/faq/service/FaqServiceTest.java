@@ -1,5 +1,10 @@
 package com.teambind.supportserver.faq.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.teambind.supportserver.common.cache.ClusterCacheInvalidator;
 import com.teambind.supportserver.faq.entity.Faq;
 import com.teambind.supportserver.faq.entity.enums.FaqCategory;
 import com.teambind.supportserver.faq.repository.FaqRepository;
@@ -9,8 +14,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -18,6 +26,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
@@ -32,6 +41,15 @@ class FaqServiceTest {
     @Mock
     private FaqRepository faqRepository;
 
+    @Mock
+    private ClusterCacheInvalidator cacheInvalidator;
+
+    @Spy
+    private ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
     @InjectMocks
     private FaqService faqService;
 
@@ -55,6 +73,8 @@ class FaqServiceTest {
         List<Faq> result = faqService.getAllFaqs();
         assertThat(result).hasSize(5);
         verify(faqRepository, times(1)).findAll();
+        verify(cacheInvalidator).register(eq(FaqService.CACHE_NAME), any(Runnable.class));
+        verify(cacheInvalidator, never()).publish(anyString());
     }
 
     @Test
@@ -147,6 +167,35 @@ class FaqServiceTest {
         verify(faqRepository, times(2)).findAll();
     }
 
+    @Test
+    @DisplayName("수동 갱신은 로컬 캐시 갱신 후 클러스터에 무효화를 전파한다")
+    void refreshCache_PublishesInvalidation() {
+        // given
+        given(faqRepository.findAll()).willReturn(testFaqs);
+
+        // when
+        faqService.refreshCache();
+
+        // then
+        assertThat(faqService.getAllFaqs()).hasSize(5);
+        verify(cacheInvalidator).publish(FaqService.CACHE_NAME);
+    }
+
+    @Test
+    @DisplayName("로컬 갱신과 예약 갱신은 무효화를 전파하지 않는다")
+    void reloadLocalCache_DoesNotPublish() {
+        // given
+        given(faqRepository.findAll()).willReturn(testFaqs);
+
+        // when
+        faqService.reloadLocalCache();
+        faqService.scheduledRefreshCache();
+
+        // then
+        assertThat(faqService.getAllFaqs()).hasSize(5);
+        verify(cacheInvalidator, never()).publish(anyString());
+    }
+
     @Test
     @DisplayName("동시성 테스트 - 여러 스레드에서 동시 조회")
     void concurrentRead_Success() throws InterruptedException {
@@ -276,6 +325,123 @@ class FaqServiceTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("카테고리별 FAQ 조회 - 요청마다 복사/필터링 없이 불변 목록을 그대로 반환")
+    void getFaqsByCategory_ReturnsSharedImmutableList() {
+        // given
+        given(faqRepository.findAll()).willReturn(testFaqs);
+        faqService.refreshCache();
+
+        // when
+        List<Faq> first = faqService.getFaqsByCategory(FaqCategory.RESERVATION);
+        List<Faq> second = faqService.getFaqsByCategory(FaqCategory.RESERVATION);
+
+        // then
+        assertThat(first).isSameAs(second);
+        assertThat(faqService.getFaqsByCategory(FaqCategory.ALL)).isSameAs(faqService.getAllFaqs());
+        assertThatThrownBy(() -> first.add(testFaqs.get(0)))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("캐시 갱신 - 목록과 응답 스냅샷을 함께 교체")
+    void refreshCache_SwapsListsAndResponsesTogether() {
+        // given
+        List<Faq> newFaqs = List.of(createFaq(9L, FaqCategory.PAYMENT, "새 제목", "새 질문", "새 답변"));
+        given(faqRepository.findAll()).willReturn(testFaqs).willReturn(newFaqs);
+        faqService.refreshCache();
+        List<Faq> before = faqService.getFaqsByCategory(FaqCategory.PAYMENT);
+
+        // when
+        faqService.refreshCache();
+
+        // then
+        assertThat(before).hasSize(1).extracting(Faq::getId).containsExactly(3L);
+        assertThat(faqService.getFaqsByCategory(FaqCategory.PAYMENT)).extracting(Faq::getId).containsExactly(9L);
+        assertThat(faqService.getFaqsByCategory(FaqCategory.RESERVATION)).isEmpty();
+        assertThat(faqService.getResponseSnapshot(FaqCategory.PAYMENT).getCount()).isEqualTo(1);
+        assertThat(faqService.getResponseSnapshot(FaqCategory.RESERVATION).getCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("응답 스냅샷 - 갱신 시 카테고리별 JSON을 미리 직렬화")
+    void getResponseSnapshot_PreSerializedPerCategory() throws Exception {
+        // given
+        given(faqRepository.findAll()).willReturn(testFaqs);
+
+        // when
+        faqService.refreshCache();
+
+        // then
+        FaqResponseSnapshot all = faqService.getResponseSnapshot(FaqCategory.ALL);
+        assertThat(all.getCount()).isEqualTo(5);
+        assertThat(objectMapper.readTree(all.getBody())).hasSize(5);
+
+        FaqResponseSnapshot payment = faqService.getResponseSnapshot(FaqCategory.PAYMENT);
+        assertThat(payment.getCount()).isEqualTo(1);
+        assertThat(objectMapper.readTree(payment.getBody()).get(0).get("category").asText()).isEqualTo("PAYMENT");
+        assertThat(payment.getEtag()).isNotEqualTo(all.getEtag());
+
+        // 요청마다 같은 스냅샷을 반환 (재직렬화 없음)
+        assertThat(faqService.getResponseSnapshot(FaqCategory.ALL)).isSameAs(all);
+    }
+
+    @Test
+    @DisplayName("응답 스냅샷 - 캐시 초기화 전에는 빈 목록")
+    void getResponseSnapshot_BeforeInit() {
+        // when
+        FaqResponseSnapshot snapshot = faqService.getResponseSnapshot(FaqCategory.ALL);
+
+        // then
+        assertThat(snapshot.getCount()).isZero();
+        assertThat(new String(snapshot.getBody(), StandardCharsets.UTF_8)).isEqualTo("[]");
+    }
+
+    @Test
+    @DisplayName("응답 스냅샷 - 데이터가 바뀌면 ETag도 바뀌고, 같으면 유지")
+    void getResponseSnapshot_EtagFollowsContent() {
+        // given
+        List<Faq> changed = List.of(createFaq(1L, FaqCategory.RESERVATION, "예약 관련", "예약은 어떻게 하나요?", "변경된 답변"));
+        given(faqRepository.findAll()).willReturn(testFaqs).willReturn(testFaqs).willReturn(changed);
+
+        // when
+        faqService.refreshCache();
+        String first = faqService.getResponseSnapshot(FaqCategory.ALL).getEtag();
+        faqService.refreshCache();
+        String same = faqService.getResponseSnapshot(FaqCategory.ALL).getEtag();
+        faqService.refreshCache();
+        String updated = faqService.getResponseSnapshot(FaqCategory.ALL).getEtag();
+
+        // then
+        assertThat(same).isEqualTo(first);
+        assertThat(updated).isNotEqualTo(first);
+        assertThat(faqService.getResponseSnapshot(FaqCategory.ALL).matches("W/" + updated)).isTrue();
+        assertThat(faqService.getResponseSnapshot(FaqCategory.ALL).matches(first)).isFalse();
+    }
+
+    @Test
+    @DisplayName("응답 스냅샷 - 큰 응답은 gzip 본문을 미리 생성")
+    void getResponseSnapshot_GzipForLargeBody() throws Exception {
+        // given
+        List<Faq> faqs = new ArrayList<>();
+        for (long i = 1; i <= 20; i++) {
+            faqs.add(createFaq(i, FaqCategory.ETC, "제목 " + i, "질문 " + i, "답변 ".repeat(50)));
+        }
+        given(faqRepository.findAll()).willReturn(faqs);
+
+        // when
+        faqService.refreshCache();
+
+        // then
+        FaqResponseSnapshot all = faqService.getResponseSnapshot(FaqCategory.ALL);
+        assertThat(all.hasGzip()).isTrue();
+        assertThat(all.getGzipBody().length).isLessThan(all.getBody().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(all.getGzipBody()))) {
+            assertThat(in.readAllBytes()).isEqualTo(all.getBody());
+        }
+        assertThat(faqService.getResponseSnapshot(FaqCategory.PAYMENT).hasGzip()).isFalse();
+    }
+
     // === 테스트 데이터 생성 헬퍼 메서드 ===
 
     private List<Faq> createTestFaqs() {
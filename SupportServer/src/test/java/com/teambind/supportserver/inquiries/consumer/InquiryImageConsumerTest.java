@@ -0,0 +1,85 @@
+package com.teambind.supportserver.inquiries.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.supportserver.inquiries.dto.event.InquiryImageMessage;
+import com.teambind.supportserver.inquiries.service.InquiryFileService;
+import com.teambind.supportserver.inquiries.service.InquiryFileService.AttachResult;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * InquiryImageConsumer 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InquiryImageConsumer 단위 테스트")
+class InquiryImageConsumerTest {
+
+	@Mock
+	private InquiryFileService inquiryFileService;
+
+	private InquiryImageConsumer inquiryImageConsumer;
+
+	@BeforeEach
+	void setUp() {
+		inquiryImageConsumer = new InquiryImageConsumer(inquiryFileService, new ObjectMapper());
+	}
+
+	@Test
+	@DisplayName("배치 소비 - 배치 전체를 한 번에 반영하고 메트릭 누적")
+	@SuppressWarnings("unchecked")
+	void consume_AttachesWholeBatch() {
+		// given
+		List<ConsumerRecord<String, String>> batch = List.of(
+				record(0, "{\"referenceId\":\"INQ-1\",\"imageId\":\"IMG-1\",\"imageUrl\":\"https://example.com/1.jpg\"}"),
+				record(1, "{\"inquiryId\":\"INQ-2\",\"imageId\":\"IMG-2\",\"imageUrl\":\"https://example.com/2.jpg\",\"fileName\":\"a.jpg\",\"extra\":1}"),
+				record(2, "not-json"));
+		given(inquiryFileService.attachAll(anyList())).willReturn(new AttachResult(2, 0, 0, 0, 1));
+
+		// when
+		inquiryImageConsumer.consume(batch);
+
+		// then
+		ArgumentCaptor<List<InquiryImageMessage>> captor = ArgumentCaptor.forClass(List.class);
+		verify(inquiryFileService).attachAll(captor.capture());
+		List<InquiryImageMessage> messages = captor.getValue();
+		assertThat(messages).hasSize(3);
+		assertThat(messages.get(0).getInquiryId()).isEqualTo("INQ-1");
+		assertThat(messages.get(1).getFileName()).isEqualTo("a.jpg");
+		assertThat(messages.get(2)).isNull();
+
+		InquiryImageConsumer.Metrics metrics = inquiryImageConsumer.getMetrics();
+		assertThat(metrics.batches()).isEqualTo(1);
+		assertThat(metrics.records()).isEqualTo(3);
+		assertThat(metrics.appended()).isEqualTo(2);
+		assertThat(metrics.skipped()).isEqualTo(1);
+		assertThat(metrics.lastBatchSize()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("배치 소비 - 반영 실패 시 예외를 전파하여 배치 재전달")
+	void consume_PropagatesFailure() {
+		// given
+		given(inquiryFileService.attachAll(anyList())).willThrow(new IllegalStateException("db down"));
+
+		// when & then
+		assertThatThrownBy(() -> inquiryImageConsumer.consume(List.of(record(0, "{}"))))
+				.isInstanceOf(IllegalStateException.class);
+		assertThat(inquiryImageConsumer.getMetrics().batches()).isZero();
+	}
+
+	private ConsumerRecord<String, String> record(long offset, String value) {
+		return new ConsumerRecord<>("inquiry-image-uploaded", 0, offset, null, value);
+	}
+}
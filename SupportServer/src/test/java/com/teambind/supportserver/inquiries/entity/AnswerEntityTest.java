@@ -1,11 +1,11 @@
 package com.teambind.supportserver.inquiries.entity;
 
+import com.teambind.supportserver.common.utils.Snowflake;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -15,13 +15,15 @@ import static org.assertj.core.api.Assertions.*;
 @DisplayName("Answer 엔티티 테스트")
 class AnswerEntityTest {
 
+	private static final Snowflake ID_GENERATOR = new Snowflake(1);
+
 	@Test
 	@DisplayName("Answer 엔티티 생성 - 정상")
 	void createAnswer_Success() {
 		// given
-		String answerId = UUID.randomUUID().toString();
+		Long answerId = ID_GENERATOR.nextId();
 		Inquiry inquiry = Inquiry.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.title("문의 제목")
 				.contents("문의 내용")
 				.category(InquiryCategory.PAYMENT)
@@ -51,7 +53,7 @@ class AnswerEntityTest {
 	void createAnswer_WithInquiryRelationship() {
 		// given
 		Inquiry inquiry = Inquiry.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.title("예약 관련 문의")
 				.contents("예약을 취소하고 싶습니다.")
 				.category(InquiryCategory.RESERVATION)
@@ -62,7 +64,7 @@ class AnswerEntityTest {
 
 		// when
 		Answer answer = Answer.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.inquiry(inquiry)
 				.writerId("ADMIN-002")
 				.contents("예약 취소는 마이페이지에서 가능합니다.")
@@ -79,7 +81,7 @@ class AnswerEntityTest {
 	void prePersist_AutoSetCreatedAt() {
 		// given
 		Inquiry inquiry = Inquiry.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.title("시간 테스트")
 				.contents("PrePersist 테스트")
 				.category(InquiryCategory.CHECK_IN)
@@ -89,7 +91,7 @@ class AnswerEntityTest {
 				.build();
 
 		Answer answer = Answer.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.inquiry(inquiry)
 				.writerId("ADMIN-003")
 				.contents("답변 내용")
@@ -112,7 +114,7 @@ class AnswerEntityTest {
 		// given & when & then
 		for (InquiryCategory category : InquiryCategory.values()) {
 			Inquiry inquiry = Inquiry.builder()
-					.id(UUID.randomUUID().toString())
+					.id(ID_GENERATOR.nextId())
 					.title("카테고리별 문의: " + category)
 					.contents("문의 내용")
 					.category(category)
@@ -122,7 +124,7 @@ class AnswerEntityTest {
 					.build();
 
 			Answer answer = Answer.builder()
-					.id(UUID.randomUUID().toString())
+					.id(ID_GENERATOR.nextId())
 					.inquiry(inquiry)
 					.writerId("ADMIN-004")
 					.contents("카테고리 " + category + "에 대한 답변")
@@ -138,7 +140,7 @@ class AnswerEntityTest {
 		// given
 		String longContent = "답변 ".repeat(500); // 약 1500자
 		Inquiry inquiry = Inquiry.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.title("긴 답변 테스트")
 				.contents("긴 답변이 필요한 복잡한 문의")
 				.category(InquiryCategory.ETC)
@@ -149,7 +151,7 @@ class AnswerEntityTest {
 
 		// when
 		Answer answer = Answer.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.inquiry(inquiry)
 				.writerId("ADMIN-005")
 				.contents(longContent)
@@ -1,12 +1,12 @@
 package com.teambind.supportserver.inquiries.entity;
 
+import com.teambind.supportserver.common.utils.Snowflake;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -16,11 +16,13 @@ import static org.assertj.core.api.Assertions.*;
 @DisplayName("Inquiry 엔티티 테스트")
 class InquiryEntityTest {
 
+	private static final Snowflake ID_GENERATOR = new Snowflake(1);
+
 	@Test
 	@DisplayName("Inquiry 엔티티 생성 - 정상")
 	void createInquiry_Success() {
 		// given
-		String inquiryId = UUID.randomUUID().toString();
+		Long inquiryId = ID_GENERATOR.nextId();
 		List<InquiryFile> files = new ArrayList<>();
 		files.add(InquiryFile.builder()
 				.imageId("IMG-001")
@@ -54,7 +56,7 @@ class InquiryEntityTest {
 	@DisplayName("Inquiry 엔티티 생성 - 파일 없이 생성 가능")
 	void createInquiry_WithoutFiles() {
 		// given
-		String inquiryId = UUID.randomUUID().toString();
+		Long inquiryId = ID_GENERATOR.nextId();
 
 		// when
 		Inquiry inquiry = Inquiry.builder()
@@ -76,7 +78,7 @@ class InquiryEntityTest {
 	@DisplayName("파일 검증 - 5개까지 첨부 가능")
 	void validateFiles_FiveFiles_Success() {
 		// given
-		String inquiryId = UUID.randomUUID().toString();
+		Long inquiryId = ID_GENERATOR.nextId();
 		List<InquiryFile> files = new ArrayList<>();
 		for (int i = 1; i <= 5; i++) {
 			files.add(InquiryFile.builder()
@@ -105,7 +107,7 @@ class InquiryEntityTest {
 	@DisplayName("파일 검증 - 6개 이상 첨부 시 예외 발생 (PrePersist)")
 	void validateFiles_MoreThanFive_ThrowsException() {
 		// given
-		String inquiryId = UUID.randomUUID().toString();
+		Long inquiryId = ID_GENERATOR.nextId();
 		List<InquiryFile> files = new ArrayList<>();
 		for (int i = 1; i <= 6; i++) {
 			files.add(InquiryFile.builder()
@@ -137,7 +139,7 @@ class InquiryEntityTest {
 		// given & when & then
 		for (InquiryCategory category : InquiryCategory.values()) {
 			Inquiry inquiry = Inquiry.builder()
-					.id(UUID.randomUUID().toString())
+					.id(ID_GENERATOR.nextId())
 					.title("카테고리 테스트")
 					.contents("카테고리: " + category)
 					.category(category)
@@ -156,7 +158,7 @@ class InquiryEntityTest {
 		// given & when & then
 		for (InquiryStatus status : InquiryStatus.values()) {
 			Inquiry inquiry = Inquiry.builder()
-					.id(UUID.randomUUID().toString())
+					.id(ID_GENERATOR.nextId())
 					.title("상태 테스트")
 					.contents("상태: " + status)
 					.category(InquiryCategory.ETC)
@@ -174,7 +176,7 @@ class InquiryEntityTest {
 	void prePersist_AutoSetTimestamps() {
 		// given
 		Inquiry inquiry = Inquiry.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.title("시간 테스트")
 				.contents("PrePersist 테스트")
 				.category(InquiryCategory.RESERVATION)
@@ -202,7 +204,7 @@ class InquiryEntityTest {
 	void preUpdate_AutoUpdateTimestamp() throws InterruptedException {
 		// given
 		Inquiry inquiry = Inquiry.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.title("업데이트 테스트")
 				.contents("PreUpdate 테스트")
 				.category(InquiryCategory.REVIEW_REPORT)
@@ -230,7 +232,7 @@ class InquiryEntityTest {
 	void addAnswer_Success() {
 		// given
 		Inquiry inquiry = Inquiry.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.title("결제 문의")
 				.contents("결제가 안 됩니다.")
 				.category(InquiryCategory.PAYMENT)
@@ -240,7 +242,7 @@ class InquiryEntityTest {
 				.build();
 
 		Answer answer = Answer.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.inquiry(inquiry)
 				.writerId("ADMIN-001")
 				.contents("결제는 마이페이지에서 가능합니다.")
@@ -265,7 +267,7 @@ class InquiryEntityTest {
 	void addAnswer_AlreadyAnswered_ThrowsException() {
 		// given
 		Inquiry inquiry = Inquiry.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.title("예약 문의")
 				.contents("예약을 취소하고 싶습니다.")
 				.category(InquiryCategory.RESERVATION)
@@ -275,14 +277,14 @@ class InquiryEntityTest {
 				.build();
 
 		Answer firstAnswer = Answer.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.inquiry(inquiry)
 				.writerId("ADMIN-001")
 				.contents("첫 번째 답변")
 				.build();
 
 		Answer secondAnswer = Answer.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.inquiry(inquiry)
 				.writerId("ADMIN-002")
 				.contents("두 번째 답변")
@@ -301,7 +303,7 @@ class InquiryEntityTest {
 	void removeAnswer_Success() {
 		// given
 		Inquiry inquiry = Inquiry.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.title("입실 문의")
 				.contents("입실 시간을 변경하고 싶습니다.")
 				.category(InquiryCategory.CHECK_IN)
@@ -311,7 +313,7 @@ class InquiryEntityTest {
 				.build();
 
 		Answer answer = Answer.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.inquiry(inquiry)
 				.writerId("ADMIN-003")
 				.contents("입실 시간 변경은 1일 전까지 가능합니다.")
@@ -334,7 +336,7 @@ class InquiryEntityTest {
 	void removeAnswer_NoAnswer_ThrowsException() {
 		// given
 		Inquiry inquiry = Inquiry.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.title("리뷰 신고 문의")
 				.contents("부적절한 리뷰를 신고하고 싶습니다.")
 				.category(InquiryCategory.REVIEW_REPORT)
@@ -354,7 +356,7 @@ class InquiryEntityTest {
 	void confirmAnswer_Success() {
 		// given
 		Inquiry inquiry = Inquiry.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.title("기타 문의")
 				.contents("문의 내용")
 				.category(InquiryCategory.ETC)
@@ -364,7 +366,7 @@ class InquiryEntityTest {
 				.build();
 
 		Answer answer = Answer.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.inquiry(inquiry)
 				.writerId("ADMIN-005")
 				.contents("답변 내용")
@@ -384,7 +386,7 @@ class InquiryEntityTest {
 	void confirmAnswer_NotAnswered_ThrowsException() {
 		// given
 		Inquiry inquiry = Inquiry.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.title("결제 문의")
 				.contents("문의 내용")
 				.category(InquiryCategory.PAYMENT)
@@ -404,7 +406,7 @@ class InquiryEntityTest {
 	void hasAnswer_WithAnswer_ReturnsTrue() {
 		// given
 		Inquiry inquiry = Inquiry.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.title("예약 문의")
 				.contents("예약을 변경하고 싶습니다.")
 				.category(InquiryCategory.RESERVATION)
@@ -414,7 +416,7 @@ class InquiryEntityTest {
 				.build();
 
 		Answer answer = Answer.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.inquiry(inquiry)
 				.writerId("ADMIN-007")
 				.contents("예약 변경은 고객센터로 연락주세요.")
@@ -431,7 +433,7 @@ class InquiryEntityTest {
 	void hasAnswer_WithoutAnswer_ReturnsFalse() {
 		// given
 		Inquiry inquiry = Inquiry.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.title("입실 문의")
 				.contents("입실 시간을 확인하고 싶습니다.")
 				.category(InquiryCategory.CHECK_IN)
@@ -449,7 +451,7 @@ class InquiryEntityTest {
 	void relationshipConvenienceMethod_IntegrationScenario() {
 		// given - 문의 생성
 		Inquiry inquiry = Inquiry.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.title("결제 오류 문의")
 				.contents("결제가 두 번 처리되었습니다.")
 				.category(InquiryCategory.PAYMENT)
@@ -463,7 +465,7 @@ class InquiryEntityTest {
 
 		// when - 답변 등록
 		Answer answer = Answer.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.inquiry(inquiry)
 				.writerId("ADMIN-009")
 				.contents("중복 결제는 자동으로 취소됩니다.")
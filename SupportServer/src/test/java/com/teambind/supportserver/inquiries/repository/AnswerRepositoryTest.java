@@ -1,5 +1,6 @@
 package com.teambind.supportserver.inquiries.repository;
 
+import com.teambind.supportserver.common.utils.Snowflake;
 import com.teambind.supportserver.common.config.QueryDslConfig;
 import com.teambind.supportserver.inquiries.entity.Answer;
 import com.teambind.supportserver.inquiries.entity.Inquiry;
@@ -16,7 +17,6 @@ import org.springframework.test.context.ActiveProfiles;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -29,6 +29,8 @@ import static org.assertj.core.api.Assertions.*;
 @DisplayName("AnswerRepository 통합 테스트")
 class AnswerRepositoryTest {
 
+	private static final Snowflake ID_GENERATOR = new Snowflake(1);
+
 	@Autowired
 	private AnswerRepository answerRepository;
 
@@ -45,7 +47,7 @@ class AnswerRepositoryTest {
 		Inquiry inquiry = createAndSaveInquiry("결제 문의", "USER-001");
 
 		Answer answer = Answer.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.inquiry(inquiry)
 				.writerId("ADMIN-001")
 				.contents("답변 내용입니다.")
@@ -82,7 +84,7 @@ class AnswerRepositoryTest {
 	@DisplayName("답변 조회 - 존재하지 않는 ID로 조회 시 empty 반환")
 	void findById_NotFound() {
 		// when
-		Optional<Answer> foundAnswer = answerRepository.findById("NON-EXISTENT-ID");
+		Optional<Answer> foundAnswer = answerRepository.findById(-1L);
 
 		// then
 		assertThat(foundAnswer).isEmpty();
@@ -284,7 +286,7 @@ class AnswerRepositoryTest {
 
 	private Inquiry createAndSaveInquiry(String title, String writerId) {
 		Inquiry inquiry = Inquiry.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.title(title)
 				.contents("문의 내용")
 				.category(InquiryCategory.ETC)
@@ -297,7 +299,7 @@ class AnswerRepositoryTest {
 
 	private Inquiry createInquiry(String title, InquiryCategory category, String writerId) {
 		return Inquiry.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.title(title)
 				.contents("문의 내용")
 				.category(category)
@@ -309,7 +311,7 @@ class AnswerRepositoryTest {
 
 	private Answer createAndSaveAnswer(Inquiry inquiry, String writerId, String contents) {
 		Answer answer = Answer.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.inquiry(inquiry)
 				.writerId(writerId)
 				.contents(contents)
@@ -0,0 +1,234 @@
+package com.teambind.supportserver.inquiries.repository;
+
+import com.teambind.supportserver.common.config.QueryDslConfig;
+import com.teambind.supportserver.inquiries.dto.request.InquirySearchRequest;
+import com.teambind.supportserver.inquiries.dto.response.InquiryResponse;
+import com.teambind.supportserver.inquiries.entity.Answer;
+import com.teambind.supportserver.inquiries.entity.Inquiry;
+import com.teambind.supportserver.inquiries.entity.InquiryCategory;
+import com.teambind.supportserver.inquiries.entity.InquiryStatus;
+import com.teambind.supportserver.inquiries.utils.InquiryCursor;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * InquiryRepositoryCustom 통합 테스트
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({InquiryRepositoryImpl.class, QueryDslConfig.class})
+@DisplayName("InquiryRepositoryCustom 통합 테스트")
+class InquiryRepositoryCustomTest {
+
+	private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+	@Autowired
+	private InquiryRepository inquiryRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@BeforeEach
+	void setUp() {
+		// USER-1: 답변 대기 4건(20x), 답변 완료 3건(10x) / USER-2: 답변 대기 2건(30x) (동일 작성일 포함)
+		for (int i = 1; i <= 4; i++) {
+			saveInquiry(200L + i, "USER-1", InquiryCategory.PAYMENT, InquiryStatus.UNANSWERED, BASE_TIME.plusHours(i));
+		}
+		for (int i = 1; i <= 3; i++) {
+			saveInquiry(100L + i, "USER-1", InquiryCategory.RESERVATION, InquiryStatus.ANSWERED, BASE_TIME.plusHours(2));
+			saveAnswer(100L + i);
+		}
+		for (int i = 1; i <= 2; i++) {
+			saveInquiry(300L + i, "USER-2", InquiryCategory.PAYMENT, InquiryStatus.UNANSWERED, BASE_TIME.plusHours(i));
+		}
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	@DisplayName("작성일 기준 정렬 - 페이지를 이어 조회해도 누락/중복 없음 (동일 작성일은 ID로 구분)")
+	void findWithCursor_CreatedAtDesc() {
+		// given
+		InquirySearchRequest request = InquirySearchRequest.builder()
+				.writerId("USER-1")
+				.size(3)
+				.build();
+
+		// when
+		List<Inquiry> all = fetchAllPages(request);
+
+		// then
+		assertThat(all).extracting(Inquiry::getId).containsExactly(
+				204L, 203L, 202L, 103L, 102L, 101L, 201L);
+	}
+
+	@Test
+	@DisplayName("상태 기준 정렬 - (status, createdAt, id) 순서로 페이지 경계를 넘어 조회")
+	void findWithCursor_StatusAsc() {
+		// given
+		InquirySearchRequest request = InquirySearchRequest.builder()
+				.writerId("USER-1")
+				.sortType(InquirySearchRequest.SortType.STATUS)
+				.sortDirection(InquirySearchRequest.SortDirection.ASC)
+				.size(2)
+				.build();
+
+		// when
+		List<Inquiry> all = fetchAllPages(request);
+
+		// then
+		assertThat(all).extracting(Inquiry::getId).containsExactly(
+				101L, 102L, 103L, 201L, 202L, 203L, 204L);
+	}
+
+	@Test
+	@DisplayName("필터 조합 - 작성자, 카테고리, 상태를 함께 적용")
+	void findWithCursor_CombinedFilters() {
+		// given
+		InquirySearchRequest request = InquirySearchRequest.builder()
+				.category(InquiryCategory.PAYMENT)
+				.status(InquiryStatus.UNANSWERED)
+				.writerId("USER-2")
+				.build();
+
+		// when
+		List<Inquiry> result = inquiryRepository.findInquiriesWithCursor(request);
+
+		// then
+		assertThat(result).extracting(Inquiry::getId).containsExactly(302L, 301L);
+	}
+
+	@Test
+	@DisplayName("size + 1개 조회 - 다음 페이지 존재 여부 확인용")
+	void findWithCursor_FetchesSizePlusOne() {
+		// given
+		InquirySearchRequest request = InquirySearchRequest.builder().size(4).build();
+
+		// when
+		List<Inquiry> result = inquiryRepository.findInquiriesWithCursor(request);
+
+		// then
+		assertThat(result).hasSize(5);
+	}
+
+	@Test
+	@DisplayName("DTO 프로젝션 조회 - 답변 여부를 answered_at으로 계산하여 페이지 크기와 무관하게 쿼리 1회")
+	void findResponsesWithCursor_SingleStatement() {
+		// given
+		InquirySearchRequest request = InquirySearchRequest.builder()
+				.writerId("USER-1")
+				.sortType(InquirySearchRequest.SortType.STATUS)
+				.sortDirection(InquirySearchRequest.SortDirection.ASC)
+				.size(10)
+				.build();
+		Statistics statistics = statistics();
+
+		// when
+		List<InquiryResponse> result = inquiryRepository.findInquiryResponsesWithCursor(request);
+
+		// then
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+		assertThat(result).hasSize(7);
+		assertThat(result).filteredOn(InquiryResponse::isHasAnswer)
+				.extracting(InquiryResponse::getId)
+				.containsExactly("101", "102", "103");
+		assertThat(result).filteredOn(InquiryResponse::isHasAnswer)
+				.allSatisfy(response -> assertThat(response.getAnsweredAt()).isNotNull());
+	}
+
+	@Test
+	@DisplayName("엔티티 조회 - 답변은 fetch join, 첨부 파일은 페이지 단위 IN 조회로 쿼리 수 고정")
+	void findWithCursor_ConstantStatements() {
+		// given
+		InquirySearchRequest request = InquirySearchRequest.builder().writerId("USER-1").size(10).build();
+		Statistics statistics = statistics();
+
+		// when
+		List<Inquiry> result = inquiryRepository.findInquiriesWithCursor(request);
+		long answered = result.stream().filter(Inquiry::hasAnswer).count();
+		result.forEach(inquiry -> inquiry.getFiles().size());
+
+		// then
+		assertThat(answered).isEqualTo(3);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	/**
+	 * 쿼리 수 측정을 위해 영속성 컨텍스트와 통계 초기화
+	 */
+	private Statistics statistics() {
+		entityManager.clear();
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		return statistics;
+	}
+
+	/**
+	 * nextCursor를 따라 마지막 페이지까지 조회
+	 */
+	private List<Inquiry> fetchAllPages(InquirySearchRequest request) {
+		List<Inquiry> all = new ArrayList<>();
+		while (true) {
+			List<Inquiry> fetched = inquiryRepository.findInquiriesWithCursor(request);
+			boolean hasNext = fetched.size() > request.getSize();
+			List<Inquiry> page = hasNext ? fetched.subList(0, request.getSize()) : fetched;
+			all.addAll(page);
+			if (!hasNext) {
+				return all;
+			}
+			Inquiry last = page.get(page.size() - 1);
+			request.setCursor(InquiryCursor.encode(request.getSortType(), last.getStatus(), last.getCreatedAt(), String.valueOf(last.getId())));
+		}
+	}
+
+	private void saveAnswer(Long inquiryId) {
+		Inquiry inquiry = inquiryRepository.findById(inquiryId).orElseThrow();
+		inquiry.addAnswer(Answer.builder()
+				.id(inquiryId)
+				.inquiry(inquiry)
+				.writerId("ADMIN-1")
+				.contents("답변 내용")
+				.build());
+		entityManager.flush();
+	}
+
+	private void saveInquiry(Long id, String writerId, InquiryCategory category, InquiryStatus status,
+							 LocalDateTime createdAt) {
+		inquiryRepository.save(Inquiry.builder()
+				.id(id)
+				.title("문의 " + id)
+				.contents("테스트 내용")
+				.category(category)
+				.status(status)
+				.writerId(writerId)
+				.files(new ArrayList<>())
+				.build());
+		entityManager.flush();
+
+		// 작성일은 @PrePersist에서 현재 시각으로 설정되므로 테스트 시각으로 보정
+		entityManager.getEntityManager()
+				.createNativeQuery("UPDATE inquiries SET created_at = ? WHERE inquiry_id = ?")
+				.setParameter(1, createdAt)
+				.setParameter(2, id)
+				.executeUpdate();
+	}
+}
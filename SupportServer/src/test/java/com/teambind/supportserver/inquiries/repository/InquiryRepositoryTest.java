@@ -1,5 +1,6 @@
 package com.teambind.supportserver.inquiries.repository;
 
+import com.teambind.supportserver.common.utils.Snowflake;
 import com.teambind.supportserver.common.config.QueryDslConfig;
 import com.teambind.supportserver.inquiries.entity.Inquiry;
 import com.teambind.supportserver.inquiries.entity.InquiryCategory;
@@ -29,6 +30,8 @@ import static org.assertj.core.api.Assertions.*;
 @DisplayName("InquiryRepository 통합 테스트")
 class InquiryRepositoryTest {
 
+	private static final Snowflake ID_GENERATOR = new Snowflake(1);
+
 	@Autowired
 	private InquiryRepository inquiryRepository;
 
@@ -47,7 +50,7 @@ class InquiryRepositoryTest {
 				.build());
 
 		Inquiry inquiry = Inquiry.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.title("결제 문의")
 				.contents("결제가 안 됩니다.")
 				.category(InquiryCategory.PAYMENT)
@@ -88,11 +91,38 @@ class InquiryRepositoryTest {
 		assertThat(foundInquiry.get().getTitle()).isEqualTo("예약 문의");
 	}
 
+	@Test
+	@DisplayName("문의 조회 - BIGINT 전환 이전 UUID로 조회")
+	void findByLegacyId_Success() {
+		// given
+		String legacyId = UUID.randomUUID().toString();
+		Inquiry inquiry = Inquiry.builder()
+				.id(ID_GENERATOR.nextId())
+				.legacyId(legacyId)
+				.title("이전 문의")
+				.contents("전환 전에 작성된 문의입니다.")
+				.category(InquiryCategory.ETC)
+				.status(InquiryStatus.UNANSWERED)
+				.writerId("USER-003")
+				.files(new ArrayList<>())
+				.build();
+		inquiryRepository.save(inquiry);
+		entityManager.flush();
+		entityManager.clear();
+
+		// when
+		Optional<Inquiry> foundInquiry = inquiryRepository.findByLegacyId(legacyId);
+
+		// then
+		assertThat(foundInquiry).isPresent();
+		assertThat(foundInquiry.get().getId()).isEqualTo(inquiry.getId());
+	}
+
 	@Test
 	@DisplayName("문의 조회 - 존재하지 않는 ID로 조회 시 empty 반환")
 	void findById_NotFound() {
 		// when
-		Optional<Inquiry> foundInquiry = inquiryRepository.findById("NON-EXISTENT-ID");
+		Optional<Inquiry> foundInquiry = inquiryRepository.findById(-1L);
 
 		// then
 		assertThat(foundInquiry).isEmpty();
@@ -310,7 +340,7 @@ class InquiryRepositoryTest {
 		}
 
 		Inquiry inquiry = Inquiry.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.title("파일 첨부 문의")
 				.contents("파일을 첨부했습니다.")
 				.category(InquiryCategory.CHECK_IN)
@@ -334,7 +364,7 @@ class InquiryRepositoryTest {
 
 	private Inquiry createInquiry(String title, String contents, InquiryCategory category, String writerId) {
 		return Inquiry.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.title(title)
 				.contents(contents)
 				.category(category)
@@ -346,7 +376,7 @@ class InquiryRepositoryTest {
 
 	private Inquiry createInquiryWithStatus(String title, InquiryStatus status, String writerId) {
 		return Inquiry.builder()
-				.id(UUID.randomUUID().toString())
+				.id(ID_GENERATOR.nextId())
 				.title(title)
 				.contents("테스트 내용")
 				.category(InquiryCategory.ETC)
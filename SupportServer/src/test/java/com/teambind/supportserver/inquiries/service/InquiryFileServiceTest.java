@@ -0,0 +1,184 @@
+package com.teambind.supportserver.inquiries.service;
+
+import com.teambind.supportserver.common.utils.Snowflake;
+import com.teambind.supportserver.common.config.QueryDslConfig;
+import com.teambind.supportserver.inquiries.dto.event.InquiryImageMessage;
+import com.teambind.supportserver.inquiries.entity.Inquiry;
+import com.teambind.supportserver.inquiries.entity.InquiryCategory;
+import com.teambind.supportserver.inquiries.entity.InquiryFile;
+import com.teambind.supportserver.inquiries.entity.InquiryStatus;
+import com.teambind.supportserver.inquiries.repository.InquiryFileJdbcRepository;
+import com.teambind.supportserver.inquiries.repository.InquiryRepository;
+import com.teambind.supportserver.inquiries.service.InquiryFileService.AttachResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * InquiryFileService 통합 테스트
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({InquiryFileService.class, InquiryFileJdbcRepository.class, QueryDslConfig.class})
+@DisplayName("InquiryFileService 통합 테스트")
+class InquiryFileServiceTest {
+
+	private static final Snowflake ID_GENERATOR = new Snowflake(1);
+
+	@Autowired
+	private InquiryFileService inquiryFileService;
+
+	@Autowired
+	private InquiryRepository inquiryRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Test
+	@DisplayName("첨부 추가 - 문의별로 묶어 수신 순서대로 추가")
+	void attachAll_GroupsByInquiry() {
+		// given
+		Inquiry first = saveInquiry(List.of());
+		Inquiry second = saveInquiry(List.of());
+
+		// when
+		AttachResult result = inquiryFileService.attachAll(List.of(
+				message(first.getId(), "IMG-1"),
+				message(second.getId(), "IMG-2"),
+				message(first.getId(), "IMG-3")));
+
+		// then
+		assertThat(result).isEqualTo(new AttachResult(3, 0, 0, 0, 0));
+		assertThat(findFiles(first.getId())).extracting(InquiryFile::getImageId).containsExactly("IMG-1", "IMG-3");
+		assertThat(findFiles(second.getId())).extracting(InquiryFile::getImageId).containsExactly("IMG-2");
+	}
+
+	@Test
+	@DisplayName("첨부 추가 - 재전달된 메시지는 중복 추가하지 않음")
+	void attachAll_IdempotentOnRedelivery() {
+		// given
+		Inquiry inquiry = saveInquiry(List.of());
+		List<InquiryImageMessage> batch = List.of(message(inquiry.getId(), "IMG-1"), message(inquiry.getId(), "IMG-2"));
+		inquiryFileService.attachAll(batch);
+
+		// when
+		AttachResult result = inquiryFileService.attachAll(batch);
+
+		// then
+		assertThat(result).isEqualTo(new AttachResult(0, 2, 0, 0, 0));
+		assertThat(findFiles(inquiry.getId())).extracting(InquiryFile::getImageId).containsExactly("IMG-1", "IMG-2");
+	}
+
+	@Test
+	@DisplayName("첨부 추가 - 기존 첨부를 포함해 최대 첨부 수를 넘는 파일은 거부")
+	void attachAll_RespectsFileLimit() {
+		// given
+		List<InquiryFile> existing = new ArrayList<>();
+		for (int i = 1; i <= 3; i++) {
+			existing.add(new InquiryFile("IMG-" + i, "https://example.com/" + i + ".jpg", i + ".jpg"));
+		}
+		Inquiry inquiry = saveInquiry(existing);
+
+		// when
+		AttachResult result = inquiryFileService.attachAll(List.of(
+				message(inquiry.getId(), "IMG-3"),
+				message(inquiry.getId(), "IMG-4"),
+				message(inquiry.getId(), "IMG-5"),
+				message(inquiry.getId(), "IMG-6")));
+
+		// then
+		assertThat(result).isEqualTo(new AttachResult(2, 1, 1, 0, 0));
+		List<InquiryFile> files = findFiles(inquiry.getId());
+		assertThat(files).hasSize(Inquiry.MAX_FILES);
+		assertThat(files).extracting(InquiryFile::getImageId)
+				.containsExactly("IMG-1", "IMG-2", "IMG-3", "IMG-4", "IMG-5");
+	}
+
+	@Test
+	@DisplayName("첨부 추가 - 존재하지 않는 문의와 필수 값 누락 메시지는 건너뜀")
+	void attachAll_SkipsUnknownAndInvalid() {
+		// given
+		Inquiry inquiry = saveInquiry(List.of());
+		InquiryImageMessage withoutUrl = InquiryImageMessage.builder()
+				.inquiryId(String.valueOf(inquiry.getId()))
+				.imageId("IMG-2")
+				.build();
+
+		// when
+		AttachResult result = inquiryFileService.attachAll(
+				Arrays.asList(message("NON-EXISTENT", "IMG-1"), withoutUrl, null, message(inquiry.getId(), "IMG-3")));
+
+		// then
+		assertThat(result).isEqualTo(new AttachResult(1, 0, 0, 1, 2));
+		assertThat(findFiles(inquiry.getId())).singleElement()
+				.satisfies(file -> assertThat(file.getFileName()).isEqualTo("IMG-3"));
+	}
+
+	@Test
+	@DisplayName("첨부 추가 - BIGINT 전환 이전 UUID 문의 ID는 legacy_id로 찾아 추가")
+	void attachAll_ResolvesLegacyInquiryId() {
+		// given
+		String legacyId = UUID.randomUUID().toString();
+		Inquiry inquiry = saveInquiry(legacyId, List.of());
+
+		// when
+		AttachResult result = inquiryFileService.attachAll(
+				List.of(message(legacyId, "IMG-1"), message(inquiry.getId(), "IMG-2")));
+
+		// then
+		assertThat(result).isEqualTo(new AttachResult(2, 0, 0, 0, 0));
+		assertThat(findFiles(inquiry.getId())).extracting(InquiryFile::getImageId).containsExactly("IMG-1", "IMG-2");
+	}
+
+	private Inquiry saveInquiry(List<InquiryFile> files) {
+		return saveInquiry(null, files);
+	}
+
+	private Inquiry saveInquiry(String legacyId, List<InquiryFile> files) {
+		Inquiry inquiry = Inquiry.builder()
+				.id(ID_GENERATOR.nextId())
+				.legacyId(legacyId)
+				.title("결제 문의")
+				.contents("결제가 안 됩니다.")
+				.category(InquiryCategory.PAYMENT)
+				.status(InquiryStatus.UNANSWERED)
+				.writerId("USER-001")
+				.files(new ArrayList<>(files))
+				.build();
+		inquiryRepository.save(inquiry);
+		entityManager.flush();
+		entityManager.clear();
+		return inquiry;
+	}
+
+	private List<InquiryFile> findFiles(Long inquiryId) {
+		entityManager.flush();
+		entityManager.clear();
+		return inquiryRepository.findById(inquiryId).orElseThrow().getFiles();
+	}
+
+	private InquiryImageMessage message(Long inquiryId, String imageId) {
+		return message(String.valueOf(inquiryId), imageId);
+	}
+
+	private InquiryImageMessage message(String inquiryId, String imageId) {
+		return InquiryImageMessage.builder()
+				.inquiryId(inquiryId)
+				.imageId(imageId)
+				.imageUrl("https://example.com/" + imageId + ".jpg")
+				.build();
+	}
+}
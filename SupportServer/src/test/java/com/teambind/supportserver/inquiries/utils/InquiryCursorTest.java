@@ -0,0 +1,81 @@
+package com.teambind.supportserver.inquiries.utils;
+
+import com.teambind.supportserver.inquiries.dto.request.InquirySearchRequest;
+import com.teambind.supportserver.inquiries.entity.InquiryStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * InquiryCursor 단위 테스트
+ */
+@DisplayName("InquiryCursor 단위 테스트")
+class InquiryCursorTest {
+
+	private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 10, 30, 15, 123_000_000);
+
+	@Test
+	@DisplayName("작성일 기준 커서 인코딩/디코딩")
+	void encodeDecode_CreatedAt() {
+		// when
+		String token = InquiryCursor.encode(InquirySearchRequest.SortType.CREATED_AT,
+				InquiryStatus.ANSWERED, CREATED_AT, "1001");
+		InquiryCursor cursor = InquiryCursor.decode(token, InquirySearchRequest.SortType.CREATED_AT).orElseThrow();
+
+		// then
+		assertThat(token).doesNotContain("|", "=", "+", "/");
+		assertThat(cursor.getCreatedAt()).isEqualTo(CREATED_AT);
+		assertThat(cursor.getInquiryId()).isEqualTo(1001L);
+		assertThat(cursor.getStatus()).isNull();
+	}
+
+	@Test
+	@DisplayName("상태 기준 커서 인코딩/디코딩")
+	void encodeDecode_Status() {
+		// when
+		String token = InquiryCursor.encode(InquirySearchRequest.SortType.STATUS,
+				InquiryStatus.UNANSWERED, CREATED_AT, "1001");
+		InquiryCursor cursor = InquiryCursor.decode(token, InquirySearchRequest.SortType.STATUS).orElseThrow();
+
+		// then
+		assertThat(cursor.getStatus()).isEqualTo(InquiryStatus.UNANSWERED);
+		assertThat(cursor.getCreatedAt()).isEqualTo(CREATED_AT);
+		assertThat(cursor.getInquiryId()).isEqualTo(1001L);
+	}
+
+	@Test
+	@DisplayName("정렬 기준이 다른 커서는 빈 값 반환")
+	void decode_SortTypeMismatch() {
+		// given
+		String token = InquiryCursor.encode(InquirySearchRequest.SortType.CREATED_AT,
+				InquiryStatus.ANSWERED, CREATED_AT, "1001");
+
+		// when & then
+		assertThat(InquiryCursor.decode(token, InquirySearchRequest.SortType.STATUS)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("잘못된 형식의 커서는 빈 값 반환")
+	void decode_Invalid() {
+		assertThat(InquiryCursor.decode("not-base64!!", InquirySearchRequest.SortType.CREATED_AT)).isEmpty();
+		assertThat(InquiryCursor.decode(encodeRaw("CREATED_AT||not-a-date|1001"),
+				InquirySearchRequest.SortType.CREATED_AT)).isEmpty();
+		assertThat(InquiryCursor.decode(encodeRaw("STATUS|UNKNOWN|" + CREATED_AT + "|1001"),
+				InquirySearchRequest.SortType.STATUS)).isEmpty();
+		assertThat(InquiryCursor.decode(encodeRaw("CREATED_AT||" + CREATED_AT + "|"),
+				InquirySearchRequest.SortType.CREATED_AT)).isEmpty();
+		// BIGINT 전환 이전의 UUID 문의 ID 커서
+		assertThat(InquiryCursor.decode(encodeRaw("CREATED_AT||" + CREATED_AT + "|" + UUID.randomUUID()),
+				InquirySearchRequest.SortType.CREATED_AT)).isEmpty();
+	}
+
+	private String encodeRaw(String raw) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
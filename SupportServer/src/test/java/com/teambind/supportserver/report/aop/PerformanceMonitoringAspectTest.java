@@ -0,0 +1,219 @@
+package com.teambind.supportserver.report.aop;
+
+import com.teambind.supportserver.common.config.QueryDslConfig;
+import com.teambind.supportserver.report.entity.ReportCategory;
+import com.teambind.supportserver.report.entity.embeddable.ReportCategoryId;
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
+import com.teambind.supportserver.report.repository.ReportCategoryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.stereotype.Service;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PerformanceMonitoringAspect 통합 테스트
+ */
+@DataJpaTest
+@Import({QueryDslConfig.class, PerformanceMonitoringAspect.class, PerformanceMonitoringAspectTest.Config.class})
+@ImportAutoConfiguration(AopAutoConfiguration.class)
+@ActiveProfiles("test")
+@DisplayName("PerformanceMonitoringAspect 통합 테스트")
+class PerformanceMonitoringAspectTest {
+
+    @Autowired
+    private ReportCategoryRepository reportCategoryRepository;
+
+    @Autowired
+    private SampleService sampleService;
+
+    @Autowired
+    private PerformanceMonitoringAspect performanceMonitoringAspect;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        performanceMonitoringAspect.resetMetrics();
+    }
+
+    @Test
+    @DisplayName("Spring Data 리포지토리의 상속 메서드를 리포지토리 인터페이스 이름으로 기록한다")
+    void repository_RecordedWithInterfaceName() {
+        // given
+        reportCategoryRepository.save(ReportCategory.of(ReferenceType.PROFILE, "spam"));
+
+        // when
+        reportCategoryRepository.findById(new ReportCategoryId(ReferenceType.PROFILE, "spam"));
+
+        // then
+        performanceMonitoringAspect.flush();
+        Timer timer = meterRegistry.find(PerformanceMonitoringAspect.METRIC_NAME)
+                .tag("layer", PerformanceMonitoringAspect.LAYER_REPOSITORY)
+                .tag("class", "ReportCategoryRepository")
+                .tag("method", "findById")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("1ms 미만 호출도 나노초 단위로 기록하고 p50/p99/p999를 계산한다")
+    void service_RecordedAtNanosecondResolution() {
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            sampleService.fast();
+        }
+
+        // then
+        Timer timer = serviceTimer("fast");
+        assertThat(timer.count()).isEqualTo(1_000);
+        assertThat(timer.totalTime(TimeUnit.NANOSECONDS)).isPositive();
+
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        assertThat(snapshot.mean(TimeUnit.MILLISECONDS)).isLessThan(1.0);
+        assertThat(snapshot.percentileValues())
+                .extracting(percentile -> percentile.percentile())
+                .containsExactly(0.5, 0.99, 0.999);
+        assertThat(snapshot.percentileValues()[0].value(TimeUnit.NANOSECONDS)).isPositive();
+    }
+
+    @Test
+    @DisplayName("예외가 발생한 호출도 기록하고 예외를 그대로 전파한다")
+    void service_RecordedOnException() {
+        // when & then
+        assertThatThrownBy(() -> sampleService.fail()).isInstanceOf(IllegalStateException.class);
+        assertThat(serviceTimer("fail").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("메트릭 초기화 시 타이머를 제거하고 다음 호출에 새로 등록한다")
+    void resetMetrics_RemovesTimers() {
+        // given
+        sampleService.fast();
+        sampleService.fast();
+
+        // when
+        performanceMonitoringAspect.resetMetrics();
+
+        // then
+        assertThat(meterRegistry.find(PerformanceMonitoringAspect.METRIC_NAME).timers()).isEmpty();
+        sampleService.fast();
+        assertThat(serviceTimer("fast").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("1/N 샘플링 시 약 N번에 한 번만 측정한다")
+    void sampling_RecordsOneInN() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PerformanceMonitoringAspect aspect = new PerformanceMonitoringAspect(registry, 8, 1);
+        SampleService proxy = proxy(aspect);
+
+        // when
+        for (int i = 0; i < 80_000; i++) {
+            proxy.fast();
+        }
+
+        // then
+        long count = registry.find(PerformanceMonitoringAspect.METRIC_NAME).timer().count();
+        assertThat(count).isBetween(8_000L, 12_000L);
+    }
+
+    @Test
+    @DisplayName("샘플링 비율이 0이면 측정하지 않는다")
+    void sampling_Disabled() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PerformanceMonitoringAspect aspect = new PerformanceMonitoringAspect(registry, 0, 1);
+        SampleService proxy = proxy(aspect);
+
+        // when
+        int result = proxy.fast();
+
+        // then
+        assertThat(result).isEqualTo(1);
+        assertThat(registry.find(PerformanceMonitoringAspect.METRIC_NAME).timers()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스레드별 버퍼의 측정값은 버퍼가 차거나 flush할 때 타이머에 반영된다")
+    void buffer_FlushedWhenFullOrOnFlush() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PerformanceMonitoringAspect aspect = new PerformanceMonitoringAspect(registry, 1, 4);
+        SampleService proxy = proxy(aspect);
+
+        // when
+        for (int i = 0; i < 6; i++) {
+            proxy.fast();
+        }
+
+        // then
+        Timer timer = registry.find(PerformanceMonitoringAspect.METRIC_NAME).timer();
+        assertThat(timer.count()).isEqualTo(4);
+        aspect.flush();
+        assertThat(timer.count()).isEqualTo(6);
+    }
+
+    private SampleService proxy(PerformanceMonitoringAspect aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SampleService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    private Timer serviceTimer(String method) {
+        performanceMonitoringAspect.flush();
+        Timer timer = meterRegistry.find(PerformanceMonitoringAspect.METRIC_NAME)
+                .tag("layer", PerformanceMonitoringAspect.LAYER_SERVICE)
+                .tag("class", "SampleService")
+                .tag("method", method)
+                .timer();
+        assertThat(timer).isNotNull();
+        return timer;
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        SampleService sampleService() {
+            return new SampleService();
+        }
+    }
+
+    @Service
+    static class SampleService {
+
+        public int fast() {
+            return 1;
+        }
+
+        public void fail() {
+            throw new IllegalStateException("failure");
+        }
+    }
+}
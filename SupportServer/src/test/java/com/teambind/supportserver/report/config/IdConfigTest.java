@@ -2,9 +2,12 @@ package com.teambind.supportserver.report.config;
 
 import com.teambind.supportserver.common.config.IdConfig;
 import com.teambind.supportserver.common.utils.IdGenerator;
+import com.teambind.supportserver.common.utils.Snowflake;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class IdConfigTest {
@@ -13,7 +16,7 @@ class IdConfigTest {
     @DisplayName("IdConfig provides an IdGenerator bean capable of generating valid IDs")
     void idConfig_providesWorkingIdGenerator() {
         IdConfig config = new IdConfig();
-        IdGenerator generator = config.idGenerator();
+        IdGenerator generator = config.idGenerator(-1, Optional.empty());
         assertNotNull(generator);
 
         String idStr = generator.generateId();
@@ -25,4 +28,15 @@ class IdConfigTest {
         assertNotNull(idLong);
         assertTrue(idLong > 0);
     }
+
+    @Test
+    @DisplayName("snowflake.node-id가 설정되면 해당 노드 ID로 생성한다")
+    void idConfig_usesConfiguredNodeId() {
+        IdConfig config = new IdConfig();
+        IdGenerator generator = config.idGenerator(42, Optional.empty());
+
+        assertInstanceOf(Snowflake.class, generator);
+        assertEquals(42, ((Snowflake) generator).getNodeId());
+        assertEquals(42, (generator.generateLongId() >> 12) & Snowflake.MAX_NODE_ID);
+    }
 }
@@ -1,10 +1,12 @@
 package com.teambind.supportserver.report.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.supportserver.report.dto.request.ReportBulkStatusUpdateRequest;
 import com.teambind.supportserver.report.dto.request.ReportRequest;
 import com.teambind.supportserver.report.dto.request.ReportSearchRequest;
 import com.teambind.supportserver.report.dto.request.ReportStatusUpdateRequest;
 import com.teambind.supportserver.report.dto.response.CursorPageResponse;
+import com.teambind.supportserver.report.dto.response.ReportBulkStatusUpdateResponse;
 import com.teambind.supportserver.report.dto.response.ReportResponse;
 import com.teambind.supportserver.report.entity.enums.ReferenceType;
 import com.teambind.supportserver.report.entity.enums.ReportStatus;
@@ -18,6 +20,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -71,11 +74,44 @@ class ReportControllerTest {
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.reportId").value("REPORT-001"))
                 .andExpect(jsonPath("$.reporterId").value("USER-001"))
-                .andExpect(jsonPath("$.status").value("PENDING"));
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andExpect(jsonPath("$.duplicate").doesNotExist());
 
         verify(reportService, times(1)).createReport(anyString(), anyString(), any(), anyString(), anyString());
     }
 
+    @Test
+    @DisplayName("신고 등록 - 중복 제출이면 기존 신고를 200으로 반환")
+    void createReport_Duplicate_ReturnsOk() throws Exception {
+        // Given
+        ReportRequest request = ReportRequest.builder()
+                .reporterId("USER-001")
+                .reportedId("USER-002")
+                .referenceType(ReferenceType.PROFILE)
+                .reportCategory("harassment")
+                .reason("욕설 및 비방")
+                .build();
+
+        ReportResponse response = ReportResponse.builder()
+                .reportId("REPORT-001")
+                .reporterId("USER-001")
+                .reportedId("USER-002")
+                .status(ReportStatus.PENDING)
+                .duplicate(true)
+                .build();
+
+        given(reportService.createReport(anyString(), anyString(), any(), anyString(), anyString()))
+                .willReturn(response);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/reports")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reportId").value("REPORT-001"))
+                .andExpect(jsonPath("$.duplicate").value(true));
+    }
+
     @Test
     @DisplayName("신고 등록 - 유효성 검사 실패 (신고자 ID 누락)")
     void createReport_ValidationFail_MissingReporterId() throws Exception {
@@ -231,6 +267,72 @@ class ReportControllerTest {
         verify(reportService, never()).updateReportStatus(anyString(), any(), anyString(), anyString());
     }
 
+    @Test
+    @DisplayName("신고 일괄 상태 변경 - 성공 (ID별 결과 반환)")
+    void bulkUpdateReportStatus_Success() throws Exception {
+        // Given
+        ReportBulkStatusUpdateRequest request = ReportBulkStatusUpdateRequest.builder()
+                .reportIds(List.of("1", "2", "999"))
+                .status(ReportStatus.REJECTED)
+                .adminId("ADMIN-001")
+                .comment("스팸 신고 일괄 기각")
+                .build();
+
+        ReportBulkStatusUpdateResponse response = ReportBulkStatusUpdateResponse.builder()
+                .status(ReportStatus.REJECTED)
+                .updatedCount(1)
+                .results(List.of(
+                        new ReportBulkStatusUpdateResponse.Result("1", ReportBulkStatusUpdateResponse.Outcome.UPDATED, ReportStatus.PENDING),
+                        new ReportBulkStatusUpdateResponse.Result("2", ReportBulkStatusUpdateResponse.Outcome.UNCHANGED, ReportStatus.REJECTED),
+                        new ReportBulkStatusUpdateResponse.Result("999", ReportBulkStatusUpdateResponse.Outcome.NOT_FOUND, null)))
+                .build();
+
+        given(reportService.bulkUpdateReportStatus(anyList(), eq(ReportStatus.REJECTED), eq("ADMIN-001"), anyString()))
+                .willReturn(response);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/reports/bulk-status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updatedCount").value(1))
+                .andExpect(jsonPath("$.results.length()").value(3))
+                .andExpect(jsonPath("$.results[0].outcome").value("UPDATED"))
+                .andExpect(jsonPath("$.results[0].previousStatus").value("PENDING"))
+                .andExpect(jsonPath("$.results[2].outcome").value("NOT_FOUND"));
+
+        verify(reportService, times(1)).bulkUpdateReportStatus(
+                eq(List.of("1", "2", "999")), eq(ReportStatus.REJECTED), eq("ADMIN-001"), eq("스팸 신고 일괄 기각"));
+    }
+
+    @Test
+    @DisplayName("신고 일괄 상태 변경 - 유효성 검사 실패 (ID 목록 누락 / 최대 건수 초과)")
+    void bulkUpdateReportStatus_ValidationFail() throws Exception {
+        // Given
+        ReportBulkStatusUpdateRequest empty = ReportBulkStatusUpdateRequest.builder()
+                .reportIds(List.of())
+                .status(ReportStatus.REJECTED)
+                .adminId("ADMIN-001")
+                .build();
+        ReportBulkStatusUpdateRequest tooMany = ReportBulkStatusUpdateRequest.builder()
+                .reportIds(Collections.nCopies(ReportBulkStatusUpdateRequest.MAX_REPORT_IDS + 1, "1"))
+                .status(ReportStatus.REJECTED)
+                .adminId("ADMIN-001")
+                .build();
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/reports/bulk-status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(empty)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/v1/reports/bulk-status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(tooMany)))
+                .andExpect(status().isBadRequest());
+
+        verify(reportService, never()).bulkUpdateReportStatus(anyList(), any(), anyString(), any());
+    }
+
     @Test
     @DisplayName("신고 철회 - 성공")
     void withdrawReport_Success() throws Exception {
@@ -29,7 +29,7 @@ class ReportResponseTest {
                 .build();
 
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("테스트 신고")
@@ -42,7 +42,7 @@ class ReportResponseTest {
         ReportResponse response = ReportResponse.from(report);
 
         // then
-        assertThat(response.getReportId()).isEqualTo("REPORT-001");
+        assertThat(response.getReportId()).isEqualTo("1");
         assertThat(response.getReporterId()).isEqualTo("USER-001");
         assertThat(response.getReportedId()).isEqualTo("USER-002");
         assertThat(response.getReferenceType()).isEqualTo(ReferenceType.PROFILE);
@@ -93,7 +93,7 @@ class ReportResponseTest {
 
         for (ReportStatus status : statuses) {
             Report report = Report.builder()
-                    .reportId("REPORT-" + status.name())
+                    .reportId(status.ordinal() + 1L)
                     .reporterId("USER-001")
                     .reportedId("USER-002")
                     .reason("상태 테스트: " + status.name())
@@ -122,7 +122,7 @@ class ReportResponseTest {
                     .build();
 
             Report report = Report.builder()
-                    .reportId("REPORT-" + type.name())
+                    .reportId(type.ordinal() + 1L)
                     .reporterId("USER-001")
                     .reportedId("USER-002")
                     .reason("타입 테스트: " + type.name())
@@ -8,7 +8,8 @@ import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -18,10 +19,10 @@ import static org.assertj.core.api.Assertions.*;
 @DisplayName("Report 엔티티 테스트")
 class ReportEntityTest {
 
-    private final AtomicInteger historyIdCounter = new AtomicInteger(1);
+    private final AtomicLong historyIdCounter = new AtomicLong(1);
 
-    private String generateHistoryId() {
-        return "HISTORY-" + historyIdCounter.getAndIncrement();
+    private Long generateHistoryId() {
+        return historyIdCounter.getAndIncrement();
     }
 
     @Test
@@ -34,7 +35,7 @@ class ReportEntityTest {
 
         // when
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("스팸 계정입니다")
@@ -46,7 +47,7 @@ class ReportEntityTest {
 
         // then
         assertThat(report).isNotNull();
-        assertThat(report.getReportId()).isEqualTo("REPORT-001");
+        assertThat(report.getReportId()).isEqualTo(1L);
         assertThat(report.getReporterId()).isEqualTo("USER-001");
         assertThat(report.getReportedId()).isEqualTo("USER-002");
         assertThat(report.getReason()).isEqualTo("스팸 계정입니다");
@@ -62,7 +63,7 @@ class ReportEntityTest {
     void createReport_DefaultStatus() {
         // when
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("부적절한 콘텐츠")
@@ -78,7 +79,7 @@ class ReportEntityTest {
     void approveReport_StatusChangedAndHistoryCreated() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("욕설 사용")
@@ -87,15 +88,15 @@ class ReportEntityTest {
                 .build();
 
         // when
-        report.approve("ADMIN-001", "신고 승인", this::generateHistoryId);
+        Optional<ReportHistory> history = report.approve("ADMIN-001", "신고 승인", this::generateHistoryId);
 
         // then
         assertThat(report.getStatus()).isEqualTo(ReportStatus.APPROVED);
-        assertThat(report.getHistories()).hasSize(1);
-        assertThat(report.getHistories().get(0).getNewStatus()).isEqualTo(ReportStatus.APPROVED);
-        assertThat(report.getHistories().get(0).getPreviousStatus()).isEqualTo(ReportStatus.PENDING);
-        assertThat(report.getHistories().get(0).getAdminId()).isEqualTo("ADMIN-001");
-        assertThat(report.getHistories().get(0).getComment()).isEqualTo("신고 승인");
+        assertThat(history).isPresent();
+        assertThat(history.get().getNewStatus()).isEqualTo(ReportStatus.APPROVED);
+        assertThat(history.get().getPreviousStatus()).isEqualTo(ReportStatus.PENDING);
+        assertThat(history.get().getAdminId()).isEqualTo("ADMIN-001");
+        assertThat(history.get().getComment()).isEqualTo("신고 승인");
     }
 
     @Test
@@ -103,7 +104,7 @@ class ReportEntityTest {
     void rejectReport_StatusChangedAndHistoryCreated() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("허위 신고")
@@ -112,13 +113,13 @@ class ReportEntityTest {
                 .build();
 
         // when
-        report.reject("ADMIN-001", "근거 부족", this::generateHistoryId);
+        Optional<ReportHistory> history = report.reject("ADMIN-001", "근거 부족", this::generateHistoryId);
 
         // then
         assertThat(report.getStatus()).isEqualTo(ReportStatus.REJECTED);
-        assertThat(report.getHistories()).hasSize(1);
-        assertThat(report.getHistories().get(0).getNewStatus()).isEqualTo(ReportStatus.REJECTED);
-        assertThat(report.getHistories().get(0).getComment()).isEqualTo("근거 부족");
+        assertThat(history).isPresent();
+        assertThat(history.get().getNewStatus()).isEqualTo(ReportStatus.REJECTED);
+        assertThat(history.get().getComment()).isEqualTo("근거 부족");
     }
 
     @Test
@@ -126,7 +127,7 @@ class ReportEntityTest {
     void withdrawReport_ByOwner_Success() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("실수로 신고함")
@@ -135,12 +136,12 @@ class ReportEntityTest {
                 .build();
 
         // when
-        report.withdraw("USER-001", "실수로 신고", this::generateHistoryId);
+        Optional<ReportHistory> history = report.withdraw("USER-001", "실수로 신고", this::generateHistoryId);
 
         // then
         assertThat(report.getStatus()).isEqualTo(ReportStatus.WITHDRAWN);
-        assertThat(report.getHistories()).hasSize(1);
-        assertThat(report.getHistories().get(0).getNewStatus()).isEqualTo(ReportStatus.WITHDRAWN);
+        assertThat(history).isPresent();
+        assertThat(history.get().getNewStatus()).isEqualTo(ReportStatus.WITHDRAWN);
     }
 
     @Test
@@ -148,7 +149,7 @@ class ReportEntityTest {
     void withdrawReport_ByNonOwner_ThrowsException() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("실수로 신고함")
@@ -167,7 +168,7 @@ class ReportEntityTest {
     void withdrawReport_WhenNotPending_ThrowsException() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("검토 중")
@@ -186,7 +187,7 @@ class ReportEntityTest {
     void startReview_StatusChangedAndHistoryCreated() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("검토 필요")
@@ -195,11 +196,11 @@ class ReportEntityTest {
                 .build();
 
         // when
-        report.startReview("ADMIN-001", "검토 시작", this::generateHistoryId);
+        Optional<ReportHistory> history = report.startReview("ADMIN-001", "검토 시작", this::generateHistoryId);
 
         // then
         assertThat(report.getStatus()).isEqualTo(ReportStatus.REVIEWING);
-        assertThat(report.getHistories()).hasSize(1);
+        assertThat(history).isPresent();
     }
 
     @Test
@@ -207,7 +208,7 @@ class ReportEntityTest {
     void changeStatus_SameStatus_NoHistoryCreated() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("테스트")
@@ -216,19 +217,19 @@ class ReportEntityTest {
                 .build();
 
         // when
-        report.changeStatus(ReportStatus.PENDING, "ADMIN-001", "동일 상태", this::generateHistoryId);
+        Optional<ReportHistory> history = report.changeStatus(ReportStatus.PENDING, "ADMIN-001", "동일 상태", this::generateHistoryId);
 
         // then
         assertThat(report.getStatus()).isEqualTo(ReportStatus.PENDING);
-        assertThat(report.getHistories()).isEmpty();
+        assertThat(history).isEmpty();
     }
 
     @Test
-    @DisplayName("상태 변경 - 여러 번 변경 시 히스토리 누적")
-    void changeStatus_MultipleChanges_HistoriesAccumulated() {
+    @DisplayName("상태 변경 - 여러 번 변경 시 변경마다 이전 상태를 이어받은 히스토리 생성")
+    void changeStatus_MultipleChanges_HistoriesChained() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("테스트")
@@ -237,14 +238,16 @@ class ReportEntityTest {
                 .build();
 
         // when
-        report.startReview("ADMIN-001", "검토 시작", this::generateHistoryId);
-        report.approve("ADMIN-001", "승인", this::generateHistoryId);
+        ReportHistory review = report.startReview("ADMIN-001", "검토 시작", this::generateHistoryId).orElseThrow();
+        ReportHistory approval = report.approve("ADMIN-001", "승인", this::generateHistoryId).orElseThrow();
 
         // then
         assertThat(report.getStatus()).isEqualTo(ReportStatus.APPROVED);
-        assertThat(report.getHistories()).hasSize(2);
-        assertThat(report.getHistories().get(0).getNewStatus()).isEqualTo(ReportStatus.REVIEWING);
-        assertThat(report.getHistories().get(1).getNewStatus()).isEqualTo(ReportStatus.APPROVED);
+        assertThat(review.getNewStatus()).isEqualTo(ReportStatus.REVIEWING);
+        assertThat(approval.getPreviousStatus()).isEqualTo(ReportStatus.REVIEWING);
+        assertThat(approval.getNewStatus()).isEqualTo(ReportStatus.APPROVED);
+        assertThat(review.getHistoryId()).isNotEqualTo(approval.getHistoryId());
+        assertThat(report.getHistories()).isEmpty(); // 이력은 컬렉션에 추가하지 않고 호출자가 저장
     }
 
     @Test
@@ -252,7 +255,7 @@ class ReportEntityTest {
     void isPending_WhenStatusIsPending_ReturnsTrue() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("대기 중")
@@ -269,7 +272,7 @@ class ReportEntityTest {
     void isPending_WhenStatusIsNotPending_ReturnsFalse() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("검토 중")
@@ -286,7 +289,7 @@ class ReportEntityTest {
     void isApproved_WhenStatusIsApproved_ReturnsTrue() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("승인됨")
@@ -303,7 +306,7 @@ class ReportEntityTest {
     void changeStatus_Success() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("상태 변경 테스트")
@@ -312,11 +315,12 @@ class ReportEntityTest {
                 .build();
 
         // when
-        report.changeStatus(ReportStatus.REVIEWING, "ADMIN-001", "검토 중", this::generateHistoryId);
+        Optional<ReportHistory> history = report.changeStatus(ReportStatus.REVIEWING, "ADMIN-001", "검토 중", this::generateHistoryId);
 
         // then
         assertThat(report.getStatus()).isEqualTo(ReportStatus.REVIEWING);
-        assertThat(report.getHistories()).hasSize(1);
+        assertThat(history).isPresent();
+        assertThat(history.get().isNew()).isTrue();
     }
 
     @Test
@@ -328,7 +332,7 @@ class ReportEntityTest {
                 .build();
 
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("부적절한 게시글")
@@ -349,7 +353,7 @@ class ReportEntityTest {
     void setCategory_WithNullCategory_NoAutoSet() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("카테고리 없음")
@@ -366,11 +370,11 @@ class ReportEntityTest {
     }
 
     @Test
-    @DisplayName("히스토리 - Report와 양방향 연관관계 설정 확인")
+    @DisplayName("히스토리 - 생성된 히스토리가 Report를 참조")
     void history_BidirectionalRelationship() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("테스트")
@@ -379,11 +383,10 @@ class ReportEntityTest {
                 .build();
 
         // when
-        report.approve("ADMIN-001", "승인", this::generateHistoryId);
+        ReportHistory history = report.approve("ADMIN-001", "승인", this::generateHistoryId).orElseThrow();
 
         // then
-        ReportHistory history = report.getHistories().get(0);
         assertThat(history.getReport()).isEqualTo(report);
-        assertThat(history.getReport().getReportId()).isEqualTo("REPORT-001");
+        assertThat(history.getReport().getReportId()).isEqualTo(1L);
     }
 }
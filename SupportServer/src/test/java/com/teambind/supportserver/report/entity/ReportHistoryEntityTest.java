@@ -19,7 +19,7 @@ class ReportHistoryEntityTest {
     void createReportHistory_Success() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .referenceType(ReferenceType.PROFILE)
@@ -29,7 +29,7 @@ class ReportHistoryEntityTest {
 
         // when
         ReportHistory history = ReportHistory.builder()
-                .historyId("HISTORY-001")
+                .historyId(1L)
                 .report(report)
                 .adminId("ADMIN-001")
                 .previousStatus(ReportStatus.PENDING)
@@ -40,7 +40,7 @@ class ReportHistoryEntityTest {
 
         // then
         assertThat(history).isNotNull();
-        assertThat(history.getHistoryId()).isEqualTo("HISTORY-001");
+        assertThat(history.getHistoryId()).isEqualTo(1L);
         assertThat(history.getReport()).isEqualTo(report);
         assertThat(history.getAdminId()).isEqualTo("ADMIN-001");
         assertThat(history.getPreviousStatus()).isEqualTo(ReportStatus.PENDING);
@@ -54,7 +54,7 @@ class ReportHistoryEntityTest {
     void createStatusChangeHistory_Success() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("신고")
@@ -63,7 +63,7 @@ class ReportHistoryEntityTest {
 
         // when
         ReportHistory history = ReportHistory.createStatusChangeHistory(
-                "HISTORY-001",
+                1L,
                 report,
                 "ADMIN-001",
                 ReportStatus.PENDING,
@@ -84,7 +84,7 @@ class ReportHistoryEntityTest {
     void createReviewedHistory_Success() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("신고")
@@ -93,7 +93,7 @@ class ReportHistoryEntityTest {
 
         // when
         ReportHistory history = ReportHistory.createReviewedHistory(
-                "HISTORY-002",
+                2L,
                 report,
                 "ADMIN-002",
                 "검토 완료되었습니다"
@@ -111,7 +111,7 @@ class ReportHistoryEntityTest {
     void createSanctionAppliedHistory_Success() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("신고")
@@ -120,7 +120,7 @@ class ReportHistoryEntityTest {
 
         // when
         ReportHistory history = ReportHistory.createSanctionAppliedHistory(
-                "HISTORY-003",
+                3L,
                 report,
                 "ADMIN-003",
                 "7일 정지 제재 적용"
@@ -138,7 +138,7 @@ class ReportHistoryEntityTest {
     void createAssignedHistory_Success() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("신고")
@@ -147,7 +147,7 @@ class ReportHistoryEntityTest {
 
         // when
         ReportHistory history = ReportHistory.createAssignedHistory(
-                "HISTORY-004",
+                4L,
                 report,
                 "ADMIN-004",
                 "담당자 할당됨"
@@ -165,7 +165,7 @@ class ReportHistoryEntityTest {
     void createCommentAddedHistory_Success() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("신고")
@@ -174,7 +174,7 @@ class ReportHistoryEntityTest {
 
         // when
         ReportHistory history = ReportHistory.createCommentAddedHistory(
-                "HISTORY-005",
+                5L,
                 report,
                 "ADMIN-005",
                 "추가 검토가 필요합니다"
@@ -192,7 +192,7 @@ class ReportHistoryEntityTest {
     void reportHistory_DifferentActionTypes() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("신고")
@@ -200,33 +200,33 @@ class ReportHistoryEntityTest {
 
         // when
         ReportHistory statusChange = ReportHistory.builder()
-                .historyId("H-001")
+                .historyId(1L)
                 .report(report)
                 .actionType(ActionType.STATUS_CHANGED)
                 .newStatus(ReportStatus.REVIEWING)
                 .build();
 
         ReportHistory reviewed = ReportHistory.builder()
-                .historyId("H-002")
+                .historyId(2L)
                 .report(report)
                 .actionType(ActionType.REVIEWED)
                 .build();
 
         ReportHistory sanctionApplied = ReportHistory.builder()
-                .historyId("H-003")
+                .historyId(3L)
                 .report(report)
                 .actionType(ActionType.SANCTION_APPLIED)
                 .newStatus(ReportStatus.APPROVED)
                 .build();
 
         ReportHistory assigned = ReportHistory.builder()
-                .historyId("H-004")
+                .historyId(4L)
                 .report(report)
                 .actionType(ActionType.ASSIGNED)
                 .build();
 
         ReportHistory commentAdded = ReportHistory.builder()
-                .historyId("H-005")
+                .historyId(5L)
                 .report(report)
                 .actionType(ActionType.COMMENT_ADDED)
                 .build();
@@ -244,7 +244,7 @@ class ReportHistoryEntityTest {
     void reportHistory_StatusChangeTrackingScenario() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("신고")
@@ -253,7 +253,7 @@ class ReportHistoryEntityTest {
 
         // when - PENDING -> REVIEWING
         ReportHistory history1 = ReportHistory.createStatusChangeHistory(
-                "H-001",
+                1L,
                 report,
                 "ADMIN-001",
                 ReportStatus.PENDING,
@@ -263,7 +263,7 @@ class ReportHistoryEntityTest {
 
         // when - REVIEWING -> APPROVED
         ReportHistory history2 = ReportHistory.createStatusChangeHistory(
-                "H-002",
+                2L,
                 report,
                 "ADMIN-001",
                 ReportStatus.REVIEWING,
@@ -283,7 +283,7 @@ class ReportHistoryEntityTest {
     void reportHistory_WithoutAdminId() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("신고")
@@ -291,7 +291,7 @@ class ReportHistoryEntityTest {
 
         // when
         ReportHistory history = ReportHistory.builder()
-                .historyId("H-001")
+                .historyId(1L)
                 .report(report)
                 .adminId(null)
                 .actionType(ActionType.STATUS_CHANGED)
@@ -310,7 +310,7 @@ class ReportHistoryEntityTest {
     void reportHistory_LongComment() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("신고")
@@ -320,7 +320,7 @@ class ReportHistoryEntityTest {
 
         // when
         ReportHistory history = ReportHistory.builder()
-                .historyId("H-001")
+                .historyId(1L)
                 .report(report)
                 .adminId("ADMIN-001")
                 .actionType(ActionType.REVIEWED)
@@ -338,14 +338,14 @@ class ReportHistoryEntityTest {
     void setReport_Success() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("신고")
                 .build();
 
         ReportHistory history = ReportHistory.builder()
-                .historyId("H-001")
+                .historyId(1L)
                 .actionType(ActionType.REVIEWED)
                 .newStatus(ReportStatus.REVIEWING)
                 .build();
@@ -22,7 +22,7 @@ class SanctionEntityTest {
     void createSanction_Success() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .referenceType(ReferenceType.PROFILE)
@@ -34,7 +34,7 @@ class SanctionEntityTest {
 
         // when
         Sanction sanction = Sanction.builder()
-                .sanctionId("SANCTION-001")
+                .sanctionId(1L)
                 .report(report)
                 .targetId("USER-002")
                 .sanctionType(SanctionType.SUSPENSION)
@@ -46,7 +46,7 @@ class SanctionEntityTest {
 
         // then
         assertThat(sanction).isNotNull();
-        assertThat(sanction.getSanctionId()).isEqualTo("SANCTION-001");
+        assertThat(sanction.getSanctionId()).isEqualTo(1L);
         assertThat(sanction.getTargetId()).isEqualTo("USER-002");
         assertThat(sanction.getSanctionType()).isEqualTo(SanctionType.SUSPENSION);
         assertThat(sanction.getDuration()).isEqualTo(7);
@@ -59,7 +59,7 @@ class SanctionEntityTest {
     void createSanction_DefaultStatus() {
         // when
         Sanction sanction = Sanction.builder()
-                .sanctionId("SANCTION-001")
+                .sanctionId(1L)
                 .targetId("USER-002")
                 .sanctionType(SanctionType.WARNING)
                 .reason("경고")
@@ -75,7 +75,7 @@ class SanctionEntityTest {
     void revokeSanction_StatusChangedToRevoked() {
         // given
         Sanction sanction = Sanction.builder()
-                .sanctionId("SANCTION-001")
+                .sanctionId(1L)
                 .targetId("USER-002")
                 .sanctionType(SanctionType.SUSPENSION)
                 .duration(7)
@@ -96,7 +96,7 @@ class SanctionEntityTest {
     void expireSanction_StatusChangedToExpired() {
         // given
         Sanction sanction = Sanction.builder()
-                .sanctionId("SANCTION-001")
+                .sanctionId(1L)
                 .targetId("USER-002")
                 .sanctionType(SanctionType.SUSPENSION)
                 .duration(7)
@@ -118,7 +118,7 @@ class SanctionEntityTest {
     void isActive_WhenActiveAndNotExpired_ReturnsTrue() {
         // given
         Sanction sanction = Sanction.builder()
-                .sanctionId("SANCTION-001")
+                .sanctionId(1L)
                 .targetId("USER-002")
                 .sanctionType(SanctionType.SUSPENSION)
                 .duration(7)
@@ -137,7 +137,7 @@ class SanctionEntityTest {
     void isActive_WhenActiveButExpired_ReturnsFalse() {
         // given
         Sanction sanction = Sanction.builder()
-                .sanctionId("SANCTION-001")
+                .sanctionId(1L)
                 .targetId("USER-002")
                 .sanctionType(SanctionType.SUSPENSION)
                 .duration(7)
@@ -156,7 +156,7 @@ class SanctionEntityTest {
     void isActive_WhenRevoked_ReturnsFalse() {
         // given
         Sanction sanction = Sanction.builder()
-                .sanctionId("SANCTION-001")
+                .sanctionId(1L)
                 .targetId("USER-002")
                 .sanctionType(SanctionType.SUSPENSION)
                 .duration(7)
@@ -175,7 +175,7 @@ class SanctionEntityTest {
     void isExpired_WhenExpired_ReturnsTrue() {
         // given
         Sanction sanction = Sanction.builder()
-                .sanctionId("SANCTION-001")
+                .sanctionId(1L)
                 .targetId("USER-002")
                 .sanctionType(SanctionType.SUSPENSION)
                 .duration(7)
@@ -194,7 +194,7 @@ class SanctionEntityTest {
     void isExpired_WhenStatusExpired_ReturnsTrue() {
         // given
         Sanction sanction = Sanction.builder()
-                .sanctionId("SANCTION-001")
+                .sanctionId(1L)
                 .targetId("USER-002")
                 .sanctionType(SanctionType.SUSPENSION)
                 .duration(7)
@@ -213,7 +213,7 @@ class SanctionEntityTest {
     void isPermanent_WhenTypeIsPermanentBan_ReturnsTrue() {
         // given
         Sanction sanction = Sanction.builder()
-                .sanctionId("SANCTION-001")
+                .sanctionId(1L)
                 .targetId("USER-002")
                 .sanctionType(SanctionType.PERMANENT_BAN)
                 .reason("영구 정지")
@@ -229,7 +229,7 @@ class SanctionEntityTest {
     void isPermanent_WhenExpiresAtIsNull_ReturnsTrue() {
         // given
         Sanction sanction = Sanction.builder()
-                .sanctionId("SANCTION-001")
+                .sanctionId(1L)
                 .targetId("USER-002")
                 .sanctionType(SanctionType.SUSPENSION)
                 .reason("만료일 없는 제재")
@@ -246,7 +246,7 @@ class SanctionEntityTest {
     void isPermanent_WhenTemporary_ReturnsFalse() {
         // given
         Sanction sanction = Sanction.builder()
-                .sanctionId("SANCTION-001")
+                .sanctionId(1L)
                 .targetId("USER-002")
                 .sanctionType(SanctionType.SUSPENSION)
                 .duration(7)
@@ -265,7 +265,7 @@ class SanctionEntityTest {
         // given
         LocalDateTime now = LocalDateTime.now();
         Sanction sanction = Sanction.builder()
-                .sanctionId("SANCTION-001")
+                .sanctionId(1L)
                 .targetId("USER-002")
                 .sanctionType(SanctionType.SUSPENSION)
                 .duration(7)
@@ -287,7 +287,7 @@ class SanctionEntityTest {
         // given
         LocalDateTime now = LocalDateTime.now();
         Sanction sanction = Sanction.builder()
-                .sanctionId("SANCTION-001")
+                .sanctionId(1L)
                 .targetId("USER-002")
                 .sanctionType(SanctionType.SUSPENSION)
                 .duration(7)
@@ -308,7 +308,7 @@ class SanctionEntityTest {
     void getRemainingDays_WhenPermanent_ReturnsMinusOne() {
         // given
         Sanction sanction = Sanction.builder()
-                .sanctionId("SANCTION-001")
+                .sanctionId(1L)
                 .targetId("USER-002")
                 .sanctionType(SanctionType.PERMANENT_BAN)
                 .reason("영구 정지")
@@ -328,14 +328,14 @@ class SanctionEntityTest {
     void setReport_AutoSetTargetId() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("신고")
                 .build();
 
         Sanction sanction = Sanction.builder()
-                .sanctionId("SANCTION-001")
+                .sanctionId(1L)
                 .sanctionType(SanctionType.WARNING)
                 .reason("경고")
                 .sanctionedAt(LocalDateTime.now())
@@ -354,14 +354,14 @@ class SanctionEntityTest {
     void setReport_DoesNotOverrideExistingTargetId() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("신고")
                 .build();
 
         Sanction sanction = Sanction.builder()
-                .sanctionId("SANCTION-001")
+                .sanctionId(1L)
                 .targetId("USER-003")
                 .sanctionType(SanctionType.WARNING)
                 .reason("경고")
@@ -0,0 +1,138 @@
+package com.teambind.supportserver.report.performance;
+
+import com.teambind.supportserver.common.config.QueryDslConfig;
+import com.teambind.supportserver.report.dto.request.ReportSearchRequest;
+import com.teambind.supportserver.report.dto.response.ReportResponse;
+import com.teambind.supportserver.report.entity.Report;
+import com.teambind.supportserver.report.entity.ReportCategory;
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
+import com.teambind.supportserver.report.repository.ReportCategoryRepository;
+import com.teambind.supportserver.report.repository.ReportRepository;
+import com.teambind.supportserver.report.repository.ReportRepositoryImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 신고 검색 조회 성능 비교 테스트
+ *
+ * <p>엔티티 조회 후 DTO 변환 방식 vs QueryDSL DTO 프로젝션 방식의
+ * size=100 페이지 조회 지연 시간과 스레드 할당량(byte)을 비교합니다.</p>
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ReportRepositoryImpl.class, QueryDslConfig.class})
+public class ReportSearchProjectionPerformanceTest {
+
+    private static final int TOTAL_REPORTS = 1000;
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 300;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private ReportCategoryRepository reportCategoryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private ReportSearchRequest request;
+
+    @BeforeEach
+    void setUp() {
+        ReportCategory category = reportCategoryRepository.save(ReportCategory.of(ReferenceType.ARTICLE, "spam"));
+        LocalDateTime baseTime = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        for (int i = 0; i < TOTAL_REPORTS; i++) {
+            Report report = Report.builder()
+                    .reportId(i + 1L)
+                    .reporterId("USER-" + i)
+                    .reportedId("TARGET-" + (i % 50))
+                    .reason("성능 테스트 신고 " + i)
+                    .reportedAt(baseTime.plusMinutes(i))
+                    .build();
+            report.setCategory(category);
+            entityManager.persist(report);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        request = ReportSearchRequest.builder()
+                .sortType(ReportSearchRequest.SortType.REPORTED_AT)
+                .sortDirection(ReportSearchRequest.SortDirection.DESC)
+                .size(PAGE_SIZE)
+                .build();
+    }
+
+    @Test
+    void compareEntityVsProjection() {
+        Supplier<List<ReportResponse>> entityPath = () -> reportRepository.findReportsWithCursor(request).stream()
+                .map(ReportResponse::from)
+                .toList();
+        Supplier<List<ReportResponse>> projectionPath = () -> reportRepository.findReportResponsesWithCursor(request);
+
+        // 결과 동일성 확인
+        assertThat(projectionPath.get()).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(entityPath.get());
+        entityManager.clear();
+
+        System.out.println("=== Performance Test: Entity hydration vs DTO projection ===");
+        System.out.println("Rows: " + TOTAL_REPORTS + ", Page size: " + PAGE_SIZE + ", Iterations: " + ITERATIONS);
+
+        Result entity = measure("Entity", entityPath);
+        Result projection = measure("Projection", projectionPath);
+
+        System.out.println("\n=== Results ===");
+        System.out.println("Latency reduction: " + String.format("%.2f", entity.avgMicros / projection.avgMicros) + "x");
+        System.out.println("Allocation reduction: " + String.format("%.2f", (double) entity.avgBytes / projection.avgBytes) + "x");
+    }
+
+    private Result measure(String name, Supplier<List<ReportResponse>> path) {
+        // 요청마다 새로운 영속성 컨텍스트를 사용하는 운영 환경과 동일하게 매 회 clear
+        for (int i = 0; i < WARMUP; i++) {
+            path.get();
+            entityManager.clear();
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        long totalNanos = 0;
+        long totalBytes = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long bytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+
+            List<ReportResponse> page = path.get();
+            entityManager.flush(); // 더티 체킹 비용 포함
+
+            totalNanos += System.nanoTime() - start;
+            totalBytes += threadMXBean.getThreadAllocatedBytes(threadId) - bytesBefore;
+            assertThat(page).hasSize(PAGE_SIZE + 1);
+            entityManager.clear();
+        }
+
+        Result result = new Result(totalNanos / 1_000.0 / ITERATIONS, totalBytes / ITERATIONS);
+        System.out.println("\n" + name + " Method:");
+        System.out.println("  Avg Time: " + String.format("%.1f", result.avgMicros) + "us per page");
+        System.out.println("  Avg Allocation: " + result.avgBytes / 1024 + "KB per page");
+        return result;
+    }
+
+    private record Result(double avgMicros, long avgBytes) {
+    }
+}
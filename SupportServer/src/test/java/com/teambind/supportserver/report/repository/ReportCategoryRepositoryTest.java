@@ -13,6 +13,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -325,4 +326,53 @@ class ReportCategoryRepositoryTest {
         assertThat(categories).extracting(c -> c.getId().getReportCategory())
                 .containsExactlyInAnyOrder("spam", "SPAM");
     }
+
+    @Test
+    @DisplayName("저장 시 변경 일시가 기록되고, 기준 시각 이후 변경된 카테고리만 조회된다")
+    void findByUpdatedAtGreaterThanEqual_ReturnsChangedOnly() {
+        // given
+        reportCategoryRepository.save(ReportCategory.of(ReferenceType.PROFILE, "old"));
+        reportCategoryRepository.save(ReportCategory.of(ReferenceType.PROFILE, "new"));
+        entityManager.flush();
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE report_categories SET updated_at = ? WHERE report_category = ?")
+                .setParameter(1, base)
+                .setParameter(2, "old")
+                .executeUpdate();
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE report_categories SET updated_at = ? WHERE report_category = ?")
+                .setParameter(1, base.plusMinutes(10))
+                .setParameter(2, "new")
+                .executeUpdate();
+        entityManager.clear();
+
+        // when
+        List<ReportCategory> changed = reportCategoryRepository.findByUpdatedAtGreaterThanEqual(base.plusMinutes(10));
+
+        // then
+        assertThat(changed).extracting(c -> c.getId().getReportCategory()).containsExactly("new");
+        assertThat(changed.get(0).getUpdatedAt()).isEqualTo(base.plusMinutes(10));
+        assertThat(reportCategoryRepository.findByUpdatedAtGreaterThanEqual(base)).hasSize(2);
+        assertThat(reportCategoryRepository.findAll()).allSatisfy(c -> assertThat(c.getUpdatedAt()).isNotNull());
+    }
+
+    @Test
+    @DisplayName("신고 카테고리 복합키 전체 조회")
+    void findAllIds_Success() {
+        // given
+        reportCategoryRepository.saveAll(List.of(
+                ReportCategory.of(ReferenceType.PROFILE, "SPAM"),
+                ReportCategory.of(ReferenceType.ARTICLE, "SPAM")));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<ReportCategoryId> ids = reportCategoryRepository.findAllIds();
+
+        // then
+        assertThat(ids).containsExactlyInAnyOrder(
+                new ReportCategoryId(ReferenceType.PROFILE, "SPAM"),
+                new ReportCategoryId(ReferenceType.ARTICLE, "SPAM"));
+    }
 }
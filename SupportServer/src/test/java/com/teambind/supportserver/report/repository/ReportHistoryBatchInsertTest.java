@@ -0,0 +1,129 @@
+package com.teambind.supportserver.report.repository;
+
+import com.teambind.supportserver.common.config.QueryDslConfig;
+import com.teambind.supportserver.report.entity.Report;
+import com.teambind.supportserver.report.entity.ReportCategory;
+import com.teambind.supportserver.report.entity.ReportHistory;
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
+import com.teambind.supportserver.report.entity.enums.ReportStatus;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 신고 이력 추가 저장의 JDBC 배치 통합 테스트
+ *
+ * <p>Hibernate 통계로 flush 시 실행된 PreparedStatement 수를 세어
+ * 상태 변경(UPDATE)과 이력 추가(INSERT)가 건별이 아니라 배치로 전송되는지 확인합니다.</p>
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(QueryDslConfig.class)
+@ActiveProfiles("test")
+@DisplayName("신고 이력 배치 저장 통합 테스트")
+class ReportHistoryBatchInsertTest {
+
+    private static final int REPORT_COUNT = 30;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private ReportHistoryRepository reportHistoryRepository;
+
+    @Autowired
+    private ReportCategoryRepository reportCategoryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final AtomicLong historyIds = new AtomicLong(1);
+
+    private List<Long> reportIds;
+
+    @BeforeEach
+    void setUp() {
+        ReportCategory category = reportCategoryRepository.save(ReportCategory.of(ReferenceType.PROFILE, "SPAM"));
+
+        reportIds = LongStream.rangeClosed(1, REPORT_COUNT).boxed().toList();
+        for (Long reportId : reportIds) {
+            Report report = Report.builder()
+                    .reportId(reportId)
+                    .reporterId("USER-" + reportId)
+                    .reportedId("USER-TARGET")
+                    .reason("배치 테스트")
+                    .reportedAt(LocalDateTime.now())
+                    .status(ReportStatus.PENDING)
+                    .build();
+            report.setCategory(category);
+            entityManager.persist(report);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("여러 신고의 상태 변경과 이력 추가가 배치로 묶여 문장 수가 건수와 무관")
+    void changeStatus_ManyReports_BatchedStatements() {
+        // given
+        List<Report> reports = reportRepository.findAllById(reportIds);
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        // when
+        for (Report report : reports) {
+            report.startReview("ADMIN-001", "일괄 검토", historyIds::getAndIncrement)
+                    .ifPresent(reportHistoryRepository::save);
+        }
+        entityManager.flush();
+
+        // then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(REPORT_COUNT);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(REPORT_COUNT);
+        assertThat(statistics.getEntityLoadCount()).isZero(); // 할당된 ID라도 merge용 SELECT 없음
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2); // UPDATE 배치 1 + INSERT 배치 1
+        assertThat(reports).allMatch(report -> !Hibernate.isInitialized(report.getHistories()));
+    }
+
+    @Test
+    @DisplayName("이력 추가 후 조회 시 저장된 이력이 연관관계로 조회됨")
+    void changeStatus_HistoryReadableFromReport() {
+        // given
+        Report report = reportRepository.findById(1L).orElseThrow();
+
+        // when
+        report.startReview("ADMIN-001", "검토 시작", historyIds::getAndIncrement)
+                .ifPresent(reportHistoryRepository::save);
+        report.approve("ADMIN-001", "승인", historyIds::getAndIncrement)
+                .ifPresent(reportHistoryRepository::save);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        Report found = reportRepository.findById(1L).orElseThrow();
+        assertThat(found.getStatus()).isEqualTo(ReportStatus.APPROVED);
+        assertThat(found.getHistories()).extracting(ReportHistory::getNewStatus)
+                .containsExactlyInAnyOrder(ReportStatus.REVIEWING, ReportStatus.APPROVED);
+        assertThat(found.getHistories()).noneMatch(ReportHistory::isNew);
+    }
+
+    private Statistics statistics() {
+        return entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+}
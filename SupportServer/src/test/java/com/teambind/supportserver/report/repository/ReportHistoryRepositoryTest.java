@@ -52,7 +52,7 @@ class ReportHistoryRepositoryTest {
         reportCategoryRepository.save(category);
 
         testReport = Report.builder()
-                .reportId("REPORT-TEST")
+                .reportId(999L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("테스트 신고")
@@ -71,7 +71,7 @@ class ReportHistoryRepositoryTest {
     void saveReportHistory_Success() {
         // given
         ReportHistory history = ReportHistory.builder()
-                .historyId("HISTORY-001")
+                .historyId(1L)
                 .report(testReport)
                 .adminId("ADMIN-001")
                 .previousStatus(ReportStatus.PENDING)
@@ -87,7 +87,7 @@ class ReportHistoryRepositoryTest {
 
         // then
         ReportHistory foundHistory = reportHistoryRepository.findById(savedHistory.getHistoryId()).orElseThrow();
-        assertThat(foundHistory.getHistoryId()).isEqualTo("HISTORY-001");
+        assertThat(foundHistory.getHistoryId()).isEqualTo(1L);
         assertThat(foundHistory.getAdminId()).isEqualTo("ADMIN-001");
         assertThat(foundHistory.getPreviousStatus()).isEqualTo(ReportStatus.PENDING);
         assertThat(foundHistory.getNewStatus()).isEqualTo(ReportStatus.REVIEWING);
@@ -100,7 +100,7 @@ class ReportHistoryRepositoryTest {
     void findById_Success() {
         // given
         ReportHistory history = ReportHistory.createStatusChangeHistory(
-                "HISTORY-002",
+                2L,
                 testReport,
                 "ADMIN-001",
                 ReportStatus.PENDING,
@@ -112,18 +112,18 @@ class ReportHistoryRepositoryTest {
         entityManager.clear();
 
         // when
-        Optional<ReportHistory> foundHistory = reportHistoryRepository.findById("HISTORY-002");
+        Optional<ReportHistory> foundHistory = reportHistoryRepository.findById(2L);
 
         // then
         assertThat(foundHistory).isPresent();
-        assertThat(foundHistory.get().getHistoryId()).isEqualTo("HISTORY-002");
+        assertThat(foundHistory.get().getHistoryId()).isEqualTo(2L);
     }
 
     @Test
     @DisplayName("신고 이력 조회 - 존재하지 않는 ID로 조회 시 empty 반환")
     void findById_NotFound() {
         // when
-        Optional<ReportHistory> foundHistory = reportHistoryRepository.findById("NON-EXISTENT-ID");
+        Optional<ReportHistory> foundHistory = reportHistoryRepository.findById(-1L);
 
         // then
         assertThat(foundHistory).isEmpty();
@@ -134,7 +134,7 @@ class ReportHistoryRepositoryTest {
     void findAll_Success() {
         // given
         ReportHistory history1 = ReportHistory.createStatusChangeHistory(
-                "HISTORY-003",
+                3L,
                 testReport,
                 "ADMIN-001",
                 ReportStatus.PENDING,
@@ -143,7 +143,7 @@ class ReportHistoryRepositoryTest {
         );
 
         ReportHistory history2 = ReportHistory.createReviewedHistory(
-                "HISTORY-004",
+                4L,
                 testReport,
                 "ADMIN-001",
                 "이력2"
@@ -166,7 +166,7 @@ class ReportHistoryRepositoryTest {
     void deleteReportHistory_Success() {
         // given
         ReportHistory history = ReportHistory.createCommentAddedHistory(
-                "HISTORY-005",
+                5L,
                 testReport,
                 "ADMIN-001",
                 "삭제 테스트"
@@ -176,12 +176,12 @@ class ReportHistoryRepositoryTest {
         entityManager.clear();
 
         // when
-        reportHistoryRepository.deleteById("HISTORY-005");
+        reportHistoryRepository.deleteById(5L);
         entityManager.flush();
         entityManager.clear();
 
         // then
-        Optional<ReportHistory> deletedHistory = reportHistoryRepository.findById("HISTORY-005");
+        Optional<ReportHistory> deletedHistory = reportHistoryRepository.findById(5L);
         assertThat(deletedHistory).isEmpty();
     }
 
@@ -190,7 +190,7 @@ class ReportHistoryRepositoryTest {
     void reportRelationship_Test() {
         // given
         ReportHistory history = ReportHistory.createStatusChangeHistory(
-                "HISTORY-006",
+                6L,
                 testReport,
                 "ADMIN-001",
                 ReportStatus.PENDING,
@@ -202,11 +202,11 @@ class ReportHistoryRepositoryTest {
         entityManager.clear();
 
         // when
-        ReportHistory foundHistory = reportHistoryRepository.findById("HISTORY-006").orElseThrow();
+        ReportHistory foundHistory = reportHistoryRepository.findById(6L).orElseThrow();
 
         // then
         assertThat(foundHistory.getReport()).isNotNull();
-        assertThat(foundHistory.getReport().getReportId()).isEqualTo("REPORT-TEST");
+        assertThat(foundHistory.getReport().getReportId()).isEqualTo(999L);
     }
 
     @Test
@@ -214,7 +214,7 @@ class ReportHistoryRepositoryTest {
     void factoryMethod_CreateStatusChangeHistory() {
         // when
         ReportHistory history = ReportHistory.createStatusChangeHistory(
-                "HISTORY-007",
+                7L,
                 testReport,
                 "ADMIN-001",
                 ReportStatus.PENDING,
@@ -227,7 +227,7 @@ class ReportHistoryRepositoryTest {
         entityManager.clear();
 
         // then
-        ReportHistory foundHistory = reportHistoryRepository.findById("HISTORY-007").orElseThrow();
+        ReportHistory foundHistory = reportHistoryRepository.findById(7L).orElseThrow();
         assertThat(foundHistory.getActionType()).isEqualTo(ActionType.STATUS_CHANGED);
         assertThat(foundHistory.getPreviousStatus()).isEqualTo(ReportStatus.PENDING);
         assertThat(foundHistory.getNewStatus()).isEqualTo(ReportStatus.APPROVED);
@@ -238,7 +238,7 @@ class ReportHistoryRepositoryTest {
     void factoryMethod_CreateReviewedHistory() {
         // when
         ReportHistory history = ReportHistory.createReviewedHistory(
-                "HISTORY-008",
+                8L,
                 testReport,
                 "ADMIN-002",
                 "검토 완료"
@@ -249,7 +249,7 @@ class ReportHistoryRepositoryTest {
         entityManager.clear();
 
         // then
-        ReportHistory foundHistory = reportHistoryRepository.findById("HISTORY-008").orElseThrow();
+        ReportHistory foundHistory = reportHistoryRepository.findById(8L).orElseThrow();
         assertThat(foundHistory.getActionType()).isEqualTo(ActionType.REVIEWED);
         assertThat(foundHistory.getAdminId()).isEqualTo("ADMIN-002");
     }
@@ -259,7 +259,7 @@ class ReportHistoryRepositoryTest {
     void factoryMethod_CreateSanctionAppliedHistory() {
         // when
         ReportHistory history = ReportHistory.createSanctionAppliedHistory(
-                "HISTORY-009",
+                9L,
                 testReport,
                 "ADMIN-003",
                 "7일 정지 적용"
@@ -270,7 +270,7 @@ class ReportHistoryRepositoryTest {
         entityManager.clear();
 
         // then
-        ReportHistory foundHistory = reportHistoryRepository.findById("HISTORY-009").orElseThrow();
+        ReportHistory foundHistory = reportHistoryRepository.findById(9L).orElseThrow();
         assertThat(foundHistory.getActionType()).isEqualTo(ActionType.SANCTION_APPLIED);
         assertThat(foundHistory.getComment()).isEqualTo("7일 정지 적용");
     }
@@ -280,7 +280,7 @@ class ReportHistoryRepositoryTest {
     void factoryMethod_CreateAssignedHistory() {
         // when
         ReportHistory history = ReportHistory.createAssignedHistory(
-                "HISTORY-010",
+                10L,
                 testReport,
                 "ADMIN-004",
                 "담당자 할당"
@@ -291,7 +291,7 @@ class ReportHistoryRepositoryTest {
         entityManager.clear();
 
         // then
-        ReportHistory foundHistory = reportHistoryRepository.findById("HISTORY-010").orElseThrow();
+        ReportHistory foundHistory = reportHistoryRepository.findById(10L).orElseThrow();
         assertThat(foundHistory.getActionType()).isEqualTo(ActionType.ASSIGNED);
     }
 
@@ -300,7 +300,7 @@ class ReportHistoryRepositoryTest {
     void factoryMethod_CreateCommentAddedHistory() {
         // when
         ReportHistory history = ReportHistory.createCommentAddedHistory(
-                "HISTORY-011",
+                11L,
                 testReport,
                 "ADMIN-005",
                 "추가 검토 필요"
@@ -311,7 +311,7 @@ class ReportHistoryRepositoryTest {
         entityManager.clear();
 
         // then
-        ReportHistory foundHistory = reportHistoryRepository.findById("HISTORY-011").orElseThrow();
+        ReportHistory foundHistory = reportHistoryRepository.findById(11L).orElseThrow();
         assertThat(foundHistory.getActionType()).isEqualTo(ActionType.COMMENT_ADDED);
     }
 
@@ -320,11 +320,11 @@ class ReportHistoryRepositoryTest {
     void saveHistories_WithDifferentActionTypes() {
         // given
         List<ReportHistory> histories = List.of(
-                ReportHistory.createStatusChangeHistory("H-TYPE-1", testReport, "ADMIN-001", ReportStatus.PENDING, ReportStatus.REVIEWING, "상태 변경"),
-                ReportHistory.createReviewedHistory("H-TYPE-2", testReport, "ADMIN-001", "검토"),
-                ReportHistory.createSanctionAppliedHistory("H-TYPE-3", testReport, "ADMIN-001", "제재"),
-                ReportHistory.createAssignedHistory("H-TYPE-4", testReport, "ADMIN-001", "할당"),
-                ReportHistory.createCommentAddedHistory("H-TYPE-5", testReport, "ADMIN-001", "코멘트")
+                ReportHistory.createStatusChangeHistory(301L, testReport, "ADMIN-001", ReportStatus.PENDING, ReportStatus.REVIEWING, "상태 변경"),
+                ReportHistory.createReviewedHistory(302L, testReport, "ADMIN-001", "검토"),
+                ReportHistory.createSanctionAppliedHistory(303L, testReport, "ADMIN-001", "제재"),
+                ReportHistory.createAssignedHistory(304L, testReport, "ADMIN-001", "할당"),
+                ReportHistory.createCommentAddedHistory(305L, testReport, "ADMIN-001", "코멘트")
         );
 
         // when
@@ -350,7 +350,7 @@ class ReportHistoryRepositoryTest {
     void statusChangeTracking_Scenario() {
         // given
         ReportHistory history1 = ReportHistory.createStatusChangeHistory(
-                "H-TRACK-1",
+                201L,
                 testReport,
                 "ADMIN-001",
                 ReportStatus.PENDING,
@@ -359,7 +359,7 @@ class ReportHistoryRepositoryTest {
         );
 
         ReportHistory history2 = ReportHistory.createStatusChangeHistory(
-                "H-TRACK-2",
+                202L,
                 testReport,
                 "ADMIN-001",
                 ReportStatus.REVIEWING,
@@ -376,11 +376,11 @@ class ReportHistoryRepositoryTest {
         List<ReportHistory> histories = reportHistoryRepository.findAll();
         assertThat(histories).hasSize(2);
 
-        ReportHistory first = reportHistoryRepository.findById("H-TRACK-1").orElseThrow();
+        ReportHistory first = reportHistoryRepository.findById(201L).orElseThrow();
         assertThat(first.getPreviousStatus()).isEqualTo(ReportStatus.PENDING);
         assertThat(first.getNewStatus()).isEqualTo(ReportStatus.REVIEWING);
 
-        ReportHistory second = reportHistoryRepository.findById("H-TRACK-2").orElseThrow();
+        ReportHistory second = reportHistoryRepository.findById(202L).orElseThrow();
         assertThat(second.getPreviousStatus()).isEqualTo(ReportStatus.REVIEWING);
         assertThat(second.getNewStatus()).isEqualTo(ReportStatus.APPROVED);
     }
@@ -390,7 +390,7 @@ class ReportHistoryRepositoryTest {
     void saveHistory_WithoutAdminId() {
         // given
         ReportHistory history = ReportHistory.builder()
-                .historyId("HISTORY-012")
+                .historyId(12L)
                 .report(testReport)
                 .adminId(null)
                 .actionType(ActionType.STATUS_CHANGED)
@@ -405,7 +405,7 @@ class ReportHistoryRepositoryTest {
         entityManager.clear();
 
         // then
-        ReportHistory foundHistory = reportHistoryRepository.findById("HISTORY-012").orElseThrow();
+        ReportHistory foundHistory = reportHistoryRepository.findById(12L).orElseThrow();
         assertThat(foundHistory.getAdminId()).isNull();
         assertThat(foundHistory.getComment()).isEqualTo("시스템 자동 생성");
     }
@@ -417,7 +417,7 @@ class ReportHistoryRepositoryTest {
         String longComment = "이 신고는 매우 상세한 검토가 필요합니다. ".repeat(100);
 
         ReportHistory history = ReportHistory.createCommentAddedHistory(
-                "HISTORY-013",
+                13L,
                 testReport,
                 "ADMIN-001",
                 longComment
@@ -429,7 +429,7 @@ class ReportHistoryRepositoryTest {
         entityManager.clear();
 
         // then
-        ReportHistory foundHistory = reportHistoryRepository.findById("HISTORY-013").orElseThrow();
+        ReportHistory foundHistory = reportHistoryRepository.findById(13L).orElseThrow();
         assertThat(foundHistory.getComment()).isEqualTo(longComment);
 		assertThat(foundHistory.getComment().length()).isEqualTo(2400);
     }
@@ -439,7 +439,7 @@ class ReportHistoryRepositoryTest {
     void prePersist_CreatedAtAutoSet() {
         // given
         ReportHistory history = ReportHistory.builder()
-                .historyId("HISTORY-014")
+                .historyId(14L)
                 .report(testReport)
                 .adminId("ADMIN-001")
                 .actionType(ActionType.REVIEWED)
@@ -453,7 +453,7 @@ class ReportHistoryRepositoryTest {
         entityManager.clear();
 
         // then
-        ReportHistory foundHistory = reportHistoryRepository.findById("HISTORY-014").orElseThrow();
+        ReportHistory foundHistory = reportHistoryRepository.findById(14L).orElseThrow();
         assertThat(foundHistory.getCreatedAt()).isNotNull();
         assertThat(foundHistory.getCreatedAt()).isBefore(LocalDateTime.now().plusSeconds(1));
     }
@@ -464,7 +464,7 @@ class ReportHistoryRepositoryTest {
         // given
         for (int i = 1; i <= 100; i++) {
             ReportHistory history = ReportHistory.createCommentAddedHistory(
-                    "HISTORY-BULK-" + i,
+                    10_000L + i,
                     testReport,
                     "ADMIN-001",
                     "대량 이력 " + i
@@ -485,9 +485,9 @@ class ReportHistoryRepositoryTest {
     @DisplayName("다양한 관리자가 처리한 이력")
     void histories_ByDifferentAdmins() {
         // given
-        ReportHistory history1 = ReportHistory.createReviewedHistory("H-ADMIN-1", testReport, "ADMIN-001", "관리자1");
-        ReportHistory history2 = ReportHistory.createReviewedHistory("H-ADMIN-2", testReport, "ADMIN-002", "관리자2");
-        ReportHistory history3 = ReportHistory.createReviewedHistory("H-ADMIN-3", testReport, "ADMIN-003", "관리자3");
+        ReportHistory history1 = ReportHistory.createReviewedHistory(101L, testReport, "ADMIN-001", "관리자1");
+        ReportHistory history2 = ReportHistory.createReviewedHistory(102L, testReport, "ADMIN-002", "관리자2");
+        ReportHistory history3 = ReportHistory.createReviewedHistory(103L, testReport, "ADMIN-003", "관리자3");
 
         // when
         reportHistoryRepository.saveAll(List.of(history1, history2, history3));
@@ -506,25 +506,25 @@ class ReportHistoryRepositoryTest {
     void completeWorkflowHistory() {
         // given - 전체 처리 과정
         ReportHistory created = ReportHistory.createStatusChangeHistory(
-                "H-WORKFLOW-1", testReport, null, null, ReportStatus.PENDING, "신고 접수"
+                401L, testReport, null, null, ReportStatus.PENDING, "신고 접수"
         );
         ReportHistory assigned = ReportHistory.createAssignedHistory(
-                "H-WORKFLOW-2", testReport, "ADMIN-001", "담당자 배정"
+                402L, testReport, "ADMIN-001", "담당자 배정"
         );
         ReportHistory reviewing = ReportHistory.createStatusChangeHistory(
-                "H-WORKFLOW-3", testReport, "ADMIN-001", ReportStatus.PENDING, ReportStatus.REVIEWING, "검토 시작"
+                403L, testReport, "ADMIN-001", ReportStatus.PENDING, ReportStatus.REVIEWING, "검토 시작"
         );
         ReportHistory commented = ReportHistory.createCommentAddedHistory(
-                "H-WORKFLOW-4", testReport, "ADMIN-001", "추가 확인 필요"
+                404L, testReport, "ADMIN-001", "추가 확인 필요"
         );
         ReportHistory reviewed = ReportHistory.createReviewedHistory(
-                "H-WORKFLOW-5", testReport, "ADMIN-001", "검토 완료"
+                405L, testReport, "ADMIN-001", "검토 완료"
         );
         ReportHistory approved = ReportHistory.createStatusChangeHistory(
-                "H-WORKFLOW-6", testReport, "ADMIN-001", ReportStatus.REVIEWING, ReportStatus.APPROVED, "승인"
+                406L, testReport, "ADMIN-001", ReportStatus.REVIEWING, ReportStatus.APPROVED, "승인"
         );
         ReportHistory sanctioned = ReportHistory.createSanctionAppliedHistory(
-                "H-WORKFLOW-7", testReport, "ADMIN-001", "7일 정지 적용"
+                407L, testReport, "ADMIN-001", "7일 정지 적용"
         );
 
         // when
@@ -0,0 +1,184 @@
+package com.teambind.supportserver.report.repository;
+
+import com.teambind.supportserver.common.config.IdConfig;
+import com.teambind.supportserver.common.config.QueryDslConfig;
+import com.teambind.supportserver.report.entity.Report;
+import com.teambind.supportserver.report.entity.ReportCategory;
+import com.teambind.supportserver.report.entity.ReportHistory;
+import com.teambind.supportserver.report.entity.enums.ActionType;
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
+import com.teambind.supportserver.report.entity.enums.ReportStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ReportJdbcRepository 통합 테스트
+ *
+ * <p>FOR UPDATE 구문 검증을 위해 임베디드 DB 대체 없이 MySQL 모드 H2(application-test.yaml)를 사용합니다.</p>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({ReportJdbcRepository.class, QueryDslConfig.class, IdConfig.class})
+@DisplayName("ReportJdbcRepository 통합 테스트")
+class ReportJdbcRepositoryTest {
+
+    @Autowired
+    private ReportJdbcRepository reportJdbcRepository;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private ReportHistoryRepository reportHistoryRepository;
+
+    @Autowired
+    private ReportCategoryRepository reportCategoryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private ReportCategory category;
+
+    @BeforeEach
+    void setUp() {
+        category = reportCategoryRepository.save(ReportCategory.of(ReferenceType.PROFILE, "SPAM"));
+        saveReport(1L, "USER-001", "TARGET-A", ReportStatus.PENDING);
+        saveReport(2L, "USER-002", "TARGET-A", ReportStatus.REVIEWING);
+        saveReport(3L, "USER-003", "TARGET-B", ReportStatus.REJECTED);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("신고 접수 - 선조회 없이 INSERT하고 같은 신고자/대상의 PENDING 신고가 있으면 false")
+    void insertIfAbsent() {
+        // given
+        Report report = newReport(10L, "USER-010", "TARGET-C");
+        Report duplicate = newReport(11L, "USER-010", "TARGET-C");
+        Report otherTarget = newReport(12L, "USER-010", "TARGET-D");
+
+        // when
+        boolean inserted = reportJdbcRepository.insertIfAbsent(report);
+        boolean duplicateInserted = reportJdbcRepository.insertIfAbsent(duplicate);
+        boolean otherInserted = reportJdbcRepository.insertIfAbsent(otherTarget);  // 중복 실패 후에도 트랜잭션 계속 사용 가능
+
+        // then
+        assertThat(inserted).isTrue();
+        assertThat(duplicateInserted).isFalse();
+        assertThat(otherInserted).isTrue();
+        Report found = reportRepository.findById(10L).orElseThrow();
+        assertThat(found.getStatus()).isEqualTo(ReportStatus.PENDING);
+        assertThat(found.getReferenceType()).isEqualTo(ReferenceType.PROFILE);
+        assertThat(found.getReportCategory()).isEqualTo("SPAM");
+        assertThat(reportRepository.findById(11L)).isEmpty();
+        assertThat(reportRepository.findByReporterIdAndReferenceTypeAndReportedIdAndStatus(
+                "USER-010", ReferenceType.PROFILE, "TARGET-C", ReportStatus.PENDING))
+                .map(Report::getReportId)
+                .contains(10L);
+    }
+
+    @Test
+    @DisplayName("잠금 조회 - IN 조회로 존재하는 신고의 현재 상태와 유니크 키 컬럼 반환")
+    void lockStatuses_ExistingOnly() {
+        // when
+        List<ReportStatusRow> rows = reportJdbcRepository.lockStatuses(List.of(1L, 3L, 999L));
+
+        // then
+        assertThat(rows)
+                .extracting(ReportStatusRow::reportId, ReportStatusRow::reporterId, ReportStatusRow::referenceType,
+                        ReportStatusRow::reportedId, ReportStatusRow::status)
+                .containsExactlyInAnyOrder(
+                        tuple(1L, "USER-001", ReferenceType.PROFILE, "TARGET-A", ReportStatus.PENDING),
+                        tuple(3L, "USER-003", ReferenceType.PROFILE, "TARGET-B", ReportStatus.REJECTED));
+        assertThat(reportJdbcRepository.lockStatuses(List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("유니크 키 조회 - 지정 상태이면서 신고 대상이 겹치는 신고의 키만 반환")
+    void findUniqueKeysByStatus() {
+        // when
+        Set<String> keys = reportJdbcRepository.findUniqueKeysByStatus(ReportStatus.REJECTED, Set.of("TARGET-A", "TARGET-B"));
+
+        // then
+        ReportStatusRow rejected = new ReportStatusRow(3L, "USER-003", ReferenceType.PROFILE, "TARGET-B", ReportStatus.REJECTED);
+        assertThat(keys).containsExactly(rejected.uniqueKey());
+        assertThat(reportJdbcRepository.findUniqueKeysByStatus(ReportStatus.APPROVED, Set.of("TARGET-A"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일괄 상태 변경 - 한 번의 UPDATE로 지정한 신고만 변경")
+    void updateStatus_OnlyGivenReports() {
+        // when
+        int updated = reportJdbcRepository.updateStatus(List.of(1L, 2L), ReportStatus.REJECTED);
+        entityManager.clear();
+
+        // then
+        assertThat(updated).isEqualTo(2);
+        assertThat(reportRepository.findById(1L).orElseThrow().getStatus()).isEqualTo(ReportStatus.REJECTED);
+        assertThat(reportRepository.findById(2L).orElseThrow().getStatus()).isEqualTo(ReportStatus.REJECTED);
+        assertThat(reportRepository.findById(3L).orElseThrow().getStatus()).isEqualTo(ReportStatus.REJECTED);
+        assertThat(reportJdbcRepository.updateStatus(List.of(), ReportStatus.REJECTED)).isZero();
+    }
+
+    @Test
+    @DisplayName("이력 일괄 기록 - 변경 전 상태와 함께 상태 변경 이력을 배치로 기록")
+    void appendStatusHistories() {
+        // given
+        List<ReportStatusRow> changes = reportJdbcRepository.lockStatuses(List.of(1L, 2L));
+        LocalDateTime now = LocalDateTime.of(2025, 1, 10, 12, 0);
+
+        // when
+        reportJdbcRepository.appendStatusHistories(changes, ReportStatus.REJECTED, "ADMIN-001", "일괄 기각", now);
+        entityManager.clear();
+
+        // then
+        List<ReportHistory> histories = reportHistoryRepository.findAll();
+        assertThat(histories)
+                .extracting(history -> history.getReport().getReportId(), ReportHistory::getPreviousStatus,
+                        ReportHistory::getNewStatus, ReportHistory::getActionType, ReportHistory::getAdminId,
+                        ReportHistory::getComment, ReportHistory::getCreatedAt)
+                .containsExactlyInAnyOrder(
+                        tuple(1L, ReportStatus.PENDING, ReportStatus.REJECTED, ActionType.STATUS_CHANGED, "ADMIN-001", "일괄 기각", now),
+                        tuple(2L, ReportStatus.REVIEWING, ReportStatus.REJECTED, ActionType.STATUS_CHANGED, "ADMIN-001", "일괄 기각", now));
+        assertThat(histories).extracting(ReportHistory::getHistoryId).doesNotHaveDuplicates();
+    }
+
+    private Report newReport(Long reportId, String reporterId, String reportedId) {
+        Report report = Report.builder()
+                .reportId(reportId)
+                .reporterId(reporterId)
+                .reportedId(reportedId)
+                .reason("테스트 신고")
+                .reportedAt(LocalDateTime.now())
+                .build();
+        report.setCategory(category);
+        return report;
+    }
+
+    private void saveReport(Long reportId, String reporterId, String reportedId, ReportStatus status) {
+        Report report = Report.builder()
+                .reportId(reportId)
+                .reporterId(reporterId)
+                .reportedId(reportedId)
+                .reason("테스트 신고")
+                .reportedAt(LocalDateTime.now())
+                .status(status)
+                .build();
+        report.setCategory(category);
+        entityManager.persist(report);
+    }
+}
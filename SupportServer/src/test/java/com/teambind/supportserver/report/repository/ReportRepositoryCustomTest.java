@@ -3,11 +3,14 @@ package com.teambind.supportserver.report.repository;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.teambind.supportserver.common.config.QueryDslConfig;
 import com.teambind.supportserver.report.dto.request.ReportSearchRequest;
+import com.teambind.supportserver.report.dto.response.ReportResponse;
 import com.teambind.supportserver.report.entity.Report;
 import com.teambind.supportserver.report.entity.ReportCategory;
 import com.teambind.supportserver.report.entity.enums.ReferenceType;
 import com.teambind.supportserver.report.entity.enums.ReportStatus;
+import com.teambind.supportserver.report.utils.ReportCursor;
 import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,6 +22,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -65,7 +69,7 @@ class ReportRepositoryCustomTest {
         // PENDING 상태 신고 (PROFILE)
         for (int i = 1; i <= 5; i++) {
             Report report = Report.builder()
-                    .reportId("PENDING-" + i)
+                    .reportId(100L + i)
                     .reporterId("USER-" + i)
                     .reportedId("TARGET-1")
                     .reason("PENDING 테스트 " + i)
@@ -79,7 +83,7 @@ class ReportRepositoryCustomTest {
         // REVIEWING 상태 신고 (PROFILE)
         for (int i = 1; i <= 3; i++) {
             Report report = Report.builder()
-                    .reportId("REVIEWING-" + i)
+                    .reportId(200L + i)
                     .reporterId("USER-" + (i + 10))
                     .reportedId("TARGET-2")
                     .reason("REVIEWING 테스트 " + i)
@@ -93,7 +97,7 @@ class ReportRepositoryCustomTest {
         // APPROVED 상태 신고 (ARTICLE)
         for (int i = 1; i <= 4; i++) {
             Report report = Report.builder()
-                    .reportId("APPROVED-" + i)
+                    .reportId(300L + i)
                     .reporterId("USER-" + (i + 20))
                     .reportedId("TARGET-3")
                     .reason("APPROVED 테스트 " + i)
@@ -107,7 +111,7 @@ class ReportRepositoryCustomTest {
         // REJECTED 상태 신고 (ARTICLE)
         for (int i = 1; i <= 2; i++) {
             Report report = Report.builder()
-                    .reportId("REJECTED-" + i)
+                    .reportId(400L + i)
                     .reporterId("USER-" + (i + 30))
                     .reportedId("TARGET-4")
                     .reason("REJECTED 테스트 " + i)
@@ -265,7 +269,8 @@ class ReportRepositoryCustomTest {
                 .build();
 
         List<Report> firstPage = reportRepository.findReportsWithCursor(firstRequest);
-        String cursor = firstPage.get(1).getReportedAt().toString(); // 두 번째 항목의 시간
+        LocalDateTime cursorTime = firstPage.get(1).getReportedAt(); // 두 번째 항목의 시간
+        String cursor = ReportCursor.encode(firstPage.get(1), ReportSearchRequest.SortType.REPORTED_AT);
 
         // when - 두 번째 페이지 조회
         ReportSearchRequest secondRequest = ReportSearchRequest.builder()
@@ -280,7 +285,127 @@ class ReportRepositoryCustomTest {
 
         // then
         assertThat(secondPage).isNotEmpty();
-        assertThat(secondPage.get(0).getReportedAt()).isBefore(LocalDateTime.parse(cursor));
+        assertThat(secondPage.get(0).getReportedAt()).isBefore(cursorTime);
+    }
+
+    @Test
+    @DisplayName("커서 페이징 - 동일 신고일 다수 존재 시 누락/중복 없음")
+    void findReportsWithCursor_SameReportedAt_NoSkipOrDuplicate() {
+        // given - 동일한 신고일을 가진 신고 7건 추가
+        LocalDateTime sameTime = LocalDateTime.of(2025, 6, 1, 12, 0);
+        for (int i = 1; i <= 7; i++) {
+            Report report = Report.builder()
+                    .reportId(900L + i)
+                    .reporterId("SAME-USER-" + i)
+                    .reportedId("TARGET-9")
+                    .reason("동일 시간 테스트 " + i)
+                    .reportedAt(sameTime)
+                    .status(ReportStatus.PENDING)
+                    .build();
+            report.setCategory(profileCategory);
+            reportRepository.save(report);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when - 페이지 크기 3으로 끝까지 순회
+        List<Long> visited = traverseAll(ReportSearchRequest.SortType.REPORTED_AT, ReportSearchRequest.SortDirection.DESC, 3);
+
+        // then
+        assertThat(visited).hasSize(21);
+        assertThat(visited).doesNotHaveDuplicates();
+        assertThat(visited.subList(0, 7))
+                .containsExactly(907L, 906L, 905L, 904L, 903L, 902L, 901L);
+    }
+
+    @Test
+    @DisplayName("커서 페이징 - 상태 기준 정렬 시 (status, reportId) 튜플 커서로 전체 순회")
+    void findReportsWithCursor_StatusCursor_TraversesAll() {
+        // when
+        List<Long> desc = traverseAll(ReportSearchRequest.SortType.STATUS, ReportSearchRequest.SortDirection.DESC, 4);
+        List<Long> asc = traverseAll(ReportSearchRequest.SortType.STATUS, ReportSearchRequest.SortDirection.ASC, 4);
+
+        // then
+        assertThat(desc).hasSize(14).doesNotHaveDuplicates();
+        assertThat(asc).hasSize(14).doesNotHaveDuplicates();
+        assertThat(asc).containsExactlyElementsOf(desc.reversed());
+    }
+
+    @Test
+    @DisplayName("커서 페이징 - 정렬 기준이 다른 커서는 무시")
+    void findReportsWithCursor_MismatchedCursor_Ignored() {
+        // given
+        Report any = reportRepository.findById(101L).orElseThrow();
+        ReportSearchRequest request = ReportSearchRequest.builder()
+                .sortType(ReportSearchRequest.SortType.REPORTED_AT)
+                .cursor(ReportCursor.encode(any, ReportSearchRequest.SortType.STATUS))
+                .size(20)
+                .build();
+
+        // when
+        List<Report> reports = reportRepository.findReportsWithCursor(request);
+
+        // then
+        assertThat(reports).hasSize(14);
+    }
+
+    private List<Long> traverseAll(ReportSearchRequest.SortType sortType,
+                                     ReportSearchRequest.SortDirection direction, int size) {
+        List<Long> visited = new ArrayList<>();
+        String cursor = null;
+        while (true) {
+            ReportSearchRequest request = ReportSearchRequest.builder()
+                    .sortType(sortType)
+                    .sortDirection(direction)
+                    .cursor(cursor)
+                    .size(size)
+                    .build();
+            List<Report> page = reportRepository.findReportsWithCursor(request);
+            List<Report> content = page.subList(0, Math.min(size, page.size()));
+            content.forEach(r -> visited.add(r.getReportId()));
+            if (page.size() <= size) {
+                return visited;
+            }
+            cursor = ReportCursor.encode(content.get(content.size() - 1), sortType);
+        }
+    }
+
+    @Test
+    @DisplayName("DTO 프로젝션 커서 페이징 - 엔티티 조회와 동일한 결과")
+    void findReportResponsesWithCursor_SameAsEntityQuery() {
+        // given
+        ReportSearchRequest request = ReportSearchRequest.builder()
+                .referenceType(ReferenceType.PROFILE)
+                .sortType(ReportSearchRequest.SortType.REPORTED_AT)
+                .sortDirection(ReportSearchRequest.SortDirection.DESC)
+                .size(5)
+                .build();
+
+        // when
+        List<ReportResponse> responses = reportRepository.findReportResponsesWithCursor(request);
+        List<Report> reports = reportRepository.findReportsWithCursor(request);
+
+        // then
+        assertThat(responses).hasSize(6); // size + 1
+        assertThat(responses).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(reports.stream().map(ReportResponse::from).toList());
+    }
+
+    @Test
+    @DisplayName("DTO 프로젝션 커서 페이징 - 영속성 컨텍스트에 엔티티를 올리지 않음")
+    void findReportResponsesWithCursor_NotManaged() {
+        // given
+        ReportSearchRequest request = ReportSearchRequest.builder()
+                .size(20)
+                .build();
+
+        // when
+        List<ReportResponse> responses = reportRepository.findReportResponsesWithCursor(request);
+
+        // then
+        assertThat(responses).hasSize(14);
+        assertThat(entityManager.getEntityManager().unwrap(Session.class)
+                .getStatistics().getEntityCount()).isZero();
     }
 
     @Test
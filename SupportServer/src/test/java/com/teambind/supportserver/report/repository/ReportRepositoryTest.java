@@ -37,6 +37,9 @@ class ReportRepositoryTest {
     @Autowired
     private ReportCategoryRepository reportCategoryRepository;
 
+    @Autowired
+    private ReportHistoryRepository reportHistoryRepository;
+
     @Autowired
     private TestEntityManager entityManager;
 
@@ -56,7 +59,7 @@ class ReportRepositoryTest {
     void saveReport_Success() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("스팸 계정입니다")
@@ -72,7 +75,7 @@ class ReportRepositoryTest {
 
         // then
         Report foundReport = reportRepository.findById(savedReport.getReportId()).orElseThrow();
-        assertThat(foundReport.getReportId()).isEqualTo("REPORT-001");
+        assertThat(foundReport.getReportId()).isEqualTo(1L);
         assertThat(foundReport.getReporterId()).isEqualTo("USER-001");
         assertThat(foundReport.getReportedId()).isEqualTo("USER-002");
         assertThat(foundReport.getReason()).isEqualTo("스팸 계정입니다");
@@ -84,7 +87,7 @@ class ReportRepositoryTest {
     void findById_Success() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-002")
+                .reportId(2L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("조회 테스트")
@@ -96,18 +99,18 @@ class ReportRepositoryTest {
         entityManager.clear();
 
         // when
-        Optional<Report> foundReport = reportRepository.findById("REPORT-002");
+        Optional<Report> foundReport = reportRepository.findById(2L);
 
         // then
         assertThat(foundReport).isPresent();
-        assertThat(foundReport.get().getReportId()).isEqualTo("REPORT-002");
+        assertThat(foundReport.get().getReportId()).isEqualTo(2L);
     }
 
     @Test
     @DisplayName("신고 조회 - 존재하지 않는 ID로 조회 시 empty 반환")
     void findById_NotFound() {
         // when
-        Optional<Report> foundReport = reportRepository.findById("NON-EXISTENT-ID");
+        Optional<Report> foundReport = reportRepository.findById(-1L);
 
         // then
         assertThat(foundReport).isEmpty();
@@ -118,7 +121,7 @@ class ReportRepositoryTest {
     void findAll_Success() {
         // given
         Report report1 = Report.builder()
-                .reportId("REPORT-003")
+                .reportId(3L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("신고1")
@@ -127,7 +130,7 @@ class ReportRepositoryTest {
         report1.setCategory(testCategory);
 
         Report report2 = Report.builder()
-                .reportId("REPORT-004")
+                .reportId(4L)
                 .reporterId("USER-003")
                 .reportedId("USER-004")
                 .reason("신고2")
@@ -152,7 +155,7 @@ class ReportRepositoryTest {
     void deleteReport_Success() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-005")
+                .reportId(5L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("삭제 테스트")
@@ -164,12 +167,12 @@ class ReportRepositoryTest {
         entityManager.clear();
 
         // when
-        reportRepository.deleteById("REPORT-005");
+        reportRepository.deleteById(5L);
         entityManager.flush();
         entityManager.clear();
 
         // then
-        Optional<Report> deletedReport = reportRepository.findById("REPORT-005");
+        Optional<Report> deletedReport = reportRepository.findById(5L);
         assertThat(deletedReport).isEmpty();
     }
 
@@ -178,7 +181,7 @@ class ReportRepositoryTest {
     void updateReport_StatusChange() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-006")
+                .reportId(6L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("상태 변경 테스트")
@@ -191,16 +194,18 @@ class ReportRepositoryTest {
         entityManager.clear();
 
         // when
-        Report foundReport = reportRepository.findById("REPORT-006").orElseThrow();
-        foundReport.approve("ADMIN-001", "승인 테스트", () -> "HISTORY-001");
+        Report foundReport = reportRepository.findById(6L).orElseThrow();
+        foundReport.approve("ADMIN-001", "승인 테스트", () -> 1L)
+                .ifPresent(reportHistoryRepository::save);
         reportRepository.save(foundReport);
         entityManager.flush();
         entityManager.clear();
 
         // then
-        Report updatedReport = reportRepository.findById("REPORT-006").orElseThrow();
+        Report updatedReport = reportRepository.findById(6L).orElseThrow();
         assertThat(updatedReport.getStatus()).isEqualTo(ReportStatus.APPROVED);
-        assertThat(updatedReport.getHistories()).isNotEmpty();
+        assertThat(updatedReport.getHistories()).hasSize(1);
+        assertThat(updatedReport.getHistories().get(0).getNewStatus()).isEqualTo(ReportStatus.APPROVED);
     }
 
 	
@@ -210,7 +215,7 @@ class ReportRepositoryTest {
 //    void uniqueConstraint_SameReporterAndReportedAndType_ThrowsException() {
 //        // given
 //        Report report1 = Report.builder()
-//                .reportId("REPORT-007")
+//                .reportId(7L)
 //                .reporterId("USER-001")
 //                .reportedId("USER-002")
 //                .reason("첫 번째 신고")
@@ -219,7 +224,7 @@ class ReportRepositoryTest {
 //        report1.setCategory(testCategory);
 //
 //        Report report2 = Report.builder()
-//                .reportId("REPORT-008")
+//                .reportId(8L)
 //                .reporterId("USER-001")
 //                .reportedId("USER-002")
 //                .reason("두 번째 신고")
@@ -243,7 +248,7 @@ class ReportRepositoryTest {
     void differentReporter_SameReported_SavesSuccessfully() {
         // given
         Report report1 = Report.builder()
-                .reportId("REPORT-009")
+                .reportId(9L)
                 .reporterId("USER-001")
                 .reportedId("USER-003")
                 .reason("첫 번째 신고")
@@ -252,7 +257,7 @@ class ReportRepositoryTest {
         report1.setCategory(testCategory);
 
         Report report2 = Report.builder()
-                .reportId("REPORT-010")
+                .reportId(10L)
                 .reporterId("USER-002")
                 .reportedId("USER-003")
                 .reason("두 번째 신고")
@@ -276,7 +281,7 @@ class ReportRepositoryTest {
     void reportCategory_RelationshipTest() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-011")
+                .reportId(11L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("카테고리 테스트")
@@ -288,7 +293,7 @@ class ReportRepositoryTest {
         entityManager.clear();
 
         // when
-        Report foundReport = reportRepository.findById("REPORT-011").orElseThrow();
+        Report foundReport = reportRepository.findById(11L).orElseThrow();
 
         // then
         assertThat(foundReport.getCategory()).isNotNull();
@@ -302,7 +307,7 @@ class ReportRepositoryTest {
         // given
         for (int i = 1; i <= 100; i++) {
             Report report = Report.builder()
-                    .reportId("REPORT-BULK-" + i)
+                    .reportId(10_000L + i)
                     .reporterId("USER-" + i)
                     .reportedId("USER-TARGET")
                     .reason("대량 신고 테스트 " + i)
@@ -326,7 +331,7 @@ class ReportRepositoryTest {
     void prePersist_ReportedAtAutoSet() {
         // given
         Report report = Report.builder()
-                .reportId("REPORT-012")
+                .reportId(12L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("PrePersist 테스트")
@@ -339,7 +344,7 @@ class ReportRepositoryTest {
         entityManager.clear();
 
         // then
-        Report foundReport = reportRepository.findById("REPORT-012").orElseThrow();
+        Report foundReport = reportRepository.findById(12L).orElseThrow();
         assertThat(foundReport.getReportedAt()).isNotNull();
         assertThat(foundReport.getReportedAt()).isBefore(LocalDateTime.now().plusSeconds(1));
     }
@@ -348,11 +353,11 @@ class ReportRepositoryTest {
     @DisplayName("다양한 ReportStatus로 신고 저장 및 조회")
     void saveReports_WithDifferentStatuses() {
         // given
-        Report pending = createReport("REPORT-STATUS-1", ReportStatus.PENDING);
-        Report reviewing = createReport("REPORT-STATUS-2", ReportStatus.REVIEWING);
-        Report approved = createReport("REPORT-STATUS-3", ReportStatus.APPROVED);
-        Report rejected = createReport("REPORT-STATUS-4", ReportStatus.REJECTED);
-        Report withdrawn = createReport("REPORT-STATUS-5", ReportStatus.WITHDRAWN);
+        Report pending = createReport(501L, ReportStatus.PENDING);
+        Report reviewing = createReport(502L, ReportStatus.REVIEWING);
+        Report approved = createReport(503L, ReportStatus.APPROVED);
+        Report rejected = createReport(504L, ReportStatus.REJECTED);
+        Report withdrawn = createReport(505L, ReportStatus.WITHDRAWN);
 
         reportRepository.saveAll(List.of(pending, reviewing, approved, rejected, withdrawn));
         entityManager.flush();
@@ -373,7 +378,7 @@ class ReportRepositoryTest {
                 );
     }
 
-    private Report createReport(String reportId, ReportStatus status) {
+    private Report createReport(Long reportId, ReportStatus status) {
         Report report = Report.builder()
                 .reportId(reportId)
                 .reporterId("USER-001")
@@ -0,0 +1,110 @@
+package com.teambind.supportserver.report.repository;
+
+import com.teambind.supportserver.common.config.IdConfig;
+import com.teambind.supportserver.common.config.QueryDslConfig;
+import com.teambind.supportserver.report.entity.ReportCategory;
+import com.teambind.supportserver.report.entity.ReportStatistics;
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ReportStatisticsJdbcRepository 통합 테스트
+ *
+ * <p>ON DUPLICATE KEY UPDATE 구문 검증을 위해 임베디드 DB 대체 없이 MySQL 모드 H2(application-test.yaml)를 사용합니다.</p>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({ReportStatisticsJdbcRepository.class, QueryDslConfig.class, IdConfig.class})
+@DisplayName("ReportStatisticsJdbcRepository 통합 테스트")
+class ReportStatisticsJdbcRepositoryTest {
+
+    @Autowired
+    private ReportStatisticsJdbcRepository reportStatisticsJdbcRepository;
+
+    @Autowired
+    private ReportStatisticsRepository reportStatisticsRepository;
+
+    @Autowired
+    private ReportCategoryRepository reportCategoryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        reportCategoryRepository.save(ReportCategory.of(ReferenceType.PROFILE, "SPAM"));
+        reportCategoryRepository.save(ReportCategory.of(ReferenceType.ARTICLE, "ABUSE"));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("배치 증분 - 최초 반영 시 행 생성")
+    void batchIncrement_Insert() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 10, 0);
+        List<ReportStatisticsDelta> deltas = List.of(
+                new ReportStatisticsDelta(ReferenceType.PROFILE, "USER-001", "SPAM", 3, now),
+                new ReportStatisticsDelta(ReferenceType.ARTICLE, "ARTICLE-001", "ABUSE", 1, now)
+        );
+
+        // when
+        reportStatisticsJdbcRepository.batchIncrement(deltas);
+
+        // then
+        ReportStatistics statistics = reportStatisticsRepository
+                .findByReferenceTypeAndReportedIdAndReportCategory(ReferenceType.PROFILE, "USER-001", "SPAM")
+                .orElseThrow();
+        assertThat(statistics.getReportCount()).isEqualTo(3);
+        assertThat(statistics.getLastReportedAt()).isEqualTo(now);
+        assertThat(reportStatisticsRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("배치 증분 - 기존 행은 조회 없이 누적 (ON DUPLICATE KEY UPDATE)")
+    void batchIncrement_Accumulate() {
+        // given
+        LocalDateTime first = LocalDateTime.of(2025, 1, 1, 10, 0);
+        LocalDateTime second = LocalDateTime.of(2025, 1, 1, 11, 0);
+        reportStatisticsJdbcRepository.batchIncrement(List.of(
+                new ReportStatisticsDelta(ReferenceType.PROFILE, "USER-001", "SPAM", 3, second)));
+
+        // when
+        reportStatisticsJdbcRepository.batchIncrement(List.of(
+                new ReportStatisticsDelta(ReferenceType.PROFILE, "USER-001", "SPAM", 5, first)));
+        entityManager.clear();
+
+        // then
+        ReportStatistics statistics = reportStatisticsRepository
+                .findByReferenceTypeAndReportedIdAndReportCategory(ReferenceType.PROFILE, "USER-001", "SPAM")
+                .orElseThrow();
+        assertThat(statistics.getReportCount()).isEqualTo(8);
+        assertThat(statistics.getLastReportedAt()).isEqualTo(second);
+        assertThat(reportStatisticsRepository.count()).isEqualTo(1);
+        assertThat(reportStatisticsRepository.sumReportCountByReportedId("USER-001")).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("배치 증분 - 빈 목록은 무시")
+    void batchIncrement_Empty() {
+        // when
+        reportStatisticsJdbcRepository.batchIncrement(List.of());
+
+        // then
+        assertThat(reportStatisticsRepository.count()).isZero();
+    }
+}
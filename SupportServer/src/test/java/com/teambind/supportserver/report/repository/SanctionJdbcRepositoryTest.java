@@ -0,0 +1,237 @@
+package com.teambind.supportserver.report.repository;
+
+import com.teambind.supportserver.common.config.IdConfig;
+import com.teambind.supportserver.common.config.QueryDslConfig;
+import com.teambind.supportserver.report.entity.Report;
+import com.teambind.supportserver.report.entity.ReportCategory;
+import com.teambind.supportserver.report.entity.Sanction;
+import com.teambind.supportserver.report.entity.SanctionTargetLock;
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
+import com.teambind.supportserver.report.entity.enums.SanctionEventType;
+import com.teambind.supportserver.report.entity.enums.SanctionStatus;
+import com.teambind.supportserver.report.entity.enums.SanctionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SanctionJdbcRepository 통합 테스트
+ *
+ * <p>LIMIT / FOR UPDATE 구문 검증을 위해 임베디드 DB 대체 없이 MySQL 모드 H2(application-test.yaml)를 사용합니다.</p>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({SanctionJdbcRepository.class, SanctionOutboxJdbcRepository.class, QueryDslConfig.class, IdConfig.class})
+@DisplayName("SanctionJdbcRepository 통합 테스트")
+class SanctionJdbcRepositoryTest {
+
+    @Autowired
+    private SanctionJdbcRepository sanctionJdbcRepository;
+
+    @Autowired
+    private SanctionRepository sanctionRepository;
+
+    @Autowired
+    private SanctionOutboxJdbcRepository sanctionOutboxJdbcRepository;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private ReportCategoryRepository reportCategoryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Report testReport;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        ReportCategory category = reportCategoryRepository.save(ReportCategory.of(ReferenceType.PROFILE, "SPAM"));
+        testReport = Report.builder()
+                .reportId(999L)
+                .reporterId("USER-001")
+                .reportedId("USER-002")
+                .reason("테스트 신고")
+                .reportedAt(LocalDateTime.now())
+                .build();
+        testReport.setCategory(category);
+        reportRepository.save(testReport);
+
+        now = LocalDateTime.of(2025, 1, 10, 0, 0);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("청크 만료 - 만료 시각이 지난 활성 제재만 만료 시각 순으로 처리")
+    void expireChunk_OnlyOverdueActive() {
+        // given
+        saveSanction(1L, "USER-A", now.minusDays(3), SanctionStatus.ACTIVE);
+        saveSanction(2L, "USER-B", now.minusDays(1), SanctionStatus.ACTIVE);
+        saveSanction(3L, "USER-C", now.plusDays(1), SanctionStatus.ACTIVE);
+        saveSanction(4L, "USER-D", now.minusDays(2), SanctionStatus.REVOKED);
+        saveSanction(5L, "USER-E", null, SanctionStatus.ACTIVE);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<SanctionTarget> expired = sanctionJdbcRepository.expireChunk(now, 10);
+
+        // then
+        assertThat(expired).containsExactly(
+                new SanctionTarget(1L, "USER-A"),
+                new SanctionTarget(2L, "USER-B"));
+        assertThat(statusOf(1L)).isEqualTo(SanctionStatus.EXPIRED);
+        assertThat(statusOf(2L)).isEqualTo(SanctionStatus.EXPIRED);
+        assertThat(statusOf(3L)).isEqualTo(SanctionStatus.ACTIVE);
+        assertThat(statusOf(4L)).isEqualTo(SanctionStatus.REVOKED);
+        assertThat(statusOf(5L)).isEqualTo(SanctionStatus.ACTIVE);
+        assertThat(sanctionOutboxJdbcRepository.findPending(10))
+                .extracting(SanctionOutboxMessage::sanctionId, SanctionOutboxMessage::eventType)
+                .containsExactly(
+                        tuple(1L, SanctionEventType.EXPIRED),
+                        tuple(2L, SanctionEventType.EXPIRED));
+    }
+
+    @Test
+    @DisplayName("청크 만료 - 청크 크기만큼만 처리하고 나머지는 다음 청크에서 처리")
+    void expireChunk_RespectsLimit() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            saveSanction(i + 1L, "USER-" + i, now.minusHours(5 - i), SanctionStatus.ACTIVE);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<SanctionTarget> first = sanctionJdbcRepository.expireChunk(now, 2);
+        List<SanctionTarget> second = sanctionJdbcRepository.expireChunk(now, 2);
+        List<SanctionTarget> third = sanctionJdbcRepository.expireChunk(now, 2);
+        List<SanctionTarget> fourth = sanctionJdbcRepository.expireChunk(now, 2);
+
+        // then
+        assertThat(first).extracting(SanctionTarget::sanctionId).containsExactly(1L, 2L);
+        assertThat(second).extracting(SanctionTarget::sanctionId).containsExactly(3L, 4L);
+        assertThat(third).extracting(SanctionTarget::sanctionId).containsExactly(5L);
+        assertThat(fourth).isEmpty();
+    }
+
+    @Test
+    @DisplayName("지연 측정 - 미처리 제재 중 가장 오래된 만료 시각 조회")
+    void findOldestOverdueExpiresAt() {
+        // given
+        saveSanction(1L, "USER-A", now.minusMinutes(30), SanctionStatus.ACTIVE);
+        saveSanction(2L, "USER-B", now.minusMinutes(10), SanctionStatus.ACTIVE);
+        saveSanction(3L, "USER-C", now.minusHours(2), SanctionStatus.EXPIRED);
+        entityManager.flush();
+
+        // when & then
+        assertThat(sanctionJdbcRepository.findOldestOverdueExpiresAt(now)).contains(now.minusMinutes(30));
+        assertThat(sanctionJdbcRepository.findOldestOverdueExpiresAt(now.minusHours(1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("ID 지정 만료 - 만료 시각이 지난 활성 제재만 처리")
+    void expireDue_OnlyActiveOverdue() {
+        // given
+        saveSanction(1L, "USER-A", now.minusSeconds(1), SanctionStatus.ACTIVE);
+        saveSanction(2L, "USER-B", now.minusSeconds(1), SanctionStatus.REVOKED);
+        saveSanction(3L, "USER-C", now.plusMinutes(1), SanctionStatus.ACTIVE);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<SanctionTarget> expired = sanctionJdbcRepository.expireDue(
+                List.of(1L, 2L, 3L), now);
+
+        // then
+        assertThat(expired).containsExactly(new SanctionTarget(1L, "USER-A"));
+        assertThat(statusOf(1L)).isEqualTo(SanctionStatus.EXPIRED);
+        assertThat(statusOf(2L)).isEqualTo(SanctionStatus.REVOKED);
+        assertThat(statusOf(3L)).isEqualTo(SanctionStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("만료 예정 조회 - (expires_at, sanction_id) 키셋 순서로 범위 내 활성 제재 조회")
+    void findUpcoming_KeysetOrder() {
+        // given
+        saveSanction(1L, "USER-A", now.plusMinutes(1), SanctionStatus.ACTIVE);
+        saveSanction(2L, "USER-B", now.plusMinutes(1), SanctionStatus.ACTIVE);
+        saveSanction(3L, "USER-C", now.plusMinutes(2), SanctionStatus.ACTIVE);
+        saveSanction(4L, "USER-D", now.plusMinutes(3), SanctionStatus.REVOKED);
+        saveSanction(5L, "USER-E", now.plusHours(2), SanctionStatus.ACTIVE);
+        entityManager.flush();
+
+        // when
+        List<SanctionExpiry> first = sanctionJdbcRepository.findUpcoming(now, 0L, now.plusHours(1), 2);
+        SanctionExpiry last = first.get(first.size() - 1);
+        List<SanctionExpiry> second = sanctionJdbcRepository.findUpcoming(
+                last.expiresAt(), last.sanctionId(), now.plusHours(1), 2);
+
+        // then
+        assertThat(first).extracting(SanctionExpiry::sanctionId).containsExactly(1L, 2L);
+        assertThat(second).extracting(SanctionExpiry::sanctionId).containsExactly(3L);
+        assertThat(second.get(0).expiresAt()).isEqualTo(now.plusMinutes(2));
+    }
+
+    @Test
+    @DisplayName("대상 잠금 - 대상당 한 행을 upsert하고 반복 잠금해도 행이 늘지 않음")
+    void lockTarget_UpsertsOneRowPerTarget() {
+        // when
+        sanctionJdbcRepository.lockTarget("USER-A");
+        sanctionJdbcRepository.lockTarget("USER-A");
+        sanctionJdbcRepository.lockTarget("USER-B");
+
+        // then
+        entityManager.clear();
+        assertThat(entityManager.find(SanctionTargetLock.class, "USER-A")).isNotNull();
+        assertThat(entityManager.getEntityManager()
+                .createQuery("select count(l) from SanctionTargetLock l", Long.class)
+                .getSingleResult()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("활성 제재 잠금 확인 - 같은 타입의 활성 제재만 존재로 판정")
+    void existsActiveForUpdate_OnlyActiveOfSameType() {
+        // given
+        saveSanction(1L, "USER-A", now.plusDays(1), SanctionStatus.ACTIVE);
+        saveSanction(2L, "USER-B", now.plusDays(1), SanctionStatus.REVOKED);
+        entityManager.flush();
+
+        // when & then
+        assertThat(sanctionJdbcRepository.existsActiveForUpdate("USER-A", SanctionType.SUSPENSION)).isTrue();
+        assertThat(sanctionJdbcRepository.existsActiveForUpdate("USER-A", SanctionType.WARNING)).isFalse();
+        assertThat(sanctionJdbcRepository.existsActiveForUpdate("USER-B", SanctionType.SUSPENSION)).isFalse();
+    }
+
+    private void saveSanction(Long sanctionId, String targetId, LocalDateTime expiresAt, SanctionStatus status) {
+        sanctionRepository.save(Sanction.builder()
+                .sanctionId(sanctionId)
+                .report(testReport)
+                .targetId(targetId)
+                .sanctionType(SanctionType.SUSPENSION)
+                .reason("테스트 제재")
+                .sanctionedAt(now.minusDays(7))
+                .expiresAt(expiresAt)
+                .status(status)
+                .build());
+    }
+
+    private SanctionStatus statusOf(Long sanctionId) {
+        entityManager.clear();
+        return sanctionRepository.findById(sanctionId).orElseThrow().getStatus();
+    }
+}
@@ -0,0 +1,112 @@
+package com.teambind.supportserver.report.repository;
+
+import com.teambind.supportserver.common.config.IdConfig;
+import com.teambind.supportserver.common.config.QueryDslConfig;
+import com.teambind.supportserver.report.entity.enums.SanctionEventType;
+import com.teambind.supportserver.report.entity.enums.SanctionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SanctionOutboxJdbcRepository 통합 테스트
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({SanctionOutboxJdbcRepository.class, QueryDslConfig.class, IdConfig.class})
+@DisplayName("SanctionOutboxJdbcRepository 통합 테스트")
+class SanctionOutboxJdbcRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    @Autowired
+    private SanctionOutboxJdbcRepository sanctionOutboxJdbcRepository;
+
+    @Test
+    @DisplayName("기록 및 조회 - 전송 대기 이벤트를 발생 순서대로 조회")
+    void appendAndFindPending() {
+        // given
+        sanctionOutboxJdbcRepository.append(List.of(
+                new SanctionOutboxMessage(null, SanctionEventType.APPLIED, 1L, "USER-A",
+                        SanctionType.SUSPENSION, NOW.plusDays(7), NOW),
+                new SanctionOutboxMessage(null, SanctionEventType.REVOKED, 1L, "USER-A",
+                        SanctionType.SUSPENSION, NOW.plusDays(7), NOW.plusMinutes(1)),
+                new SanctionOutboxMessage(null, SanctionEventType.EXPIRED, 2L, "USER-B",
+                        null, null, NOW.plusMinutes(2))));
+
+        // when
+        List<SanctionOutboxMessage> pending = sanctionOutboxJdbcRepository.findPending(10);
+
+        // then
+        assertThat(pending).extracting(SanctionOutboxMessage::eventType)
+                .containsExactly(SanctionEventType.APPLIED, SanctionEventType.REVOKED, SanctionEventType.EXPIRED);
+        assertThat(pending).extracting(SanctionOutboxMessage::eventId).isSorted().doesNotContainNull();
+        assertThat(pending.get(0).sanctionType()).isEqualTo(SanctionType.SUSPENSION);
+        assertThat(pending.get(0).expiresAt()).isEqualTo(NOW.plusDays(7));
+        assertThat(pending.get(2).sanctionType()).isNull();
+        assertThat(sanctionOutboxJdbcRepository.countPending()).isEqualTo(3);
+        assertThat(sanctionOutboxJdbcRepository.findOldestPendingOccurredAt()).contains(NOW);
+    }
+
+    @Test
+    @DisplayName("전송 완료 표시 - 완료된 이벤트는 대기 목록에서 제외되고 보관 기간 후 삭제")
+    void markSentAndPurge() {
+        // given
+        sanctionOutboxJdbcRepository.append(List.of(
+                new SanctionOutboxMessage(null, SanctionEventType.APPLIED, 1L, "USER-A",
+                        SanctionType.WARNING, null, NOW),
+                new SanctionOutboxMessage(null, SanctionEventType.APPLIED, 2L, "USER-B",
+                        SanctionType.WARNING, null, NOW)));
+        List<SanctionOutboxMessage> pending = sanctionOutboxJdbcRepository.findPending(10);
+
+        // when
+        int marked = sanctionOutboxJdbcRepository.markSent(List.of(pending.get(0).eventId()), NOW);
+        sanctionOutboxJdbcRepository.incrementAttempts(List.of(pending.get(1).eventId()));
+
+        // then
+        assertThat(marked).isEqualTo(1);
+        assertThat(sanctionOutboxJdbcRepository.findPending(10))
+                .extracting(SanctionOutboxMessage::sanctionId).containsExactly(2L);
+        assertThat(sanctionOutboxJdbcRepository.deleteSentBefore(NOW.minusMinutes(1), 100)).isZero();
+        assertThat(sanctionOutboxJdbcRepository.deleteSentBefore(NOW.plusMinutes(1), 100)).isEqualTo(1);
+        assertThat(sanctionOutboxJdbcRepository.countPending()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("릴레이 임대 - 보유 중에는 다른 인스턴스가 획득할 수 없고 보유자는 연장 가능")
+    void relayLease_ExclusiveAndRenewable() {
+        // when & then
+        assertThat(sanctionOutboxJdbcRepository.tryAcquireRelayLease("relay", "node-a", 60_000)).isTrue();
+        assertThat(sanctionOutboxJdbcRepository.tryAcquireRelayLease("relay", "node-b", 60_000)).isFalse();
+        assertThat(sanctionOutboxJdbcRepository.tryAcquireRelayLease("relay", "node-a", 60_000)).isTrue();
+    }
+
+    @Test
+    @DisplayName("릴레이 임대 - 만료되거나 반납되면 다른 인스턴스가 인수")
+    void relayLease_TakeoverAfterExpiryOrRelease() throws InterruptedException {
+        // given: 즉시 만료되는 임대
+        assertThat(sanctionOutboxJdbcRepository.tryAcquireRelayLease("relay", "node-a", 0)).isTrue();
+        Thread.sleep(5);
+
+        // when & then
+        assertThat(sanctionOutboxJdbcRepository.tryAcquireRelayLease("relay", "node-b", 60_000)).isTrue();
+        assertThat(sanctionOutboxJdbcRepository.tryAcquireRelayLease("relay", "node-a", 60_000)).isFalse();
+
+        sanctionOutboxJdbcRepository.releaseRelayLease("relay", "node-a");
+        assertThat(sanctionOutboxJdbcRepository.tryAcquireRelayLease("relay", "node-a", 60_000)).isFalse();
+
+        sanctionOutboxJdbcRepository.releaseRelayLease("relay", "node-b");
+        Thread.sleep(5);
+        assertThat(sanctionOutboxJdbcRepository.tryAcquireRelayLease("relay", "node-a", 60_000)).isTrue();
+    }
+}
@@ -7,12 +7,14 @@ import com.teambind.supportserver.report.entity.enums.ReferenceType;
 import com.teambind.supportserver.report.entity.enums.ReportStatus;
 import com.teambind.supportserver.report.entity.enums.SanctionStatus;
 import com.teambind.supportserver.report.entity.enums.SanctionType;
+import jakarta.persistence.LockModeType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 import com.teambind.supportserver.common.config.QueryDslConfig;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
@@ -53,7 +55,7 @@ class SanctionRepositoryTest {
         reportCategoryRepository.save(category);
 
         testReport = Report.builder()
-                .reportId("REPORT-TEST")
+                .reportId(999L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("테스트 신고")
@@ -73,7 +75,7 @@ class SanctionRepositoryTest {
         // given
         LocalDateTime now = LocalDateTime.now();
         Sanction sanction = Sanction.builder()
-                .sanctionId("SANCTION-001")
+                .sanctionId(1L)
                 .report(testReport)
                 .targetId("USER-002")
                 .sanctionType(SanctionType.SUSPENSION)
@@ -90,7 +92,7 @@ class SanctionRepositoryTest {
 
         // then
         Sanction foundSanction = sanctionRepository.findById(savedSanction.getSanctionId()).orElseThrow();
-        assertThat(foundSanction.getSanctionId()).isEqualTo("SANCTION-001");
+        assertThat(foundSanction.getSanctionId()).isEqualTo(1L);
         assertThat(foundSanction.getTargetId()).isEqualTo("USER-002");
         assertThat(foundSanction.getSanctionType()).isEqualTo(SanctionType.SUSPENSION);
         assertThat(foundSanction.getDuration()).isEqualTo(7);
@@ -98,12 +100,38 @@ class SanctionRepositoryTest {
         assertThat(foundSanction.getStatus()).isEqualTo(SanctionStatus.ACTIVE);
     }
 
+    @Test
+    @DisplayName("제재 조회 - 쓰기 잠금으로 조회")
+    void findByIdForUpdate_LocksRow() {
+        // given
+        Sanction sanction = Sanction.builder()
+                .sanctionId(3L)
+                .report(testReport)
+                .targetId("USER-002")
+                .sanctionType(SanctionType.SUSPENSION)
+                .reason("정지")
+                .duration(7)
+                .build();
+        sanctionRepository.save(sanction);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        Optional<Sanction> lockedSanction = sanctionRepository.findByIdForUpdate(3L);
+
+        // then
+        assertThat(lockedSanction).isPresent();
+        assertThat(entityManager.getEntityManager().getLockMode(lockedSanction.get()))
+                .isEqualTo(LockModeType.PESSIMISTIC_WRITE);
+        assertThat(sanctionRepository.findByIdForUpdate(999L)).isEmpty();
+    }
+
     @Test
     @DisplayName("제재 조회 - ID로 조회")
     void findById_Success() {
         // given
         Sanction sanction = Sanction.builder()
-                .sanctionId("SANCTION-002")
+                .sanctionId(2L)
                 .report(testReport)
                 .targetId("USER-002")
                 .sanctionType(SanctionType.WARNING)
@@ -115,18 +143,18 @@ class SanctionRepositoryTest {
         entityManager.clear();
 
         // when
-        Optional<Sanction> foundSanction = sanctionRepository.findById("SANCTION-002");
+        Optional<Sanction> foundSanction = sanctionRepository.findById(2L);
 
         // then
         assertThat(foundSanction).isPresent();
-        assertThat(foundSanction.get().getSanctionId()).isEqualTo("SANCTION-002");
+        assertThat(foundSanction.get().getSanctionId()).isEqualTo(2L);
     }
 
     @Test
     @DisplayName("제재 조회 - 존재하지 않는 ID로 조회 시 empty 반환")
     void findById_NotFound() {
         // when
-        Optional<Sanction> foundSanction = sanctionRepository.findById("NON-EXISTENT-ID");
+        Optional<Sanction> foundSanction = sanctionRepository.findById(-1L);
 
         // then
         assertThat(foundSanction).isEmpty();
@@ -137,7 +165,7 @@ class SanctionRepositoryTest {
     void findAll_Success() {
         // given
         Sanction sanction1 = Sanction.builder()
-                .sanctionId("SANCTION-003")
+                .sanctionId(3L)
                 .report(testReport)
                 .targetId("USER-002")
                 .sanctionType(SanctionType.WARNING)
@@ -146,7 +174,7 @@ class SanctionRepositoryTest {
                 .build();
 
         Sanction sanction2 = Sanction.builder()
-                .sanctionId("SANCTION-004")
+                .sanctionId(4L)
                 .report(testReport)
                 .targetId("USER-003")
                 .sanctionType(SanctionType.SUSPENSION)
@@ -173,7 +201,7 @@ class SanctionRepositoryTest {
     void deleteSanction_Success() {
         // given
         Sanction sanction = Sanction.builder()
-                .sanctionId("SANCTION-005")
+                .sanctionId(5L)
                 .report(testReport)
                 .targetId("USER-002")
                 .sanctionType(SanctionType.WARNING)
@@ -185,12 +213,12 @@ class SanctionRepositoryTest {
         entityManager.clear();
 
         // when
-        sanctionRepository.deleteById("SANCTION-005");
+        sanctionRepository.deleteById(5L);
         entityManager.flush();
         entityManager.clear();
 
         // then
-        Optional<Sanction> deletedSanction = sanctionRepository.findById("SANCTION-005");
+        Optional<Sanction> deletedSanction = sanctionRepository.findById(5L);
         assertThat(deletedSanction).isEmpty();
     }
 
@@ -199,7 +227,7 @@ class SanctionRepositoryTest {
     void updateSanction_StatusChange() {
         // given
         Sanction sanction = Sanction.builder()
-                .sanctionId("SANCTION-006")
+                .sanctionId(6L)
                 .report(testReport)
                 .targetId("USER-002")
                 .sanctionType(SanctionType.SUSPENSION)
@@ -214,14 +242,14 @@ class SanctionRepositoryTest {
         entityManager.clear();
 
         // when
-        Sanction foundSanction = sanctionRepository.findById("SANCTION-006").orElseThrow();
+        Sanction foundSanction = sanctionRepository.findById(6L).orElseThrow();
         foundSanction.revoke();
         sanctionRepository.save(foundSanction);
         entityManager.flush();
         entityManager.clear();
 
         // then
-        Sanction updatedSanction = sanctionRepository.findById("SANCTION-006").orElseThrow();
+        Sanction updatedSanction = sanctionRepository.findById(6L).orElseThrow();
         assertThat(updatedSanction.getStatus()).isEqualTo(SanctionStatus.REVOKED);
     }
 
@@ -230,7 +258,7 @@ class SanctionRepositoryTest {
     void reportRelationship_Test() {
         // given
         Sanction sanction = Sanction.builder()
-                .sanctionId("SANCTION-007")
+                .sanctionId(7L)
                 .report(testReport)
                 .targetId("USER-002")
                 .sanctionType(SanctionType.WARNING)
@@ -242,20 +270,20 @@ class SanctionRepositoryTest {
         entityManager.clear();
 
         // when
-        Sanction foundSanction = sanctionRepository.findById("SANCTION-007").orElseThrow();
+        Sanction foundSanction = sanctionRepository.findById(7L).orElseThrow();
 
         // then
         assertThat(foundSanction.getReport()).isNotNull();
-        assertThat(foundSanction.getReport().getReportId()).isEqualTo("REPORT-TEST");
+        assertThat(foundSanction.getReport().getReportId()).isEqualTo(999L);
     }
 
     @Test
     @DisplayName("다양한 제재 타입 저장 및 조회")
     void saveSanctions_WithDifferentTypes() {
         // given
-        Sanction warning = createSanction("SANCTION-TYPE-1", SanctionType.WARNING, null);
-        Sanction suspension = createSanction("SANCTION-TYPE-2", SanctionType.SUSPENSION, 7);
-        Sanction permanentBan = createSanction("SANCTION-TYPE-3", SanctionType.PERMANENT_BAN, null);
+        Sanction warning = createSanction(301L, SanctionType.WARNING, null);
+        Sanction suspension = createSanction(302L, SanctionType.SUSPENSION, 7);
+        Sanction permanentBan = createSanction(303L, SanctionType.PERMANENT_BAN, null);
 
         sanctionRepository.saveAll(List.of(warning, suspension, permanentBan));
         entityManager.flush();
@@ -278,9 +306,9 @@ class SanctionRepositoryTest {
     @DisplayName("다양한 제재 상태 저장 및 조회")
     void saveSanctions_WithDifferentStatuses() {
         // given
-        Sanction active = createSanctionWithStatus("SANCTION-STATUS-1", SanctionStatus.ACTIVE);
-        Sanction expired = createSanctionWithStatus("SANCTION-STATUS-2", SanctionStatus.EXPIRED);
-        Sanction revoked = createSanctionWithStatus("SANCTION-STATUS-3", SanctionStatus.REVOKED);
+        Sanction active = createSanctionWithStatus(501L, SanctionStatus.ACTIVE);
+        Sanction expired = createSanctionWithStatus(502L, SanctionStatus.EXPIRED);
+        Sanction revoked = createSanctionWithStatus(503L, SanctionStatus.REVOKED);
 
         sanctionRepository.saveAll(List.of(active, expired, revoked));
         entityManager.flush();
@@ -304,7 +332,7 @@ class SanctionRepositoryTest {
     void prePersist_SanctionedAtAutoSet() {
         // given
         Sanction sanction = Sanction.builder()
-                .sanctionId("SANCTION-008")
+                .sanctionId(8L)
                 .report(testReport)
                 .targetId("USER-002")
                 .sanctionType(SanctionType.WARNING)
@@ -317,7 +345,7 @@ class SanctionRepositoryTest {
         entityManager.clear();
 
         // then
-        Sanction foundSanction = sanctionRepository.findById("SANCTION-008").orElseThrow();
+        Sanction foundSanction = sanctionRepository.findById(8L).orElseThrow();
         assertThat(foundSanction.getSanctionedAt()).isNotNull();
         assertThat(foundSanction.getSanctionedAt()).isBefore(LocalDateTime.now().plusSeconds(1));
     }
@@ -328,7 +356,7 @@ class SanctionRepositoryTest {
         // given
         LocalDateTime now = LocalDateTime.now();
         Sanction sanction = Sanction.builder()
-                .sanctionId("SANCTION-009")
+                .sanctionId(9L)
                 .report(testReport)
                 .targetId("USER-002")
                 .sanctionType(SanctionType.SUSPENSION)
@@ -343,7 +371,7 @@ class SanctionRepositoryTest {
         entityManager.clear();
 
         // then
-        Sanction foundSanction = sanctionRepository.findById("SANCTION-009").orElseThrow();
+        Sanction foundSanction = sanctionRepository.findById(9L).orElseThrow();
         assertThat(foundSanction.getExpiresAt()).isNotNull();
         assertThat(foundSanction.getExpiresAt()).isAfterOrEqualTo(now.plusDays(7).minusSeconds(1));
     }
@@ -353,7 +381,7 @@ class SanctionRepositoryTest {
     void permanentBan_ExpiresAtIsNull() {
         // given
         Sanction sanction = Sanction.builder()
-                .sanctionId("SANCTION-010")
+                .sanctionId(10L)
                 .report(testReport)
                 .targetId("USER-002")
                 .sanctionType(SanctionType.PERMANENT_BAN)
@@ -367,7 +395,7 @@ class SanctionRepositoryTest {
         entityManager.clear();
 
         // then
-        Sanction foundSanction = sanctionRepository.findById("SANCTION-010").orElseThrow();
+        Sanction foundSanction = sanctionRepository.findById(10L).orElseThrow();
         assertThat(foundSanction.getExpiresAt()).isNull();
         assertThat(foundSanction.isPermanent()).isTrue();
     }
@@ -378,7 +406,7 @@ class SanctionRepositoryTest {
         // given
         for (int i = 1; i <= 100; i++) {
             Sanction sanction = Sanction.builder()
-                    .sanctionId("SANCTION-BULK-" + i)
+                    .sanctionId(10_000L + i)
                     .report(testReport)
                     .targetId("USER-" + i)
                     .sanctionType(SanctionType.WARNING)
@@ -401,9 +429,9 @@ class SanctionRepositoryTest {
     @DisplayName("제재 기간별 조회 테스트")
     void sanctions_ByDuration() {
         // given
-        Sanction shortSanction = createSanction("SANCTION-DUR-1", SanctionType.SUSPENSION, 1);
-        Sanction mediumSanction = createSanction("SANCTION-DUR-2", SanctionType.SUSPENSION, 7);
-        Sanction longSanction = createSanction("SANCTION-DUR-3", SanctionType.SUSPENSION, 30);
+        Sanction shortSanction = createSanction(601L, SanctionType.SUSPENSION, 1);
+        Sanction mediumSanction = createSanction(602L, SanctionType.SUSPENSION, 7);
+        Sanction longSanction = createSanction(603L, SanctionType.SUSPENSION, 30);
 
         sanctionRepository.saveAll(List.of(shortSanction, mediumSanction, longSanction));
         entityManager.flush();
@@ -418,7 +446,34 @@ class SanctionRepositoryTest {
                 .containsExactlyInAnyOrder(1, 7, 30);
     }
 
-    private Sanction createSanction(String sanctionId, SanctionType type, Integer duration) {
+    @Test
+    @DisplayName("활성 제재 대상 청크 조회 - sanctionId 키셋으로 누락 없이 순회")
+    void findTargetsByStatusAfter_KeysetChunks() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            sanctionRepository.save(createSanctionWithStatus(i + 1L, SanctionStatus.ACTIVE));
+        }
+        sanctionRepository.save(createSanctionWithStatus(10L, SanctionStatus.REVOKED));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<SanctionTarget> first = sanctionRepository.findTargetsByStatusAfter(
+                SanctionStatus.ACTIVE, 0L, PageRequest.of(0, 2));
+        List<SanctionTarget> second = sanctionRepository.findTargetsByStatusAfter(
+                SanctionStatus.ACTIVE, first.get(1).sanctionId(), PageRequest.of(0, 2));
+        List<SanctionTarget> last = sanctionRepository.findTargetsByStatusAfter(
+                SanctionStatus.ACTIVE, second.get(1).sanctionId(), PageRequest.of(0, 2));
+
+        // then
+        assertThat(first).extracting(SanctionTarget::sanctionId).containsExactly(1L, 2L);
+        assertThat(second).extracting(SanctionTarget::sanctionId).containsExactly(3L, 4L);
+        assertThat(last).extracting(SanctionTarget::sanctionId).containsExactly(5L);
+        assertThat(last).extracting(SanctionTarget::targetId).containsExactly("USER-002");
+        assertThat(sanctionRepository.countByStatus(SanctionStatus.ACTIVE)).isEqualTo(5);
+    }
+
+    private Sanction createSanction(Long sanctionId, SanctionType type, Integer duration) {
         LocalDateTime now = LocalDateTime.now();
         return Sanction.builder()
                 .sanctionId(sanctionId)
@@ -432,7 +487,7 @@ class SanctionRepositoryTest {
                 .build();
     }
 
-    private Sanction createSanctionWithStatus(String sanctionId, SanctionStatus status) {
+    private Sanction createSanctionWithStatus(Long sanctionId, SanctionStatus status) {
         return Sanction.builder()
                 .sanctionId(sanctionId)
                 .report(testReport)
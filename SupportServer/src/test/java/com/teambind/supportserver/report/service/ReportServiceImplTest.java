@@ -3,29 +3,41 @@ package com.teambind.supportserver.report.service;
 import com.teambind.supportserver.report.dto.request.ReportRequest;
 import com.teambind.supportserver.report.dto.request.ReportSearchRequest;
 import com.teambind.supportserver.report.dto.response.CursorPageResponse;
+import com.teambind.supportserver.report.dto.response.ReportBulkStatusUpdateResponse;
+import com.teambind.supportserver.report.dto.response.ReportBulkStatusUpdateResponse.Outcome;
 import com.teambind.supportserver.report.dto.response.ReportResponse;
 import com.teambind.supportserver.report.entity.Report;
 import com.teambind.supportserver.report.entity.ReportCategory;
+import com.teambind.supportserver.report.entity.ReportHistory;
 import com.teambind.supportserver.report.entity.embeddable.ReportCategoryId;
 import com.teambind.supportserver.report.entity.enums.ReferenceType;
 import com.teambind.supportserver.report.entity.enums.ReportStatus;
 import com.teambind.supportserver.report.exceptions.ErrorCode;
 import com.teambind.supportserver.report.exceptions.ReportException;
+import com.teambind.supportserver.report.repository.ReportHistoryRepository;
+import com.teambind.supportserver.report.repository.ReportJdbcRepository;
 import com.teambind.supportserver.report.repository.ReportRepository;
+import com.teambind.supportserver.report.repository.ReportStatusRow;
 import com.teambind.supportserver.common.utils.IdGenerator;
 import com.teambind.supportserver.report.utils.ReportCategoryCache;
+import com.teambind.supportserver.report.utils.ReportCursor;
+import com.teambind.supportserver.report.utils.ReportSubmissionWindow;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -41,9 +53,24 @@ class ReportServiceImplTest {
     @Mock
     private ReportRepository reportRepository;
 
+    @Mock
+    private ReportHistoryRepository reportHistoryRepository;
+
+    @Mock
+    private ReportJdbcRepository reportJdbcRepository;
+
     @Mock
     private ReportCategoryCache reportCategoryCache;
 
+    @Mock
+    private ReportSubmissionWindow reportSubmissionWindow;
+
+    @Mock
+    private ReportStatisticsService reportStatisticsService;
+
+    @Mock
+    private SanctionService sanctionService;
+
     @Mock
     private IdGenerator idGenerator;
 
@@ -60,7 +87,7 @@ class ReportServiceImplTest {
                 .build();
 
         testReport = Report.builder()
-                .reportId("REPORT-001")
+                .reportId(1L)
                 .reporterId("USER-001")
                 .reportedId("USER-002")
                 .reason("테스트 신고")
@@ -85,17 +112,118 @@ class ReportServiceImplTest {
 
         given(reportCategoryCache.get(ReferenceType.PROFILE, "SPAM"))
                 .willReturn(Optional.of(testCategory));
-        given(idGenerator.generateId()).willReturn("123456789");
-        given(reportRepository.save(any(Report.class))).willReturn(testReport);
+        given(idGenerator.generateLongId()).willReturn(123456789L);
+        given(reportJdbcRepository.insertIfAbsent(any(Report.class))).willReturn(true);
 
         // when
-        Report result = reportService.createReport(request);
+        ReportResponse result = reportService.createReport(request);
 
         // then
         assertThat(result).isNotNull();
+        assertThat(result.getReportId()).isEqualTo("123456789");
         assertThat(result.getReporterId()).isEqualTo("USER-001");
         assertThat(result.getReportedId()).isEqualTo("USER-002");
-        verify(reportRepository, times(1)).save(any(Report.class));
+        assertThat(result.getStatus()).isEqualTo(ReportStatus.PENDING);
+        assertThat(result.getDuplicate()).isNull();
+        verify(reportJdbcRepository, times(1)).insertIfAbsent(any(Report.class));
+        verify(reportRepository, never()).save(any(Report.class));
+        verify(reportStatisticsService, times(1)).incrementReportCount(ReferenceType.PROFILE, "USER-002", "SPAM");
+        verify(sanctionService, times(1)).applyAutoSanction(123456789L, ReferenceType.PROFILE, "SPAM", "USER-002");
+        verify(reportSubmissionWindow, times(1)).record(result);
+    }
+
+    @Test
+    @DisplayName("신고 등록 - 제출 윈도우는 커밋 이후에만 기록하고 롤백되면 기록하지 않음")
+    void createReport_RecordsSubmissionWindowAfterCommit() {
+        // given
+        ReportRequest request = ReportRequest.builder()
+                .reporterId("USER-001")
+                .reportedId("USER-002")
+                .referenceType(ReferenceType.PROFILE)
+                .reportCategory("SPAM")
+                .reason("테스트 신고")
+                .build();
+        given(reportCategoryCache.get(ReferenceType.PROFILE, "SPAM"))
+                .willReturn(Optional.of(testCategory));
+        given(idGenerator.generateLongId()).willReturn(123456789L, 123456790L);
+        given(reportJdbcRepository.insertIfAbsent(any(Report.class))).willReturn(true);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when: 롤백
+            reportService.createReport(request);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            TransactionSynchronizationManager.clearSynchronization();
+
+            // then
+            verify(reportSubmissionWindow, never()).record(any());
+
+            // when: 커밋
+            TransactionSynchronizationManager.initSynchronization();
+            ReportResponse committed = reportService.createReport(request);
+            verify(reportSubmissionWindow, never()).record(any());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // then
+            verify(reportSubmissionWindow, times(1)).record(committed);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("신고 등록 - 유니크 키 중복이면 기존 신고를 중복으로 반환하고 통계/제재는 건너뜀")
+    void createReport_DuplicateInDatabase_ReturnsExisting() {
+        // given
+        ReportRequest request = ReportRequest.builder()
+                .reporterId("USER-001")
+                .reportedId("USER-002")
+                .referenceType(ReferenceType.PROFILE)
+                .reportCategory("SPAM")
+                .reason("테스트 신고")
+                .build();
+
+        given(reportCategoryCache.get(ReferenceType.PROFILE, "SPAM"))
+                .willReturn(Optional.of(testCategory));
+        given(idGenerator.generateLongId()).willReturn(123456789L);
+        given(reportJdbcRepository.insertIfAbsent(any(Report.class))).willReturn(false);
+        given(reportRepository.findByReporterIdAndReferenceTypeAndReportedIdAndStatus(
+                "USER-001", ReferenceType.PROFILE, "USER-002", ReportStatus.PENDING))
+                .willReturn(Optional.of(testReport));
+
+        // when
+        ReportResponse result = reportService.createReport(request);
+
+        // then
+        assertThat(result.getReportId()).isEqualTo("1");
+        assertThat(result.getDuplicate()).isTrue();
+        verify(reportSubmissionWindow, times(1)).record(argThat(response -> "1".equals(response.getReportId())));
+        verifyNoInteractions(reportStatisticsService, sanctionService);
+    }
+
+    @Test
+    @DisplayName("신고 등록 - 중복 제출 창 안의 재제출은 DB 접근 없이 직전 결과 반환")
+    void createReport_WithinSubmissionWindow_NoDatabaseAccess() {
+        // given
+        ReportRequest request = ReportRequest.builder()
+                .reporterId("USER-001")
+                .reportedId("USER-002")
+                .referenceType(ReferenceType.PROFILE)
+                .reportCategory("SPAM")
+                .reason("테스트 신고")
+                .build();
+        ReportResponse previous = ReportResponse.from(testReport).asDuplicate();
+        given(reportSubmissionWindow.find("USER-001", ReferenceType.PROFILE, "USER-002"))
+                .willReturn(Optional.of(previous));
+
+        // when
+        ReportResponse result = reportService.createReport(request);
+
+        // then
+        assertThat(result).isSameAs(previous);
+        verifyNoInteractions(reportJdbcRepository, reportRepository, reportCategoryCache, idGenerator,
+                reportStatisticsService, sanctionService);
     }
 
     @Test
@@ -123,14 +251,14 @@ class ReportServiceImplTest {
     @DisplayName("신고 상세 조회 - 성공")
     void getReportById_Success() {
         // given
-        given(reportRepository.findById("REPORT-001")).willReturn(Optional.of(testReport));
+        given(reportRepository.findById(1L)).willReturn(Optional.of(testReport));
 
         // when
-        ReportResponse result = reportService.getReportById("REPORT-001");
+        ReportResponse result = reportService.getReportById("1");
 
         // then
         assertThat(result).isNotNull();
-        assertThat(result.getReportId()).isEqualTo("REPORT-001");
+        assertThat(result.getReportId()).isEqualTo("1");
         assertThat(result.getReporterId()).isEqualTo("USER-001");
     }
 
@@ -138,87 +266,101 @@ class ReportServiceImplTest {
     @DisplayName("신고 상세 조회 - 없음 예외")
     void getReportById_NotFound() {
         // given
-        given(reportRepository.findById("INVALID-ID")).willReturn(Optional.empty());
+        given(reportRepository.findById(999L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> reportService.getReportById("999"))
+                .isInstanceOf(ReportException.class)
+                .hasMessageContaining(ErrorCode.REPORT_NOT_FOUND.getMessage());
+    }
 
+    @Test
+    @DisplayName("신고 상세 조회 - 숫자가 아닌 ID는 조회 없이 없음 예외")
+    void getReportById_NonNumericId() {
         // when & then
         assertThatThrownBy(() -> reportService.getReportById("INVALID-ID"))
                 .isInstanceOf(ReportException.class)
                 .hasMessageContaining(ErrorCode.REPORT_NOT_FOUND.getMessage());
+        verify(reportRepository, never()).findById(anyLong());
     }
 
     @Test
-    @DisplayName("신고 상태 변경 - 성공 (히스토리 자동 생성)")
+    @DisplayName("신고 상태 변경 - 성공 (히스토리 추가 저장)")
     void updateReportStatus_Success() {
         // given
-        given(reportRepository.findById("REPORT-001")).willReturn(Optional.of(testReport));
-        given(idGenerator.generateId()).willReturn("HISTORY-001");
+        given(reportRepository.findById(1L)).willReturn(Optional.of(testReport));
+        given(idGenerator.generateLongId()).willReturn(1L);
 
         // when
-        reportService.updateReportStatus("REPORT-001", ReportStatus.REVIEWING, "ADMIN-001", "검토 시작");
+        reportService.updateReportStatus("1", ReportStatus.REVIEWING, "ADMIN-001", "검토 시작");
 
         // then
         assertThat(testReport.getStatus()).isEqualTo(ReportStatus.REVIEWING);
-        assertThat(testReport.getHistories()).hasSize(1);
-        assertThat(testReport.getHistories().get(0).getNewStatus()).isEqualTo(ReportStatus.REVIEWING);
-        assertThat(testReport.getHistories().get(0).getPreviousStatus()).isEqualTo(ReportStatus.PENDING);
-        verify(reportRepository, times(1)).findById("REPORT-001");
+        ArgumentCaptor<ReportHistory> captor = ArgumentCaptor.forClass(ReportHistory.class);
+        verify(reportHistoryRepository).save(captor.capture());
+        assertThat(captor.getValue().getNewStatus()).isEqualTo(ReportStatus.REVIEWING);
+        assertThat(captor.getValue().getPreviousStatus()).isEqualTo(ReportStatus.PENDING);
+        assertThat(testReport.getHistories()).isEmpty(); // 이력 컬렉션을 로드하지 않고 추가 저장만 함
+        verify(reportRepository, times(1)).findById(1L);
     }
 
     @Test
-    @DisplayName("신고 승인 - 성공 (히스토리 자동 생성)")
+    @DisplayName("신고 승인 - 성공 (히스토리 추가 저장)")
     void approveReport_Success() {
         // given
-        given(reportRepository.findById("REPORT-001")).willReturn(Optional.of(testReport));
-        given(idGenerator.generateId()).willReturn("HISTORY-001");
+        given(reportRepository.findById(1L)).willReturn(Optional.of(testReport));
+        given(idGenerator.generateLongId()).willReturn(1L);
 
         // when
-        reportService.approveReport("REPORT-001", "ADMIN-001");
+        reportService.approveReport("1", "ADMIN-001");
 
         // then
         assertThat(testReport.getStatus()).isEqualTo(ReportStatus.APPROVED);
-        assertThat(testReport.getHistories()).hasSize(1);
-        assertThat(testReport.getHistories().get(0).getAdminId()).isEqualTo("ADMIN-001");
+        ArgumentCaptor<ReportHistory> captor = ArgumentCaptor.forClass(ReportHistory.class);
+        verify(reportHistoryRepository).save(captor.capture());
+        assertThat(captor.getValue().getAdminId()).isEqualTo("ADMIN-001");
     }
 
     @Test
-    @DisplayName("신고 거부 - 성공 (히스토리 자동 생성)")
+    @DisplayName("신고 거부 - 성공 (히스토리 추가 저장)")
     void rejectReport_Success() {
         // given
-        given(reportRepository.findById("REPORT-001")).willReturn(Optional.of(testReport));
-        given(idGenerator.generateId()).willReturn("HISTORY-001");
+        given(reportRepository.findById(1L)).willReturn(Optional.of(testReport));
+        given(idGenerator.generateLongId()).willReturn(1L);
 
         // when
-        reportService.rejectReport("REPORT-001", "ADMIN-001", "부적절한 신고");
+        reportService.rejectReport("1", "ADMIN-001", "부적절한 신고");
 
         // then
         assertThat(testReport.getStatus()).isEqualTo(ReportStatus.REJECTED);
-        assertThat(testReport.getHistories()).hasSize(1);
-        assertThat(testReport.getHistories().get(0).getComment()).isEqualTo("부적절한 신고");
+        ArgumentCaptor<ReportHistory> captor = ArgumentCaptor.forClass(ReportHistory.class);
+        verify(reportHistoryRepository).save(captor.capture());
+        assertThat(captor.getValue().getComment()).isEqualTo("부적절한 신고");
     }
 
     @Test
-    @DisplayName("신고 철회 - 성공 (히스토리 자동 생성)")
+    @DisplayName("신고 철회 - 성공 (히스토리 추가 저장)")
     void withdrawReport_Success() {
         // given
-        given(reportRepository.findById("REPORT-001")).willReturn(Optional.of(testReport));
-        given(idGenerator.generateId()).willReturn("HISTORY-001");
+        given(reportRepository.findById(1L)).willReturn(Optional.of(testReport));
+        given(idGenerator.generateLongId()).willReturn(1L);
 
         // when
-        reportService.withdrawReport("REPORT-001", "USER-001");
+        reportService.withdrawReport("1", "USER-001");
 
         // then
         assertThat(testReport.getStatus()).isEqualTo(ReportStatus.WITHDRAWN);
-        assertThat(testReport.getHistories()).hasSize(1);
+        verify(reportHistoryRepository).save(any(ReportHistory.class));
     }
 
     @Test
     @DisplayName("신고 철회 - 본인 아님 예외")
     void withdrawReport_NotOwner() {
         // given
-        given(reportRepository.findById("REPORT-001")).willReturn(Optional.of(testReport));
+        given(reportRepository.findById(1L)).willReturn(Optional.of(testReport));
 
         // when & then
-        assertThatThrownBy(() -> reportService.withdrawReport("REPORT-001", "OTHER-USER"))
+        assertThatThrownBy(() -> reportService.withdrawReport("1", "OTHER-USER"))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Only the reporter can withdraw this report");
     }
@@ -227,16 +369,84 @@ class ReportServiceImplTest {
     @DisplayName("신고 철회 - 대기 상태 아님 예외")
     void withdrawReport_NotPending() {
         // given
-        given(idGenerator.generateId()).willReturn("HISTORY-001");
-        testReport.approve("ADMIN-001", "승인", idGenerator::generateId); // APPROVED 상태로 변경
-        given(reportRepository.findById("REPORT-001")).willReturn(Optional.of(testReport));
+        given(idGenerator.generateLongId()).willReturn(1L);
+        testReport.approve("ADMIN-001", "승인", idGenerator::generateLongId); // APPROVED 상태로 변경
+        given(reportRepository.findById(1L)).willReturn(Optional.of(testReport));
 
         // when & then
-        assertThatThrownBy(() -> reportService.withdrawReport("REPORT-001", "USER-001"))
+        assertThatThrownBy(() -> reportService.withdrawReport("1", "USER-001"))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("Only pending reports can be withdrawn");
     }
 
+    @Test
+    @DisplayName("신고 일괄 상태 변경 - 한 번의 조회 후 변경 대상만 UPDATE, ID별 결과 반환")
+    void bulkUpdateReportStatus_MixedOutcomes() {
+        // given
+        ReportStatusRow pending = new ReportStatusRow(1L, "USER-001", ReferenceType.PROFILE, "USER-002", ReportStatus.PENDING);
+        ReportStatusRow rejected = new ReportStatusRow(2L, "USER-003", ReferenceType.PROFILE, "USER-002", ReportStatus.REJECTED);
+        ReportStatusRow withdrawn = new ReportStatusRow(3L, "USER-004", ReferenceType.PROFILE, "USER-002", ReportStatus.WITHDRAWN);
+        ReportStatusRow duplicateKey = new ReportStatusRow(4L, "USER-001", ReferenceType.PROFILE, "USER-002", ReportStatus.REVIEWING);
+        given(reportJdbcRepository.lockStatuses(Set.of(1L, 2L, 3L, 4L, 5L)))
+                .willReturn(List.of(pending, rejected, withdrawn, duplicateKey));
+        given(reportJdbcRepository.findUniqueKeysByStatus(ReportStatus.REJECTED, Set.of("USER-002")))
+                .willReturn(Set.of());
+
+        // when
+        ReportBulkStatusUpdateResponse response = reportService.bulkUpdateReportStatus(
+                List.of("1", "2", "3", "4", "5", "abc", "1"), ReportStatus.REJECTED, "ADMIN-001", "스팸");
+
+        // then
+        assertThat(response.getUpdatedCount()).isEqualTo(1);
+        assertThat(response.getResults())
+                .extracting(ReportBulkStatusUpdateResponse.Result::getReportId,
+                        ReportBulkStatusUpdateResponse.Result::getOutcome,
+                        ReportBulkStatusUpdateResponse.Result::getPreviousStatus)
+                .containsExactly(
+                        tuple("1", Outcome.UPDATED, ReportStatus.PENDING),
+                        tuple("2", Outcome.UNCHANGED, ReportStatus.REJECTED),
+                        tuple("3", Outcome.INVALID_TRANSITION, ReportStatus.WITHDRAWN),
+                        tuple("4", Outcome.CONFLICT, ReportStatus.REVIEWING),  // 1번과 같은 신고자/대상 → 같은 상태로 둘 수 없음
+                        tuple("5", Outcome.NOT_FOUND, null),
+                        tuple("abc", Outcome.NOT_FOUND, null));
+        verify(reportJdbcRepository).updateStatus(List.of(1L), ReportStatus.REJECTED);
+        verify(reportJdbcRepository).appendStatusHistories(eq(List.of(pending)), eq(ReportStatus.REJECTED),
+                eq("ADMIN-001"), eq("스팸"), any(LocalDateTime.class));
+        verify(reportRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("신고 일괄 상태 변경 - 같은 신고자/대상의 신고가 이미 대상 상태면 CONFLICT")
+    void bulkUpdateReportStatus_ExistingUniqueKey_Conflict() {
+        // given
+        ReportStatusRow pending = new ReportStatusRow(1L, "USER-001", ReferenceType.PROFILE, "USER-002", ReportStatus.PENDING);
+        given(reportJdbcRepository.lockStatuses(Set.of(1L))).willReturn(List.of(pending));
+        given(reportJdbcRepository.findUniqueKeysByStatus(ReportStatus.REJECTED, Set.of("USER-002")))
+                .willReturn(Set.of(pending.uniqueKey()));
+
+        // when
+        ReportBulkStatusUpdateResponse response = reportService.bulkUpdateReportStatus(
+                List.of("1"), ReportStatus.REJECTED, "ADMIN-001", null);
+
+        // then
+        assertThat(response.getUpdatedCount()).isZero();
+        assertThat(response.getResults()).extracting(ReportBulkStatusUpdateResponse.Result::getOutcome)
+                .containsExactly(Outcome.CONFLICT);
+        verify(reportJdbcRepository).updateStatus(List.of(), ReportStatus.REJECTED);
+    }
+
+    @Test
+    @DisplayName("신고 일괄 상태 변경 - 철회로는 변경 불가")
+    void bulkUpdateReportStatus_Withdrawn_ThrowsException() {
+        // when & then
+        assertThatThrownBy(() -> reportService.bulkUpdateReportStatus(
+                List.of("1"), ReportStatus.WITHDRAWN, "ADMIN-001", null))
+                .isInstanceOf(ReportException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_STATUS_TRANSITION);
+        verifyNoInteractions(reportJdbcRepository);
+    }
+
     @Test
     @DisplayName("커서 생성 - 신고일 기준")
     void generateCursor_ReportedAt() {
@@ -246,15 +456,18 @@ class ReportServiceImplTest {
                 .size(1)
                 .build();
 
-        List<Report> reports = List.of(testReport, testReport);
-        given(reportRepository.findReportsWithCursor(request)).willReturn(reports);
+        List<ReportResponse> reports = List.of(ReportResponse.from(testReport), ReportResponse.from(testReport));
+        given(reportRepository.findReportResponsesWithCursor(request)).willReturn(reports);
 
         // when
         CursorPageResponse<ReportResponse> result = reportService.searchReports(request);
 
         // then
         assertThat(result.getNextCursor()).isNotNull();
-        assertThat(result.getNextCursor()).contains("T"); // ISO 8601 format check
+        ReportCursor cursor = ReportCursor.decode(result.getNextCursor(), ReportSearchRequest.SortType.REPORTED_AT)
+                .orElseThrow();
+        assertThat(cursor.getReportedAt()).isEqualTo(testReport.getReportedAt());
+        assertThat(cursor.getReportId()).isEqualTo(1L);
     }
 
     @Test
@@ -266,14 +479,17 @@ class ReportServiceImplTest {
                 .size(1)
                 .build();
 
-        List<Report> reports = List.of(testReport, testReport);
-        given(reportRepository.findReportsWithCursor(request)).willReturn(reports);
+        List<ReportResponse> reports = List.of(ReportResponse.from(testReport), ReportResponse.from(testReport));
+        given(reportRepository.findReportResponsesWithCursor(request)).willReturn(reports);
 
         // when
         CursorPageResponse<ReportResponse> result = reportService.searchReports(request);
 
         // then
         assertThat(result.getNextCursor()).isNotNull();
-        assertThat(result.getNextCursor()).isEqualTo("REPORT-001");
+        ReportCursor cursor = ReportCursor.decode(result.getNextCursor(), ReportSearchRequest.SortType.STATUS)
+                .orElseThrow();
+        assertThat(cursor.getStatus()).isEqualTo(ReportStatus.PENDING);
+        assertThat(cursor.getReportId()).isEqualTo(1L);
     }
 }
@@ -0,0 +1,243 @@
+package com.teambind.supportserver.report.service;
+
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
+import com.teambind.supportserver.report.repository.ReportStatisticsDelta;
+import com.teambind.supportserver.report.repository.ReportStatisticsJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * ReportStatisticsAggregator 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReportStatisticsAggregator 단위 테스트")
+class ReportStatisticsAggregatorTest {
+
+    @Mock
+    private ReportStatisticsJdbcRepository reportStatisticsJdbcRepository;
+
+    private ReportStatisticsAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new ReportStatisticsAggregator(reportStatisticsJdbcRepository, Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("flush - 키별로 증분을 합쳐 한 번의 배치로 반영")
+    @SuppressWarnings("unchecked")
+    void flush_MergesPerKey() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            aggregator.increment(ReferenceType.ARTICLE, "ARTICLE-001", "SPAM");
+        }
+        aggregator.increment(ReferenceType.PROFILE, "USER-001", "SPAM");
+
+        // when
+        int flushedKeys = aggregator.flush();
+
+        // then
+        ArgumentCaptor<List<ReportStatisticsDelta>> captor = ArgumentCaptor.forClass(List.class);
+        verify(reportStatisticsJdbcRepository, times(1)).batchIncrement(captor.capture());
+        assertThat(flushedKeys).isEqualTo(2);
+        assertThat(captor.getValue())
+                .extracting(ReportStatisticsDelta::getReportedId, ReportStatisticsDelta::getDelta)
+                .containsExactlyInAnyOrder(tuple("ARTICLE-001", 5L), tuple("USER-001", 1L));
+        assertThat(aggregator.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("flush - 증분이 없으면 DB 호출 없음")
+    void flush_NothingPending() {
+        // when
+        int flushedKeys = aggregator.flush();
+
+        // then
+        assertThat(flushedKeys).isZero();
+        verifyNoInteractions(reportStatisticsJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("flush 실패 - 증분을 재적재하여 다음 flush에서 재시도")
+    @SuppressWarnings("unchecked")
+    void flush_FailureRestoresDeltas() {
+        // given
+        aggregator.increment(ReferenceType.ARTICLE, "ARTICLE-001", "SPAM");
+        aggregator.increment(ReferenceType.ARTICLE, "ARTICLE-001", "SPAM");
+        willThrow(new RuntimeException("DB down")).willDoNothing()
+                .given(reportStatisticsJdbcRepository).batchIncrement(anyList());
+
+        // when
+        int failed = aggregator.flush();
+        long pendingAfterFailure = aggregator.getPendingCount(ReferenceType.ARTICLE, "ARTICLE-001", "SPAM");
+        int retried = aggregator.flush();
+
+        // then
+        assertThat(failed).isZero();
+        assertThat(pendingAfterFailure).isEqualTo(2);
+        assertThat(retried).isEqualTo(1);
+        ArgumentCaptor<List<ReportStatisticsDelta>> captor = ArgumentCaptor.forClass(List.class);
+        verify(reportStatisticsJdbcRepository, times(2)).batchIncrement(captor.capture());
+        assertThat(captor.getAllValues().get(1)).extracting(ReportStatisticsDelta::getDelta).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("flush 중 - 커밋 전까지 회수된 증분을 미반영 증분으로 계속 집계")
+    void flush_InFlightDeltasStillPending() throws Exception {
+        // given
+        for (int i = 0; i < 3; i++) {
+            aggregator.increment(ReferenceType.PROFILE, "USER-002", "SPAM");
+        }
+        aggregator.increment(ReferenceType.PROFILE, "USER-002", "ABUSE");
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            writing.countDown();
+            commit.await();
+            return null;
+        }).given(reportStatisticsJdbcRepository).batchIncrement(anyList());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            // when
+            Future<Integer> flush = executor.submit(aggregator::flush);
+            assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+            long pendingDuringFlush = aggregator.getPendingCount(ReferenceType.PROFILE, "USER-002", "SPAM");
+            long totalPendingDuringFlush = aggregator.getPendingCount("USER-002");
+            commit.countDown();
+            flush.get(5, TimeUnit.SECONDS);
+
+            // then
+            assertThat(pendingDuringFlush).isEqualTo(3);
+            assertThat(totalPendingDuringFlush).isEqualTo(4);
+            assertThat(aggregator.getPendingCount(ReferenceType.PROFILE, "USER-002", "SPAM")).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("flush 중 조회 - 배치 커밋과 겹친 읽기는 버리고 커밋 이후 값으로 정확히 한 번 집계")
+    void getCount_DuringFlush_NoDipOrDoubleCount() throws Exception {
+        // given
+        AtomicLong persisted = new AtomicLong(10);
+        for (int i = 0; i < 3; i++) {
+            aggregator.increment(ReferenceType.PROFILE, "USER-002", "SPAM");
+        }
+        CountDownLatch committed = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            List<ReportStatisticsDelta> deltas = invocation.getArgument(0);
+            persisted.addAndGet(deltas.get(0).getDelta());
+            committed.countDown();
+            finish.await();
+            return null;
+        }).given(reportStatisticsJdbcRepository).batchIncrement(anyList());
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // when
+            Future<Integer> flush = executor.submit(aggregator::flush);
+            assertThat(committed.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<Long> count = executor.submit(() ->
+                    aggregator.getCount(ReferenceType.PROFILE, "USER-002", "SPAM", persisted::get));
+            Thread.sleep(10);
+            finish.countDown();
+            flush.get(5, TimeUnit.SECONDS);
+
+            // then
+            assertThat(count.get(5, TimeUnit.SECONDS)).isEqualTo(13);
+            assertThat(aggregator.getCount(ReferenceType.PROFILE, "USER-002", "SPAM", persisted::get)).isEqualTo(13);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("동시 증가 - 유휴 카운터 제거가 섞여도 증분 유실 없음")
+    @SuppressWarnings("unchecked")
+    void increment_Concurrent_NoLostUpdates() throws InterruptedException {
+        // given
+        int threadCount = 8;
+        int incrementsPerThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            int threadIndex = t;
+            executor.submit(() -> {
+                try {
+                    for (int i = 0; i < incrementsPerThread; i++) {
+                        aggregator.increment(ReferenceType.ARTICLE, "ARTICLE-" + (i % 3 == 0 ? threadIndex : 0), "SPAM");
+                        if (i % 1000 == 0) {
+                            aggregator.flush();
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+        aggregator.flush();
+        aggregator.flush();
+
+        // then
+        ArgumentCaptor<List<ReportStatisticsDelta>> captor = ArgumentCaptor.forClass(List.class);
+        verify(reportStatisticsJdbcRepository, atLeastOnce()).batchIncrement(captor.capture());
+        long total = captor.getAllValues().stream()
+                .flatMap(List::stream)
+                .mapToLong(ReportStatisticsDelta::getDelta)
+                .sum();
+        assertThat(total).isEqualTo((long) threadCount * incrementsPerThread);
+        assertThat(aggregator.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 증분 flush")
+    void shutdown_FlushesRemaining() {
+        // given
+        aggregator.increment(ReferenceType.PROFILE, "USER-001", "SPAM");
+
+        // when
+        aggregator.shutdown();
+
+        // then
+        verify(reportStatisticsJdbcRepository, times(1)).batchIncrement(anyList());
+        assertThat(aggregator.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("max-pending 초과 시 즉시 flush")
+    void increment_ExceedsMaxPending_TriggersEarlyFlush() {
+        // given
+        ReportStatisticsAggregator bounded = new ReportStatisticsAggregator(reportStatisticsJdbcRepository, 3);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            bounded.increment(ReferenceType.PROFILE, "USER-001", "SPAM");
+        }
+
+        // then
+        verify(reportStatisticsJdbcRepository, timeout(5_000).atLeastOnce()).batchIncrement(anyList());
+    }
+}
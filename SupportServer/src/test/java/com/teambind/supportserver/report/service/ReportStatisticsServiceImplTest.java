@@ -0,0 +1,150 @@
+package com.teambind.supportserver.report.service;
+
+import com.teambind.supportserver.report.entity.ReportStatistics;
+import com.teambind.supportserver.report.entity.SanctionRule;
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
+import com.teambind.supportserver.report.entity.enums.SanctionType;
+import com.teambind.supportserver.report.repository.ReportStatisticsRepository;
+import com.teambind.supportserver.report.utils.SanctionRuleCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * ReportStatisticsServiceImpl 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReportStatisticsServiceImpl 단위 테스트")
+class ReportStatisticsServiceImplTest {
+
+    @Mock
+    private ReportStatisticsRepository reportStatisticsRepository;
+
+    @Mock
+    private ReportStatisticsAggregator reportStatisticsAggregator;
+
+    @Mock
+    private SanctionRuleCache sanctionRuleCache;
+
+    @InjectMocks
+    private ReportStatisticsServiceImpl reportStatisticsService;
+
+    @Test
+    @DisplayName("신고 횟수 조회 - DB 반영분과 미반영 증분을 합산")
+    void getReportCount_PersistedPlusPending() {
+        // given
+        given(reportStatisticsRepository.findByReferenceTypeAndReportedIdAndReportCategory(
+                ReferenceType.PROFILE, "USER-002", "SPAM"))
+                .willReturn(Optional.of(ReportStatistics.builder().reportCount(3).build()));
+        givenPending(2L);
+
+        // when
+        long count = reportStatisticsService.getReportCount(ReferenceType.PROFILE, "USER-002", "SPAM");
+
+        // then
+        assertThat(count).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("신고 횟수 조회 - 아직 flush되지 않은 키는 미반영 증분만 반환")
+    void getReportCount_PendingOnly() {
+        // given
+        given(reportStatisticsRepository.findByReferenceTypeAndReportedIdAndReportCategory(
+                ReferenceType.PROFILE, "USER-002", "SPAM"))
+                .willReturn(Optional.empty());
+        givenPending(4L);
+
+        // when
+        long count = reportStatisticsService.getReportCount(ReferenceType.PROFILE, "USER-002", "SPAM");
+
+        // then
+        assertThat(count).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("임계값 도달 확인 - 미반영 증분을 포함한 횟수로 규칙 판정")
+    void isAutoSanctionThresholdReached_CountsPending() {
+        // given
+        SanctionRule rule = SanctionRule.builder()
+                .ruleId("RULE-001")
+                .referenceType(ReferenceType.PROFILE)
+                .reportThreshold(5)
+                .sanctionType(SanctionType.WARNING)
+                .build();
+        given(sanctionRuleCache.hasRules(ReferenceType.PROFILE)).willReturn(true);
+        given(reportStatisticsRepository.findByReferenceTypeAndReportedIdAndReportCategory(
+                ReferenceType.PROFILE, "USER-002", "SPAM"))
+                .willReturn(Optional.of(ReportStatistics.builder().reportCount(4).build()));
+        givenPending(1L);
+        given(sanctionRuleCache.findApplicableRule(ReferenceType.PROFILE, 5L)).willReturn(Optional.of(rule));
+
+        // when
+        boolean reached = reportStatisticsService.isAutoSanctionThresholdReached(ReferenceType.PROFILE, "USER-002", "SPAM");
+
+        // then
+        assertThat(reached).isTrue();
+    }
+
+    @Test
+    @DisplayName("임계값 도달 확인 - 임계값 미만이면 false")
+    void isAutoSanctionThresholdReached_BelowThreshold() {
+        // given
+        given(sanctionRuleCache.hasRules(ReferenceType.PROFILE)).willReturn(true);
+        given(reportStatisticsRepository.findByReferenceTypeAndReportedIdAndReportCategory(
+                ReferenceType.PROFILE, "USER-002", "SPAM"))
+                .willReturn(Optional.empty());
+        givenPending(2L);
+        given(sanctionRuleCache.findApplicableRule(ReferenceType.PROFILE, 2L)).willReturn(Optional.empty());
+
+        // when
+        boolean reached = reportStatisticsService.isAutoSanctionThresholdReached(ReferenceType.PROFILE, "USER-002", "SPAM");
+
+        // then
+        assertThat(reached).isFalse();
+    }
+
+    @Test
+    @DisplayName("임계값 도달 확인 - 대상 타입에 규칙이 없으면 통계를 조회하지 않음")
+    void isAutoSanctionThresholdReached_NoRules() {
+        // given
+        given(sanctionRuleCache.hasRules(ReferenceType.ARTICLE)).willReturn(false);
+
+        // when
+        boolean reached = reportStatisticsService.isAutoSanctionThresholdReached(ReferenceType.ARTICLE, "POST-001", "SPAM");
+
+        // then
+        assertThat(reached).isFalse();
+        verify(reportStatisticsRepository, never()).findByReferenceTypeAndReportedIdAndReportCategory(any(), any(), any());
+        verify(reportStatisticsAggregator, never()).getCount(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("총 신고 횟수 조회 - 전체 카테고리의 DB 반영분과 미반영 증분을 합산")
+    void getTotalReportCount_PersistedPlusPending() {
+        // given
+        given(reportStatisticsRepository.sumReportCountByReportedId("USER-002")).willReturn(7L);
+        given(reportStatisticsAggregator.getTotalCount(eq("USER-002"), any()))
+                .willAnswer(invocation -> invocation.<LongSupplier>getArgument(1).getAsLong() + 3);
+
+        // when
+        int count = reportStatisticsService.getTotalReportCount("USER-002");
+
+        // then
+        assertThat(count).isEqualTo(10);
+    }
+
+    private void givenPending(long pendingCount) {
+        given(reportStatisticsAggregator.getCount(eq(ReferenceType.PROFILE), eq("USER-002"), eq("SPAM"), any()))
+                .willAnswer(invocation -> invocation.<LongSupplier>getArgument(3).getAsLong() + pendingCount);
+    }
+}
@@ -0,0 +1,120 @@
+package com.teambind.supportserver.report.service;
+
+import com.teambind.supportserver.report.event.SanctionExpiredEvent;
+import com.teambind.supportserver.report.repository.SanctionJdbcRepository;
+import com.teambind.supportserver.report.repository.SanctionTarget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * SanctionExpirationJob 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SanctionExpirationJob 단위 테스트")
+class SanctionExpirationJobTest {
+
+    @Mock
+    private SanctionJdbcRepository sanctionJdbcRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SanctionExpirationJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new SanctionExpirationJob(sanctionJdbcRepository, eventPublisher, 2, 10);
+    }
+
+    @Test
+    @DisplayName("만료 처리 - 청크가 가득 차지 않을 때까지 반복")
+    void run_LoopsUntilPartialChunk() {
+        // given
+        given(sanctionJdbcRepository.expireChunk(any(LocalDateTime.class), eq(2)))
+                .willReturn(List.of(new SanctionTarget(1L, "USER-A"), new SanctionTarget(2L, "USER-B")))
+                .willReturn(List.of(new SanctionTarget(3L, "USER-C")));
+        given(sanctionJdbcRepository.findOldestOverdueExpiresAt(any(LocalDateTime.class))).willReturn(Optional.empty());
+
+        // when
+        int expired = job.run();
+
+        // then
+        assertThat(expired).isEqualTo(3);
+        verify(sanctionJdbcRepository, times(2)).expireChunk(any(LocalDateTime.class), eq(2));
+        verify(eventPublisher, times(3)).publishEvent(any(SanctionExpiredEvent.class));
+    }
+
+    @Test
+    @DisplayName("만료 처리 - 동일 대상의 여러 제재는 이벤트 1건으로 발행")
+    void run_OneEventPerTarget() {
+        // given
+        given(sanctionJdbcRepository.expireChunk(any(LocalDateTime.class), eq(2)))
+                .willReturn(List.of(new SanctionTarget(1L, "USER-A"), new SanctionTarget(2L, "USER-A")))
+                .willReturn(List.of());
+        given(sanctionJdbcRepository.findOldestOverdueExpiresAt(any(LocalDateTime.class))).willReturn(Optional.empty());
+
+        // when
+        job.run();
+
+        // then
+        ArgumentCaptor<SanctionExpiredEvent> captor = ArgumentCaptor.forClass(SanctionExpiredEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(captor.capture());
+        assertThat(captor.getValue().targetId()).isEqualTo("USER-A");
+        assertThat(captor.getValue().sanctionIds()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("만료 처리 - 실행당 최대 청크 수를 넘지 않음")
+    void run_StopsAtMaxChunks() {
+        // given
+        job = new SanctionExpirationJob(sanctionJdbcRepository, eventPublisher, 1, 3);
+        given(sanctionJdbcRepository.expireChunk(any(LocalDateTime.class), eq(1)))
+                .willReturn(List.of(new SanctionTarget(1L, "USER-A")));
+        given(sanctionJdbcRepository.findOldestOverdueExpiresAt(any(LocalDateTime.class)))
+                .willReturn(Optional.of(LocalDateTime.now().minusMinutes(5)));
+
+        // when
+        int expired = job.run();
+
+        // then
+        assertThat(expired).isEqualTo(3);
+        verify(sanctionJdbcRepository, times(3)).expireChunk(any(LocalDateTime.class), eq(1));
+    }
+
+    @Test
+    @DisplayName("메트릭 - 처리 건수와 지연 시간 기록")
+    void metrics_RecordsThroughputAndLag() {
+        // given
+        given(sanctionJdbcRepository.expireChunk(any(LocalDateTime.class), eq(2)))
+                .willReturn(List.of(new SanctionTarget(1L, "USER-A")));
+        given(sanctionJdbcRepository.findOldestOverdueExpiresAt(any(LocalDateTime.class)))
+                .willReturn(Optional.of(LocalDateTime.now().minusMinutes(5)));
+
+        // when
+        job.run();
+        job.run();
+
+        // then
+        SanctionExpirationJob.Metrics metrics = job.getMetrics();
+        assertThat(metrics.runs()).isEqualTo(2);
+        assertThat(metrics.totalExpired()).isEqualTo(2);
+        assertThat(metrics.lastRunExpired()).isEqualTo(1);
+        assertThat(metrics.rowsPerSecond()).isPositive();
+        assertThat(metrics.lagMs()).isGreaterThanOrEqualTo(5 * 60 * 1000L);
+        assertThat(metrics.lastRunAt()).isNotNull();
+    }
+}
@@ -0,0 +1,144 @@
+package com.teambind.supportserver.report.service;
+
+import com.teambind.supportserver.report.event.SanctionExpiredEvent;
+import com.teambind.supportserver.report.repository.SanctionExpiry;
+import com.teambind.supportserver.report.repository.SanctionJdbcRepository;
+import com.teambind.supportserver.report.repository.SanctionTarget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * SanctionExpiryScheduler 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SanctionExpiryScheduler 단위 테스트")
+class SanctionExpirySchedulerTest {
+
+    private static final long START = 1_700_000_000_000L;
+    private static final long LOOK_AHEAD = 60_000;
+
+    @Mock
+    private SanctionJdbcRepository sanctionJdbcRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SanctionExpiryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new SanctionExpiryScheduler(sanctionJdbcRepository, eventPublisher, 500, 64, LOOK_AHEAD, 100);
+    }
+
+    @Test
+    @DisplayName("재시작 복구 - 적재 범위 내 제재를 DB에서 읽어 만료 시각 1초 이내에 만료 처리")
+    void initialize_LoadsWindowAndFiresOnTime() {
+        // given
+        given(sanctionJdbcRepository.findUpcoming(any(), anyLong(), eq(at(START + LOOK_AHEAD)), eq(100)))
+                .willReturn(List.of(
+                        new SanctionExpiry(1L, "USER-A", at(START + 10_000)),
+                        new SanctionExpiry(2L, "USER-B", at(START + 30_000))));
+        given(sanctionJdbcRepository.expireDue(anyList(), any()))
+                .willAnswer(invocation -> invocation.<List<Long>>getArgument(0).stream()
+                        .map(id -> new SanctionTarget(id, id == 1L ? "USER-A" : "USER-B"))
+                        .toList());
+
+        // when
+        scheduler.initialize(START);
+
+        // then
+        assertThat(scheduler.getPendingCount()).isEqualTo(2);
+
+        assertThat(scheduler.tick(START + 9_999)).isZero();
+        verify(sanctionJdbcRepository, never()).expireDue(anyList(), any());
+
+        assertThat(scheduler.tick(START + 10_500)).isEqualTo(1);
+        verify(sanctionJdbcRepository).expireDue(eq(List.of(1L)), any());
+
+        ArgumentCaptor<SanctionExpiredEvent> captor = ArgumentCaptor.forClass(SanctionExpiredEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().targetId()).isEqualTo("USER-A");
+
+        assertThat(scheduler.getPendingCount()).isEqualTo(1);
+        assertThat(scheduler.getMetrics().maxFireDelayMs()).isLessThan(1_000);
+    }
+
+    @Test
+    @DisplayName("직접 등록 - 적재 범위 안의 제재만 등록하고 취소 시 실행하지 않음")
+    void scheduleAndCancel() {
+        // given
+        given(sanctionJdbcRepository.findUpcoming(any(), anyLong(), any(), anyInt())).willReturn(List.of());
+        scheduler.initialize(START);
+
+        // when
+        scheduler.schedule(1L, "USER-A", at(START + 5_000));
+        scheduler.schedule(2L, "USER-B", at(START + LOOK_AHEAD + 1_000));
+        scheduler.schedule(3L, "USER-C", null);
+        scheduler.schedule(4L, "USER-D", at(START + 5_000));
+        scheduler.cancel(4L);
+
+        // then
+        assertThat(scheduler.getPendingCount()).isEqualTo(1);
+        given(sanctionJdbcRepository.expireDue(anyList(), any())).willReturn(List.of());
+        scheduler.tick(START + 6_000);
+        verify(sanctionJdbcRepository).expireDue(eq(List.of(1L)), any());
+    }
+
+    @Test
+    @DisplayName("중복 제거 - 적재와 직접 등록 경로로 같은 제재가 들어와도 한 번만 등록")
+    void loadWindow_DeduplicatesBySanctionId() {
+        // given
+        given(sanctionJdbcRepository.findUpcoming(any(), anyLong(), any(), anyInt()))
+                .willReturn(List.of(new SanctionExpiry(1L, "USER-A", at(START + 5_000))));
+        scheduler.initialize(START);
+
+        // when
+        scheduler.schedule(1L, "USER-A", at(START + 5_000));
+        int loaded = scheduler.loadWindow(START + 1_000);
+
+        // then
+        assertThat(loaded).isZero();
+        assertThat(scheduler.getPendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료 실패 - 재시도를 위해 다시 등록")
+    void tick_RetriesOnFailure() {
+        // given
+        given(sanctionJdbcRepository.findUpcoming(any(), anyLong(), any(), anyInt()))
+                .willReturn(List.of(new SanctionExpiry(1L, "USER-A", at(START + 1_000))));
+        given(sanctionJdbcRepository.expireDue(anyList(), any()))
+                .willThrow(new RuntimeException("DB down"))
+                .willReturn(List.of(new SanctionTarget(1L, "USER-A")));
+        scheduler.initialize(START);
+
+        // when
+        int first = scheduler.tick(START + 1_500);
+        int second = scheduler.tick(START + 7_000);
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isEqualTo(1);
+        assertThat(scheduler.getPendingCount()).isZero();
+        verify(eventPublisher, times(1)).publishEvent(any(SanctionExpiredEvent.class));
+    }
+
+    private static LocalDateTime at(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,272 @@
+package com.teambind.supportserver.report.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.teambind.supportserver.report.entity.enums.SanctionEventType;
+import com.teambind.supportserver.report.entity.enums.SanctionType;
+import com.teambind.supportserver.report.repository.SanctionOutboxJdbcRepository;
+import com.teambind.supportserver.report.repository.SanctionOutboxMessage;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * SanctionOutboxRelay 통합 테스트 (임베디드 Kafka)
+ */
+@EmbeddedKafka(partitions = 3, topics = SanctionOutboxRelayTest.TOPIC)
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SanctionOutboxRelay 통합 테스트")
+class SanctionOutboxRelayTest {
+
+    static final String TOPIC = "sanction-events-test";
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    @Mock
+    private SanctionOutboxJdbcRepository sanctionOutboxJdbcRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private DefaultKafkaProducerFactory<String, String> producerFactory;
+    private Consumer<String, String> consumer;
+
+    @BeforeEach
+    void setUp(EmbeddedKafkaBroker broker) {
+        Map<String, Object> producerProps = KafkaTestUtils.producerProps(broker);
+        producerProps.put("enable.idempotence", true);
+        producerProps.put("acks", "all");
+        producerFactory = new DefaultKafkaProducerFactory<>(producerProps, new StringSerializer(), new StringSerializer());
+
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("relay-test-" + System.nanoTime(), "false", broker);
+        consumerProps.put("auto.offset.reset", "earliest");
+        consumer = new DefaultKafkaConsumerFactory<>(consumerProps, new StringDeserializer(), new StringDeserializer())
+                .createConsumer();
+        broker.consumeFromAnEmbeddedTopic(consumer, TOPIC);
+    }
+
+    @AfterEach
+    void tearDown() {
+        consumer.close();
+        producerFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("릴레이 - 대상별 발생 순서대로 전송하고 ack 받은 이벤트를 전송 완료로 표시")
+    void relay_PreservesPerTargetOrder() throws Exception {
+        // given
+        List<SanctionOutboxMessage> messages = new ArrayList<>();
+        long eventId = 1;
+        for (int round = 0; round < 5; round++) {
+            for (String targetId : List.of("USER-A", "USER-B", "USER-C")) {
+                messages.add(new SanctionOutboxMessage(eventId++,
+                        round % 2 == 0 ? SanctionEventType.APPLIED : SanctionEventType.REVOKED,
+                        eventId, targetId, SanctionType.SUSPENSION,
+                        NOW.plusDays(7), NOW.plusSeconds(round)));
+            }
+        }
+        given(sanctionOutboxJdbcRepository.tryAcquireRelayLease(anyString(), anyString(), anyLong())).willReturn(true);
+        given(sanctionOutboxJdbcRepository.findPending(100)).willReturn(messages);
+        SanctionOutboxRelay relay = relay(new KafkaTemplate<>(producerFactory));
+
+        // when
+        int sent = relay.relay();
+
+        // then
+        assertThat(sent).isEqualTo(15);
+        verify(sanctionOutboxJdbcRepository).markSent(eq(messages.stream().map(SanctionOutboxMessage::eventId).toList()), any());
+        verify(sanctionOutboxJdbcRepository).incrementAttempts(List.of());
+
+        Map<String, List<Long>> eventIdsByKey = new HashMap<>();
+        int received = 0;
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (received < 15 && System.currentTimeMillis() < deadline) {
+            ConsumerRecords<String, String> records = KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(2));
+            for (ConsumerRecord<String, String> record : records) {
+                SanctionOutboxMessage message = objectMapper.readValue(record.value(), SanctionOutboxMessage.class);
+                assertThat(record.key()).isEqualTo(message.targetId());
+                assertThat(new String(record.headers().lastHeader("eventId").value(), StandardCharsets.UTF_8))
+                        .isEqualTo(String.valueOf(message.eventId()));
+                eventIdsByKey.computeIfAbsent(record.key(), key -> new ArrayList<>()).add(message.eventId());
+                received++;
+            }
+        }
+        assertThat(received).isEqualTo(15);
+        assertThat(eventIdsByKey).hasSize(3);
+        eventIdsByKey.values().forEach(ids -> assertThat(ids).hasSize(5).isSorted());
+    }
+
+    @Test
+    @DisplayName("릴레이 - 전송 실패한 대상의 이후 이벤트는 전송 완료로 표시하지 않음")
+    @SuppressWarnings("unchecked")
+    void relay_FailureBlocksLaterEventsOfSameTarget() {
+        // given
+        List<SanctionOutboxMessage> messages = List.of(
+                message(1L, "USER-A"),
+                message(2L, "USER-B"),
+                message(3L, "USER-A"),
+                message(4L, "USER-B"));
+        given(sanctionOutboxJdbcRepository.tryAcquireRelayLease(anyString(), anyString(), anyLong())).willReturn(true);
+        given(sanctionOutboxJdbcRepository.findPending(100)).willReturn(messages);
+
+        KafkaTemplate<String, String> kafkaTemplate = mock(KafkaTemplate.class);
+        given(kafkaTemplate.send(any(org.apache.kafka.clients.producer.ProducerRecord.class))).willAnswer(invocation -> {
+            org.apache.kafka.clients.producer.ProducerRecord<String, String> record = invocation.getArgument(0);
+            String eventId = new String(record.headers().lastHeader("eventId").value(), StandardCharsets.UTF_8);
+            return eventId.equals("1")
+                    ? CompletableFuture.failedFuture(new RuntimeException("broker unavailable"))
+                    : CompletableFuture.completedFuture(null);
+        });
+        SanctionOutboxRelay relay = relay(kafkaTemplate);
+
+        // when
+        int sent = relay.relay();
+
+        // then
+        assertThat(sent).isEqualTo(2);
+        verify(sanctionOutboxJdbcRepository).markSent(eq(List.of(2L, 4L)), any());
+        verify(sanctionOutboxJdbcRepository).incrementAttempts(List.of(1L));
+        verify(kafkaTemplate, times(3)).send(any(org.apache.kafka.clients.producer.ProducerRecord.class));
+        assertThat(relay.getMetrics().failed()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("릴레이 - 대상별로 앞선 이벤트의 ack 이후에만 다음 이벤트를 전송하고, 중간 실패 시 이후 이벤트는 전송하지 않음")
+    @SuppressWarnings("unchecked")
+    void relay_MidBatchFailureHoldsLaterEventsOfSameTarget() {
+        // given
+        List<SanctionOutboxMessage> messages = List.of(
+                message(1L, "USER-A"),
+                message(2L, "USER-B"),
+                message(3L, "USER-A"),
+                message(4L, "USER-B"),
+                message(5L, "USER-A"),
+                message(6L, "USER-B"));
+        given(sanctionOutboxJdbcRepository.tryAcquireRelayLease(anyString(), anyString(), anyLong())).willReturn(true);
+        given(sanctionOutboxJdbcRepository.findPending(100)).willReturn(messages);
+        Map<String, CompletableFuture<Object>> futures = new HashMap<>();
+        List<String> sendOrder = new ArrayList<>();
+        KafkaTemplate<String, String> kafkaTemplate = mock(KafkaTemplate.class);
+        given(kafkaTemplate.send(any(org.apache.kafka.clients.producer.ProducerRecord.class))).willAnswer(invocation -> {
+            org.apache.kafka.clients.producer.ProducerRecord<String, String> record = invocation.getArgument(0);
+            String eventId = new String(record.headers().lastHeader("eventId").value(), StandardCharsets.UTF_8);
+            // 같은 대상의 앞선 이벤트는 이미 ack(또는 실패)가 확정되어 있어야 함
+            futures.entrySet().stream()
+                    .filter(entry -> entry.getKey().startsWith(record.key()))
+                    .forEach(entry -> assertThat(entry.getValue()).isDone());
+            sendOrder.add(eventId);
+            CompletableFuture<Object> future = eventId.equals("3")
+                    ? CompletableFuture.failedFuture(new RuntimeException("broker unavailable"))
+                    : CompletableFuture.supplyAsync(() -> null,
+                    CompletableFuture.delayedExecutor(20, TimeUnit.MILLISECONDS));
+            futures.put(record.key() + ":" + eventId, future);
+            return future;
+        });
+        SanctionOutboxRelay relay = relay(kafkaTemplate);
+
+        // when
+        int sent = relay.relay();
+
+        // then
+        assertThat(sent).isEqualTo(4);
+        assertThat(sendOrder).containsExactly("1", "2", "3", "4", "6");
+        verify(sanctionOutboxJdbcRepository).markSent(eq(List.of(1L, 2L, 4L, 6L)), any());
+        verify(sanctionOutboxJdbcRepository).incrementAttempts(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("릴레이 - 전송 대기 이벤트가 없으면 전송하지 않음")
+    @SuppressWarnings("unchecked")
+    void relay_NoPendingEvents() {
+        // given
+        given(sanctionOutboxJdbcRepository.tryAcquireRelayLease(anyString(), anyString(), anyLong())).willReturn(true);
+        given(sanctionOutboxJdbcRepository.findPending(100)).willReturn(List.of());
+        KafkaTemplate<String, String> kafkaTemplate = mock(KafkaTemplate.class);
+
+        // when
+        int sent = relay(kafkaTemplate).relay();
+
+        // then
+        assertThat(sent).isZero();
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("릴레이 - 다른 인스턴스가 임대를 보유 중이면 조회/전송하지 않음")
+    @SuppressWarnings("unchecked")
+    void relay_LeaseHeldByAnotherInstance() {
+        // given
+        given(sanctionOutboxJdbcRepository.tryAcquireRelayLease(anyString(), anyString(), anyLong())).willReturn(false);
+        KafkaTemplate<String, String> kafkaTemplate = mock(KafkaTemplate.class);
+        SanctionOutboxRelay relay = relay(kafkaTemplate);
+
+        // when
+        int sent = relay.relay();
+        relay.destroy();
+
+        // then
+        assertThat(sent).isZero();
+        verify(sanctionOutboxJdbcRepository, never()).findPending(anyInt());
+        verify(sanctionOutboxJdbcRepository, never()).releaseRelayLease(anyString(), anyString());
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("릴레이 - 배치마다 임대를 연장하고 종료 시 반납")
+    @SuppressWarnings("unchecked")
+    void relay_RenewsLeasePerBatchAndReleasesOnShutdown() {
+        // given
+        given(sanctionOutboxJdbcRepository.tryAcquireRelayLease(anyString(), anyString(), anyLong())).willReturn(true);
+        given(sanctionOutboxJdbcRepository.findPending(100)).willReturn(List.of());
+        SanctionOutboxRelay relay = relay(mock(KafkaTemplate.class));
+
+        // when
+        relay.relay();
+        relay.destroy();
+
+        // then
+        verify(sanctionOutboxJdbcRepository).tryAcquireRelayLease(eq("sanction-outbox"), anyString(), eq(30_000L));
+        verify(sanctionOutboxJdbcRepository).releaseRelayLease(eq("sanction-outbox"), anyString());
+        assertThat(relay.getMetrics().leaseHolder()).isTrue();
+    }
+
+    private SanctionOutboxRelay relay(KafkaTemplate<String, String> kafkaTemplate) {
+        return new SanctionOutboxRelay(sanctionOutboxJdbcRepository, kafkaTemplate, objectMapper,
+                TOPIC, 100, 10_000, 20, 604_800_000, 30_000);
+    }
+
+    private static SanctionOutboxMessage message(long eventId, String targetId) {
+        return new SanctionOutboxMessage(eventId, SanctionEventType.APPLIED, eventId, targetId,
+                SanctionType.WARNING, null, NOW);
+    }
+}
@@ -0,0 +1,401 @@
+package com.teambind.supportserver.report.service;
+
+import com.teambind.supportserver.common.utils.IdGenerator;
+import com.teambind.supportserver.report.entity.Report;
+import com.teambind.supportserver.report.entity.ReportCategory;
+import com.teambind.supportserver.report.entity.Sanction;
+import com.teambind.supportserver.report.entity.SanctionRule;
+import com.teambind.supportserver.report.entity.embeddable.ReportCategoryId;
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
+import com.teambind.supportserver.report.entity.enums.SanctionEventType;
+import com.teambind.supportserver.report.entity.enums.SanctionStatus;
+import com.teambind.supportserver.report.entity.enums.SanctionType;
+import com.teambind.supportserver.report.exceptions.ErrorCode;
+import com.teambind.supportserver.report.exceptions.ReportException;
+import com.teambind.supportserver.report.repository.ReportRepository;
+import com.teambind.supportserver.report.repository.SanctionJdbcRepository;
+import com.teambind.supportserver.report.repository.SanctionOutboxJdbcRepository;
+import com.teambind.supportserver.report.repository.SanctionRepository;
+import com.teambind.supportserver.report.utils.SanctionBloomFilter;
+import com.teambind.supportserver.report.utils.SanctionRuleCache;
+import com.teambind.supportserver.report.utils.SanctionState;
+import com.teambind.supportserver.report.utils.SanctionStatusCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * SanctionServiceImpl 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SanctionServiceImpl 단위 테스트")
+class SanctionServiceImplTest {
+
+    @Mock
+    private SanctionRepository sanctionRepository;
+
+    @Mock
+    private SanctionJdbcRepository sanctionJdbcRepository;
+
+    @Mock
+    private ReportRepository reportRepository;
+
+    @Mock
+    private ReportStatisticsService reportStatisticsService;
+
+    @Mock
+    private SanctionRuleCache sanctionRuleCache;
+
+    @Mock
+    private SanctionStatusCache sanctionStatusCache;
+
+    @Mock
+    private SanctionBloomFilter sanctionBloomFilter;
+
+    @Mock
+    private SanctionExpirationJob sanctionExpirationJob;
+
+    @Mock
+    private SanctionExpiryScheduler sanctionExpiryScheduler;
+
+    @Mock
+    private SanctionOutboxJdbcRepository sanctionOutboxJdbcRepository;
+
+    @Mock
+    private IdGenerator idGenerator;
+
+    @InjectMocks
+    private SanctionServiceImpl sanctionService;
+
+    private Report testReport;
+    private SanctionRule suspensionRule;
+
+    @BeforeEach
+    void setUp() {
+        testReport = Report.builder()
+                .reportId(1L)
+                .reporterId("USER-001")
+                .reportedId("USER-002")
+                .reason("테스트 신고")
+                .reportedAt(LocalDateTime.now())
+                .build();
+        testReport.setCategory(ReportCategory.builder()
+                .id(new ReportCategoryId(ReferenceType.PROFILE, "SPAM"))
+                .build());
+
+        suspensionRule = SanctionRule.builder()
+                .ruleId("RULE-001")
+                .referenceType(ReferenceType.PROFILE)
+                .reportThreshold(5)
+                .sanctionType(SanctionType.SUSPENSION)
+                .duration(7)
+                .build();
+    }
+
+    @Test
+    @DisplayName("자동 제재 - 임계값 도달 시 규칙의 제재 적용")
+    void applyAutoSanction_ThresholdReached() {
+        // given
+        given(reportRepository.findById(1L)).willReturn(Optional.of(testReport));
+        given(sanctionRuleCache.hasRules(ReferenceType.PROFILE)).willReturn(true);
+        given(reportStatisticsService.getReportCount(ReferenceType.PROFILE, "USER-002", "SPAM")).willReturn(5L);
+        given(sanctionRuleCache.findApplicableRule(ReferenceType.PROFILE, 5L)).willReturn(Optional.of(suspensionRule));
+        given(sanctionJdbcRepository.existsActiveForUpdate("USER-002", SanctionType.SUSPENSION)).willReturn(false);
+        given(reportRepository.getReferenceById(1L)).willReturn(testReport);
+        given(idGenerator.generateLongId()).willReturn(1L);
+        given(sanctionRepository.save(any(Sanction.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        Sanction result = sanctionService.applyAutoSanction(1L, "USER-002");
+
+        // then
+        assertThat(result).isNotNull();
+        assertThat(result.getSanctionId()).isEqualTo(1L);
+        assertThat(result.getTargetId()).isEqualTo("USER-002");
+        assertThat(result.getSanctionType()).isEqualTo(SanctionType.SUSPENSION);
+        assertThat(result.getDuration()).isEqualTo(7);
+        verify(reportRepository, times(1)).findById(1L);
+        verify(sanctionRepository, times(1)).save(any(Sanction.class));
+        verify(sanctionStatusCache, times(1)).evict("USER-002");
+        verify(sanctionBloomFilter, times(1)).add("USER-002");
+        verify(sanctionOutboxJdbcRepository, times(1)).append(argThat(messages -> messages.size() == 1
+                && messages.get(0).eventType() == SanctionEventType.APPLIED
+                && messages.get(0).targetId().equals("USER-002")));
+    }
+
+    @Test
+    @DisplayName("자동 제재 - 타입/카테고리를 알면 신고를 조회하지 않고 판정")
+    void applyAutoSanction_WithCategory_NoReportLookup() {
+        // given
+        given(sanctionRuleCache.hasRules(ReferenceType.PROFILE)).willReturn(true);
+        given(reportStatisticsService.getReportCount(ReferenceType.PROFILE, "USER-002", "SPAM")).willReturn(4L);
+        given(sanctionRuleCache.findApplicableRule(ReferenceType.PROFILE, 4L)).willReturn(Optional.empty());
+
+        // when
+        Sanction result = sanctionService.applyAutoSanction(1L, ReferenceType.PROFILE, "SPAM", "USER-002");
+
+        // then
+        assertThat(result).isNull();
+        verify(reportRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("자동 제재 - 방금 저장한 신고는 다시 조회하지 않고 참조로 연관관계 설정")
+    void applyAutoSanction_WithCategory_UsesReportReference() {
+        // given
+        given(sanctionRuleCache.hasRules(ReferenceType.PROFILE)).willReturn(true);
+        given(reportStatisticsService.getReportCount(ReferenceType.PROFILE, "USER-002", "SPAM")).willReturn(5L);
+        given(sanctionRuleCache.findApplicableRule(ReferenceType.PROFILE, 5L)).willReturn(Optional.of(suspensionRule));
+        given(sanctionJdbcRepository.existsActiveForUpdate("USER-002", SanctionType.SUSPENSION)).willReturn(false);
+        given(reportRepository.getReferenceById(1L)).willReturn(testReport);
+        given(idGenerator.generateLongId()).willReturn(1L);
+        given(sanctionRepository.save(any(Sanction.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        Sanction result = sanctionService.applyAutoSanction(1L, ReferenceType.PROFILE, "SPAM", "USER-002");
+
+        // then
+        assertThat(result.getReport()).isSameAs(testReport);
+        verify(reportRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("자동 제재 - 임계값 미달 시 적용하지 않음")
+    void applyAutoSanction_BelowThreshold() {
+        // given
+        given(reportRepository.findById(1L)).willReturn(Optional.of(testReport));
+        given(sanctionRuleCache.hasRules(ReferenceType.PROFILE)).willReturn(true);
+        given(reportStatisticsService.getReportCount(ReferenceType.PROFILE, "USER-002", "SPAM")).willReturn(4L);
+        given(sanctionRuleCache.findApplicableRule(ReferenceType.PROFILE, 4L)).willReturn(Optional.empty());
+
+        // when
+        Sanction result = sanctionService.applyAutoSanction(1L, "USER-002");
+
+        // then
+        assertThat(result).isNull();
+        verify(sanctionRepository, never()).save(any(Sanction.class));
+        verifyNoInteractions(sanctionJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("자동 제재 - 규칙이 없는 대상 타입은 신고 횟수 조회 생략")
+    void applyAutoSanction_NoRules_SkipsCount() {
+        // given
+        given(reportRepository.findById(1L)).willReturn(Optional.of(testReport));
+        given(sanctionRuleCache.hasRules(ReferenceType.PROFILE)).willReturn(false);
+
+        // when
+        Sanction result = sanctionService.applyAutoSanction(1L, "USER-002");
+
+        // then
+        assertThat(result).isNull();
+        verifyNoInteractions(reportStatisticsService);
+        verify(sanctionRepository, never()).save(any(Sanction.class));
+    }
+
+    @Test
+    @DisplayName("자동 제재 - 대상 잠금 후 동일 타입 활성 제재가 있으면 중복 적용하지 않음")
+    void applyAutoSanction_AlreadySanctioned() {
+        // given
+        given(reportRepository.findById(1L)).willReturn(Optional.of(testReport));
+        given(sanctionRuleCache.hasRules(ReferenceType.PROFILE)).willReturn(true);
+        given(reportStatisticsService.getReportCount(ReferenceType.PROFILE, "USER-002", "SPAM")).willReturn(6L);
+        given(sanctionRuleCache.findApplicableRule(ReferenceType.PROFILE, 6L)).willReturn(Optional.of(suspensionRule));
+        given(sanctionJdbcRepository.existsActiveForUpdate("USER-002", SanctionType.SUSPENSION)).willReturn(true);
+
+        // when
+        Sanction result = sanctionService.applyAutoSanction(1L, "USER-002");
+
+        // then
+        assertThat(result).isNull();
+        verify(sanctionRepository, never()).save(any(Sanction.class));
+        InOrder inOrder = inOrder(sanctionJdbcRepository);
+        inOrder.verify(sanctionJdbcRepository).lockTarget("USER-002");
+        inOrder.verify(sanctionJdbcRepository).existsActiveForUpdate("USER-002", SanctionType.SUSPENSION);
+    }
+
+    @Test
+    @DisplayName("자동 제재 - 존재하지 않는 신고")
+    void applyAutoSanction_ReportNotFound() {
+        // given
+        given(reportRepository.findById(999L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> sanctionService.applyAutoSanction(999L, "USER-002"))
+                .isInstanceOf(ReportException.class)
+                .hasMessageContaining(ErrorCode.REPORT_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    @DisplayName("제재 취소 - 정상")
+    void revokeSanction_Success() {
+        // given
+        Sanction sanction = Sanction.builder()
+                .sanctionId(1L)
+                .targetId("USER-002")
+                .sanctionType(SanctionType.WARNING)
+                .reason("경고")
+                .build();
+        given(sanctionRepository.findByIdForUpdate(1L)).willReturn(Optional.of(sanction));
+
+        // when
+        sanctionService.revokeSanction(1L, "ADMIN-001");
+
+        // then
+        assertThat(sanction.getStatus()).isEqualTo(SanctionStatus.REVOKED);
+        verify(sanctionStatusCache, times(1)).evict("USER-002");
+        verify(sanctionBloomFilter, times(1)).remove("USER-002");
+        verify(sanctionOutboxJdbcRepository, times(1)).append(argThat(messages ->
+                messages.get(0).eventType() == SanctionEventType.REVOKED));
+    }
+
+    @Test
+    @DisplayName("제재 취소 - 잠금 후 이미 만료된 제재는 취소/이벤트/Bloom 제거 없이 유지")
+    void revokeSanction_AlreadyExpired_NoOp() {
+        // given
+        Sanction sanction = Sanction.builder()
+                .sanctionId(1L)
+                .targetId("USER-002")
+                .sanctionType(SanctionType.SUSPENSION)
+                .reason("정지")
+                .status(SanctionStatus.EXPIRED)
+                .build();
+        given(sanctionRepository.findByIdForUpdate(1L)).willReturn(Optional.of(sanction));
+
+        // when
+        sanctionService.revokeSanction(1L, "ADMIN-001");
+
+        // then
+        assertThat(sanction.getStatus()).isEqualTo(SanctionStatus.EXPIRED);
+        verifyNoInteractions(sanctionOutboxJdbcRepository, sanctionBloomFilter, sanctionStatusCache);
+    }
+
+    @Test
+    @DisplayName("제재 취소 - 존재하지 않는 제재")
+    void revokeSanction_NotFound() {
+        // given
+        given(sanctionRepository.findByIdForUpdate(999L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> sanctionService.revokeSanction(999L, "ADMIN-001"))
+                .isInstanceOf(ReportException.class)
+                .hasMessageContaining(ErrorCode.SANCTION_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    @DisplayName("제재 조회 - 존재하지 않는 제재")
+    void getSanctionById_NotFound() {
+        // given
+        given(sanctionRepository.findById(999L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> sanctionService.getSanctionById(999L))
+                .isInstanceOf(ReportException.class)
+                .hasMessageContaining(ErrorCode.SANCTION_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    @DisplayName("만료 제재 처리 - 청크 단위 만료 작업에 위임")
+    void expireOldSanctions_DelegatesToJob() {
+        // when
+        sanctionService.expireOldSanctions();
+
+        // then
+        verify(sanctionExpirationJob, times(1)).run();
+        verifyNoInteractions(sanctionStatusCache, sanctionBloomFilter);
+    }
+
+    @Test
+    @DisplayName("제재 여부 확인 - 캐시 미스 시 활성 제재 중 가장 늦은 종료 시각으로 로드")
+    @SuppressWarnings("unchecked")
+    void isSanctioned_LoadsLatestExpiry() {
+        // given
+        LocalDateTime later = LocalDateTime.now().plusDays(7);
+        Sanction shortSanction = Sanction.builder()
+                .sanctionId(1L).targetId("USER-002").sanctionType(SanctionType.SUSPENSION)
+                .reason("정지").expiresAt(LocalDateTime.now().plusDays(1)).build();
+        Sanction longSanction = Sanction.builder()
+                .sanctionId(2L).targetId("USER-002").sanctionType(SanctionType.SUSPENSION)
+                .reason("정지").expiresAt(later).build();
+        given(sanctionRepository.findByTargetIdAndStatus("USER-002", SanctionStatus.ACTIVE))
+                .willReturn(List.of(shortSanction, longSanction));
+        given(sanctionBloomFilter.mightContain("USER-002")).willReturn(true);
+        given(sanctionStatusCache.get(eq("USER-002"), any()))
+                .willAnswer(invocation -> invocation.<Function<String, SanctionState>>getArgument(1).apply("USER-002"));
+
+        // when
+        boolean sanctioned = sanctionService.isSanctioned("USER-002");
+
+        // then
+        assertThat(sanctioned).isTrue();
+        verify(sanctionStatusCache).get(eq("USER-002"), argThat(loader -> loader.apply("USER-002").equals(SanctionState.until(later))));
+    }
+
+    @Test
+    @DisplayName("제재 여부 확인 - 캐시된 제재의 종료 시각이 지났으면 해제로 판정")
+    void isSanctioned_CachedStateExpired() {
+        // given
+        given(sanctionBloomFilter.mightContain("USER-002")).willReturn(true);
+        given(sanctionStatusCache.get(eq("USER-002"), any()))
+                .willReturn(SanctionState.until(LocalDateTime.now().minusSeconds(1)));
+
+        // when & then
+        assertThat(sanctionService.isSanctioned("USER-002")).isFalse();
+        verifyNoInteractions(sanctionRepository);
+        verify(sanctionBloomFilter, times(1)).recordFalsePositive();
+    }
+
+    @Test
+    @DisplayName("제재 여부 확인 - Bloom Filter 확정 음성이면 캐시/DB 조회 생략")
+    void isSanctioned_BloomNegative_ShortCircuits() {
+        // given
+        given(sanctionBloomFilter.mightContain("USER-003")).willReturn(false);
+
+        // when & then
+        assertThat(sanctionService.isSanctioned("USER-003")).isFalse();
+        verifyNoInteractions(sanctionStatusCache, sanctionRepository);
+    }
+
+    @Test
+    @DisplayName("제재 여부 확인 - Bloom Filter 음성이면 트랜잭션과 커넥션을 열지 않음")
+    void isSanctioned_BloomNegative_OpensNoTransaction() throws Exception {
+        // given
+        DataSource dataSource = mock(DataSource.class);
+        ProxyFactory proxyFactory = new ProxyFactory(sanctionService);
+        TransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        proxyFactory.addAdvice(new TransactionInterceptor(transactionManager, new AnnotationTransactionAttributeSource()));
+        SanctionService transactionalService = (SanctionService) proxyFactory.getProxy();
+        given(sanctionBloomFilter.mightContain("USER-003")).willAnswer(invocation -> {
+            assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+            return false;
+        });
+
+        // when
+        boolean sanctioned = transactionalService.isSanctioned("USER-003");
+
+        // then
+        assertThat(sanctioned).isFalse();
+        verify(dataSource, never()).getConnection();
+    }
+}
@@ -0,0 +1,111 @@
+package com.teambind.supportserver.report.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CountingBloomFilter 단위 테스트
+ */
+@DisplayName("CountingBloomFilter 단위 테스트")
+class CountingBloomFilterTest {
+
+    @Test
+    @DisplayName("추가된 원소는 항상 포함 (false negative 없음)")
+    void mightContain_NoFalseNegatives() {
+        // given
+        CountingBloomFilter filter = CountingBloomFilter.create(10_000, 0.01);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("USER-" + i);
+        }
+
+        // then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("USER-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("false positive 비율이 목표치 근처")
+    void mightContain_FalsePositiveRate() {
+        // given
+        CountingBloomFilter filter = CountingBloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("USER-" + i);
+        }
+
+        // when
+        int falsePositives = 0;
+        int trials = 100_000;
+        for (int i = 0; i < trials; i++) {
+            if (filter.mightContain("OTHER-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        double observed = (double) falsePositives / trials;
+        assertThat(observed).isLessThan(0.02);
+        assertThat(filter.expectedFpp(10_000)).isBetween(0.005, 0.015);
+    }
+
+    @Test
+    @DisplayName("삭제 - 같은 키를 여러 번 추가하면 같은 횟수만큼 삭제해야 제거됨")
+    void remove_CountsPerInsertion() {
+        // given
+        CountingBloomFilter filter = CountingBloomFilter.create(1_000, 0.01);
+        filter.add("USER-001");
+        filter.add("USER-001");
+
+        // when
+        filter.remove("USER-001");
+        boolean afterFirstRemove = filter.mightContain("USER-001");
+        filter.remove("USER-001");
+
+        // then
+        assertThat(afterFirstRemove).isTrue();
+        assertThat(filter.mightContain("USER-001")).isFalse();
+    }
+
+    @Test
+    @DisplayName("삭제 - 다른 원소에 영향 없음")
+    void remove_DoesNotAffectOthers() {
+        // given
+        CountingBloomFilter filter = CountingBloomFilter.create(1_000, 0.01);
+        for (int i = 0; i < 500; i++) {
+            filter.add("USER-" + i);
+        }
+
+        // when
+        for (int i = 0; i < 250; i++) {
+            filter.remove("USER-" + i);
+        }
+
+        // then
+        for (int i = 250; i < 500; i++) {
+            assertThat(filter.mightContain("USER-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("메모리 사용량 - 카운터당 4비트")
+    void memoryBytes() {
+        // when
+        CountingBloomFilter filter = CountingBloomFilter.create(1_000_000, 0.01);
+
+        // then
+        assertThat(filter.hashCount()).isEqualTo(7);
+        assertThat(filter.memoryBytes()).isEqualTo((filter.counterCount() + 15) / 16 * Long.BYTES);
+        assertThat(filter.memoryBytes()).isLessThan(5 * 1024 * 1024);
+    }
+
+    @Test
+    @DisplayName("잘못된 파라미터")
+    void create_InvalidArguments() {
+        assertThatThrownBy(() -> CountingBloomFilter.create(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CountingBloomFilter.create(100, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
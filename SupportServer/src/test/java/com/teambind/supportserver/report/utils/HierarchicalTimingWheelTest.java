@@ -0,0 +1,99 @@
+package com.teambind.supportserver.report.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * HierarchicalTimingWheel 단위 테스트
+ */
+@DisplayName("HierarchicalTimingWheel 단위 테스트")
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("만료 시각 이후 한 틱 안에 실행되고 그 전에는 실행되지 않음")
+    void advance_FiresWithinOneTick() {
+        // given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, 8, START);
+        wheel.schedule("A", START + 250);
+        List<String> fired = new ArrayList<>();
+
+        // when & then
+        wheel.advance(START + 249, timer -> fired.add(timer.payload()));
+        assertThat(fired).isEmpty();
+
+        wheel.advance(START + 300, timer -> fired.add(timer.payload()));
+        assertThat(fired).containsExactly("A");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("상위 레벨 타이머가 하위 레벨로 재배치되어 정확한 시각에 실행")
+    void advance_CascadesFromOverflowLevels() {
+        // given - 레벨 0 범위 800ms, 레벨 1 범위 6.4s, 레벨 2 범위 51.2s
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(100, 8, START);
+        Random random = new Random(42);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            long deadline = START + random.nextInt(120_000);
+            deadlines.add(deadline);
+            wheel.schedule(deadline, deadline);
+        }
+        assertThat(wheel.levelCount()).isGreaterThanOrEqualTo(3);
+
+        // when
+        List<long[]> fired = new ArrayList<>();
+        for (long now = START; now <= START + 121_000; now += 37) {
+            long current = now;
+            wheel.advance(now, timer -> fired.add(new long[]{timer.payload(), current}));
+        }
+
+        // then
+        assertThat(fired).hasSize(deadlines.size());
+        for (long[] entry : fired) {
+            long lateness = entry[1] - entry[0];
+            assertThat(lateness).isBetween(0L, 100L + 37L);
+        }
+    }
+
+    @Test
+    @DisplayName("이미 지난 만료 시각은 다음 틱에 실행")
+    void schedule_PastDeadlineFiresOnNextTick() {
+        // given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, 8, START);
+        wheel.schedule("OVERDUE", START - 60_000);
+        List<String> fired = new ArrayList<>();
+
+        // when
+        wheel.advance(START + 100, timer -> fired.add(timer.payload()));
+
+        // then
+        assertThat(fired).containsExactly("OVERDUE");
+    }
+
+    @Test
+    @DisplayName("취소된 타이머는 실행되지 않음")
+    void cancel_RemovesTimer() {
+        // given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, 8, START);
+        HierarchicalTimingWheel.Timer<String> timer = wheel.schedule("A", START + 5_000);
+        wheel.schedule("B", START + 5_000);
+
+        // when
+        boolean cancelled = wheel.cancel(timer);
+        List<String> fired = new ArrayList<>();
+        wheel.advance(START + 10_000, t -> fired.add(t.payload()));
+
+        // then
+        assertThat(cancelled).isTrue();
+        assertThat(wheel.cancel(timer)).isFalse();
+        assertThat(fired).containsExactly("B");
+    }
+}
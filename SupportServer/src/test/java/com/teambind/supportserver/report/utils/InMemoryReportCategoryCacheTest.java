@@ -0,0 +1,396 @@
+package com.teambind.supportserver.report.utils;
+
+import com.teambind.supportserver.common.cache.ClusterCacheInvalidator;
+import com.teambind.supportserver.report.aop.PerformanceMonitoringAspect;
+import com.teambind.supportserver.report.entity.ReportCategory;
+import com.teambind.supportserver.report.entity.embeddable.ReportCategoryId;
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
+import com.teambind.supportserver.report.repository.ReportCategoryRepository;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * InMemoryReportCategoryCache 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InMemoryReportCategoryCache 단위 테스트")
+class InMemoryReportCategoryCacheTest {
+
+    @Mock
+    private ReportCategoryRepository reportCategoryRepository;
+
+    @Mock
+    private ClusterCacheInvalidator cacheInvalidator;
+
+    private InMemoryReportCategoryCache reportCategoryCache;
+
+    @BeforeEach
+    void setUp() {
+        reportCategoryCache = new InMemoryReportCategoryCache(reportCategoryRepository, cacheInvalidator,
+                new SimpleMeterRegistry(), 0, 5000);
+    }
+
+    private ReportCategory category(ReferenceType referenceType, String name, LocalDateTime updatedAt) {
+        return ReportCategory.builder()
+                .id(new ReportCategoryId(referenceType, name))
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    @Test
+    @DisplayName("초기화 전에는 빈 결과를 반환한다")
+    void get_NotInitialized() {
+        // when & then
+        assertThat(reportCategoryCache.isInitialized()).isFalse();
+        assertThat(reportCategoryCache.size()).isZero();
+        assertThat(reportCategoryCache.get(ReferenceType.PROFILE, "spam")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("정규화된 입력, 대소문자/공백이 다른 입력, 복합키 모두 같은 카테고리를 조회한다")
+    void get_NormalizedAndRawInput() {
+        // given
+        given(reportCategoryRepository.findAll()).willReturn(List.of(
+                ReportCategory.of(ReferenceType.PROFILE, "Spam"),
+                ReportCategory.of(ReferenceType.ARTICLE, "기타")
+        ));
+        reportCategoryCache.reload();
+
+        // when & then
+        assertThat(reportCategoryCache.size()).isEqualTo(2);
+        assertThat(reportCategoryCache.get(ReferenceType.PROFILE, "spam")).isPresent();
+        assertThat(reportCategoryCache.get(ReferenceType.PROFILE, "Spam")).isPresent();
+        assertThat(reportCategoryCache.get(ReferenceType.PROFILE, "  SPAM ")).isPresent();
+        assertThat(reportCategoryCache.get(new ReportCategoryId(ReferenceType.PROFILE, "SPAM"))).isPresent();
+        assertThat(reportCategoryCache.get(ReferenceType.ARTICLE, "기타")).isPresent();
+
+        assertThat(reportCategoryCache.get(ReferenceType.ARTICLE, "spam")).isEmpty();
+        assertThat(reportCategoryCache.get(ReferenceType.PROFILE, "unknown")).isEmpty();
+        assertThat(reportCategoryCache.get(ReferenceType.PROFILE, null)).isEmpty();
+        assertThat(reportCategoryCache.get(null, "spam")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("정규화 키가 중복되면 먼저 나온 카테고리를 유지한다")
+    void load_DuplicateKeepsFirst() {
+        // given
+        ReportCategory first = ReportCategory.of(ReferenceType.PROFILE, "spam");
+        given(reportCategoryRepository.findAll()).willReturn(List.of(
+                first,
+                ReportCategory.of(ReferenceType.PROFILE, " SPAM")
+        ));
+        reportCategoryCache.reload();
+
+        // when & then
+        assertThat(reportCategoryCache.size()).isEqualTo(1);
+        assertThat(reportCategoryCache.get(ReferenceType.PROFILE, " SPAM")).containsSame(first);
+    }
+
+    @Test
+    @DisplayName("정규화된 입력 조회는 객체를 할당하지 않는다")
+    void get_NormalizedInputDoesNotAllocate() {
+        // given
+        given(reportCategoryRepository.findAll()).willReturn(List.of(
+                ReportCategory.of(ReferenceType.PROFILE, "spam"),
+                ReportCategory.of(ReferenceType.PROFILE, "부적절한 닉네임")
+        ));
+        reportCategoryCache.reload();
+        String hit = "spam";
+        String koreanHit = "부적절한 닉네임";
+        String miss = "unknown";
+        for (int i = 0; i < 10_000; i++) {
+            reportCategoryCache.get(ReferenceType.PROFILE, hit);
+            reportCategoryCache.get(ReferenceType.PROFILE, koreanHit);
+            reportCategoryCache.get(ReferenceType.PROFILE, miss);
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        // when
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        int found = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (reportCategoryCache.get(ReferenceType.PROFILE, hit).isPresent()) {
+                found++;
+            }
+            if (reportCategoryCache.get(ReferenceType.PROFILE, koreanHit).isPresent()) {
+                found++;
+            }
+            if (reportCategoryCache.get(ReferenceType.PROFILE, miss).isPresent()) {
+                found++;
+            }
+        }
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+
+        // then - 조회마다 키나 Optional을 할당하면 최소 수 MB가 할당됨
+        assertThat(found).isEqualTo(200_000);
+        assertThat(allocated).isLessThan(64 * 1024);
+        assertThat(reportCategoryCache.get(ReferenceType.PROFILE, hit))
+                .isSameAs(reportCategoryCache.get(ReferenceType.PROFILE, hit));
+    }
+
+    @Test
+    @DisplayName("리로드 중에도 조회 스레드는 빈 캐시를 보지 않는다")
+    void reload_NeverExposesEmptyCache() throws InterruptedException {
+        // given
+        given(reportCategoryRepository.findAll()).willAnswer(invocation -> List.of(
+                ReportCategory.of(ReferenceType.PROFILE, "spam"),
+                ReportCategory.of(ReferenceType.ARTICLE, "광고")
+        ));
+        reportCategoryCache.reload();
+
+        int readerCount = 4;
+        ExecutorService executorService = Executors.newFixedThreadPool(readerCount);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger misses = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(readerCount);
+        for (int i = 0; i < readerCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    while (running.get()) {
+                        Optional<ReportCategory> result = reportCategoryCache.get(ReferenceType.PROFILE, "spam");
+                        if (result.isEmpty()) {
+                            misses.incrementAndGet();
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // when
+        for (int i = 0; i < 500; i++) {
+            reportCategoryCache.reload();
+        }
+        running.set(false);
+        done.await(5, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(misses).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("수동 리로드는 클러스터에 무효화를 전파하고, 초기화는 전파하지 않는다")
+    void reload_PublishesInvalidation() {
+        // given
+        given(reportCategoryRepository.findAll()).willReturn(List.of(
+                ReportCategory.of(ReferenceType.PROFILE, "spam")
+        ));
+
+        // when
+        reportCategoryCache.run(null);
+
+        // then
+        assertThat(reportCategoryCache.isInitialized()).isTrue();
+        verify(cacheInvalidator).register(eq(InMemoryReportCategoryCache.CACHE_NAME), any(Runnable.class));
+        verify(cacheInvalidator, never()).publish(anyString());
+
+        // when
+        reportCategoryCache.reload();
+
+        // then
+        verify(cacheInvalidator).publish(InMemoryReportCategoryCache.CACHE_NAME);
+    }
+
+    @Test
+    @DisplayName("증분 동기화는 마지막 동기화 버전 이후 변경분만 조회하여 반영한다")
+    void syncChanges_AppliesDelta() {
+        // given
+        LocalDateTime t0 = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime t1 = t0.plusMinutes(1);
+        given(reportCategoryRepository.findAll()).willReturn(List.of(
+                category(ReferenceType.PROFILE, "spam", t0),
+                category(ReferenceType.PROFILE, "abuse", t0)
+        ));
+        reportCategoryCache.reload();
+        given(reportCategoryRepository.findByUpdatedAtGreaterThanEqual(t0.minusSeconds(5))).willReturn(List.of(
+                category(ReferenceType.ARTICLE, "광고", t1)
+        ));
+        given(reportCategoryRepository.findAllIds()).willReturn(List.of(
+                new ReportCategoryId(ReferenceType.PROFILE, "spam"),
+                new ReportCategoryId(ReferenceType.PROFILE, "abuse"),
+                new ReportCategoryId(ReferenceType.ARTICLE, "광고")));
+
+        // when
+        reportCategoryCache.syncChanges();
+
+        // then
+        assertThat(reportCategoryCache.size()).isEqualTo(3);
+        assertThat(reportCategoryCache.get(ReferenceType.ARTICLE, "광고")).isPresent();
+        assertThat(reportCategoryCache.get(ReferenceType.PROFILE, "spam")).isPresent();
+        verify(reportCategoryRepository, times(1)).findAll();
+
+        ReportCategoryCache.SyncStatus status = reportCategoryCache.getSyncStatus();
+        assertThat(status.lastSyncVersion()).isEqualTo(t1);
+        assertThat(status.lastSyncType()).isEqualTo("DELTA");
+        assertThat(status.lastDeltaSize()).isEqualTo(1);
+        assertThat(status.fullReloads()).isEqualTo(1);
+        assertThat(status.deltaSyncs()).isEqualTo(1);
+        assertThat(status.lastSyncAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("증분 반영 후 키 집합이 DB와 다르면(삭제) 전체 리로드한다")
+    void syncChanges_FallsBackToFullReloadOnDelete() {
+        // given
+        LocalDateTime t0 = LocalDateTime.of(2025, 1, 1, 0, 0);
+        given(reportCategoryRepository.findAll())
+                .willReturn(List.of(
+                        category(ReferenceType.PROFILE, "spam", t0),
+                        category(ReferenceType.PROFILE, "abuse", t0)))
+                .willReturn(List.of(
+                        category(ReferenceType.PROFILE, "spam", t0)));
+        reportCategoryCache.reload();
+        given(reportCategoryRepository.findByUpdatedAtGreaterThanEqual(any())).willReturn(List.of());
+        given(reportCategoryRepository.findAllIds()).willReturn(List.of(
+                new ReportCategoryId(ReferenceType.PROFILE, "spam")));
+
+        // when
+        reportCategoryCache.syncChanges();
+
+        // then
+        assertThat(reportCategoryCache.size()).isEqualTo(1);
+        assertThat(reportCategoryCache.get(ReferenceType.PROFILE, "abuse")).isEmpty();
+        assertThat(reportCategoryCache.getSyncStatus().lastSyncType()).isEqualTo("FULL");
+        assertThat(reportCategoryCache.getSyncStatus().fullReloads()).isEqualTo(2);
+        verify(cacheInvalidator, times(1)).publish(InMemoryReportCategoryCache.CACHE_NAME);
+    }
+
+    @Test
+    @DisplayName("정규화 키가 중복된 행이 있어도 키 비교로 매번 전체 리로드하지 않는다")
+    void syncChanges_DuplicateRowsDoNotForceFullReload() {
+        // given
+        LocalDateTime t0 = LocalDateTime.of(2025, 1, 1, 0, 0);
+        given(reportCategoryRepository.findAll()).willReturn(List.of(
+                category(ReferenceType.PROFILE, "spam", t0),
+                category(ReferenceType.PROFILE, "SPAM", t0)
+        ));
+        reportCategoryCache.reload();
+        given(reportCategoryRepository.findByUpdatedAtGreaterThanEqual(any())).willReturn(List.of(
+                category(ReferenceType.PROFILE, "SPAM", t0)
+        ));
+        given(reportCategoryRepository.findAllIds()).willReturn(List.of(
+                new ReportCategoryId(ReferenceType.PROFILE, "spam"),
+                new ReportCategoryId(ReferenceType.PROFILE, "SPAM")));
+
+        // when
+        reportCategoryCache.syncChanges();
+
+        // then
+        assertThat(reportCategoryCache.size()).isEqualTo(1);
+        assertThat(reportCategoryCache.getSyncStatus().lastSyncType()).isEqualTo("DELTA");
+        verify(reportCategoryRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("같은 주기에 삭제와 추가가 함께 일어나 건수가 같아도 삭제를 감지하여 전체 리로드한다")
+    void syncChanges_DetectsDeleteWithInsertInSameInterval() {
+        // given
+        LocalDateTime t0 = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime t1 = t0.plusMinutes(1);
+        given(reportCategoryRepository.findAll())
+                .willReturn(List.of(
+                        category(ReferenceType.PROFILE, "spam", t0),
+                        category(ReferenceType.PROFILE, "abuse", t0)))
+                .willReturn(List.of(
+                        category(ReferenceType.PROFILE, "spam", t0),
+                        category(ReferenceType.ARTICLE, "광고", t1)));
+        reportCategoryCache.reload();
+        given(reportCategoryRepository.findByUpdatedAtGreaterThanEqual(any())).willReturn(List.of(
+                category(ReferenceType.ARTICLE, "광고", t1)
+        ));
+        given(reportCategoryRepository.findAllIds()).willReturn(List.of(
+                new ReportCategoryId(ReferenceType.PROFILE, "spam"),
+                new ReportCategoryId(ReferenceType.ARTICLE, "광고")));
+
+        // when
+        reportCategoryCache.syncChanges();
+
+        // then
+        assertThat(reportCategoryCache.size()).isEqualTo(2);
+        assertThat(reportCategoryCache.get(ReferenceType.PROFILE, "abuse")).isEmpty();
+        assertThat(reportCategoryCache.get(ReferenceType.ARTICLE, "광고")).isPresent();
+        assertThat(reportCategoryCache.getSyncStatus().lastSyncType()).isEqualTo("FULL");
+    }
+
+    @Test
+    @DisplayName("조회 지연 시간은 캐시 타이머에 1/N 샘플링으로 기록하고, 비율이 0이면 타이머를 등록하지 않는다")
+    void get_SamplesLookupLatency() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        InMemoryReportCategoryCache sampledCache = new InMemoryReportCategoryCache(reportCategoryRepository,
+                cacheInvalidator, registry, 8, 5000);
+        given(reportCategoryRepository.findAll()).willReturn(List.of(
+                category(ReferenceType.PROFILE, "spam", LocalDateTime.of(2025, 1, 1, 0, 0))));
+        sampledCache.reload();
+
+        // when
+        for (int i = 0; i < 80_000; i++) {
+            sampledCache.get(ReferenceType.PROFILE, "spam");
+        }
+
+        // then
+        Timer timer = registry.find(PerformanceMonitoringAspect.METRIC_NAME)
+                .tag("layer", PerformanceMonitoringAspect.LAYER_CACHE)
+                .tag("class", "ReportCategoryCache")
+                .tag("method", "get")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isBetween(8_000L, 12_000L);
+        assertThat(sampledCache.getLatencySampleRate()).isEqualTo(8);
+
+        SimpleMeterRegistry unused = new SimpleMeterRegistry();
+        new InMemoryReportCategoryCache(reportCategoryRepository, cacheInvalidator, unused, 0, 5000);
+        assertThat(unused.getMeters()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조회 지연 시간 - 메트릭 초기화 후에도 새로 등록된 타이머에 기록")
+    void get_RecordsLatencyAfterMetricsReset() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PerformanceMonitoringAspect aspect = new PerformanceMonitoringAspect(registry, 1, 1);
+        InMemoryReportCategoryCache sampledCache = new InMemoryReportCategoryCache(reportCategoryRepository,
+                cacheInvalidator, registry, 1, 5000);
+        given(reportCategoryRepository.findAll()).willReturn(List.of(
+                category(ReferenceType.PROFILE, "spam", LocalDateTime.of(2025, 1, 1, 0, 0))));
+        sampledCache.reload();
+        sampledCache.get(ReferenceType.PROFILE, "spam");
+
+        // when
+        aspect.resetMetrics();
+        sampledCache.get(ReferenceType.PROFILE, "spam");
+        sampledCache.get(ReferenceType.PROFILE, "spam");
+
+        // then
+        Timer timer = registry.find(PerformanceMonitoringAspect.METRIC_NAME)
+                .tag("layer", PerformanceMonitoringAspect.LAYER_CACHE)
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,192 @@
+package com.teambind.supportserver.report.utils;
+
+import com.teambind.supportserver.common.cache.ClusterCacheInvalidator;
+import com.teambind.supportserver.common.cache.InMemoryCacheInvalidationTransport;
+import com.teambind.supportserver.report.entity.enums.SanctionStatus;
+import com.teambind.supportserver.report.repository.SanctionRepository;
+import com.teambind.supportserver.report.repository.SanctionTarget;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * InMemorySanctionBloomFilter 단위 테스트
+ *
+ * <p>인메모리 전송 계층 하나를 여러 인스턴스가 공유하도록 하여 클러스터 전파를 재현합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InMemorySanctionBloomFilter 단위 테스트")
+class InMemorySanctionBloomFilterTest {
+
+    @Mock
+    private SanctionRepository sanctionRepository;
+
+    private final InMemoryCacheInvalidationTransport transport = new InMemoryCacheInvalidationTransport();
+    private final List<ClusterCacheInvalidator> invalidators = new ArrayList<>();
+
+    private InMemorySanctionBloomFilter bloomFilter;
+
+    @BeforeEach
+    void setUp() {
+        bloomFilter = newFilter(invalidator(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        invalidators.forEach(ClusterCacheInvalidator::destroy);
+    }
+
+    @Test
+    @DisplayName("재구성 - 키셋 청크 단위로 활성 제재를 읽어 필터 구성")
+    void rebuild_StreamsChunks() {
+        // given
+        given(sanctionRepository.countByStatus(SanctionStatus.ACTIVE)).willReturn(3L);
+        given(sanctionRepository.findTargetsByStatusAfter(eq(SanctionStatus.ACTIVE), eq(0L), any(Pageable.class)))
+                .willReturn(List.of(new SanctionTarget(1L, "USER-001"), new SanctionTarget(2L, "USER-002")));
+        given(sanctionRepository.findTargetsByStatusAfter(eq(SanctionStatus.ACTIVE), eq(2L), any(Pageable.class)))
+                .willReturn(List.of(new SanctionTarget(3L, "USER-003")));
+
+        // when
+        bloomFilter.rebuild();
+
+        // then
+        assertThat(bloomFilter.isInitialized()).isTrue();
+        assertThat(bloomFilter.mightContain("USER-001")).isTrue();
+        assertThat(bloomFilter.mightContain("USER-003")).isTrue();
+        assertThat(bloomFilter.mightContain("USER-999")).isFalse();
+        assertThat(bloomFilter.getMetrics().elementCount()).isEqualTo(3);
+        verify(sanctionRepository, times(2)).findTargetsByStatusAfter(eq(SanctionStatus.ACTIVE), anyLong(), any(Pageable.class));
+        verify(sanctionRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("초기화 전 - 판단 불가이므로 항상 양성")
+    void mightContain_BeforeInitialization() {
+        assertThat(bloomFilter.isInitialized()).isFalse();
+        assertThat(bloomFilter.mightContain("USER-001")).isTrue();
+        assertThat(bloomFilter.getMetrics().queries()).isZero();
+    }
+
+    @Test
+    @DisplayName("증분 갱신 - 추가 후 양성, 제거 후 음성")
+    void addAndRemove() {
+        // given
+        rebuildEmpty();
+
+        // when & then
+        bloomFilter.add("USER-001");
+        assertThat(bloomFilter.mightContain("USER-001")).isTrue();
+
+        bloomFilter.remove("USER-001");
+        assertThat(bloomFilter.mightContain("USER-001")).isFalse();
+        assertThat(bloomFilter.getMetrics().elementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("메트릭 - 확정 음성, false positive 비율, 메모리 사용량")
+    void metrics() {
+        // given
+        rebuildEmpty();
+        bloomFilter.add("USER-001");
+
+        // when
+        bloomFilter.mightContain("USER-002");
+        bloomFilter.mightContain("USER-003");
+        bloomFilter.mightContain("USER-004");
+        bloomFilter.mightContain("USER-001");
+        bloomFilter.recordFalsePositive();
+
+        // then
+        InMemorySanctionBloomFilter.Metrics metrics = bloomFilter.getMetrics();
+        assertThat(metrics.queries()).isEqualTo(4);
+        assertThat(metrics.negatives()).isEqualTo(3);
+        assertThat(metrics.falsePositives()).isEqualTo(1);
+        assertThat(metrics.observedFpp()).isEqualTo(0.25);
+        assertThat(metrics.memoryBytes()).isPositive();
+        assertThat(metrics.expectedFpp()).isLessThan(0.01);
+    }
+
+    @Test
+    @DisplayName("재구성 실패 - 기존 필터 유지")
+    void rebuild_Failure_KeepsPreviousFilter() {
+        // given
+        rebuildEmpty();
+        bloomFilter.add("USER-001");
+        given(sanctionRepository.findTargetsByStatusAfter(any(), anyLong(), any(Pageable.class)))
+                .willThrow(new RuntimeException("DB down"));
+
+        // when & then
+        assertThatThrownBy(() -> bloomFilter.rebuild()).isInstanceOf(RuntimeException.class);
+        assertThat(bloomFilter.mightContain("USER-001")).isTrue();
+    }
+
+    @Test
+    @DisplayName("전파 - 한 인스턴스에서 추가한 대상은 다른 인스턴스 필터에서도 양성")
+    void add_PropagatesToOtherInstances() {
+        // given
+        stubEmptyRebuild();
+        InMemorySanctionBloomFilter other = newFilter(invalidator(0));
+        bloomFilter.run(null);
+        other.run(null);
+
+        // when
+        bloomFilter.add("USER-001");
+
+        // then
+        assertThat(other.mightContain("USER-001")).isTrue();
+        assertThat(other.mightContain("USER-002")).isFalse();
+        assertThat(other.getMetrics().elementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전파 유실 - 버전 키로 유실이 확인되면 재구성 전까지 음성 판정 대신 통과")
+    void missedAdd_PassesThroughUntilRebuild() {
+        // given
+        stubEmptyRebuild();
+        ClusterCacheInvalidator otherInvalidator = invalidator(60_000);
+        InMemorySanctionBloomFilter other = newFilter(otherInvalidator);
+        other.run(null);
+        assertThat(other.mightContain("USER-001")).isFalse();
+
+        // when: 메시지 없이 버전만 증가 (pub/sub 유실)
+        transport.incrementVersion(InMemorySanctionBloomFilter.CACHE_NAME);
+        otherInvalidator.pollVersions();
+
+        // then
+        assertThat(otherInvalidator.isBehind(InMemorySanctionBloomFilter.CACHE_NAME)).isTrue();
+        assertThat(other.mightContain("USER-001")).isTrue();
+    }
+
+    private ClusterCacheInvalidator invalidator(long maxJitterMs) {
+        ClusterCacheInvalidator invalidator = new ClusterCacheInvalidator(transport, maxJitterMs);
+        invalidators.add(invalidator);
+        return invalidator;
+    }
+
+    private InMemorySanctionBloomFilter newFilter(ClusterCacheInvalidator invalidator) {
+        return new InMemorySanctionBloomFilter(sanctionRepository, invalidator, 1_000, 0.01, 2);
+    }
+
+    private void stubEmptyRebuild() {
+        given(sanctionRepository.countByStatus(SanctionStatus.ACTIVE)).willReturn(0L);
+        given(sanctionRepository.findTargetsByStatusAfter(eq(SanctionStatus.ACTIVE), eq(0L), any(Pageable.class)))
+                .willReturn(List.of());
+    }
+
+    private void rebuildEmpty() {
+        stubEmptyRebuild();
+        bloomFilter.rebuild();
+    }
+}
@@ -0,0 +1,141 @@
+package com.teambind.supportserver.report.utils;
+
+import com.teambind.supportserver.report.entity.SanctionRule;
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
+import com.teambind.supportserver.report.entity.enums.SanctionType;
+import com.teambind.supportserver.report.repository.SanctionRuleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * InMemorySanctionRuleCache 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InMemorySanctionRuleCache 단위 테스트")
+class InMemorySanctionRuleCacheTest {
+
+    @Mock
+    private SanctionRuleRepository sanctionRuleRepository;
+
+    @InjectMocks
+    private InMemorySanctionRuleCache sanctionRuleCache;
+
+    private SanctionRule rule(String ruleId, ReferenceType referenceType, int threshold, SanctionType sanctionType) {
+        return SanctionRule.builder()
+                .ruleId(ruleId)
+                .referenceType(referenceType)
+                .reportThreshold(threshold)
+                .sanctionType(sanctionType)
+                .duration(sanctionType == SanctionType.SUSPENSION ? 7 : null)
+                .build();
+    }
+
+    @Test
+    @DisplayName("임계값 이진 탐색 - 신고 횟수 이하의 가장 큰 임계값 규칙 반환")
+    void findApplicableRule_Floor() {
+        // given
+        given(sanctionRuleRepository.findByIsActiveTrue()).willReturn(List.of(
+                rule("RULE-3", ReferenceType.PROFILE, 20, SanctionType.PERMANENT_BAN),
+                rule("RULE-1", ReferenceType.PROFILE, 3, SanctionType.WARNING),
+                rule("RULE-2", ReferenceType.PROFILE, 10, SanctionType.SUSPENSION)
+        ));
+        sanctionRuleCache.reload();
+
+        // when & then
+        assertThat(sanctionRuleCache.findApplicableRule(ReferenceType.PROFILE, 2)).isEmpty();
+        assertThat(sanctionRuleCache.findApplicableRule(ReferenceType.PROFILE, 3)).get()
+                .extracting(SanctionRule::getRuleId).isEqualTo("RULE-1");
+        assertThat(sanctionRuleCache.findApplicableRule(ReferenceType.PROFILE, 9)).get()
+                .extracting(SanctionRule::getRuleId).isEqualTo("RULE-1");
+        assertThat(sanctionRuleCache.findApplicableRule(ReferenceType.PROFILE, 10)).get()
+                .extracting(SanctionRule::getRuleId).isEqualTo("RULE-2");
+        assertThat(sanctionRuleCache.findApplicableRule(ReferenceType.PROFILE, Long.MAX_VALUE)).get()
+                .extracting(SanctionRule::getRuleId).isEqualTo("RULE-3");
+        assertThat(sanctionRuleCache.getRules(ReferenceType.PROFILE))
+                .extracting(SanctionRule::getReportThreshold).containsExactly(3, 10, 20);
+    }
+
+    @Test
+    @DisplayName("대상 타입별 분리 - 규칙이 없는 타입은 빈 값")
+    void findApplicableRule_PerReferenceType() {
+        // given
+        given(sanctionRuleRepository.findByIsActiveTrue()).willReturn(List.of(
+                rule("RULE-1", ReferenceType.PROFILE, 3, SanctionType.WARNING)
+        ));
+        sanctionRuleCache.reload();
+
+        // when & then
+        assertThat(sanctionRuleCache.hasRules(ReferenceType.PROFILE)).isTrue();
+        assertThat(sanctionRuleCache.hasRules(ReferenceType.ARTICLE)).isFalse();
+        assertThat(sanctionRuleCache.findApplicableRule(ReferenceType.ARTICLE, 100)).isEmpty();
+        assertThat(sanctionRuleCache.getRules(ReferenceType.ARTICLE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("동일 임계값 중복 - 더 강한 제재 규칙 유지")
+    void load_DuplicateThreshold_KeepsStrongest() {
+        // given
+        given(sanctionRuleRepository.findByIsActiveTrue()).willReturn(List.of(
+                rule("RULE-WARN", ReferenceType.PROFILE, 5, SanctionType.WARNING),
+                rule("RULE-BAN", ReferenceType.PROFILE, 5, SanctionType.PERMANENT_BAN)
+        ));
+
+        // when
+        sanctionRuleCache.reload();
+
+        // then
+        assertThat(sanctionRuleCache.size()).isEqualTo(1);
+        assertThat(sanctionRuleCache.findApplicableRule(ReferenceType.PROFILE, 5)).get()
+                .extracting(SanctionRule::getRuleId).isEqualTo("RULE-BAN");
+    }
+
+    @Test
+    @DisplayName("리로드 - 새 스냅샷으로 교체")
+    void reload_ReplacesSnapshot() {
+        // given
+        given(sanctionRuleRepository.findByIsActiveTrue())
+                .willReturn(List.of(rule("RULE-1", ReferenceType.PROFILE, 3, SanctionType.WARNING)))
+                .willReturn(List.of(rule("RULE-2", ReferenceType.ARTICLE, 5, SanctionType.SUSPENSION)));
+        sanctionRuleCache.reload();
+
+        // when
+        sanctionRuleCache.reload();
+
+        // then
+        assertThat(sanctionRuleCache.isInitialized()).isTrue();
+        assertThat(sanctionRuleCache.hasRules(ReferenceType.PROFILE)).isFalse();
+        assertThat(sanctionRuleCache.findApplicableRule(ReferenceType.ARTICLE, 5)).get()
+                .extracting(SanctionRule::getRuleId).isEqualTo("RULE-2");
+    }
+
+    @Test
+    @DisplayName("리로드 실패 - 기존 인덱스 유지")
+    void reload_Failure_KeepsPreviousSnapshot() {
+        // given
+        given(sanctionRuleRepository.findByIsActiveTrue())
+                .willReturn(List.of(rule("RULE-1", ReferenceType.PROFILE, 3, SanctionType.WARNING)))
+                .willThrow(new RuntimeException("DB down"));
+        sanctionRuleCache.reload();
+
+        // when & then
+        assertThatThrownBy(() -> sanctionRuleCache.reload()).isInstanceOf(RuntimeException.class);
+        assertThat(sanctionRuleCache.findApplicableRule(ReferenceType.PROFILE, 3)).isPresent();
+    }
+
+    @Test
+    @DisplayName("초기화 전 - 규칙 없음")
+    void beforeInitialization() {
+        assertThat(sanctionRuleCache.isInitialized()).isFalse();
+        assertThat(sanctionRuleCache.size()).isZero();
+        assertThat(sanctionRuleCache.findApplicableRule(ReferenceType.PROFILE, 100)).isEmpty();
+    }
+}
@@ -0,0 +1,81 @@
+package com.teambind.supportserver.report.utils;
+
+import com.teambind.supportserver.report.dto.request.ReportSearchRequest;
+import com.teambind.supportserver.report.entity.Report;
+import com.teambind.supportserver.report.entity.enums.ReportStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ReportCursor 단위 테스트
+ */
+@DisplayName("ReportCursor 단위 테스트")
+class ReportCursorTest {
+
+    private final Report report = Report.builder()
+            .reportId(1L)
+            .reporterId("USER-001")
+            .reportedId("USER-002")
+            .reason("테스트 신고")
+            .reportedAt(LocalDateTime.of(2025, 1, 1, 10, 30, 15, 123_000_000))
+            .status(ReportStatus.REVIEWING)
+            .build();
+
+    @Test
+    @DisplayName("신고일 기준 커서 인코딩/디코딩")
+    void encodeDecode_ReportedAt() {
+        // when
+        String token = ReportCursor.encode(report, ReportSearchRequest.SortType.REPORTED_AT);
+        ReportCursor cursor = ReportCursor.decode(token, ReportSearchRequest.SortType.REPORTED_AT).orElseThrow();
+
+        // then
+        assertThat(token).doesNotContain("|", "=", "+", "/");
+        assertThat(cursor.getReportedAt()).isEqualTo(report.getReportedAt());
+        assertThat(cursor.getReportId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("상태 기준 커서 인코딩/디코딩")
+    void encodeDecode_Status() {
+        // when
+        String token = ReportCursor.encode(report, ReportSearchRequest.SortType.STATUS);
+        ReportCursor cursor = ReportCursor.decode(token, ReportSearchRequest.SortType.STATUS).orElseThrow();
+
+        // then
+        assertThat(cursor.getStatus()).isEqualTo(ReportStatus.REVIEWING);
+        assertThat(cursor.getReportId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("정렬 기준이 다른 커서는 빈 값 반환")
+    void decode_SortTypeMismatch() {
+        // given
+        String token = ReportCursor.encode(report, ReportSearchRequest.SortType.STATUS);
+
+        // when & then
+        assertThat(ReportCursor.decode(token, ReportSearchRequest.SortType.REPORTED_AT)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("잘못된 형식의 커서는 빈 값 반환")
+    void decode_Invalid() {
+        String badValue = Base64.getUrlEncoder()
+                .encodeToString("STATUS|UNKNOWN|REPORT-001".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(ReportCursor.decode(null, ReportSearchRequest.SortType.REPORTED_AT)).isEmpty();
+        assertThat(ReportCursor.decode("", ReportSearchRequest.SortType.REPORTED_AT)).isEmpty();
+        assertThat(ReportCursor.decode("2025-01-01T00:00", ReportSearchRequest.SortType.REPORTED_AT)).isEmpty();
+        assertThat(ReportCursor.decode("!!not-base64!!", ReportSearchRequest.SortType.REPORTED_AT)).isEmpty();
+        assertThat(ReportCursor.decode(badValue, ReportSearchRequest.SortType.STATUS)).isEmpty();
+        // 숫자가 아닌 신고 ID (BIGINT 전환 이전 형식)
+        String legacyId = Base64.getUrlEncoder()
+                .encodeToString("REPORTED_AT|2025-01-01T00:00|REPORT-001".getBytes(StandardCharsets.UTF_8));
+        assertThat(ReportCursor.decode(legacyId, ReportSearchRequest.SortType.REPORTED_AT)).isEmpty();
+    }
+}
@@ -0,0 +1,75 @@
+package com.teambind.supportserver.report.utils;
+
+import com.teambind.supportserver.report.dto.response.ReportResponse;
+import com.teambind.supportserver.report.entity.enums.ReferenceType;
+import com.teambind.supportserver.report.entity.enums.ReportStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ReportSubmissionWindow 단위 테스트
+ */
+@DisplayName("ReportSubmissionWindow 단위 테스트")
+class ReportSubmissionWindowTest {
+
+    @Test
+    @DisplayName("창 안의 같은 신고자/대상 재제출은 직전 결과를 중복으로 표시해 반환")
+    void find_SameKeyWithinWindow_ReturnsDuplicateCopy() {
+        // given
+        ReportSubmissionWindow window = new ReportSubmissionWindow(60_000, 1_000);
+        ReportResponse created = response("1", "USER-001", ReferenceType.PROFILE, "USER-002");
+        window.record(created);
+
+        // when
+        ReportResponse found = window.find("USER-001", ReferenceType.PROFILE, "USER-002").orElseThrow();
+
+        // then
+        assertThat(found.getReportId()).isEqualTo("1");
+        assertThat(found.getDuplicate()).isTrue();
+        assertThat(created.getDuplicate()).isNull(); // 기록된 원본은 변경하지 않음
+    }
+
+    @Test
+    @DisplayName("신고자, 대상 타입, 대상 중 하나라도 다르면 중복이 아님")
+    void find_DifferentKey_Empty() {
+        // given
+        ReportSubmissionWindow window = new ReportSubmissionWindow(60_000, 1_000);
+        window.record(response("1", "USER-001", ReferenceType.PROFILE, "USER-002"));
+
+        // when & then
+        assertThat(window.find("USER-003", ReferenceType.PROFILE, "USER-002")).isEmpty();
+        assertThat(window.find("USER-001", ReferenceType.ARTICLE, "USER-002")).isEmpty();
+        assertThat(window.find("USER-001", ReferenceType.PROFILE, "USER-004")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("창 시간이 지나면 중복으로 보지 않음")
+    void find_AfterWindow_Empty() throws InterruptedException {
+        // given
+        ReportSubmissionWindow window = new ReportSubmissionWindow(50, 1_000);
+        window.record(response("1", "USER-001", ReferenceType.PROFILE, "USER-002"));
+
+        // when
+        Thread.sleep(200);
+
+        // then
+        assertThat(window.find("USER-001", ReferenceType.PROFILE, "USER-002")).isEmpty();
+    }
+
+    private ReportResponse response(String reportId, String reporterId, ReferenceType referenceType, String reportedId) {
+        return ReportResponse.builder()
+                .reportId(reportId)
+                .reporterId(reporterId)
+                .reportedId(reportedId)
+                .referenceType(referenceType)
+                .reportCategory("SPAM")
+                .reason("테스트 신고")
+                .reportedAt(LocalDateTime.now())
+                .status(ReportStatus.PENDING)
+                .build();
+    }
+}
@@ -6,8 +6,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -43,4 +50,63 @@ class SnowflakeTest {
         long parsed = Long.parseLong(idStr);
         assertTrue(parsed > 0);
     }
+
+    @Test
+    @DisplayName("여러 스레드가 공유해도 중복 없는 ID를 발급한다")
+    void nextId_shouldBeUniqueUnderContention() throws Exception {
+        Snowflake generator = new Snowflake(1);
+        int threads = 8;
+        int perThread = 20_000;
+        Set<Long> seen = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    long prev = -1;
+                    for (int i = 0; i < perThread; i++) {
+                        long id = generator.nextId();
+                        assertTrue(id > prev, "IDs must be increasing within a thread");
+                        assertTrue(seen.add(id), "IDs must be unique");
+                        prev = id;
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(threads * perThread, seen.size());
+    }
+
+    @Test
+    @DisplayName("generateLongIds는 밀리초 시퀀스 범위를 넘는 요청도 증가·유일 ID로 채운다")
+    void generateLongIds_shouldReserveAcrossMilliseconds() {
+        Snowflake generator = new Snowflake(3);
+        long before = generator.nextId();
+
+        long[] ids = generator.generateLongIds(10_000);
+        long after = generator.nextId();
+
+        assertEquals(10_000, ids.length);
+        long prev = before;
+        for (long id : ids) {
+            assertTrue(id > prev, "IDs must be strictly increasing");
+            assertEquals(3, (id >> 12) & Snowflake.MAX_NODE_ID);
+            prev = id;
+        }
+        assertTrue(after > prev);
+    }
+
+    @Test
+    @DisplayName("노드 ID를 ID의 노드 비트에 기록하고 범위를 벗어나면 거부한다")
+    void nodeId_shouldBeEmbeddedAndValidated() {
+        Snowflake generator = new Snowflake(Snowflake.MAX_NODE_ID);
+
+        assertEquals(Snowflake.MAX_NODE_ID, (generator.nextId() >> 12) & Snowflake.MAX_NODE_ID);
+        assertThrows(IllegalArgumentException.class, () -> new Snowflake(-1));
+        assertThrows(IllegalArgumentException.class, () -> new Snowflake(Snowflake.MAX_NODE_ID + 1));
+    }
 }
@@ -0,0 +1,212 @@
+package com.teambind.supportserver.report.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * TwoTierSanctionStatusCache 단위 테스트
+ *
+ * <p>Redis는 Map 기반 인메모리 대역(stand-in)으로 대체합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("TwoTierSanctionStatusCache 단위 테스트")
+class TwoTierSanctionStatusCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final Map<String, String> redisStore = new ConcurrentHashMap<>();
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    private TwoTierSanctionStatusCache cache;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(anyList())).willAnswer(invocation -> {
+            List<String> values = new ArrayList<>();
+            for (String key : invocation.<List<String>>getArgument(0)) {
+                values.add(redisStore.get(key));
+            }
+            return values;
+        });
+        // 조건부 기록 스크립트: 버전이 같고 키가 없을 때만 SET
+        given(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), anyString(), anyString(), anyString()))
+                .willAnswer(invocation -> {
+                    List<String> keys = invocation.getArgument(1);
+                    String version = redisStore.getOrDefault(keys.get(1), "");
+                    if (!version.equals(invocation.getArgument(2)) || redisStore.containsKey(keys.get(0))) {
+                        return 0L;
+                    }
+                    redisStore.put(keys.get(0), invocation.getArgument(3));
+                    return 1L;
+                });
+        // 무효화 스크립트: 값 삭제 후 버전 증가
+        given(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), anyString()))
+                .willAnswer(invocation -> {
+                    List<String> keys = invocation.getArgument(1);
+                    redisStore.remove(keys.get(0));
+                    return Long.parseLong(redisStore.merge(keys.get(1), "1",
+                            (current, one) -> String.valueOf(Long.parseLong(current) + 1)));
+                });
+
+        cache = newCache();
+    }
+
+    private TwoTierSanctionStatusCache newCache() {
+        return new TwoTierSanctionStatusCache(redisTemplate, 1_000, 5_000, 600_000);
+    }
+
+    private Function<String, SanctionState> loader(SanctionState state) {
+        return targetId -> {
+            loadCount.incrementAndGet();
+            return state;
+        };
+    }
+
+    @Test
+    @DisplayName("캐시 미스 - DB 로드 후 Redis와 로컬에 저장, 이후 로컬 적중")
+    void get_MissThenLocalHit() {
+        // when
+        SanctionState first = cache.get("USER-001", loader(SanctionState.permanent()));
+        SanctionState second = cache.get("USER-001", loader(SanctionState.none()));
+
+        // then
+        assertThat(first.isPermanent()).isTrue();
+        assertThat(second.isPermanent()).isTrue();
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(redisStore).containsEntry("sanction:status:USER-001", "P");
+
+        SanctionStatusCache.Metrics metrics = cache.getMetrics();
+        assertThat(metrics.requests()).isEqualTo(2);
+        assertThat(metrics.localHits()).isEqualTo(1);
+        assertThat(metrics.misses()).isEqualTo(1);
+        assertThat(metrics.hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스 - 로컬 미스 시 Redis 적중")
+    void get_RemoteHitFromAnotherInstance() {
+        // given
+        cache.get("USER-001", loader(SanctionState.none()));
+        TwoTierSanctionStatusCache otherInstance = newCache();
+
+        // when
+        SanctionState state = otherInstance.get("USER-001", loader(SanctionState.permanent()));
+
+        // then
+        assertThat(state.sanctioned()).isFalse();
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(otherInstance.getMetrics().remoteHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화 - 로컬과 Redis 모두 제거되어 다음 조회 시 DB 재로드")
+    void evict_ClearsBothTiers() {
+        // given
+        cache.get("USER-001", loader(SanctionState.none()));
+
+        // when
+        cache.evict("USER-001");
+        SanctionState state = cache.get("USER-001", loader(SanctionState.permanent()));
+
+        // then
+        assertThat(redisStore).containsEntry("sanction:status:USER-001", "P");
+        assertThat(state.isPermanent()).isTrue();
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("무효화 경합 - 로드 중 제재가 커밋되어 무효화되면 커밋 전 상태를 Redis에 기록하지 않음")
+    void get_EvictDuringLoad_SkipsStaleWrite() {
+        // given: 로더가 "제재 없음"을 읽은 직후 다른 인스턴스에서 제재 커밋 후 무효화
+        TwoTierSanctionStatusCache otherInstance = newCache();
+        Function<String, SanctionState> racingLoader = targetId -> {
+            loadCount.incrementAndGet();
+            otherInstance.evict(targetId);
+            return SanctionState.none();
+        };
+
+        // when
+        SanctionState stale = cache.get("USER-001", racingLoader);
+        SanctionState fresh = otherInstance.get("USER-001", loader(SanctionState.permanent()));
+
+        // then
+        assertThat(stale.sanctioned()).isFalse();
+        assertThat(fresh.isPermanent()).isTrue();
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(redisStore).containsEntry("sanction:status:USER-001", "P");
+    }
+
+    @Test
+    @DisplayName("만료 인지 - 제재 종료 시각이 지나면 캐시 항목도 만료")
+    void get_ExpiryAwareOfSanctionEnd() throws InterruptedException {
+        // given
+        LocalDateTime until = LocalDateTime.now().plusNanos(200_000_000);
+        SanctionState state = cache.get("USER-001", loader(SanctionState.until(until)));
+        assertThat(state.isSanctionedAt(LocalDateTime.now())).isTrue();
+        redisStore.clear();
+
+        // when
+        Thread.sleep(300);
+        SanctionState reloaded = cache.get("USER-001", loader(SanctionState.none()));
+
+        // then
+        assertThat(state.isSanctionedAt(LocalDateTime.now())).isFalse();
+        assertThat(reloaded.sanctioned()).isFalse();
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 - DB 조회로 대체하고 오류 수 집계")
+    void get_RemoteFailure_FallsBackToLoader() {
+        // given
+        given(valueOperations.multiGet(anyList())).willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        SanctionState state = cache.get("USER-001", loader(SanctionState.permanent()));
+
+        // then
+        assertThat(state.isPermanent()).isTrue();
+        assertThat(cache.getMetrics().remoteErrors()).isEqualTo(1);
+        assertThat(cache.getMetrics().misses()).isEqualTo(1);
+        verify(redisTemplate, never()).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("상태 인코딩/디코딩")
+    void sanctionState_EncodeDecode() {
+        LocalDateTime until = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+        assertThat(SanctionState.decode(SanctionState.none().encode())).isEqualTo(SanctionState.none());
+        assertThat(SanctionState.decode(SanctionState.permanent().encode())).isEqualTo(SanctionState.permanent());
+        assertThat(SanctionState.decode(SanctionState.until(until).encode())).isEqualTo(SanctionState.until(until));
+    }
+}